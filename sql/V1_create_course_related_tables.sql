@@ -181,4 +181,109 @@ ALTER TABLE course MODIFY COLUMN distance DOUBLE NOT NULL;
 
 -- course 테이블에 spot_status 컬럼 추가 및 코스별 초기화 상태 변경
 ALTER TABLE course ADD COLUMN spot_status ENUM('COMPLETED', 'FAILED', 'IN_PROGRESS', 'NOT_APPLICABLE', 'NOT_STARTED') NOT NULL DEFAULT 'COMPLETED';
-UPDATE course c SET c.spot_status = 'NOT_APPLICABLE' WHERE c.course_id = 85 -- 예시 (부산 외 코스)
\ No newline at end of file
+-- 예시 (부산 외 코스): UPDATE course c SET c.spot_status = 'NOT_APPLICABLE' WHERE c.course_id = 85;
+
+-- course 테이블에 단순화 경로(simplified_track_points) 컬럼 추가 (기존 코스는 /api/admin/courses/simplified-track-points 로 일괄 저장)
+ALTER TABLE course ADD COLUMN simplified_track_points LONGTEXT NULL;
+
+-- course.start_point에 SRID 4326 지정 (SRID가 없는 컬럼의 공간 인덱스는 옵티마이저가 사용하지 않음)
+ALTER TABLE course DROP INDEX idx_course_location;
+ALTER TABLE course MODIFY COLUMN start_point POINT NOT NULL SRID 4326;
+CREATE SPATIAL INDEX idx_course_location ON course (start_point);
+
+-- course_track 테이블 생성 (코스 전체 트랙포인트를 TrackPointCodec으로 압축하여 한 행으로 저장)
+-- 기존 코스는 /api/admin/courses/tracks 로 track_point 데이터를 옮긴 뒤, track_point 테이블은 삭제 예정
+CREATE TABLE course_track (
+    course_id     BIGINT      NOT NULL PRIMARY KEY,
+    point_count   INT         NOT NULL,
+    packed_points MEDIUMBLOB  NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    CONSTRAINT fk_course_track_course FOREIGN KEY (course_id) REFERENCES course (course_id) ON DELETE CASCADE
+);
+
+-- course 테이블에 상세 수준(LOD)별 단순화 경로 컬럼 추가 (기존 simplified_track_points는 HIGH 수준으로 사용)
+-- 기존 코스는 /api/admin/courses/simplified-track-points 로 일괄 저장
+ALTER TABLE course ADD COLUMN medium_detail_track_points LONGTEXT NULL;
+ALTER TABLE course ADD COLUMN low_detail_track_points LONGTEXT NULL;
+
+-- course 테이블에 북마크 수(bookmark_count) 컬럼 추가 및 기존 북마크 수로 초기화
+-- 이후 북마크 추가/삭제 증감분은 서버가 모아서 일괄 반영하고, 매일 실제 북마크 수로 보정
+ALTER TABLE course ADD COLUMN bookmark_count INT NOT NULL DEFAULT 0;
+UPDATE course c SET c.bookmark_count = (SELECT COUNT(*) FROM bookmark b WHERE b.course_id = c.course_id);
+
+-- review_stats 테이블 생성 (코스별 리뷰 수, 별점 합계, 0.5점 단위 별점 분포를 리뷰 변경 시 함께 갱신)
+CREATE TABLE review_stats (
+    course_id      BIGINT       NOT NULL PRIMARY KEY,
+    review_count   INT          NOT NULL,
+    half_star_sum  BIGINT       NOT NULL, -- 별점 x 2의 합계
+    star_histogram VARCHAR(255) NOT NULL, -- 0.5점 ~ 5.0점 리뷰 수를 쉼표로 구분 (예: 0,0,1,0,0,0,2,0,5,3)
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    CONSTRAINT fk_review_stats_course FOREIGN KEY (course_id) REFERENCES course (course_id) ON DELETE CASCADE
+);
+
+-- 기존 리뷰로 review_stats 초기화
+INSERT INTO review_stats (course_id, review_count, half_star_sum, star_histogram, created_at, updated_at)
+SELECT r.course_id,
+       COUNT(*),
+       SUM(ROUND(r.stars * 2)),
+       CONCAT_WS(',',
+           SUM(ROUND(r.stars * 2) = 1), SUM(ROUND(r.stars * 2) = 2), SUM(ROUND(r.stars * 2) = 3),
+           SUM(ROUND(r.stars * 2) = 4), SUM(ROUND(r.stars * 2) = 5), SUM(ROUND(r.stars * 2) = 6),
+           SUM(ROUND(r.stars * 2) = 7), SUM(ROUND(r.stars * 2) = 8), SUM(ROUND(r.stars * 2) = 9),
+           SUM(ROUND(r.stars * 2) = 10)),
+       NOW(6),
+       NOW(6)
+FROM review r
+GROUP BY r.course_id;
+
+-- review 테이블에 최신순 커서 페이지네이션용 복합 인덱스 추가 (코스별 리뷰 조회, 내 리뷰 조회)
+CREATE INDEX idx_review_course_created ON review (course_id, created_at, review_id);
+CREATE INDEX idx_review_member_created ON review (member_id, created_at, review_id);
+
+-- spot_image 테이블에 원본 URL, S3 URL 조회용 인덱스 추가 (이미지 재사용 조회, 공유 이미지 삭제 전 참조 확인)
+CREATE INDEX idx_spot_image_original_url ON spot_image (original_url);
+CREATE INDEX idx_spot_image_img_url ON spot_image (img_url);
+
+-- course_image, spot_image 테이블에 크기별 이미지 URL과 블러 플레이스홀더 컬럼 추가 (기존 행은 NULL이면 원본 이미지 사용)
+ALTER TABLE course_image
+    ADD COLUMN small_img_url  VARCHAR(255)  NULL, -- 너비 320px JPEG s3 url
+    ADD COLUMN medium_img_url VARCHAR(255)  NULL, -- 너비 720px JPEG s3 url
+    ADD COLUMN placeholder    VARCHAR(2048) NULL; -- 너비 16px JPEG data URI
+ALTER TABLE spot_image
+    ADD COLUMN small_img_url  VARCHAR(255)  NULL,
+    ADD COLUMN medium_img_url VARCHAR(255)  NULL,
+    ADD COLUMN placeholder    VARCHAR(2048) NULL;
+
+-- reverse_geocode 테이블 생성 (카카오 지도 API 좌표 변환 결과 캐시, 약 50m 격자 단위)
+CREATE TABLE reverse_geocode
+(
+    reverse_geocode_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    geocode_type       VARCHAR(20) NOT NULL, -- ADDRESS(주소), REGION_CODE(행정구역)
+    lat_cell           BIGINT      NOT NULL, -- floor(위도 / 격자 크기)
+    lon_cell           BIGINT      NOT NULL, -- floor(경도 / 격자 크기)
+    document           TEXT        NULL,     -- 카카오 지도 API 응답의 documents[0] JSON, 결과가 없는 좌표면 NULL
+    created_at         DATETIME(6) NOT NULL,
+    updated_at         DATETIME(6) NOT NULL,
+    CONSTRAINT uk_reverse_geocode_cell UNIQUE (geocode_type, lat_cell, lon_cell)
+);
+
+-- course 테이블에 두루누비 원본 해시(source_hash) 컬럼 추가 (GPX 파일과 API 항목 필드가 그대로인 코스는 동기화에서 건너뜀)
+-- 기존 코스는 NULL이므로 다음 동기화에서 한 번 갱신된 뒤부터 건너뜀
+ALTER TABLE course ADD COLUMN source_hash VARCHAR(64) NULL;
+
+-- sync_fingerprint 테이블 생성 (동기화 작업별 마지막 전체 동기화의 목록 지문, 같으면 동기화 전체를 건너뜀)
+CREATE TABLE sync_fingerprint
+(
+    sync_name   VARCHAR(50) PRIMARY KEY, -- 동기화 작업 이름 (DURUNUBI_COURSE)
+    fingerprint VARCHAR(64) NOT NULL,    -- 목록 전체의 SHA-256 해시
+    synced_at   DATETIME(6) NOT NULL,    -- 마지막 전체 동기화 시각
+    created_at  DATETIME(6) NOT NULL,
+    updated_at  DATETIME(6) NOT NULL
+);
+
+-- track_point 외래 키에 ON DELETE CASCADE 추가 (코스 삭제 시 코스당 수천 개의 트랙포인트를 엔티티로 한 행씩 삭제하지 않고 DB가 함께 삭제)
+-- 두루누비 동기화로 course_track을 다시 저장한 코스는 기존 track_point 행도 삭제됨
+ALTER TABLE track_point DROP FOREIGN KEY FKpupqiw5q83q159swqraqw9hpm;
+ALTER TABLE track_point ADD CONSTRAINT fk_track_point_course FOREIGN KEY (course_id) REFERENCES course (course_id) ON DELETE CASCADE;
@@ -0,0 +1,73 @@
+package com.server.running_handai.global.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 요청마다 JwtAuthenticationFilter가 수행하는 토큰 검증 비용을 비교합니다.
+ * legacy는 단일 검증 도입 전의 isTokenValidate + getId 흐름(호출마다 Secret Key 디코딩, Parser 생성, 서명 검증 2회)을 그대로 재현합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+    private JwtProvider jwtProvider;
+    private JwtProvider cachedJwtProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = createJwtProvider(0);
+        cachedJwtProvider = createJwtProvider(10_000);
+        accessToken = jwtProvider.createAccessToken(1L);
+    }
+
+    private JwtProvider createJwtProvider(int verifiedCacheMaxEntries) {
+        JwtProvider provider = new JwtProvider();
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(provider, "accessExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "refreshExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheMaxEntries", verifiedCacheMaxEntries);
+        ReflectionTestUtils.setField(provider, "verifiedCacheTtl", Duration.ofSeconds(30));
+        provider.init();
+        return provider;
+    }
+
+    private SecretKey legacySigningKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    }
+
+    @Benchmark
+    public String legacy() {
+        Jwts.parserBuilder().setSigningKey(legacySigningKey()).build().parseClaimsJws(accessToken); // isTokenValidate
+        return Jwts.parserBuilder().setSigningKey(legacySigningKey()).build()
+                .parseClaimsJws(accessToken).getBody().getSubject(); // getId
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return jwtProvider.verifyToken(accessToken).getSubject();
+    }
+
+    @Benchmark
+    public String singlePassWithVerifiedCache() {
+        return cachedJwtProvider.verifyToken(accessToken).getSubject();
+    }
+}
@@ -1,4 +1,11 @@
 package com.server.running_handai.domain.bookmark.dto;
 
-public record BookmarkCountDto(Long courseId, Long bookmarkCount) {
+public record BookmarkCountDto(Long courseId, Integer storedCount, Long bookmarkCount) {
+
+    /**
+     * 실제 북마크 행 수에서 저장된 북마크 수를 뺀 차이를 반환합니다.
+     */
+    public long drift() {
+        return bookmarkCount - storedCount;
+    }
 }
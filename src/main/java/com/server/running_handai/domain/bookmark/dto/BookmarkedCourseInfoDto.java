@@ -8,6 +8,10 @@ import com.fasterxml.jackson.annotation.JsonPropertyOrder;
         "courseId",
         "courseName",
         "thumbnailUrl",
+        "thumbnailOriginalUrl",
+        "thumbnailSmallUrl",
+        "thumbnailMediumUrl",
+        "thumbnailPlaceholder",
         "distance",
         "duration",
         "maxElevation",
@@ -18,7 +22,11 @@ public interface BookmarkedCourseInfoDto {
     long getBookmarkId();
     long getCourseId();
     String getCourseName();
-    String getThumbnailUrl();
+    String getThumbnailUrl(); // 목록용 작은 이미지, 없으면 원본 이미지
+    String getThumbnailOriginalUrl(); // 원본 이미지
+    String getThumbnailSmallUrl(); // 너비 320px 이미지
+    String getThumbnailMediumUrl(); // 너비 720px 이미지
+    String getThumbnailPlaceholder(); // 블러 플레이스홀더 data URI
 
     @JsonIgnore
     double getRawDistance();
@@ -1,10 +1,16 @@
 package com.server.running_handai.domain.bookmark.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 public record MyBookmarkInfoDto(
         long bookmarkId,
         long courseId,
         String courseName,
-        String thumbnailUrl,
+        String thumbnailUrl, // 목록용 작은 이미지, 없으면 원본 이미지
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailOriginalUrl, // 아래 크기별 이미지는 클라이언트가 화면 크기에 맞게 선택
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailSmallUrl, // 너비 320px
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailMediumUrl, // 너비 720px
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailPlaceholder,
         int bookmarkCount,
         boolean isBookmarked
 ) {
@@ -14,6 +20,10 @@ public record MyBookmarkInfoDto(
                 courseInfoDto.getCourseId(),
                 courseInfoDto.getCourseName(),
                 courseInfoDto.getThumbnailUrl(),
+                courseInfoDto.getThumbnailOriginalUrl(),
+                courseInfoDto.getThumbnailSmallUrl(),
+                courseInfoDto.getThumbnailMediumUrl(),
+                courseInfoDto.getThumbnailPlaceholder(),
                 courseInfoDto.getBookmarkCount(),
                 courseInfoDto.getIsBookmarked()
         );
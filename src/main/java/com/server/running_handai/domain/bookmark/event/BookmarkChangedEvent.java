@@ -0,0 +1,22 @@
+package com.server.running_handai.domain.bookmark.event;
+
+/**
+ * 북마크가 추가되거나 삭제되고 트랜잭션이 커밋된 후 발행되는 이벤트
+ * 코스별 북마크 수를 캐시하는 컴포넌트는 이 이벤트를 받아 해당 코스의 캐시를 제거하고,
+ * BookmarkCountService는 증감분을 모아 두었다가 코스의 북마크 수에 일괄 반영합니다.
+ *
+ * @param courseId 북마크가 변경된 코스 ID
+ * @param delta 북마크 수 증감분 (추가 1, 삭제 -1)
+ */
+public record BookmarkChangedEvent(
+        Long courseId,
+        int delta
+) {
+    public static BookmarkChangedEvent created(Long courseId) {
+        return new BookmarkChangedEvent(courseId, 1);
+    }
+
+    public static BookmarkChangedEvent deleted(Long courseId) {
+        return new BookmarkChangedEvent(courseId, -1);
+    }
+}
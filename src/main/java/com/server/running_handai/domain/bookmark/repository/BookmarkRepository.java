@@ -2,7 +2,6 @@ package com.server.running_handai.domain.bookmark.repository;
 
 import com.server.running_handai.domain.bookmark.dto.BookmarkedCourseInfoDto;
 import com.server.running_handai.domain.bookmark.entity.Bookmark;
-import com.server.running_handai.domain.bookmark.dto.BookmarkCountDto;
 import com.server.running_handai.domain.course.entity.Area;
 import com.server.running_handai.domain.course.entity.Course;
 import com.server.running_handai.domain.member.entity.Member;
@@ -23,20 +22,9 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     // 회원과 코스로 북마크 조회
     Optional<Bookmark> findByMemberAndCourse(Member member, Course course);
 
-    // 코스 ID로 북마크 수 조회
-    int countByCourseId(Long courseId);
-
     // 회원 ID로 북마크 수 조회
     int countByMemberId(Long memberId);
 
-    // 코스 ID별 북마크 수 조회
-    @Query("SELECT new com.server.running_handai.domain.bookmark.dto.BookmarkCountDto(b.course.id, COUNT(b)) "
-            + "FROM Bookmark b "
-            + "WHERE b.course.id "
-            + "IN :courseIds "
-            + "GROUP BY b.course.id")
-    List<BookmarkCountDto> countByCourseIdIn(@Param("courseIds") List<Long> courseIds);
-
     // 코스 목록 중에서 사용자가 북마크한 코스 조회
     @Query("SELECT b.course.id FROM Bookmark b WHERE b.course.id IN :courseIds AND b.member.id = :memberId")
     Set<Long> findBookmarkedCourseIdsByMember(@Param("courseIds") List<Long> courseIds, @Param("memberId") Long memberId);
@@ -46,12 +34,16 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
             + "b.id AS bookmarkId, "
             + "c.id AS courseId, "
             + "c.name AS courseName, "
-            + "ci.imgUrl AS thumbnailUrl, "
+            + "COALESCE(ci.smallImgUrl, ci.imgUrl) AS thumbnailUrl, "
+            + "ci.imgUrl AS thumbnailOriginalUrl, "
+            + "ci.smallImgUrl AS thumbnailSmallUrl, "
+            + "ci.mediumImgUrl AS thumbnailMediumUrl, "
+            + "ci.placeholder AS thumbnailPlaceholder, "
             + "c.distance AS rawDistance, "
             + "c.duration AS duration, "
             + "c.maxElevation AS rawMaxElevation, "
             + "true AS isBookmarked, "
-            + "(SELECT count(b2.id) FROM Bookmark b2 WHERE b2.course.id = c.id) AS bookmarkCount " // 총 북마크 수 계산
+            + "c.bookmarkCount AS bookmarkCount " // 코스에 저장된 총 북마크 수
             + "FROM Bookmark b "
             + "LEFT JOIN b.course c "
             + "LEFT JOIN c.courseImage ci "
@@ -65,12 +57,16 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
             + "b.id AS bookmarkId, "
             + "c.id AS courseId, "
             + "c.name AS courseName, "
-            + "ci.imgUrl AS thumbnailUrl, "
+            + "COALESCE(ci.smallImgUrl, ci.imgUrl) AS thumbnailUrl, "
+            + "ci.imgUrl AS thumbnailOriginalUrl, "
+            + "ci.smallImgUrl AS thumbnailSmallUrl, "
+            + "ci.mediumImgUrl AS thumbnailMediumUrl, "
+            + "ci.placeholder AS thumbnailPlaceholder, "
             + "c.distance AS rawDistance, "
             + "c.duration AS duration, "
             + "c.maxElevation AS rawMaxElevation, "
             + "true AS isBookmarked, "
-            + "(SELECT count(b2.id) FROM Bookmark b2 WHERE b2.course.id = c.id) AS bookmarkCount "
+            + "c.bookmarkCount AS bookmarkCount "
             + "FROM Bookmark b "
             + "LEFT JOIN b.course c "
             + "LEFT JOIN c.courseImage ci "
@@ -0,0 +1,66 @@
+package com.server.running_handai.domain.bookmark.scheduler;
+
+import com.server.running_handai.domain.bookmark.service.BookmarkCountService;
+import java.time.Instant;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkScheduler {
+
+    private final BookmarkCountService bookmarkCountService;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${course.bookmark-count.reconcile-confirm-delay-ms:15000}")
+    private long reconcileConfirmDelayMs; // 보정 대상을 다시 확인하기까지 기다리는 시간 (모든 서버의 반영 주기보다 길어야 함)
+
+    /**
+     * 모아 둔 북마크 수 증감분을 주기적으로 코스에 반영합니다. (이전 실행이 끝난 뒤부터 간격 계산)
+     */
+    @Scheduled(fixedDelayString = "${course.bookmark-count.flush-interval-ms:5000}")
+    public void scheduleBookmarkCountFlush() {
+        try {
+            bookmarkCountService.flushPendingDeltas();
+        } catch (Exception e) {
+            log.error("[스케줄러] 북마크 수 증감분 반영 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시에 저장된 북마크 수를 실제 북마크 수로 보정합니다.
+     * 차이가 있는 코스는 반영 주기보다 오래 기다린 뒤 다시 확인하여 보정하며, 기다리는 동안 스케줄러 스레드를 점유하지 않도록 확인 작업을 따로 예약합니다.
+     * cron = "[초] [분] [시] [일] [월] [요일]"
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void scheduleBookmarkCountReconciliation() {
+        log.info("[스케줄러] 북마크 수 보정 작업을 시작합니다.");
+        try {
+            Map<Long, Long> drifts = bookmarkCountService.findBookmarkCountDrifts();
+            if (drifts.isEmpty()) {
+                log.info("[스케줄러] 북마크 수 보정 작업을 성공적으로 완료했습니다. 보정된 코스: 0개");
+                return;
+            }
+            log.info("[스케줄러] 북마크 수가 다른 코스 {}개를 {}ms 뒤에 다시 확인합니다.", drifts.size(), reconcileConfirmDelayMs);
+            taskScheduler.schedule(() -> confirmBookmarkCountReconciliation(drifts),
+                    Instant.now().plusMillis(reconcileConfirmDelayMs));
+        } catch (Exception e) {
+            log.error("[스케줄러] 북마크 수 보정 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void confirmBookmarkCountReconciliation(Map<Long, Long> drifts) {
+        try {
+            int correctedCount = bookmarkCountService.correctConfirmedDrifts(drifts);
+            log.info("[스케줄러] 북마크 수 보정 작업을 성공적으로 완료했습니다. 보정된 코스: {}개", correctedCount);
+        } catch (Exception e) {
+            log.error("[스케줄러] 북마크 수 보정 작업 중 오류가 발생했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.server.running_handai.domain.bookmark.service;
+
+import com.server.running_handai.domain.bookmark.dto.BookmarkCountDto;
+import com.server.running_handai.domain.bookmark.event.BookmarkChangedEvent;
+import com.server.running_handai.domain.course.repository.CourseRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 코스별 북마크 수(course.bookmark_count)를 관리합니다.
+ * 북마크가 추가/삭제될 때마다 코스 행을 갱신하면 인기 코스에서 행 잠금 경합이 생기므로,
+ * 증감분은 코스별 LongAdder(스레드별로 분산된 셀)에 모아 두었다가 주기적으로 같은 증감분끼리 묶어 한 번의 UPDATE로 반영합니다.
+ * 반영 실패나 서버 종료 등으로 저장된 값이 실제 북마크 수와 달라질 수 있으므로, 주기적으로 실제 북마크 행 수와 비교하여 보정합니다.
+ * 증감분은 서버마다 따로 모아 두므로, 보정은 절대값을 덮어쓰지 않고 반영 주기보다 긴 간격을 두고 같은 차이가 두 번 확인된 코스에만 그 차이를 더합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkCountService {
+
+    private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>(); // 반영 대기 중인 코스별 증감분 (항목은 코스 수만큼만 유지)
+    private volatile Map<Long, Long> flushingDeltas = Map.of(); // DB에 반영 중인 증감분, 반영하는 동안에도 조회 결과에 포함
+
+    /**
+     * 북마크 추가/삭제 트랜잭션이 커밋되면 증감분을 기록합니다.
+     * 코스 목록 캐시가 제거된 뒤 다시 조회될 때 증감분이 포함되도록 다른 리스너보다 먼저 실행합니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBookmarkChangedEvent(BookmarkChangedEvent event) {
+        if (event.delta() == 0) {
+            return;
+        }
+        pendingDeltas.computeIfAbsent(event.courseId(), courseId -> new LongAdder()).add(event.delta());
+    }
+
+    /**
+     * 저장된 북마크 수에 아직 반영되지 않은 증감분을 더해 현재 북마크 수를 계산합니다.
+     *
+     * @param courseId 코스 ID
+     * @param storedCount course.bookmark_count에 저장된 북마크 수
+     * @return 현재 북마크 수
+     */
+    public int getBookmarkCount(Long courseId, int storedCount) {
+        LongAdder pending = pendingDeltas.get(courseId);
+        long delta = (pending != null ? pending.sum() : 0L) + flushingDeltas.getOrDefault(courseId, 0L);
+        return (int) Math.max(0L, storedCount + delta);
+    }
+
+    /**
+     * 모아 둔 증감분을 코스의 북마크 수에 반영합니다.
+     * 같은 증감분을 가진 코스끼리 묶어 한 번의 UPDATE로 반영하며, 반영에 실패한 증감분은 다음 주기에 다시 반영합니다.
+     *
+     * @return 북마크 수가 반영된 코스 수
+     */
+    public synchronized int flushPendingDeltas() {
+        Map<Long, Long> flushing = new ConcurrentHashMap<>();
+        flushingDeltas = flushing;
+        pendingDeltas.forEach((courseId, pending) -> {
+            long delta = pending.sumThenReset();
+            if (delta != 0) {
+                flushing.put(courseId, delta);
+            }
+        });
+        if (flushing.isEmpty()) {
+            flushingDeltas = Map.of();
+            return 0;
+        }
+
+        Map<Long, List<Long>> courseIdsByDelta = flushing.entrySet().stream()
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        int flushedCount = 0;
+        for (Map.Entry<Long, List<Long>> entry : courseIdsByDelta.entrySet()) {
+            long delta = entry.getKey();
+            List<Long> courseIds = entry.getValue();
+            try {
+                courseRepository.addBookmarkCount(courseIds, delta);
+                flushedCount += courseIds.size();
+            } catch (Exception e) {
+                log.error("[북마크 수] 증감분 반영 실패, 다음 주기에 다시 반영: delta={}, courseIds={}", delta, courseIds, e);
+                courseIds.forEach(courseId ->
+                        pendingDeltas.computeIfAbsent(courseId, id -> new LongAdder()).add(delta));
+            }
+            courseIds.forEach(flushing::remove);
+        }
+        flushingDeltas = Map.of();
+        log.debug("[북마크 수] 증감분 반영 완료: {}개 코스, UPDATE {}회", flushedCount, courseIdsByDelta.size());
+        return flushedCount;
+    }
+
+    /**
+     * 북마크 수 보정의 첫 단계로, 모아 둔 증감분을 먼저 반영한 뒤 실제 북마크 행 수와 저장된 북마크 수의 차이를 코스별로 조회합니다.
+     * 비교 직전에 커밋된 북마크는 아직 어느 서버의 증감분에 남아 있을 수 있으므로, 바로 보정하지 않고
+     * 반영 주기보다 오래 기다린 뒤 correctConfirmedDrifts로 다시 확인합니다.
+     *
+     * @return 코스 ID -> 실제 북마크 수 - 저장된 북마크 수 (차이가 있는 코스만)
+     */
+    public Map<Long, Long> findBookmarkCountDrifts() {
+        flushPendingDeltas();
+        return courseRepository.findBookmarkCountMismatches().stream()
+                .collect(Collectors.toMap(BookmarkCountDto::courseId, BookmarkCountDto::drift));
+    }
+
+    /**
+     * 차이를 다시 조회하여, 첫 조회와 같은 차이가 남아 있고 이 서버에 반영 대기 중인 증감분도 없는 코스에만 차이를 더합니다.
+     * 절대값으로 덮어쓰지 않으므로 그 사이 다른 서버가 반영한 증감분도 유지되며, 보정한 코스는 목록 캐시에서도 제거되도록 이벤트를 발행합니다.
+     *
+     * @param firstDrifts findBookmarkCountDrifts로 먼저 조회한 코스별 차이
+     * @return 보정한 코스 수
+     */
+    public int correctConfirmedDrifts(Map<Long, Long> firstDrifts) {
+        if (firstDrifts.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> corrected = new HashMap<>();
+        findBookmarkCountDrifts().forEach((courseId, drift) -> {
+            if (!drift.equals(firstDrifts.get(courseId)) || hasLocalDelta(courseId)) {
+                return; // 아직 반영되지 않은 증감분이 섞여 있을 수 있으므로 다음 보정 때 다시 확인
+            }
+            courseRepository.addBookmarkCount(List.of(courseId), drift);
+            eventPublisher.publishEvent(new BookmarkChangedEvent(courseId, 0));
+            corrected.put(courseId, drift);
+        });
+
+        if (!corrected.isEmpty()) {
+            log.warn("[북마크 수] 실제 북마크 수와 달라 보정 (코스 ID=차이): {}", corrected);
+        }
+        return corrected.size();
+    }
+
+    private boolean hasLocalDelta(Long courseId) {
+        LongAdder pending = pendingDeltas.get(courseId);
+        return (pending != null && pending.sum() != 0) || flushingDeltas.containsKey(courseId);
+    }
+
+    /**
+     * 서버가 종료되기 전에 남은 증감분을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPendingDeltas();
+    }
+}
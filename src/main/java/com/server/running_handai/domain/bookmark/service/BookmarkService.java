@@ -3,6 +3,7 @@ package com.server.running_handai.domain.bookmark.service;
 import com.server.running_handai.domain.bookmark.dto.BookmarkedCourseDetailDto;
 import com.server.running_handai.domain.bookmark.dto.BookmarkedCourseInfoDto;
 import com.server.running_handai.domain.bookmark.entity.Bookmark;
+import com.server.running_handai.domain.bookmark.event.BookmarkChangedEvent;
 import com.server.running_handai.domain.bookmark.repository.BookmarkRepository;
 import com.server.running_handai.domain.course.entity.Area;
 import com.server.running_handai.domain.course.entity.Course;
@@ -14,6 +15,7 @@ import com.server.running_handai.domain.member.repository.MemberRepository;
 import java.util.Collections;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,6 +29,7 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final MemberRepository memberRepository;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void createBookmark(Long memberId, Long courseId) {
@@ -44,6 +47,7 @@ public class BookmarkService {
         // 북마크 생성 및 저장
         Bookmark bookmark = Bookmark.builder().member(member).course(course).build();
         bookmarkRepository.save(bookmark);
+        eventPublisher.publishEvent(BookmarkChangedEvent.created(courseId));
     }
 
     @Transactional
@@ -60,6 +64,7 @@ public class BookmarkService {
 
         // 북마크 삭제
         bookmarkRepository.delete(bookmark);
+        eventPublisher.publishEvent(BookmarkChangedEvent.deleted(courseId));
     }
 
     /**
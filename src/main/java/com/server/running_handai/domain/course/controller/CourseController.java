@@ -5,11 +5,17 @@ import static com.server.running_handai.global.response.ResponseCode.*;
 import static org.springframework.http.HttpStatus.*;
 
 import com.server.running_handai.domain.course.dto.*;
+import com.server.running_handai.domain.course.entity.TrackDetail;
+import com.server.running_handai.domain.course.entity.TrackFormat;
 import com.server.running_handai.domain.course.service.CourseService;
+import com.server.running_handai.domain.course.service.CourseTileService;
+import com.server.running_handai.domain.course.service.CourseVersionService;
+import com.server.running_handai.domain.course.service.ImageProxyService;
+import com.server.running_handai.domain.course.service.ImageProxyService.ProxiedImage;
 import com.server.running_handai.global.entity.SortBy;
 import com.server.running_handai.global.oauth.CustomOAuth2User;
 import com.server.running_handai.global.response.CommonResponse;
-import com.server.running_handai.global.response.exception.BusinessException;
+import com.server.running_handai.global.util.MvtEncoder;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -18,15 +24,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 
-import java.util.List;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -39,7 +48,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -47,44 +56,121 @@ import org.springframework.web.client.RestTemplate;
 @Tag(name = "Course", description = "코스 관련 API")
 public class CourseController {
 
+    // 응답은 저장해도 되지만, 사용하기 전에 항상 ETag로 재검증 (회원별 응답이므로 공유 캐시에는 저장하지 않음)
+    private static final CacheControl REVALIDATE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final CourseService courseService;
-    private final RestTemplate restTemplate;
+    private final CourseTileService courseTileService;
+    private final CourseVersionService courseVersionService;
+    private final ImageProxyService imageProxyService;
+
+    @Value("${course.image-proxy.client-max-age:30d}")
+    private Duration imageProxyMaxAge; // 프록시 이미지 브라우저/CDN 캐시 유지 시간 (같은 URL의 이미지는 거의 바뀌지 않음)
 
-    @Operation(summary = "추천코스 전체 조회", description = "추천코스를 다양한 필터 옵션으로 조회합니다.")
+    @Operation(summary = "추천코스 전체 조회", description = "추천코스를 다양한 필터 옵션으로 사용자와 가까운 순서로 조회합니다."
+            + "<br> 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다. (hasNext가 false면 마지막 페이지)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공"),
             @ApiResponse(responseCode = "400", description = "실패 (요청 파라미터 오류)")
     })
     @GetMapping("/api/courses")
-    public ResponseEntity<CommonResponse<List<CourseInfoWithDetailsDto>>> getFilteredCourses(
+    public ResponseEntity<CommonResponse<CourseInfoPageDto>> getFilteredCourses(
             @ParameterObject @ModelAttribute CourseFilterRequestDto filterOption,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "한 페이지에 조회할 코스 수 (최대 100)")
+            @RequestParam(value = "size", defaultValue = "${course.page.default-size:20}") int size,
+            @Parameter(description = "경로 상세 수준 (LOW, MEDIUM, HIGH). 없으면 zoom으로 결정하며, 둘 다 없으면 HIGH")
+            @RequestParam(value = "detail", required = false) String detail,
+            @Parameter(description = "지도 줌 레벨 (11 이하: LOW, 12~14: MEDIUM, 15 이상: HIGH)")
+            @RequestParam(value = "zoom", required = false) Integer zoom,
+            @Parameter(description = "경로 응답 형식 (POINTS: {lat, lon, ele} 배열, POLYLINE: Encoded Polyline). 없으면 Accept 헤더로 결정")
+            @RequestParam(value = "trackFormat", required = false) String trackFormat,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
             @AuthenticationPrincipal CustomOAuth2User customOAuth2User
     ) {
         Long memberId = (customOAuth2User != null) ? customOAuth2User.getMember().getId() : null;
         log.info("[코스 전체 조회] Filter: {}, Member ID: {}", filterOption, memberId);
-        List<CourseInfoWithDetailsDto> responseData = courseService.findCourses(filterOption, memberId);
+        TrackDetail trackDetail = TrackDetail.resolve(detail, zoom);
+        TrackFormat format = TrackFormat.resolve(trackFormat, accept);
+        CourseInfoPageDto responseData = courseService.findCourses(filterOption, cursor, size, trackDetail, memberId)
+                .withTrackFormat(format);
+
+        if (responseData.courses().isEmpty()) {
+            return ResponseEntity.ok()
+                    .varyBy(HttpHeaders.ACCEPT) // 경로 응답 형식이 Accept 헤더에 따라 달라지므로 공유 캐시가 구분하도록 함
+                    .body(CommonResponse.success(SUCCESS_EMPTY_COURSE_INFO, responseData));
+        }
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(CommonResponse.success(SUCCESS, responseData));
+    }
 
-        if (responseData.isEmpty()) {
-            return ResponseEntity.ok(CommonResponse.success(SUCCESS_EMPTY_COURSE_INFO, responseData));
+    @Operation(summary = "추천코스 벡터 타일 조회", description = "지도 타일 영역에 포함된 코스 경로와 시작점을 Mapbox Vector Tile(MVT)로 조회합니다."
+            + "<br> courses 레이어(LineString)와 start_points 레이어(Point)로 구성되며, 각 피처는 courseId, name, distance 속성을 가집니다."
+            + "<br> 경로는 줌 레벨에 맞는 상세 수준으로 단순화되어 있으며, 타일 영역에 코스가 없으면 204를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "204", description = "성공 (타일 영역에 코스 없음)"),
+            @ApiResponse(responseCode = "400", description = "실패 (타일 좌표 오류)")
+    })
+    @GetMapping(value = "/api/courses/tiles/{z}/{x}/{y}.mvt", produces = MvtEncoder.MEDIA_TYPE)
+    public ResponseEntity<byte[]> getCourseTile(
+            @Parameter(description = "줌 레벨 (0 ~ 22)", required = true) @PathVariable("z") int z,
+            @Parameter(description = "타일 x 좌표", required = true) @PathVariable("x") int x,
+            @Parameter(description = "타일 y 좌표", required = true) @PathVariable("y") int y
+    ) {
+        byte[] tile = courseTileService.getTile(z, x, y);
+        if (tile.length == 0) {
+            return ResponseEntity.noContent().build();
         }
-        return ResponseEntity.ok(CommonResponse.success(SUCCESS, responseData));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(MvtEncoder.MEDIA_TYPE))
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(tile);
     }
 
     @Operation(summary = "추천코스 상세 조회", description = "특정 추천코스의 상세 정보를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "304", description = "성공 (If-None-Match의 ETag와 같아 변경 없음)"),
+            @ApiResponse(responseCode = "400", description = "실패 (요청 파라미터 오류)"),
             @ApiResponse(responseCode = "404", description = "실패 (존재하지 않는 코스)")
     })
     @GetMapping("/api/courses/{courseId}")
     public ResponseEntity<CommonResponse<CourseDetailDto>> getCourseDetails(
             @Parameter(description = "조회하려는 코스 ID", required = true)
             @PathVariable("courseId") Long courseId,
-            @AuthenticationPrincipal CustomOAuth2User customOAuth2User
+            @Parameter(description = "경로 상세 수준 (LOW, MEDIUM, HIGH). 없으면 zoom으로 결정하며, 둘 다 없으면 HIGH")
+            @RequestParam(value = "detail", required = false) String detail,
+            @Parameter(description = "지도 줌 레벨 (11 이하: LOW, 12~14: MEDIUM, 15 이상: HIGH)")
+            @RequestParam(value = "zoom", required = false) Integer zoom,
+            @Parameter(description = "경로 응답 형식 (POINTS: {lat, lon, ele} 배열, POLYLINE: Encoded Polyline). 없으면 Accept 헤더로 결정")
+            @RequestParam(value = "trackFormat", required = false) String trackFormat,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User,
+            WebRequest webRequest
     ) {
         Long memberId = (customOAuth2User != null) ? customOAuth2User.getMember().getId() : null;
         log.info("[코스 상세 조회] courseId: {}, memberId: {}", courseId, memberId);
-        CourseDetailDto courseDetails = courseService.findCourseDetails(courseId, memberId);
-        return ResponseEntity.ok(CommonResponse.success(SUCCESS, courseDetails));
+        TrackDetail trackDetail = TrackDetail.resolve(detail, zoom);
+        TrackFormat format = TrackFormat.resolve(trackFormat, accept);
+
+        // 변경 사항이 없으면 상세 정보를 조회하지 않고 304 반환
+        String eTag = courseVersionService.getCourseDetailETag(courseId, memberId, trackDetail + ":" + format);
+        // 경로 응답 형식이 Accept 헤더에 따라 달라지므로 304를 포함한 모든 응답에 Vary: Accept 지정
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE_CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
+
+        CourseDetailDto courseDetails = courseService.findCourseDetails(courseId, trackDetail, memberId)
+                .withTrackFormat(format);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(CommonResponse.success(SUCCESS, courseDetails));
     }
 
     @Operation(summary = "추천코스 요약 조회", description = "코스의 요약 정보를 조회합니다."
@@ -95,26 +181,40 @@ public class CourseController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공 (즐길거리 초기화 완료)"),
             @ApiResponse(responseCode = "202", description = "성공 (즐길거리 초기화 진행 중)"),
+            @ApiResponse(responseCode = "304", description = "성공 (If-None-Match의 ETag와 같아 변경 없음)"),
             @ApiResponse(responseCode = "404", description = "실패 (존재하지 않는 코스)")
     })
     @GetMapping("/api/courses/{courseId}/summary")
     public ResponseEntity<CommonResponse<CourseSummaryDto>> getCourseSummary(
             @Parameter(description = "조회하려는 코스 ID", required = true)
             @PathVariable("courseId") Long courseId,
-            @AuthenticationPrincipal CustomOAuth2User customOAuth2User
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User,
+            WebRequest webRequest
     ) {
         Long memberId = (customOAuth2User != null) ? customOAuth2User.getMember().getId() : null;
         log.info("[코스 요약 조회] courseId: {}, memberId: {}", courseId, memberId);
+
+        // 변경 사항이 없으면 리뷰, 즐길거리를 조회하지 않고 304 반환
+        String eTag = courseVersionService.getCourseSummaryETag(courseId, memberId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE_CACHE_CONTROL).build();
+        }
+
         CourseSummaryDto courseSummary = courseService.getCourseSummary(courseId, memberId);
         String status = courseSummary.spotStatus();
 
         // 즐길거리 초기화 진행 중일 때 202 accepted 반환
         if (status.equals(IN_PROGRESS.name())) {
             return ResponseEntity.accepted()
+                    .eTag(eTag)
+                    .cacheControl(REVALIDATE_CACHE_CONTROL)
                     .body(CommonResponse.success(SUCCESS_SPOT_INIT_IN_PROGRESS, courseSummary));
         }
 
-        return ResponseEntity.ok(CommonResponse.success(SUCCESS, courseSummary));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE_CACHE_CONTROL)
+                .body(CommonResponse.success(SUCCESS, courseSummary));
     }
 
     @Operation(summary = "GPX 파일 다운로드", description = "GPX 파일을 다운로드할 수 있는 Presigned GET URL을 발급합니다. 해당 URL의 유효시간은 1시간입니다.")
@@ -168,6 +268,7 @@ public class CourseController {
     @Operation(summary = "내 코스 상세 조회", description = "사용자가 생성한 코스를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공 - SUCCESS"),
+            @ApiResponse(responseCode = "400", description = "실패 (경로 응답 형식 오류) - INVALID_TRACK_FORMAT_PARAMETER"),
             @ApiResponse(responseCode = "401", description = "토큰 인증 필요 - UNAUTHORIZED_ACCESS"),
             @ApiResponse(responseCode = "404", description = "실패 (존재하지 않는 코스) - COURSE_NOT_FOUND"),
     })
@@ -175,12 +276,18 @@ public class CourseController {
     public ResponseEntity<CommonResponse<MyCourseDetailDto>> getMyCourse(
             @Parameter(description = "조회하려는 코스 ID", required = true)
             @PathVariable("courseId") Long courseId,
+            @Parameter(description = "경로 응답 형식 (POINTS: {lat, lon, ele} 배열, POLYLINE: Encoded Polyline). 없으면 Accept 헤더로 결정")
+            @RequestParam(value = "trackFormat", required = false) String trackFormat,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
             @AuthenticationPrincipal CustomOAuth2User customOAuth2User
     ) {
         Long memberId = customOAuth2User.getMember().getId();
         log.info("[내 코스 상세 조회] memberId: {}, courseId: {}", memberId, courseId);
-        MyCourseDetailDto myCourseDetailDto = courseService.getMyCourse(memberId, courseId);
-        return ResponseEntity.ok(CommonResponse.success(SUCCESS, myCourseDetailDto));
+        TrackFormat format = TrackFormat.resolve(trackFormat, accept);
+        MyCourseDetailDto myCourseDetailDto = courseService.getMyCourse(memberId, courseId).withTrackFormat(format);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(CommonResponse.success(SUCCESS, myCourseDetailDto));
     }
 
     @Operation(summary = "부산 지역 판별", description = "특정 위치 좌표가 부산 내 지역인지 판별합니다.")
@@ -267,29 +374,28 @@ public class CourseController {
         return ResponseEntity.ok(CommonResponse.success(SUCCESS_COURSE_UPDATE, null));
     }
 
-    @Operation(summary = "외부 이미지 프록시", description = "URL로 전달된 외부 이미지를 서버를 통해 대신 요청하여 반환합니다.")
+    @Operation(summary = "외부 이미지 프록시", description = "URL로 전달된 외부 이미지(허용된 호스트만)를 서버를 통해 대신 요청하여 반환합니다."
+            + "<br> 받은 이미지는 서버에 캐시되며, 브라우저도 오래 캐시할 수 있도록 Cache-Control과 ETag를 함께 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공"),
-            @ApiResponse(responseCode = "400", description = "이미지 다운로드 실패")
+            @ApiResponse(responseCode = "304", description = "성공 (If-None-Match의 ETag와 같아 변경 없음)"),
+            @ApiResponse(responseCode = "400", description = "허용되지 않은 이미지 URL 또는 이미지 다운로드 실패")
     })
     @GetMapping("/api/proxy/images")
-    public ResponseEntity<byte[]> imageProxy(@RequestParam String url) {
-        try {
-            // 카카오 지도 이미지 다운로드
-            ResponseEntity<byte[]> kakaoResponse = restTemplate.getForEntity(url, byte[].class);
-
-            // 이미지 바이트 생성
-            byte[] imageBytes = kakaoResponse.getBody();
-
-            // 응답 헤더 생성
-            HttpHeaders responseHeaders = new HttpHeaders();
-            responseHeaders.setContentType(kakaoResponse.getHeaders().getContentType());
-
-            return new ResponseEntity<>(imageBytes, responseHeaders, OK);
-        }catch (Exception e) {
-            log.error("이미지 다운로드에 실패했습니다. url={}", url, e);
-            throw new BusinessException(FAIL_TO_FETCH_IMAGE);
+    public ResponseEntity<Resource> imageProxy(@RequestParam String url, WebRequest webRequest) {
+        ProxiedImage image = imageProxyService.getImage(url);
+        CacheControl cacheControl = CacheControl.maxAge(imageProxyMaxAge).cachePublic();
+        if (webRequest.checkNotModified(image.eTag())) {
+            return ResponseEntity.status(NOT_MODIFIED).eTag(image.eTag()).cacheControl(cacheControl).build();
         }
+
+        // 디스크에만 캐시된 이미지는 파일 스트림으로 전송하여 힙에 올리지 않음
+        return ResponseEntity.ok()
+                .contentType(image.contentType())
+                .contentLength(image.contentLength())
+                .eTag(image.eTag())
+                .cacheControl(cacheControl)
+                .body(image.openBody());
     }
 
     @Operation(summary = "대한민국 지역 판별", description = "특정 좌표 배열이 모두 대한민국 내 지역인지 판별합니다. 하나의 좌표라도 대한민국이 아닐 경우, false를 반환하며, 요청 시 좌표 배열은 시작점과 도착점을 포함하여 최소 2개 이상이어야 합니다.")
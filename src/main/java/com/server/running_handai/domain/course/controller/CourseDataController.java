@@ -32,6 +32,18 @@ public class CourseDataController {
         return ResponseEntity.ok().body(CommonResponse.success(ResponseCode.SUCCESS, null));
     }
 
+    @PutMapping("/simplified-track-points")
+    public ResponseEntity<CommonResponse<?>> backfillSimplifiedTrackPoints() {
+        int updatedCount = courseDataService.backfillSimplifiedTrackPoints();
+        return ResponseEntity.ok().body(CommonResponse.success(ResponseCode.SUCCESS, updatedCount));
+    }
+
+    @PutMapping("/tracks")
+    public ResponseEntity<CommonResponse<?>> migrateTrackPoints() {
+        int migratedCount = courseDataService.migrateTrackPoints();
+        return ResponseEntity.ok().body(CommonResponse.success(ResponseCode.SUCCESS, migratedCount));
+    }
+
     @PutMapping(value = "/{courseId}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<CommonResponse<?>> updateCourseImage(@PathVariable Long courseId,
                                                                @RequestParam MultipartFile courseImageFile) {
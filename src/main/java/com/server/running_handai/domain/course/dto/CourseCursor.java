@@ -0,0 +1,97 @@
+package com.server.running_handai.domain.course.dto;
+
+import static com.server.running_handai.global.response.ResponseCode.INVALID_CURSOR_PARAMETER;
+
+import com.server.running_handai.global.response.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 코스 전체 조회의 keyset 페이지네이션 커서입니다.
+ * 코스 목록은 (distanceFromUser, courseId) 순서로 정렬되며, 커서는 이전 페이지 마지막 코스의 정렬 키를 담습니다.
+ * 페이지 사이에 사용자가 이동해도 같은 기준으로 정렬되도록 첫 페이지의 사용자 위치와 필터 조건도 함께 담습니다.
+ *
+ * @param distanceFromUser 이전 페이지 마지막 코스와 사용자 사이의 거리
+ * @param courseId 이전 페이지 마지막 코스 ID
+ * @param originLat 첫 페이지를 조회한 사용자 위치의 위도 (이후 페이지도 이 위치 기준으로 거리 계산)
+ * @param originLon 첫 페이지를 조회한 사용자 위치의 경도
+ * @param filterKey 첫 페이지의 필터 조건 (다른 조건의 요청에는 사용할 수 없음)
+ */
+public record CourseCursor(
+        double distanceFromUser,
+        long courseId,
+        double originLat,
+        double originLon,
+        String filterKey
+) {
+    private static final String DELIMITER = ":";
+    private static final String FILTER_KEY_DELIMITER = ",";
+
+    /**
+     * 페이지 마지막 코스와, 그 페이지를 조회한 요청의 사용자 위치와 필터 조건으로 다음 페이지 커서를 만듭니다.
+     */
+    public static CourseCursor from(CourseInfoWithDetailsDto course, CourseFilterRequestDto request) {
+        return new CourseCursor(course.distanceFromUser(), course.courseId(), request.lat(), request.lon(), toFilterKey(request));
+    }
+
+    private static String toFilterKey(CourseFilterRequestDto request) {
+        return Stream.of(request.filter(), request.area(), request.theme(), request.limit(), request.radius())
+                .map(value -> Objects.toString(value, ""))
+                .collect(Collectors.joining(FILTER_KEY_DELIMITER));
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 토큰을 해석합니다.
+     *
+     * @param token Base64(URL-safe)로 인코딩된 커서 토큰 (첫 페이지는 null)
+     * @return 커서, 토큰이 비어 있으면 null
+     * @throws BusinessException 토큰 형식이 올바르지 않은 경우
+     */
+    public static CourseCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER, -1);
+            if (parts.length != 5) {
+                throw new BusinessException(INVALID_CURSOR_PARAMETER);
+            }
+            return new CourseCursor(Double.parseDouble(parts[0]), Long.parseLong(parts[1]),
+                    Double.parseDouble(parts[2]), Double.parseDouble(parts[3]), parts[4]);
+        } catch (IllegalArgumentException e) { // Base64 및 숫자 형식 오류
+            throw new BusinessException(INVALID_CURSOR_PARAMETER);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, String.valueOf(distanceFromUser), String.valueOf(courseId),
+                String.valueOf(originLat), String.valueOf(originLon), filterKey);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 만든 요청과 같은 필터 조건의 요청인지 확인하고, 첫 페이지의 사용자 위치로 바꾼 요청을 반환합니다.
+     *
+     * @param request 다음 페이지 조회 요청
+     * @return 사용자 위치를 첫 페이지의 위치로 바꾼 요청
+     * @throws BusinessException 필터 조건이 커서를 만든 요청과 다른 경우
+     */
+    public CourseFilterRequestDto toOriginRequest(CourseFilterRequestDto request) {
+        if (!filterKey.equals(toFilterKey(request))) {
+            throw new BusinessException(INVALID_CURSOR_PARAMETER);
+        }
+        return request.withUserPoint(originLat, originLon);
+    }
+
+    /**
+     * 코스가 커서보다 뒤에 정렬되는지 확인합니다.
+     */
+    public boolean precedes(CourseInfoWithDetailsDto course) {
+        int compared = Double.compare(course.distanceFromUser(), distanceFromUser);
+        return compared > 0 || (compared == 0 && course.courseId() > courseId);
+    }
+}
@@ -1,8 +1,10 @@
 package com.server.running_handai.domain.course.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.server.running_handai.domain.bookmark.dto.BookmarkInfoDto;
 import com.server.running_handai.domain.course.entity.Course;
 import com.server.running_handai.domain.course.entity.RoadCondition;
+import com.server.running_handai.domain.course.entity.TrackFormat;
 import java.util.List;
 
 public record CourseDetailDto(
@@ -16,7 +18,8 @@ public record CourseDetailDto(
         int bookmarks,
         boolean isBookmarked,
         List<String> roadConditions,
-        List<TrackPointDto> trackPoints
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<TrackPointDto> trackPoints,
+        @JsonInclude(JsonInclude.Include.NON_NULL) EncodedTrackDto encodedTrack
 ) {
     public static CourseDetailDto from(Course course, List<TrackPointDto> trackPoints, BookmarkInfoDto bookmarkInfoDto) {
         List<String> roadConditions = course.getRoadConditions().stream()
@@ -33,7 +36,31 @@ public record CourseDetailDto(
                 bookmarkInfoDto.totalCount(),
                 bookmarkInfoDto.isBookmarked(),
                 roadConditions,
-                trackPoints
+                trackPoints,
+                null
+        );
+    }
+
+    /**
+     * 요청한 형식에 맞게 코스 경로를 변환합니다. POLYLINE 형식이면 trackPoints 대신 encodedTrack으로 응답합니다.
+     */
+    public CourseDetailDto withTrackFormat(TrackFormat trackFormat) {
+        if (trackFormat != TrackFormat.POLYLINE || trackPoints == null) {
+            return this;
+        }
+        return new CourseDetailDto(
+                courseId,
+                courseName,
+                distance,
+                duration,
+                minElevation,
+                maxElevation,
+                level,
+                bookmarks,
+                isBookmarked,
+                roadConditions,
+                null,
+                EncodedTrackDto.from(trackPoints)
         );
     }
 }
@@ -22,7 +22,13 @@ public record CourseFilterRequestDto(
         Area area,
 
         @Parameter(description = "테마 필터링 시 사용할 테마 코드")
-        Theme theme
+        Theme theme,
+
+        @Parameter(description = "가까운 코스 조회(NEAREST) 시 조회할 코스 수 (기본 10, 최대 50)", example = "10")
+        Integer limit,
+
+        @Parameter(description = "지역/테마 필터링 시 사용자 현위치 기준 조회 반경(m), 미입력 시 반경 제한 없음", example = "10000")
+        Integer radius
 ) {
     public CourseFilterRequestDto {
         if (filter == null) {
@@ -31,5 +37,18 @@ public record CourseFilterRequestDto(
         if (lat == null || lon == null) {
             throw new BusinessException(INVALID_USER_POINT);
         }
+        if (limit != null && limit <= 0) {
+            throw new BusinessException(INVALID_LIMIT_PARAMETER);
+        }
+        if (radius != null && radius <= 0) {
+            throw new BusinessException(INVALID_RADIUS_PARAMETER);
+        }
+    }
+
+    /**
+     * 사용자 위치만 바꾼 요청을 반환합니다.
+     */
+    public CourseFilterRequestDto withUserPoint(double lat, double lon) {
+        return new CourseFilterRequestDto(filter, lat, lon, area, theme, limit, radius);
     }
 }
@@ -3,9 +3,14 @@ package com.server.running_handai.domain.course.dto;
 public interface CourseInfoDto {
     long getId();
     String getName();
-    String getThumbnailUrl();
+    String getThumbnailUrl(); // 목록용 작은 이미지, 없으면 원본 이미지
+    String getThumbnailOriginalUrl(); // 원본 이미지
+    String getThumbnailSmallUrl(); // 너비 320px 이미지
+    String getThumbnailMediumUrl(); // 너비 720px 이미지
+    String getThumbnailPlaceholder(); // 블러 플레이스홀더 data URI
     double getDistance();
     int getDuration();
     double getMaxElevation();
     double getDistanceFromUser(); // 코스 시작점과 사용자의 거리
+    int getBookmarkCount(); // 저장된 북마크 수 (아직 반영되지 않은 증감분 제외)
 }
@@ -0,0 +1,28 @@
+package com.server.running_handai.domain.course.dto;
+
+import com.server.running_handai.domain.course.entity.TrackFormat;
+import java.util.List;
+
+public record CourseInfoPageDto(
+        List<CourseInfoWithDetailsDto> courses,
+        boolean hasNext, // 다음 페이지 존재 여부
+        String nextCursor // 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+) {
+    /**
+     * @param request 페이지를 조회한 요청 (다음 페이지 커서에 사용자 위치와 필터 조건을 담음)
+     */
+    public static CourseInfoPageDto from(List<CourseInfoWithDetailsDto> courses, boolean hasNext, CourseFilterRequestDto request) {
+        String nextCursor = (hasNext && !courses.isEmpty()) ? CourseCursor.from(courses.getLast(), request).encode() : null;
+        return new CourseInfoPageDto(courses, hasNext, nextCursor);
+    }
+
+    /**
+     * 요청한 형식에 맞게 페이지에 포함된 코스의 경로를 변환합니다.
+     */
+    public CourseInfoPageDto withTrackFormat(TrackFormat trackFormat) {
+        List<CourseInfoWithDetailsDto> formattedCourses = courses.stream()
+                .map(course -> course.withTrackFormat(trackFormat))
+                .toList();
+        return new CourseInfoPageDto(formattedCourses, hasNext, nextCursor);
+    }
+}
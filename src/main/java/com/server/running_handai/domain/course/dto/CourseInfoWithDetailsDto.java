@@ -1,31 +1,109 @@
 package com.server.running_handai.domain.course.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.server.running_handai.domain.course.entity.TrackFormat;
 import java.util.List;
 
 public record CourseInfoWithDetailsDto(
         long courseId,
         String courseName,
-        String thumbnailUrl,
+        String thumbnailUrl, // 목록용 작은 이미지, 없으면 원본 이미지
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailOriginalUrl, // 아래 크기별 이미지는 클라이언트가 화면 크기에 맞게 선택
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailSmallUrl, // 너비 320px
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailMediumUrl, // 너비 720px
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailPlaceholder,
         int distance,
         int duration,
         int maxElevation,
         double distanceFromUser,
         int bookmarks,
         boolean isBookmarked,
-        List<TrackPointDto> trackPoints
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<TrackPointDto> trackPoints,
+        @JsonInclude(JsonInclude.Include.NON_NULL) EncodedTrackDto encodedTrack
 ) {
     public static CourseInfoWithDetailsDto from(CourseInfoDto courseInfoDto, List<TrackPointDto> trackPoints, int bookmarks, boolean isBookmarked) {
         return new CourseInfoWithDetailsDto(
                 courseInfoDto.getId(),
                 courseInfoDto.getName(),
                 courseInfoDto.getThumbnailUrl(),
+                courseInfoDto.getThumbnailOriginalUrl(),
+                courseInfoDto.getThumbnailSmallUrl(),
+                courseInfoDto.getThumbnailMediumUrl(),
+                courseInfoDto.getThumbnailPlaceholder(),
                 (int) Math.round(courseInfoDto.getDistance()),
                 courseInfoDto.getDuration(),
                 (int) Math.round(courseInfoDto.getMaxElevation()),
                 courseInfoDto.getDistanceFromUser(),
                 bookmarks,
                 isBookmarked,
-                trackPoints
+                trackPoints,
+                null
+        );
+    }
+
+    public CourseInfoWithDetailsDto withTrackPoints(List<TrackPointDto> trackPoints) {
+        return new CourseInfoWithDetailsDto(
+                courseId,
+                courseName,
+                thumbnailUrl,
+                thumbnailOriginalUrl,
+                thumbnailSmallUrl,
+                thumbnailMediumUrl,
+                thumbnailPlaceholder,
+                distance,
+                duration,
+                maxElevation,
+                distanceFromUser,
+                bookmarks,
+                isBookmarked,
+                trackPoints,
+                encodedTrack
+        );
+    }
+
+    public CourseInfoWithDetailsDto withBookmarked(boolean isBookmarked) {
+        return new CourseInfoWithDetailsDto(
+                courseId,
+                courseName,
+                thumbnailUrl,
+                thumbnailOriginalUrl,
+                thumbnailSmallUrl,
+                thumbnailMediumUrl,
+                thumbnailPlaceholder,
+                distance,
+                duration,
+                maxElevation,
+                distanceFromUser,
+                bookmarks,
+                isBookmarked,
+                trackPoints,
+                encodedTrack
+        );
+    }
+
+    /**
+     * 요청한 형식에 맞게 코스 경로를 변환합니다. POLYLINE 형식이면 trackPoints 대신 encodedTrack으로 응답합니다.
+     */
+    public CourseInfoWithDetailsDto withTrackFormat(TrackFormat trackFormat) {
+        if (trackFormat != TrackFormat.POLYLINE || trackPoints == null) {
+            return this;
+        }
+        return new CourseInfoWithDetailsDto(
+                courseId,
+                courseName,
+                thumbnailUrl,
+                thumbnailOriginalUrl,
+                thumbnailSmallUrl,
+                thumbnailMediumUrl,
+                thumbnailPlaceholder,
+                distance,
+                duration,
+                maxElevation,
+                distanceFromUser,
+                bookmarks,
+                isBookmarked,
+                null,
+                EncodedTrackDto.from(trackPoints)
         );
     }
 }
@@ -0,0 +1,7 @@
+package com.server.running_handai.domain.course.dto;
+
+public record CoursePackedPointsDto(
+        Long courseId,
+        byte[] packedPoints
+) {
+}
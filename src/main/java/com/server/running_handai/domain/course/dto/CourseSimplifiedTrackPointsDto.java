@@ -0,0 +1,9 @@
+package com.server.running_handai.domain.course.dto;
+
+import java.util.List;
+
+public record CourseSimplifiedTrackPointsDto(
+        Long courseId,
+        List<TrackPointDto> simplifiedTrackPoints
+) {
+}
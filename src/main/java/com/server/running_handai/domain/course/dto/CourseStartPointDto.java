@@ -0,0 +1,9 @@
+package com.server.running_handai.domain.course.dto;
+
+import org.locationtech.jts.geom.Point;
+
+public record CourseStartPointDto(
+        Long courseId,
+        Point startPoint
+) {
+}
@@ -2,6 +2,8 @@ package com.server.running_handai.domain.course.dto;
 
 import com.server.running_handai.domain.course.entity.Course;
 import com.server.running_handai.domain.review.dto.ReviewInfoDto;
+import com.server.running_handai.domain.review.dto.ReviewStatsDto;
+import com.server.running_handai.domain.review.dto.StarCountDto;
 import com.server.running_handai.domain.spot.dto.SpotInfoDto;
 
 import java.util.List;
@@ -12,18 +14,20 @@ public record CourseSummaryDto(
         int maxElevation,
         int reviewCount,
         double starAverage,
+        List<StarCountDto> starHistogram,
         List<ReviewInfoDto> reviews,
         String spotStatus,
         List<SpotInfoDto> spots
 ) {
-    public static CourseSummaryDto from(Course course, int reviewCount, double starAverage,
+    public static CourseSummaryDto from(Course course, ReviewStatsDto reviewStats,
                                         List<ReviewInfoDto> reviewInfoDtos, List<SpotInfoDto> spotInfoDtos) {
         return new CourseSummaryDto(
                 (int) Math.round(course.getDistance()),
                 course.getDuration(),
                 (int) Math.round(course.getMaxElevation()),
-                reviewCount,
-                starAverage,
+                reviewStats.reviewCount(),
+                reviewStats.starAverage(),
+                reviewStats.starHistogram(),
                 reviewInfoDtos,
                 course.getSpotStatus().name(),
                 spotInfoDtos
@@ -0,0 +1,30 @@
+package com.server.running_handai.domain.course.dto;
+
+import com.server.running_handai.domain.course.entity.TrackDetail;
+import java.util.List;
+import org.locationtech.jts.geom.Point;
+
+/**
+ * 벡터 타일 생성에 필요한 코스 정보와 상세 수준별 단순화 경로
+ */
+public record CourseTileGeometryDto(
+        Long courseId,
+        String name,
+        double distance,
+        Point startPoint,
+        List<TrackPointDto> highDetailTrackPoints,
+        List<TrackPointDto> mediumDetailTrackPoints,
+        List<TrackPointDto> lowDetailTrackPoints
+) {
+    /**
+     * 상세 수준에 맞는 단순화 경로를 반환합니다. 해당 수준이 아직 저장되지 않았다면 HIGH 수준의 경로를 반환합니다.
+     */
+    public List<TrackPointDto> trackPoints(TrackDetail detail) {
+        List<TrackPointDto> trackPoints = switch (detail) {
+            case LOW -> lowDetailTrackPoints;
+            case MEDIUM -> mediumDetailTrackPoints;
+            case HIGH -> highDetailTrackPoints;
+        };
+        return (trackPoints != null) ? trackPoints : highDetailTrackPoints;
+    }
+}
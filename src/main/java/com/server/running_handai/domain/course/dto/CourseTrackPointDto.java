@@ -7,4 +7,18 @@ public record CourseTrackPointDto(
         double endPointLat,
         double endPointLon
 ) {
-}
\ No newline at end of file
+    /**
+     * 트랙포인트 배열의 첫 번째, 마지막 포인트로 생성합니다. 트랙포인트가 없으면 null을 반환합니다.
+     */
+    public static CourseTrackPointDto from(long courseId, TrackCoordinates coordinates) {
+        if (coordinates.isEmpty()) {
+            return null;
+        }
+        int last = coordinates.size() - 1;
+        return new CourseTrackPointDto(
+                courseId,
+                coordinates.lats()[0], coordinates.lons()[0],
+                coordinates.lats()[last], coordinates.lons()[last]
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.server.running_handai.domain.course.dto;
+
+import com.server.running_handai.domain.course.entity.SpotStatus;
+import java.time.LocalDateTime;
+
+/**
+ * 코스 상세, 요약, 즐길거리 응답의 ETag 계산에 사용하는 코스 버전 정보
+ * 응답을 만드는 무거운 조회 대신, 응답 내용이 바뀌면 함께 바뀌는 값(수정 시각, 집계값)만 한 번에 조회합니다.
+ */
+public record CourseVersionDto(
+        Long courseId,
+        LocalDateTime updatedAt, // 코스 수정 시각
+        SpotStatus spotStatus, // 즐길거리 초기화 상태
+        Long roadConditionCount, // 길 상태 수
+        Long lastRoadConditionId, // 길 상태는 교체 시 새로 저장되므로 가장 큰 ID로 변경 여부 확인
+        Long bookmarkCount, // 북마크 수
+        Long lastBookmarkId, // 해제 후 다른 회원이 북마크하여 수가 같아진 경우를 구분
+        Long reviewCount, // 리뷰 수
+        LocalDateTime lastReviewUpdatedAt, // 가장 최근에 작성 또는 수정된 리뷰 시각
+        LocalDateTime lastWriterUpdatedAt, // 리뷰 작성자 중 가장 최근에 수정된 회원 시각 (닉네임 변경 반영)
+        Long spotCount, // 코스에 연결된 즐길거리 수
+        LocalDateTime lastSpotUpdatedAt, // 가장 최근에 수정된 즐길거리 시각
+        Long spotImageCount, // 이미지가 있는 즐길거리 수 (이미지 삭제 확인)
+        LocalDateTime lastSpotImageUpdatedAt // 즐길거리 이미지는 Spot을 수정하지 않고 교체되므로 따로 확인
+) {
+}
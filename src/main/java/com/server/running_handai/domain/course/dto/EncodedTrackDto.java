@@ -0,0 +1,28 @@
+package com.server.running_handai.domain.course.dto;
+
+import com.server.running_handai.global.util.PolylineEncoder;
+import java.util.List;
+
+/**
+ * Google Encoded Polyline 형식으로 인코딩한 코스 경로
+ *
+ * @param polyline 위도, 경도를 인코딩한 문자열 (precision 자릿수)
+ * @param elevations 고도를 같은 방식으로 인코딩한 문자열 (elevationPrecision 자릿수, polyline과 같은 순서)
+ * @param precision 위도, 경도의 소수점 자릿수
+ * @param elevationPrecision 고도의 소수점 자릿수
+ */
+public record EncodedTrackDto(
+        String polyline,
+        String elevations,
+        int precision,
+        int elevationPrecision
+) {
+    public static EncodedTrackDto from(List<TrackPointDto> trackPoints) {
+        return new EncodedTrackDto(
+                PolylineEncoder.encodeCoordinates(trackPoints),
+                PolylineEncoder.encodeElevations(trackPoints),
+                PolylineEncoder.COORDINATE_PRECISION,
+                PolylineEncoder.ELEVATION_PRECISION
+        );
+    }
+}
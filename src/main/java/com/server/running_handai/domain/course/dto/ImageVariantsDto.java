@@ -0,0 +1,57 @@
+package com.server.running_handai.domain.course.dto;
+
+import com.server.running_handai.domain.course.entity.CourseImage;
+import com.server.running_handai.domain.spot.entity.SpotImage;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+public record ImageVariantsDto(
+        String imgUrl, // 원본 이미지 s3 url
+        String smallImgUrl, // 너비 320px JPEG s3 url (목록 카드용), 원본이 더 작으면 원본 url
+        String mediumImgUrl, // 너비 720px JPEG s3 url (즐길거리 카드용), 원본이 더 작으면 원본 url
+        String placeholder // 너비 16px JPEG data URI (블러 플레이스홀더용)
+) {
+    /**
+     * 크기별 이미지를 만들지 못한 원본 이미지입니다.
+     */
+    public static ImageVariantsDto original(String imgUrl) {
+        return new ImageVariantsDto(imgUrl, null, null, null);
+    }
+
+    public static ImageVariantsDto from(CourseImage courseImage) {
+        return new ImageVariantsDto(
+                courseImage.getImgUrl(),
+                courseImage.getSmallImgUrl(),
+                courseImage.getMediumImgUrl(),
+                courseImage.getPlaceholder()
+        );
+    }
+
+    public static ImageVariantsDto from(SpotImage spotImage) {
+        return new ImageVariantsDto(
+                spotImage.getImgUrl(),
+                spotImage.getSmallImgUrl(),
+                spotImage.getMediumImgUrl(),
+                spotImage.getPlaceholder()
+        );
+    }
+
+    public String smallOrOriginal() {
+        return (smallImgUrl != null) ? smallImgUrl : imgUrl;
+    }
+
+    public String mediumOrOriginal() {
+        return (mediumImgUrl != null) ? mediumImgUrl : imgUrl;
+    }
+
+    /**
+     * S3 버킷에 저장된 파일 URL 목록을 중복 없이 반환합니다. (원본, 크기별 이미지)
+     */
+    public List<String> fileUrls() {
+        return Stream.of(imgUrl, smallImgUrl, mediumImgUrl)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+}
@@ -1,6 +1,8 @@
 package com.server.running_handai.domain.course.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.server.running_handai.domain.course.entity.Course;
+import com.server.running_handai.domain.course.entity.TrackFormat;
 
 import java.util.List;
 
@@ -11,7 +13,8 @@ public record MyCourseDetailDto(
         int duration,
         int maxElevation,
         int minElevation,
-        List<TrackPointDto> trackPoints
+        @JsonInclude(JsonInclude.Include.NON_NULL) List<TrackPointDto> trackPoints,
+        @JsonInclude(JsonInclude.Include.NON_NULL) EncodedTrackDto encodedTrack
 ) {
     public static MyCourseDetailDto from(Course course, List<TrackPointDto> trackPoints) {
         return new MyCourseDetailDto(
@@ -21,7 +24,27 @@ public record MyCourseDetailDto(
                 course.getDuration(),
                 (int) Math.round(course.getMaxElevation()),
                 (int) Math.round(course.getMinElevation()),
-                trackPoints
+                trackPoints,
+                null
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * 요청한 형식에 맞게 코스 경로를 변환합니다. POLYLINE 형식이면 trackPoints 대신 encodedTrack으로 응답합니다.
+     */
+    public MyCourseDetailDto withTrackFormat(TrackFormat trackFormat) {
+        if (trackFormat != TrackFormat.POLYLINE || trackPoints == null) {
+            return this;
+        }
+        return new MyCourseDetailDto(
+                courseId,
+                name,
+                distance,
+                duration,
+                maxElevation,
+                minElevation,
+                null,
+                EncodedTrackDto.from(trackPoints)
+        );
+    }
+}
@@ -1,20 +1,25 @@
 package com.server.running_handai.domain.course.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.server.running_handai.domain.course.entity.Course;
 import java.time.format.DateTimeFormatter;
 
 public record MyCourseInfoDto(
     long courseId,
     String courseName,
-    String thumbnailUrl,
+    String thumbnailUrl, // 목록용 작은 이미지, 없으면 원본 이미지
+    @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailOriginalUrl, // 아래 크기별 이미지는 클라이언트가 화면 크기에 맞게 선택
+    @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailSmallUrl, // 너비 320px
+    @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailMediumUrl, // 너비 720px
+    @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailPlaceholder,
     int distance,
     int duration,
     int maxElevation,
     String createdAt
 ) {
     public static MyCourseInfoDto from(Course course) {
-        String thumbnailUrl = (course.getCourseImage() != null && course.getCourseImage().getImgUrl() != null)
-                ? course.getCourseImage().getImgUrl() : null;
+        ImageVariantsDto thumbnail = (course.getCourseImage() != null)
+                ? ImageVariantsDto.from(course.getCourseImage()) : ImageVariantsDto.original(null);
         int roundedDistance = (int) Math.round(course.getDistance());
         int roundedMaxElevation = (int) Math.round(course.getMaxElevation());
 
@@ -24,7 +29,11 @@ public record MyCourseInfoDto(
         return new MyCourseInfoDto(
                 course.getId(),
                 course.getName(),
-                thumbnailUrl,
+                thumbnail.smallOrOriginal(),
+                thumbnail.imgUrl(),
+                thumbnail.smallImgUrl(),
+                thumbnail.mediumImgUrl(),
+                thumbnail.placeholder(),
                 roundedDistance,
                 course.getDuration(),
                 roundedMaxElevation,
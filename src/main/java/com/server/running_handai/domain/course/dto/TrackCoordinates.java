@@ -0,0 +1,55 @@
+package com.server.running_handai.domain.course.dto;
+
+import com.server.running_handai.domain.course.entity.TrackPoint;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 코스 전체 트랙포인트를 위도, 경도, 고도 배열로 담습니다.
+ * 트랙포인트마다 객체를 만들지 않고 코스 단위로 한 번에 읽고 쓰기 위해 사용합니다.
+ *
+ * @param lats 위도 배열
+ * @param lons 경도 배열
+ * @param eles 고도 배열
+ */
+public record TrackCoordinates(
+        double[] lats,
+        double[] lons,
+        double[] eles
+) {
+    public TrackCoordinates {
+        if (lats.length != lons.length || lats.length != eles.length) {
+            throw new IllegalArgumentException("위도, 경도, 고도 배열의 길이가 서로 다릅니다.");
+        }
+    }
+
+    public static TrackCoordinates from(List<TrackPoint> trackPoints) {
+        int size = trackPoints.size();
+        double[] lats = new double[size];
+        double[] lons = new double[size];
+        double[] eles = new double[size];
+        for (int i = 0; i < size; i++) {
+            TrackPoint trackPoint = trackPoints.get(i);
+            lats[i] = trackPoint.getLat();
+            lons[i] = trackPoint.getLon();
+            eles[i] = trackPoint.getEle();
+        }
+        return new TrackCoordinates(lats, lons, eles);
+    }
+
+    public int size() {
+        return lats.length;
+    }
+
+    public boolean isEmpty() {
+        return lats.length == 0;
+    }
+
+    public List<TrackPointDto> toTrackPointDtos() {
+        List<TrackPointDto> trackPointDtos = new ArrayList<>(lats.length);
+        for (int i = 0; i < lats.length; i++) {
+            trackPointDtos.add(new TrackPointDto(lats[i], lons[i], eles[i]));
+        }
+        return trackPointDtos;
+    }
+}
@@ -1,6 +1,8 @@
 package com.server.running_handai.domain.course.entity;
 
 import com.server.running_handai.domain.bookmark.entity.Bookmark;
+import com.server.running_handai.domain.course.dto.TrackPointDto;
+import com.server.running_handai.domain.course.entity.converter.TrackPointDtoListConverter;
 import static com.server.running_handai.domain.course.entity.SpotStatus.*;
 
 import com.server.running_handai.domain.member.entity.Member;
@@ -10,6 +12,7 @@ import com.server.running_handai.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -63,6 +66,27 @@ public class Course extends BaseTimeEntity {
     @Column(name = "min_ele", nullable = false)
     private Double minElevation; // 최소 고도
 
+    @Lob
+    @Convert(converter = TrackPointDtoListConverter.class)
+    @Column(name = "simplified_track_points")
+    private List<TrackPointDto> simplifiedTrackPoints; // RDP 알고리즘으로 단순화된 경로, 상세 수준 HIGH (트랙포인트 변경 시 재계산)
+
+    @Lob
+    @Convert(converter = TrackPointDtoListConverter.class)
+    @Column(name = "medium_detail_track_points")
+    private List<TrackPointDto> mediumDetailTrackPoints; // 단순화된 경로, 상세 수준 MEDIUM
+
+    @Lob
+    @Convert(converter = TrackPointDtoListConverter.class)
+    @Column(name = "low_detail_track_points")
+    private List<TrackPointDto> lowDetailTrackPoints; // 단순화된 경로, 상세 수준 LOW
+
+    @Column(name = "source_hash", length = 64)
+    private String sourceHash; // 두루누비 GPX 파일과 API 항목 필드의 SHA-256 해시, 같으면 동기화에서 건너뜀 (회원 코스는 null)
+
+    @Column(name = "bookmark_count", nullable = false)
+    private int bookmarkCount = 0; // 북마크 수 (BookmarkCountService가 증감분을 모아 일괄 반영, 주기적으로 실제 북마크 수로 보정)
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private SpotStatus spotStatus = NOT_STARTED; // 코스 생성 시 기본값 NOT_STARTED
@@ -80,10 +104,6 @@ public class Course extends BaseTimeEntity {
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<RoadCondition> roadConditions = new ArrayList<>(); // 길 상태
 
-    // TrackPoint와 일대다 관계
-    @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<TrackPoint> trackPoints = new ArrayList<>();
-
     // Review와 일대다 관계
     @OneToMany(mappedBy = "course", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Review> reviews = new ArrayList<>();
@@ -162,11 +182,33 @@ public class Course extends BaseTimeEntity {
         }
     }
 
+    public void updateSourceHash(String sourceHash) {
+        this.sourceHash = sourceHash;
+    }
+
     public void updateElevation(Double minElevation, Double maxElevation) {
         this.minElevation = minElevation;
         this.maxElevation = maxElevation;
     }
 
+    public void updateSimplifiedTrackPoints(Map<TrackDetail, List<TrackPointDto>> simplifiedTrackPoints) {
+        this.simplifiedTrackPoints = simplifiedTrackPoints.get(TrackDetail.HIGH);
+        this.mediumDetailTrackPoints = simplifiedTrackPoints.get(TrackDetail.MEDIUM);
+        this.lowDetailTrackPoints = simplifiedTrackPoints.get(TrackDetail.LOW);
+    }
+
+    /**
+     * 상세 수준에 맞는 단순화 경로를 반환합니다. 해당 수준이 아직 저장되지 않았다면 HIGH 수준의 경로를 반환합니다.
+     */
+    public List<TrackPointDto> getSimplifiedTrackPoints(TrackDetail detail) {
+        List<TrackPointDto> trackPoints = switch (detail) {
+            case LOW -> lowDetailTrackPoints;
+            case MEDIUM -> mediumDetailTrackPoints;
+            case HIGH -> simplifiedTrackPoints;
+        };
+        return (trackPoints != null) ? trackPoints : simplifiedTrackPoints;
+    }
+
     public void addTheme(Theme theme) {
         this.themes.add(theme);
     }
@@ -2,6 +2,7 @@ package com.server.running_handai.domain.course.entity;
 
 public enum CourseFilter {
     NEARBY,
+    NEAREST,
     AREA,
     THEME
 }
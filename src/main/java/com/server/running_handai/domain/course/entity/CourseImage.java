@@ -1,5 +1,6 @@
 package com.server.running_handai.domain.course.entity;
 
+import com.server.running_handai.domain.course.dto.ImageVariantsDto;
 import com.server.running_handai.global.entity.BaseTimeEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -29,17 +30,41 @@ public class CourseImage extends BaseTimeEntity {
     @Column(name = "img_url", nullable = false)
     private String imgUrl; // s3 url
 
+    @Column(name = "small_img_url")
+    private String smallImgUrl; // 너비 320px s3 url
+
+    @Column(name = "medium_img_url")
+    private String mediumImgUrl; // 너비 720px s3 url
+
+    @Column(name = "placeholder", length = 2048)
+    private String placeholder; // 블러 플레이스홀더 data URI
+
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", unique = true, nullable = false)
     private Course course;
 
     @Builder
-    public CourseImage(String imgUrl) {
+    public CourseImage(String imgUrl, String smallImgUrl, String mediumImgUrl, String placeholder) {
         this.imgUrl = imgUrl;
+        this.smallImgUrl = smallImgUrl;
+        this.mediumImgUrl = mediumImgUrl;
+        this.placeholder = placeholder;
     }
 
-    public void updateImageUrl(String imgUrl) {
-        this.imgUrl = imgUrl;
+    public static CourseImage from(ImageVariantsDto image) {
+        return CourseImage.builder()
+                .imgUrl(image.imgUrl())
+                .smallImgUrl(image.smallImgUrl())
+                .mediumImgUrl(image.mediumImgUrl())
+                .placeholder(image.placeholder())
+                .build();
+    }
+
+    public void updateImage(ImageVariantsDto image) {
+        this.imgUrl = image.imgUrl();
+        this.smallImgUrl = image.smallImgUrl();
+        this.mediumImgUrl = image.mediumImgUrl();
+        this.placeholder = image.placeholder();
     }
 
     // ==== 연관관계 편의 메서드 ==== //
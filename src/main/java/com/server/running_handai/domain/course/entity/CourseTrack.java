@@ -0,0 +1,59 @@
+package com.server.running_handai.domain.course.entity;
+
+import com.server.running_handai.domain.course.dto.TrackCoordinates;
+import com.server.running_handai.global.entity.BaseTimeEntity;
+import com.server.running_handai.global.util.TrackPointCodec;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.MapsId;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+@Entity
+@Getter
+@Table(name = "course_track")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CourseTrack extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Course course;
+
+    @Column(name = "point_count", nullable = false)
+    private int pointCount; // 트랙포인트 수
+
+    @Lob
+    @Column(name = "packed_points", nullable = false)
+    private byte[] packedPoints; // TrackPointCodec으로 압축한 전체 트랙포인트
+
+    @Builder
+    public CourseTrack(Course course, TrackCoordinates coordinates) {
+        this.course = course;
+        updateCoordinates(coordinates);
+    }
+
+    public void updateCoordinates(TrackCoordinates coordinates) {
+        this.pointCount = coordinates.size();
+        this.packedPoints = TrackPointCodec.encode(coordinates);
+    }
+
+    public TrackCoordinates getCoordinates() {
+        return TrackPointCodec.decode(packedPoints);
+    }
+}
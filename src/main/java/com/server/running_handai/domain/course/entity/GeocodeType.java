@@ -0,0 +1,9 @@
+package com.server.running_handai.domain.course.entity;
+
+/**
+ * 카카오 지도 API 좌표 변환 종류
+ */
+public enum GeocodeType {
+    ADDRESS, // 좌표 -> 주소 (구, 동)
+    REGION_CODE // 좌표 -> 행정구역 (시도)
+}
@@ -0,0 +1,47 @@
+package com.server.running_handai.domain.course.entity;
+
+import com.server.running_handai.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 좌표 격자(cell)별 카카오 지도 API 좌표 변환 결과
+ * 같은 격자 안의 좌표는 격자 중심 좌표로 조회한 결과를 공유하며, 행은 ReverseGeocodeRepository.upsert로만 저장합니다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "reverse_geocode",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reverse_geocode_cell", columnNames = {"geocode_type", "lat_cell", "lon_cell"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReverseGeocode extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reverse_geocode_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "geocode_type", nullable = false, length = 20)
+    private GeocodeType geocodeType;
+
+    @Column(name = "lat_cell", nullable = false)
+    private long latCell; // floor(위도 / 격자 크기)
+
+    @Column(name = "lon_cell", nullable = false)
+    private long lonCell; // floor(경도 / 격자 크기)
+
+    @Column(name = "document", columnDefinition = "TEXT")
+    private String document; // 카카오 지도 API 응답의 documents[0] JSON, 결과가 없는 좌표면 null
+}
@@ -0,0 +1,48 @@
+package com.server.running_handai.domain.course.entity;
+
+import com.server.running_handai.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 외부 데이터 동기화 작업별로 마지막 전체 동기화에서 받은 목록의 지문(fingerprint)
+ * 다음 동기화에서 목록의 지문이 같으면 변경이 없는 것으로 보고 작업을 건너뜁니다.
+ */
+@Entity
+@Getter
+@Table(name = "sync_fingerprint")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SyncFingerprint extends BaseTimeEntity {
+
+    public static final String DURUNUBI_COURSE = "DURUNUBI_COURSE";
+
+    @Id
+    @Column(name = "sync_name", length = 50)
+    private String syncName; // 동기화 작업 이름
+
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint; // 목록 전체의 SHA-256 해시 (16진수)
+
+    @Column(name = "synced_at", nullable = false)
+    private LocalDateTime syncedAt; // 마지막 전체 동기화 시각
+
+    public SyncFingerprint(String syncName, String fingerprint, LocalDateTime syncedAt) {
+        this.syncName = syncName;
+        this.fingerprint = fingerprint;
+        this.syncedAt = syncedAt;
+    }
+
+    /**
+     * 전체 동기화를 마친 목록의 지문과 시각을 기록합니다.
+     */
+    public void recordFullSync(String fingerprint, LocalDateTime syncedAt) {
+        this.fingerprint = fingerprint;
+        this.syncedAt = syncedAt;
+    }
+}
@@ -0,0 +1,56 @@
+package com.server.running_handai.domain.course.entity;
+
+import static com.server.running_handai.global.response.ResponseCode.INVALID_TRACK_DETAIL_PARAMETER;
+
+import com.server.running_handai.global.response.exception.BusinessException;
+import java.util.Arrays;
+
+/**
+ * 미리 계산해 두는 단순화 경로의 상세 수준(LOD)
+ * 허용 오차는 course.simplification.distance-tolerance(HIGH)에 배수를 곱해 정하며, 지도 축소 시 낮은 수준을 사용합니다.
+ */
+public enum TrackDetail {
+    LOW(16, 11), // 약 160m 오차, 줌 레벨 11 이하 (시/구 단위 지도, 목록 썸네일)
+    MEDIUM(4, 14), // 약 40m 오차, 줌 레벨 12~14 (동 단위 지도)
+    HIGH(1, Integer.MAX_VALUE); // 약 10m 오차, 줌 레벨 15 이상 (상세 지도)
+
+    private final int toleranceMultiplier;
+    private final int maxZoom;
+
+    TrackDetail(int toleranceMultiplier, int maxZoom) {
+        this.toleranceMultiplier = toleranceMultiplier;
+        this.maxZoom = maxZoom;
+    }
+
+    /**
+     * 기준 허용 오차로 이 수준의 RDP 허용 오차를 계산합니다.
+     */
+    public double tolerance(double baseTolerance) {
+        return baseTolerance * toleranceMultiplier;
+    }
+
+    /**
+     * 요청 파라미터로 상세 수준을 결정합니다.
+     * detail 파라미터가 우선하며, 없으면 지도 줌 레벨로 결정하고, 둘 다 없으면 HIGH를 반환합니다.
+     *
+     * @param detail detail 요청 파라미터 (LOW, MEDIUM, HIGH, 대소문자 무시)
+     * @param zoom 지도 줌 레벨 (웹 메르카토르 기준)
+     * @return 단순화 경로 상세 수준
+     * @throws BusinessException detail 파라미터가 알 수 없는 값인 경우
+     */
+    public static TrackDetail resolve(String detail, Integer zoom) {
+        if (detail != null && !detail.isBlank()) {
+            return Arrays.stream(values())
+                    .filter(level -> level.name().equalsIgnoreCase(detail.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new BusinessException(INVALID_TRACK_DETAIL_PARAMETER));
+        }
+        if (zoom != null) {
+            return Arrays.stream(values())
+                    .filter(level -> zoom <= level.maxZoom)
+                    .findFirst()
+                    .orElse(HIGH);
+        }
+        return HIGH;
+    }
+}
@@ -0,0 +1,39 @@
+package com.server.running_handai.domain.course.entity;
+
+import static com.server.running_handai.global.response.ResponseCode.INVALID_TRACK_FORMAT_PARAMETER;
+
+import com.server.running_handai.global.response.exception.BusinessException;
+import java.util.Arrays;
+
+/**
+ * 코스 경로(트랙포인트)의 응답 형식
+ * 기존 클라이언트는 POINTS 형식을 그대로 받으며, trackFormat 파라미터 또는 Accept 헤더로 POLYLINE 형식을 요청할 수 있습니다.
+ */
+public enum TrackFormat {
+    POINTS, // {lat, lon, ele} 객체 배열
+    POLYLINE; // Google Encoded Polyline + 고도 스트림
+
+    public static final String POLYLINE_MEDIA_TYPE = "application/vnd.running-handai.polyline+json";
+
+    /**
+     * 요청 파라미터와 Accept 헤더로 응답 형식을 결정합니다.
+     * 파라미터가 우선하며, 둘 다 없으면 POINTS를 반환합니다.
+     *
+     * @param trackFormat trackFormat 요청 파라미터 (대소문자 무시)
+     * @param accept Accept 요청 헤더
+     * @return 트랙포인트 응답 형식
+     * @throws BusinessException trackFormat 파라미터가 알 수 없는 값인 경우
+     */
+    public static TrackFormat resolve(String trackFormat, String accept) {
+        if (trackFormat != null && !trackFormat.isBlank()) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equalsIgnoreCase(trackFormat.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new BusinessException(INVALID_TRACK_FORMAT_PARAMETER));
+        }
+        if (accept != null && accept.contains(POLYLINE_MEDIA_TYPE)) {
+            return POLYLINE;
+        }
+        return POINTS;
+    }
+}
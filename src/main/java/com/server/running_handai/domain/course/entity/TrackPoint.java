@@ -14,6 +14,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 @Entity
 @Getter
@@ -26,8 +28,10 @@ public class TrackPoint extends BaseTimeEntity {
     @Column(name = "track_point_id")
     private Long id;
 
+    // 코스 삭제 시 DB가 함께 삭제 (코스마다 수천 행이라 엔티티로 한 행씩 삭제하지 않도록 Course에는 매핑하지 않음)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "course_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Course course;
 
     @Column(name = "lat", nullable = false)
@@ -53,6 +57,5 @@ public class TrackPoint extends BaseTimeEntity {
     // ==== 연관관계 편의 메서드 ==== //
     public void setCourse(Course course) {
         this.course = course;
-        course.getTrackPoints().add(this);
     }
 }
@@ -0,0 +1,43 @@
+package com.server.running_handai.domain.course.entity.converter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.running_handai.domain.course.dto.TrackPointDto;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.List;
+
+/**
+ * 단순화된 트랙포인트 리스트를 JSON 문자열로 변환하여 하나의 컬럼에 저장합니다.
+ */
+@Converter
+public class TrackPointDtoListConverter implements AttributeConverter<List<TrackPointDto>, String> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<TrackPointDto>> TRACK_POINT_LIST_TYPE = new TypeReference<>() {};
+
+    @Override
+    public String convertToDatabaseColumn(List<TrackPointDto> trackPoints) {
+        if (trackPoints == null) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.writeValueAsString(trackPoints);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("트랙포인트 리스트를 JSON으로 변환하지 못했습니다.", e);
+        }
+    }
+
+    @Override
+    public List<TrackPointDto> convertToEntityAttribute(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(json, TRACK_POINT_LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON을 트랙포인트 리스트로 변환하지 못했습니다.", e);
+        }
+    }
+}
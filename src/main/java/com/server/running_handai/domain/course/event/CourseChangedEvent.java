@@ -0,0 +1,22 @@
+package com.server.running_handai.domain.course.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 코스가 생성, 수정, 삭제되고 트랜잭션이 커밋된 후 발행되는 이벤트
+ * 코스 데이터를 메모리에 유지하는 컴포넌트(공간 인덱스 등)는 이 이벤트를 받아 해당 코스를 다시 반영합니다.
+ *
+ * @param courseIds 변경된 코스의 ID 목록
+ */
+public record CourseChangedEvent(
+        Set<Long> courseIds
+) {
+    public static CourseChangedEvent of(Long courseId) {
+        return new CourseChangedEvent(Set.of(courseId));
+    }
+
+    public static CourseChangedEvent of(Collection<Long> courseIds) {
+        return new CourseChangedEvent(Set.copyOf(courseIds));
+    }
+}
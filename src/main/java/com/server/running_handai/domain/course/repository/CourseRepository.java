@@ -1,15 +1,23 @@
 package com.server.running_handai.domain.course.repository;
 
+import com.server.running_handai.domain.bookmark.dto.BookmarkCountDto;
 import com.server.running_handai.domain.course.dto.CourseInfoDto;
+import com.server.running_handai.domain.course.dto.CourseSimplifiedTrackPointsDto;
+import com.server.running_handai.domain.course.dto.CourseStartPointDto;
+import com.server.running_handai.domain.course.dto.CourseTileGeometryDto;
+import com.server.running_handai.domain.course.dto.CourseVersionDto;
 import com.server.running_handai.domain.course.entity.Course;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
@@ -19,28 +27,151 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     List<Course> findByExternalIdIsNotNull();
 
     /**
-     * 코스의 시작점을 기준으로 사용자의 현재 위치에서 5km 이내에 있는 Course 목록 조회
+     * 사용자 위치를 둘러싼 MBR(:envelope)로 후보를 먼저 좁힌 뒤, 남은 행에 대해서만 구면 거리를 계산하는 조건.
+     * MBRContains는 start_point의 공간 인덱스(idx_course_location)를 사용할 수 있고,
+     * ST_Distance_Sphere는 인덱스를 사용할 수 없으므로 반드시 MBR 조건과 함께 사용합니다.
+     */
+    String WITHIN_ENVELOPE_CONDITION =
+            "    MBRContains(ST_GeomFromText(:envelope, 4326), c.start_point) " +
+            "    AND ST_Distance_Sphere(c.start_point, ST_PointFromText(:userPoint, 4326)) <= :radius ";
+
+    String FIND_COURSES_NEARBY_USER_QUERY =
+            "SELECT " +
+            "    c.course_id AS id, " +
+            "    c.name, " +
+            "    COALESCE(ci.small_img_url, ci.img_url) AS thumbnailUrl, " +
+            "    ci.img_url AS thumbnailOriginalUrl, " +
+            "    ci.small_img_url AS thumbnailSmallUrl, " +
+            "    ci.medium_img_url AS thumbnailMediumUrl, " +
+            "    ci.placeholder AS thumbnailPlaceholder, " +
+            "    c.distance, " +
+            "    c.duration, " +
+            "    c.max_ele AS maxElevation, " +
+            "    c.bookmark_count AS bookmarkCount, " +
+            "    (ST_Distance_Sphere(c.start_point, ST_PointFromText(:userPoint, 4326)) / 1000) AS distanceFromUser " +
+            "FROM " +
+            "    course c " +
+            "LEFT JOIN " +
+            "    course_image ci ON c.course_id = ci.course_id " +
+            "WHERE " +
+            WITHIN_ENVELOPE_CONDITION +
+            "ORDER BY " +
+            "    distanceFromUser ASC";
+
+    String FIND_COURSES_BY_AREA_WITHIN_ENVELOPE_QUERY =
+            "SELECT " +
+            "    c.course_id AS id, " +
+            "    c.name, " +
+            "    COALESCE(ci.small_img_url, ci.img_url) AS thumbnailUrl, " +
+            "    ci.img_url AS thumbnailOriginalUrl, " +
+            "    ci.small_img_url AS thumbnailSmallUrl, " +
+            "    ci.medium_img_url AS thumbnailMediumUrl, " +
+            "    ci.placeholder AS thumbnailPlaceholder, " +
+            "    c.distance, " +
+            "    c.duration, " +
+            "    c.max_ele AS maxElevation, " +
+            "    c.bookmark_count AS bookmarkCount, " +
+            "    (ST_Distance_Sphere(c.start_point, ST_PointFromText(:userPoint, 4326)) / 1000) AS distanceFromUser " +
+            "FROM " +
+            "    course c " +
+            "LEFT JOIN " +
+            "    course_image ci ON c.course_id = ci.course_id " +
+            "WHERE " +
+            "    c.area = :area AND " +
+            WITHIN_ENVELOPE_CONDITION +
+            "ORDER BY " +
+            "    distanceFromUser ASC";
+
+    String FIND_COURSES_BY_THEME_WITHIN_ENVELOPE_QUERY =
+            "SELECT " +
+            "    c.course_id AS id, " +
+            "    c.name, " +
+            "    COALESCE(ci.small_img_url, ci.img_url) AS thumbnailUrl, " +
+            "    ci.img_url AS thumbnailOriginalUrl, " +
+            "    ci.small_img_url AS thumbnailSmallUrl, " +
+            "    ci.medium_img_url AS thumbnailMediumUrl, " +
+            "    ci.placeholder AS thumbnailPlaceholder, " +
+            "    c.distance, " +
+            "    c.duration, " +
+            "    c.max_ele AS maxElevation, " +
+            "    c.bookmark_count AS bookmarkCount, " +
+            "    (ST_Distance_Sphere(c.start_point, ST_PointFromText(:userPoint, 4326)) / 1000) AS distanceFromUser " +
+            "FROM " +
+            "    course c " +
+            "LEFT JOIN " +
+            "    course_image ci ON c.course_id = ci.course_id " +
+            "JOIN " +
+            "    course_themes ct ON ct.course_course_id = c.course_id " +
+            "WHERE " +
+            "    ct.theme = :theme AND " +
+            WITHIN_ENVELOPE_CONDITION +
+            "ORDER BY " +
+            "    distanceFromUser ASC";
+
+    /**
+     * 코스의 시작점을 기준으로 사용자의 현재 위치에서 반경(:radius, m) 이내에 있는 Course 목록 조회
+     */
+    @Query(value = FIND_COURSES_NEARBY_USER_QUERY, nativeQuery = true)
+    List<CourseInfoDto> findCoursesNearbyUser(@Param("userPoint") String userPoint,
+                                              @Param("envelope") String envelope,
+                                              @Param("radius") double radius);
+
+    /**
+     * 사용자의 현재 위치에서 가까운 순서대로 Course 목록을 limit개 조회 (공간 인덱스를 사용할 수 없을 때 사용)
+     */
+    @Query(
+            value = "SELECT " +
+                    "    c.course_id AS id, " +
+                    "    c.name, " +
+                    "    COALESCE(ci.small_img_url, ci.img_url) AS thumbnailUrl, " +
+                    "    ci.img_url AS thumbnailOriginalUrl, " +
+                    "    ci.small_img_url AS thumbnailSmallUrl, " +
+                    "    ci.medium_img_url AS thumbnailMediumUrl, " +
+                    "    ci.placeholder AS thumbnailPlaceholder, " +
+                    "    c.distance, " +
+                    "    c.duration, " +
+                    "    c.max_ele AS maxElevation, " +
+                    "    c.bookmark_count AS bookmarkCount, " +
+                    "    (ST_Distance_Sphere(c.start_point, ST_PointFromText(:userPoint, 4326)) / 1000) AS distanceFromUser " +
+                    "FROM " +
+                    "    course c " +
+                    "LEFT JOIN " +
+                    "    course_image ci ON c.course_id = ci.course_id " +
+                    "ORDER BY " +
+                    "    distanceFromUser ASC " +
+                    "LIMIT :limit",
+            nativeQuery = true
+    )
+    List<CourseInfoDto> findNearestCourses(@Param("userPoint") String userPoint, @Param("limit") int limit);
+
+    /**
+     * 공간 인덱스로 선별한 코스 ID 목록에 해당하는 Course 목록 조회
      */
     @Query(
             value = "SELECT " +
                     "    c.course_id AS id, " +
                     "    c.name, " +
-                    "    ci.img_url AS thumbnailUrl, " +
+                    "    COALESCE(ci.small_img_url, ci.img_url) AS thumbnailUrl, " +
+                    "    ci.img_url AS thumbnailOriginalUrl, " +
+                    "    ci.small_img_url AS thumbnailSmallUrl, " +
+                    "    ci.medium_img_url AS thumbnailMediumUrl, " +
+                    "    ci.placeholder AS thumbnailPlaceholder, " +
                     "    c.distance, " +
                     "    c.duration, " +
                     "    c.max_ele AS maxElevation, " +
+                    "    c.bookmark_count AS bookmarkCount, " +
                     "    (ST_Distance_Sphere(c.start_point, ST_PointFromText(:userPoint, 4326)) / 1000) AS distanceFromUser " +
                     "FROM " +
                     "    course c " +
                     "LEFT JOIN " +
                     "    course_image ci ON c.course_id = ci.course_id " +
                     "WHERE " +
-                    "    ST_Distance_Sphere(c.start_point, ST_PointFromText(:userPoint, 4326)) <= 5000 " +
+                    "    c.course_id IN (:courseIds) " +
                     "ORDER BY " +
                     "    distanceFromUser ASC",
             nativeQuery = true
     )
-    List<CourseInfoDto> findCoursesNearbyUser(@Param("userPoint") String userPoint);
+    List<CourseInfoDto> findCoursesByIdIn(@Param("userPoint") String userPoint, @Param("courseIds") List<Long> courseIds);
 
     /**
      * 특정 지역 내의 Course 목록 조회
@@ -49,10 +180,15 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
             value = "SELECT " +
                     "    c.course_id AS id, " +
                     "    c.name, " +
-                    "    ci.img_url AS thumbnailUrl, " +
+                    "    COALESCE(ci.small_img_url, ci.img_url) AS thumbnailUrl, " +
+                    "    ci.img_url AS thumbnailOriginalUrl, " +
+                    "    ci.small_img_url AS thumbnailSmallUrl, " +
+                    "    ci.medium_img_url AS thumbnailMediumUrl, " +
+                    "    ci.placeholder AS thumbnailPlaceholder, " +
                     "    c.distance, " +
                     "    c.duration, " +
                     "    c.max_ele AS maxElevation, " +
+                    "    c.bookmark_count AS bookmarkCount, " +
                     "    (ST_Distance_Sphere(c.start_point, ST_PointFromText(:userPoint, 4326)) / 1000) AS distanceFromUser " +
                     "FROM " +
                     "    course c " +
@@ -71,10 +207,15 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
             value = "SELECT " +
                     "    c.course_id AS id, " +
                     "    c.name, " +
-                    "    ci.img_url AS thumbnailUrl, " +
+                    "    COALESCE(ci.small_img_url, ci.img_url) AS thumbnailUrl, " +
+                    "    ci.img_url AS thumbnailOriginalUrl, " +
+                    "    ci.small_img_url AS thumbnailSmallUrl, " +
+                    "    ci.medium_img_url AS thumbnailMediumUrl, " +
+                    "    ci.placeholder AS thumbnailPlaceholder, " +
                     "    c.distance, " +
                     "    c.duration, " +
                     "    c.max_ele AS maxElevation, " +
+                    "    c.bookmark_count AS bookmarkCount, " +
                     "    (ST_Distance_Sphere(c.start_point, ST_PointFromText(:userPoint, 4326)) / 1000) AS distanceFromUser " +
                     "FROM " +
                     "    course c " +
@@ -90,11 +231,121 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     )
     List<CourseInfoDto> findCoursesByTheme(@Param("userPoint") String userPoint, @Param("theme") String theme);
 
+    /**
+     * 사용자 위치 기준 반경(:radius, m) 이내에서 특정 지역의 Course 목록 조회
+     */
+    @Query(value = FIND_COURSES_BY_AREA_WITHIN_ENVELOPE_QUERY, nativeQuery = true)
+    List<CourseInfoDto> findCoursesByAreaWithinEnvelope(@Param("userPoint") String userPoint,
+                                                        @Param("envelope") String envelope,
+                                                        @Param("radius") double radius,
+                                                        @Param("area") String area);
+
+    /**
+     * 사용자 위치 기준 반경(:radius, m) 이내에서 특정 테마의 Course 목록 조회
+     */
+    @Query(value = FIND_COURSES_BY_THEME_WITHIN_ENVELOPE_QUERY, nativeQuery = true)
+    List<CourseInfoDto> findCoursesByThemeWithinEnvelope(@Param("userPoint") String userPoint,
+                                                         @Param("envelope") String envelope,
+                                                         @Param("radius") double radius,
+                                                         @Param("theme") String theme);
+
+    /**
+     * 코스 상세 조회용 Course 조회 (경로는 저장된 단순화 경로를 사용하므로 트랙포인트는 조회하지 않음)
+     */
     @Query("SELECT c FROM Course c " +
-           "JOIN FETCH c.trackPoints " +
+           "LEFT JOIN FETCH c.roadConditions " +
            "WHERE c.id = :courseId")
     Optional<Course> findCourseWithDetailsById(@Param("courseId") Long courseId);
 
+    /**
+     * 코스 ID 목록의 북마크 수에 같은 증감분(:delta)을 한 번에 반영 (BookmarkCountService의 일괄 반영 및 보정용)
+     * 벌크 연산이므로 updated_at은 변경하지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Course c SET c.bookmarkCount = c.bookmarkCount + :delta WHERE c.id IN :courseIds")
+    int addBookmarkCount(@Param("courseIds") Collection<Long> courseIds, @Param("delta") long delta);
+
+    /**
+     * 저장된 북마크 수가 실제 북마크 행 수와 다른 코스 조회 (북마크 수 보정용)
+     */
+    @Query("SELECT new com.server.running_handai.domain.bookmark.dto.BookmarkCountDto(" +
+           "c.id, c.bookmarkCount, (SELECT COUNT(b) FROM Bookmark b WHERE b.course = c)) " +
+           "FROM Course c " +
+           "WHERE c.bookmarkCount <> (SELECT COUNT(b) FROM Bookmark b WHERE b.course = c)")
+    List<BookmarkCountDto> findBookmarkCountMismatches();
+
+    /**
+     * ETag 계산을 위한 Course의 수정 시각과 길 상태, 북마크, 리뷰(작성자 포함), 즐길거리(이미지 포함) 집계 조회
+     */
+    @Query("SELECT new com.server.running_handai.domain.course.dto.CourseVersionDto(" +
+           "c.id, c.updatedAt, c.spotStatus, " +
+           "(SELECT COUNT(rc) FROM RoadCondition rc WHERE rc.course = c), " +
+           "(SELECT MAX(rc.id) FROM RoadCondition rc WHERE rc.course = c), " +
+           "(SELECT COUNT(b) FROM Bookmark b WHERE b.course = c), " +
+           "(SELECT MAX(b.id) FROM Bookmark b WHERE b.course = c), " +
+           "(SELECT COUNT(r) FROM Review r WHERE r.course = c), " +
+           "(SELECT MAX(r.updatedAt) FROM Review r WHERE r.course = c), " +
+           "(SELECT MAX(w.updatedAt) FROM Review r JOIN r.writer w WHERE r.course = c), " +
+           "(SELECT COUNT(cs) FROM CourseSpot cs WHERE cs.course = c), " +
+           "(SELECT MAX(cs.spot.updatedAt) FROM CourseSpot cs WHERE cs.course = c), " +
+           "(SELECT COUNT(si) FROM CourseSpot cs JOIN cs.spot s JOIN s.spotImage si WHERE cs.course = c), " +
+           "(SELECT MAX(si.updatedAt) FROM CourseSpot cs JOIN cs.spot s JOIN s.spotImage si WHERE cs.course = c)) " +
+           "FROM Course c " +
+           "WHERE c.id = :courseId")
+    Optional<CourseVersionDto> findVersionById(@Param("courseId") Long courseId);
+
+    /**
+     * 코스 ID 목록에 해당하는 코스들의 단순화된 경로 조회
+     */
+    @Query("SELECT new com.server.running_handai.domain.course.dto.CourseSimplifiedTrackPointsDto(c.id, c.simplifiedTrackPoints) " +
+           "FROM Course c " +
+           "WHERE c.id IN :courseIds")
+    List<CourseSimplifiedTrackPointsDto> findSimplifiedTrackPointsByIdIn(@Param("courseIds") List<Long> courseIds);
+
+    /**
+     * 코스 ID 목록에 해당하는 코스들의 상세 수준 MEDIUM 단순화 경로 조회
+     */
+    @Query("SELECT new com.server.running_handai.domain.course.dto.CourseSimplifiedTrackPointsDto(c.id, c.mediumDetailTrackPoints) " +
+           "FROM Course c " +
+           "WHERE c.id IN :courseIds")
+    List<CourseSimplifiedTrackPointsDto> findMediumDetailTrackPointsByIdIn(@Param("courseIds") List<Long> courseIds);
+
+    /**
+     * 코스 ID 목록에 해당하는 코스들의 상세 수준 LOW 단순화 경로 조회
+     */
+    @Query("SELECT new com.server.running_handai.domain.course.dto.CourseSimplifiedTrackPointsDto(c.id, c.lowDetailTrackPoints) " +
+           "FROM Course c " +
+           "WHERE c.id IN :courseIds")
+    List<CourseSimplifiedTrackPointsDto> findLowDetailTrackPointsByIdIn(@Param("courseIds") List<Long> courseIds);
+
+    /**
+     * 벡터 타일 생성을 위한 모든 Course의 시작점과 상세 수준별 단순화 경로 조회
+     */
+    @Query("SELECT new com.server.running_handai.domain.course.dto.CourseTileGeometryDto(" +
+           "c.id, c.name, c.distance, c.startPoint, c.simplifiedTrackPoints, c.mediumDetailTrackPoints, c.lowDetailTrackPoints) " +
+           "FROM Course c")
+    List<CourseTileGeometryDto> findAllTileGeometries();
+
+    /**
+     * 공간 인덱스 구성을 위한 모든 Course의 시작점 조회
+     */
+    @Query("SELECT new com.server.running_handai.domain.course.dto.CourseStartPointDto(c.id, c.startPoint) FROM Course c")
+    List<CourseStartPointDto> findAllStartPoints();
+
+    /**
+     * 코스 ID 목록에 해당하는 Course의 시작점 조회
+     */
+    @Query("SELECT new com.server.running_handai.domain.course.dto.CourseStartPointDto(c.id, c.startPoint) " +
+           "FROM Course c " +
+           "WHERE c.id IN :courseIds")
+    List<CourseStartPointDto> findStartPointsByIdIn(@Param("courseIds") Collection<Long> courseIds);
+
+    /**
+     * 단순화된 경로 또는 상세 수준별 경로가 아직 저장되지 않은 Course 목록 조회
+     */
+    List<Course> findBySimplifiedTrackPointsIsNullOrLowDetailTrackPointsIsNull();
+
     /**
      * Member가 생성한 Course 목록을 페이징, 정렬 조건, 검색 키워드에 따라 조회
      */
@@ -109,10 +360,8 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     Optional<Course> findByIdAndCreatorId(Long courseId, Long memberId);
 
     /**
-     * 사용자가 생성한 코스를 트랙 포인트와 함께 조회
+     * 압축된 트랙포인트(CourseTrack)가 저장되지 않은 코스 조회
      */
-    @Query("SELECT c FROM Course c " +
-            "LEFT JOIN FETCH c.trackPoints tp WHERE c.id = :courseId AND c.creator.id = :memberId " +
-            "ORDER BY tp.sequence ASC")
-    Optional<Course> findByIdAndCreatorIdWithTrackPoints(@Param("courseId") Long courseId, @Param("memberId") Long memberId);
+    @Query("SELECT c FROM Course c WHERE NOT EXISTS (SELECT ct FROM CourseTrack ct WHERE ct.courseId = c.id)")
+    List<Course> findCoursesWithoutTrack();
 }
@@ -0,0 +1,47 @@
+package com.server.running_handai.domain.course.repository;
+
+import com.server.running_handai.domain.course.dto.CoursePackedPointsDto;
+import com.server.running_handai.domain.course.dto.CourseTrackPointDto;
+import com.server.running_handai.domain.course.dto.TrackCoordinates;
+import com.server.running_handai.domain.course.entity.CourseTrack;
+import com.server.running_handai.global.util.TrackPointCodec;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CourseTrackRepository extends JpaRepository<CourseTrack, Long> {
+
+    /**
+     * 특정 코스의 압축된 트랙포인트 조회
+     */
+    @Query("SELECT new com.server.running_handai.domain.course.dto.CoursePackedPointsDto(ct.courseId, ct.packedPoints) " +
+            "FROM CourseTrack ct WHERE ct.courseId = :courseId")
+    Optional<CoursePackedPointsDto> findPackedPointsByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * 모든 코스의 압축된 트랙포인트 조회
+     */
+    @Query("SELECT new com.server.running_handai.domain.course.dto.CoursePackedPointsDto(ct.courseId, ct.packedPoints) " +
+            "FROM CourseTrack ct")
+    List<CoursePackedPointsDto> findAllPackedPoints();
+
+    /**
+     * 특정 코스의 전체 트랙포인트를 순서대로 조회
+     */
+    default Optional<TrackCoordinates> findCoordinatesByCourseId(Long courseId) {
+        return findPackedPointsByCourseId(courseId).map(dto -> TrackPointCodec.decode(dto.packedPoints()));
+    }
+
+    /**
+     * DB에 저장된 모든 코스별 시작점, 도착점 조회
+     */
+    default List<CourseTrackPointDto> findAllCourseTrackPoint() {
+        return findAllPackedPoints().stream()
+                .map(dto -> CourseTrackPointDto.from(dto.courseId(), TrackPointCodec.decode(dto.packedPoints())))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
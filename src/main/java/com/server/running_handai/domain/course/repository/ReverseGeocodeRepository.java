@@ -0,0 +1,31 @@
+package com.server.running_handai.domain.course.repository;
+
+import com.server.running_handai.domain.course.entity.GeocodeType;
+import com.server.running_handai.domain.course.entity.ReverseGeocode;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ReverseGeocodeRepository extends JpaRepository<ReverseGeocode, Long> {
+
+    Optional<ReverseGeocode> findByGeocodeTypeAndLatCellAndLonCell(GeocodeType geocodeType, long latCell, long lonCell);
+
+    /**
+     * 격자의 좌표 변환 결과를 저장하고, 이미 있으면 갱신 (여러 서버가 동시에 저장해도 한 행만 유지)
+     * 읽기 전용 트랜잭션(지역 판별 등)이나 코스 동기화 트랜잭션 안에서도 호출되므로, 호출 측 트랜잭션에 참여하지 않고 새 트랜잭션에서 저장합니다.
+     * 저장에 실패해도 호출 측 트랜잭션이 롤백 전용으로 표시되지 않습니다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query(value = "INSERT INTO reverse_geocode (geocode_type, lat_cell, lon_cell, document, created_at, updated_at) " +
+            "VALUES (:geocodeType, :latCell, :lonCell, :document, NOW(6), NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE document = VALUES(document), updated_at = NOW(6)", nativeQuery = true)
+    void upsert(@Param("geocodeType") String geocodeType, // GeocodeType.name()
+                @Param("latCell") long latCell,
+                @Param("lonCell") long lonCell,
+                @Param("document") String document);
+}
@@ -0,0 +1,7 @@
+package com.server.running_handai.domain.course.repository;
+
+import com.server.running_handai.domain.course.entity.SyncFingerprint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SyncFingerprintRepository extends JpaRepository<SyncFingerprint, String> {
+}
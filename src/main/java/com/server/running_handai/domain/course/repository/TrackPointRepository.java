@@ -1,13 +1,18 @@
 package com.server.running_handai.domain.course.repository;
 
-import com.server.running_handai.domain.course.dto.CourseTrackPointDto;
 import com.server.running_handai.domain.course.entity.Course;
 import com.server.running_handai.domain.course.entity.TrackPoint;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+/**
+ * 트랙포인트 한 개당 한 행으로 저장하던 기존 track_point 테이블 조회용 Repository
+ * 트랙포인트는 CourseTrack에 코스 단위로 압축하여 저장하며, 이 Repository는 기존 데이터 이전에만 사용합니다.
+ */
 public interface TrackPointRepository extends JpaRepository<TrackPoint, Long> {
 
     /**
@@ -15,11 +20,6 @@ public interface TrackPointRepository extends JpaRepository<TrackPoint, Long> {
      */
     Optional<TrackPoint> findFirstByCourseOrderBySequenceAsc(Course course);
 
-    /**
-     * 특정한 courseId의 트랙포인트 전체 삭제
-     */
-    void deleteByCourseId(Long courseId);
-
     /**
      * 특정 코스의 전체 트랙포인트 목록 조회
      */
@@ -36,21 +36,9 @@ public interface TrackPointRepository extends JpaRepository<TrackPoint, Long> {
     List<TrackPoint> findByCourseIdInOrderBySequenceAsc(List<Long> courseIds);
 
     /**
-     * DB에 저장된 모든 코스별 시작점, 도착점 조회
+     * 특정 코스의 트랙포인트를 한 번에 삭제 (course_track에 트랙포인트를 저장한 뒤 남은 기존 데이터 정리용)
      */
-    @Query(
-            value = "SELECT " +
-                    "    c.course_id AS courseId, " +
-                    "    stp.lat AS startPointLat, " +
-                    "    stp.lon AS startPointLon, " +
-                    "    etp.lat AS endPointLat, " +
-                    "    etp.lon AS endPointLon " +
-                    "FROM course c " +
-                    "JOIN track_point stp ON c.course_id = stp.course_id AND stp.sequence = 1 " +
-                    "JOIN track_point etp ON c.course_id = etp.course_id AND etp.sequence = (" +
-                        "SELECT MAX(mtp.sequence) FROM track_point mtp WHERE mtp.course_id = c.course_id" +
-                    ")",
-            nativeQuery = true
-    )
-    List<CourseTrackPointDto> findAllCourseTrackPoint();
+    @Modifying
+    @Query("DELETE FROM TrackPoint tp WHERE tp.course.id = :courseId")
+    int deleteByCourseId(@Param("courseId") Long courseId);
 }
@@ -0,0 +1,10 @@
+package com.server.running_handai.domain.course.service;
+
+/**
+ * 경계 다각형 기준 좌표의 위치
+ */
+public enum BoundaryLocation {
+    INSIDE, // 영역 안
+    OUTSIDE, // 영역 밖
+    NEAR_BORDER // 경계 근처, 단순화한 다각형만으로는 판별할 수 없어 카카오 지도 API로 확인 필요
+}
@@ -0,0 +1,31 @@
+package com.server.running_handai.domain.course.service;
+
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.prep.PreparedGeometry;
+import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
+
+/**
+ * 단순화한 경계 다각형을 안쪽, 바깥쪽으로 margin만큼 줄이고 늘린 영역을 미리 계산해 두고 좌표의 위치를 판별합니다.
+ * 다각형의 오차가 margin보다 작다면, 경계에서 margin 이내인 좌표만 NEAR_BORDER가 되고 나머지는 정확히 판별됩니다.
+ */
+final class BufferedBoundary {
+
+    private final PreparedGeometry inner; // 경계에서 안쪽으로 margin 이상 떨어진 영역
+    private final PreparedGeometry outer; // 경계에서 바깥쪽으로 margin 이내까지 포함한 영역
+
+    BufferedBoundary(Geometry boundary, double marginDegrees) {
+        this.inner = PreparedGeometryFactory.prepare(boundary.buffer(-marginDegrees));
+        this.outer = PreparedGeometryFactory.prepare(boundary.buffer(marginDegrees));
+    }
+
+    BoundaryLocation locate(Point point) {
+        if (inner.contains(point)) {
+            return BoundaryLocation.INSIDE;
+        }
+        if (!outer.contains(point)) {
+            return BoundaryLocation.OUTSIDE;
+        }
+        return BoundaryLocation.NEAR_BORDER;
+    }
+}
@@ -0,0 +1,175 @@
+package com.server.running_handai.domain.course.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.locationtech.jts.operation.union.UnaryUnionOp;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 부산광역시 구/군 경계(단순화한 다각형)로 좌표의 부산 여부와 구/군, 동을 외부 API 호출 없이 판별합니다.
+ * 다각형은 geo/busan-districts.tsv에 있으며, 동 경계는 Area 분류에 영향을 주는 해운대구 송정동만 포함합니다.
+ * 경계에서 border-margin-degrees 이내인 좌표는 판별하지 않으므로, 호출 측에서 카카오 지도 API로 확인해야 합니다.
+ * 다각형의 오차보다 여백이 커야 잘못된 구/군으로 판별되지 않습니다.
+ * 현재 다각형은 직접 그린 근사치라 오차가 측정되지 않았고, 여백을 빼면 면적이 작은 구(중구, 동구, 서구, 수영구, 연제구)와 송정동은 비어 있습니다.
+ * 따라서 행정구역 경계 원본 데이터로 다각형을 다시 만들고 오차를 측정하기 전까지는 course.busan-district.enabled(기본 false)로 꺼 두며,
+ * 꺼져 있으면 모든 좌표를 판별하지 않아 카카오 지도 API 결과를 그대로 사용합니다.
+ */
+@Slf4j
+@Component
+public class BusanDistrictIndex {
+
+    private static final String DISTRICT_RESOURCE = "geo/busan-districts.tsv";
+
+    // 부산 밖의 좌표 (카카오 지도 API에서 부산 외 지역 주소를 받은 경우와 같이 Area.ETC로 분류됨)
+    private static final KakaoMapService.AddressInfo OUTSIDE_BUSAN = new KakaoMapService.AddressInfo(null, null);
+
+    private final GeometryFactory geometryFactory;
+    private final boolean enabled;
+    private final BufferedBoundary busan; // 구/군 경계의 합집합, 꺼져 있으면 null
+    private final STRtree districtTree = new STRtree(); // 구/군 경계, 항목은 Region
+    private final Map<String, List<Region>> dongsByDistrict = new HashMap<>(); // 구/군 이름 -> 동 경계
+
+    private record Region(String name, BufferedBoundary boundary) {
+    }
+
+    public BusanDistrictIndex(
+            GeometryFactory geometryFactory,
+            @Value("${course.busan-district.enabled:false}") boolean enabled,
+            @Value("${course.busan-district.border-margin-degrees:0.02}") double borderMarginDegrees
+    ) {
+        this.geometryFactory = geometryFactory;
+        this.enabled = enabled;
+        if (!enabled) {
+            this.busan = null;
+            log.info("[지역 판별] 부산 구/군 경계 판별 꺼짐, 모든 좌표를 카카오 지도 API로 확인");
+            return;
+        }
+
+        List<Geometry> districts = new ArrayList<>();
+        WKTReader wktReader = new WKTReader(geometryFactory);
+        for (String[] columns : readLines()) {
+            String districtName = columns[0];
+            String dongName = columns[1];
+            Geometry geometry = parse(wktReader, columns[2]);
+            Region region = new Region(dongName.isEmpty() ? districtName : dongName,
+                    new BufferedBoundary(geometry, borderMarginDegrees));
+
+            if (dongName.isEmpty()) {
+                districts.add(geometry);
+                districtTree.insert(geometry.getEnvelopeInternal(), region);
+            } else {
+                dongsByDistrict.computeIfAbsent(districtName, key -> new ArrayList<>()).add(region);
+            }
+        }
+        districtTree.build();
+        this.busan = new BufferedBoundary(UnaryUnionOp.union(districts), borderMarginDegrees);
+        log.info("[지역 판별] 부산 구/군 경계 로드 완료: 구/군={}, 동={}, 경계 구간={}도",
+                districts.size(), dongsByDistrict.values().stream().mapToInt(List::size).sum(), borderMarginDegrees);
+    }
+
+    /**
+     * 좌표가 부산 안, 밖, 경계 근처 중 어디에 있는지 판별합니다.
+     *
+     * @param longitude 경도 (x)
+     * @param latitude 위도 (y)
+     * @return INSIDE, OUTSIDE, NEAR_BORDER 중 하나, 꺼져 있으면 항상 NEAR_BORDER
+     */
+    public BoundaryLocation locate(double longitude, double latitude) {
+        if (!enabled) {
+            return BoundaryLocation.NEAR_BORDER;
+        }
+        return busan.locate(toPoint(longitude, latitude));
+    }
+
+    /**
+     * 좌표의 구/군 이름과 동 이름을 판별합니다.
+     * 동 이름은 경계를 가진 동(송정동)일 때만 채우고, 그 외에는 null입니다.
+     * 부산 밖이면 구/군, 동 이름이 모두 null인 주소 정보를 반환합니다.
+     *
+     * @param longitude 경도 (x)
+     * @param latitude 위도 (y)
+     * @return 주소 정보, 구/군 또는 동 경계 근처라 판별할 수 없거나 꺼져 있으면 빈 값
+     */
+    public Optional<KakaoMapService.AddressInfo> findAddress(double longitude, double latitude) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Point point = toPoint(longitude, latitude);
+
+        Optional<Region> district = findInside(districtTree.query(point.getEnvelopeInternal()), point);
+        if (district.isEmpty()) {
+            return (busan.locate(point) == BoundaryLocation.OUTSIDE) ? Optional.of(OUTSIDE_BUSAN) : Optional.empty();
+        }
+
+        String districtName = district.get().name();
+        String dongName = null;
+        for (Region dong : dongsByDistrict.getOrDefault(districtName, List.of())) {
+            BoundaryLocation location = dong.boundary().locate(point);
+            if (location == BoundaryLocation.NEAR_BORDER) {
+                return Optional.empty();
+            }
+            if (location == BoundaryLocation.INSIDE) {
+                dongName = dong.name();
+                break;
+            }
+        }
+        return Optional.of(new KakaoMapService.AddressInfo(districtName, dongName));
+    }
+
+    private Optional<Region> findInside(List<?> candidates, Point point) {
+        return candidates.stream()
+                .map(Region.class::cast)
+                .filter(region -> region.boundary().locate(point) == BoundaryLocation.INSIDE)
+                .findFirst();
+    }
+
+    private Point toPoint(double longitude, double latitude) {
+        return geometryFactory.createPoint(new Coordinate(longitude, latitude));
+    }
+
+    /**
+     * 주석(#)과 빈 줄을 제외한 "구/군, 동, WKT" 탭 구분 행을 읽습니다.
+     */
+    private List<String[]> readLines() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(DISTRICT_RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#"))
+                    .map(line -> {
+                        String[] columns = line.split("\t", -1);
+                        if (columns.length != 3) {
+                            throw new IllegalStateException("부산 구/군 경계 형식이 올바르지 않습니다: " + columns[0]);
+                        }
+                        return columns;
+                    })
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalStateException("부산 구/군 경계를 읽을 수 없습니다: " + DISTRICT_RESOURCE, e);
+        }
+    }
+
+    private Geometry parse(WKTReader wktReader, String wkt) {
+        try {
+            return wktReader.read(wkt);
+        } catch (ParseException e) {
+            throw new IllegalStateException("부산 구/군 경계 다각형을 읽을 수 없습니다: " + wkt, e);
+        }
+    }
+}
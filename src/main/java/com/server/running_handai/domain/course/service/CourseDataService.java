@@ -2,7 +2,6 @@ package com.server.running_handai.domain.course.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.xml.XmlMapper;
 import com.fasterxml.jackson.dataformat.xml.deser.FromXmlParser;
@@ -13,26 +12,41 @@ import com.server.running_handai.domain.course.entity.Area;
 import com.server.running_handai.domain.course.entity.Course;
 import com.server.running_handai.domain.course.entity.CourseImage;
 import com.server.running_handai.domain.course.entity.CourseLevel;
+import com.server.running_handai.domain.course.entity.CourseTrack;
 import com.server.running_handai.domain.course.entity.RoadCondition;
+import com.server.running_handai.domain.course.entity.SyncFingerprint;
 import com.server.running_handai.domain.course.entity.Theme;
+import com.server.running_handai.domain.course.entity.TrackDetail;
 import com.server.running_handai.domain.course.entity.TrackPoint;
+import com.server.running_handai.domain.course.event.CourseChangedEvent;
 import com.server.running_handai.domain.course.repository.CourseRepository;
+import com.server.running_handai.domain.course.repository.CourseTrackRepository;
 import com.server.running_handai.domain.course.repository.RoadConditionRepository;
+import com.server.running_handai.domain.course.repository.SyncFingerprintRepository;
 import com.server.running_handai.domain.course.repository.TrackPointRepository;
 import com.server.running_handai.global.util.TrackPointSimplificationUtil;
 import com.server.running_handai.global.response.ResponseCode;
 import com.server.running_handai.global.response.exception.BusinessException;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.locationtech.jts.geom.*;
 import org.springframework.core.io.Resource;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
@@ -42,7 +56,6 @@ import static com.server.running_handai.global.response.ResponseCode.*;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class CourseDataService {
 
     public static final String WHITE_SPACE = " ";
@@ -56,11 +69,52 @@ public class CourseDataService {
 
     private final DurunubiApiClient durunubiApiClient;
     private final CourseRepository courseRepository;
+    private final CourseTrackRepository courseTrackRepository;
     private final TrackPointRepository trackPointRepository;
     private final RoadConditionRepository roadConditionRepository;
+    private final SyncFingerprintRepository syncFingerprintRepository;
     private final KakaoMapService kakaoMapService;
+    private final BusanDistrictIndex busanDistrictIndex;
     private final OpenAiService openAiService;
     private final FileService fileService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolTaskExecutor gpxTaskExecutor;
+
+    public CourseDataService(
+            GeometryFactory geometryFactory,
+            RestTemplate restTemplate,
+            XmlMapper xmlMapper,
+            ObjectMapper objectMapper,
+            DurunubiApiClient durunubiApiClient,
+            CourseRepository courseRepository,
+            CourseTrackRepository courseTrackRepository,
+            TrackPointRepository trackPointRepository,
+            RoadConditionRepository roadConditionRepository,
+            SyncFingerprintRepository syncFingerprintRepository,
+            KakaoMapService kakaoMapService,
+            BusanDistrictIndex busanDistrictIndex,
+            OpenAiService openAiService,
+            FileService fileService,
+            ApplicationEventPublisher eventPublisher,
+            @Qualifier("gpxTaskExecutor") ThreadPoolTaskExecutor gpxTaskExecutor
+    ) {
+        this.geometryFactory = geometryFactory;
+        this.restTemplate = restTemplate;
+        this.xmlMapper = xmlMapper;
+        this.objectMapper = objectMapper;
+        this.durunubiApiClient = durunubiApiClient;
+        this.courseRepository = courseRepository;
+        this.courseTrackRepository = courseTrackRepository;
+        this.trackPointRepository = trackPointRepository;
+        this.roadConditionRepository = roadConditionRepository;
+        this.syncFingerprintRepository = syncFingerprintRepository;
+        this.kakaoMapService = kakaoMapService;
+        this.busanDistrictIndex = busanDistrictIndex;
+        this.openAiService = openAiService;
+        this.fileService = fileService;
+        this.eventPublisher = eventPublisher;
+        this.gpxTaskExecutor = gpxTaskExecutor;
+    }
 
     @Value("classpath:prompt/save-road-condition.st")
     private Resource getRoadConditionPrompt;
@@ -74,6 +128,9 @@ public class CourseDataService {
     @Value("${course.simplification.distance-tolerance}")
     private double distanceTolerance;
 
+    @Value("${course.durunubi-sync.full-sync-interval:7d}")
+    private Duration fullSyncInterval;
+
     /**
      * 두루누비 API 관련
      */
@@ -89,22 +146,49 @@ public class CourseDataService {
             return;
         }
 
+        // 코스 목록의 지문이 마지막 전체 동기화와 같으면 동기화 생략 (GPX 파일만 바뀐 경우를 위해 주기적으로 전체 동기화)
+        String listingFingerprint = computeListingFingerprint(apiCourseMap);
+        Optional<SyncFingerprint> lastSync = syncFingerprintRepository.findById(SyncFingerprint.DURUNUBI_COURSE);
+        if (lastSync.isPresent()
+                && lastSync.get().getFingerprint().equals(listingFingerprint)
+                && lastSync.get().getSyncedAt().plus(fullSyncInterval).isAfter(LocalDateTime.now())) {
+            log.info("[두루누비 코스 동기화] 코스 목록이 마지막 전체 동기화({})와 같습니다. 동기화를 생략합니다.", lastSync.get().getSyncedAt());
+            return;
+        }
+
         // DB에 저장된 두루누비 코스 데이터로 dbCourseMap 생성 (key: externalId)
         Map<String, Course> dbCourseMap = courseRepository.findByExternalIdIsNotNull().stream()
                 .collect(Collectors.toMap(Course::getExternalId, course -> course));
 
         List<Course> newCourses = new ArrayList<>(); // 새롭게 추가된 코스
+        Map<Course, TrackCoordinates> newCourseTracks = new HashMap<>(); // 신규 코스 저장 후 함께 저장할 트랙포인트
         List<Course> updatedCourses = new ArrayList<>(); // 수정된 기존 코스
+        Set<Long> changedCourseIds = new HashSet<>(); // 트랜잭션 커밋 후 변경 이벤트를 발행할 코스
+        int unchangedCount = 0; // 원본 해시가 같아 건너뛴 기존 코스 수
+        int failedCount = 0; // GPX 파일이나 API 항목 오류로 건너뛴 코스 수
+
+        // 모든 코스의 GPX 파일을 병렬로 다운로드 및 파싱 (key: externalId, 원본 해시가 같은 기존 코스는 파싱 생략)
+        Map<String, DurunubiTrack> apiTrackMap = fetchAllTracks(apiCourseMap, dbCourseMap);
 
         // API 데이터를 기준으로 루프를 돌며 DB 데이터와 비교
         for (Map.Entry<String, DurunubiApiResponseDto.Item> entry : apiCourseMap.entrySet()) {
             String externalId = entry.getKey();
             Item courseItem = entry.getValue();
+            DurunubiTrack apiTrack = apiTrackMap.getOrDefault(externalId, DurunubiTrack.FAILED);
 
-            // trackpoints 생성
-            List<TrackPoint> trackPoints = parseTrackPoints(courseItem.getGpxPath());
+            // GPX 파일과 API 항목 필드가 마지막 동기화와 같은 기존 코스는 건너뜀
+            if (apiTrack.unchanged()) {
+                dbCourseMap.remove(externalId);
+                unchangedCount++;
+                continue;
+            }
+
+            // trackpoints 조회
+            List<TrackPoint> trackPoints = apiTrack.trackPoints();
             if (trackPoints.isEmpty()) {
                 log.warn("[두루누비 코스 동기화] 코스의 트랙포인트가 없습니다. 해당 코스를 건너뜁니다. externalId: {}", externalId);
+                dbCourseMap.remove(externalId); // 기존 코스는 삭제하지 않고 다음 동기화에서 다시 시도
+                failedCount++;
                 continue;
             }
 
@@ -112,16 +196,20 @@ public class CourseDataService {
             Course apiCourse = parseCourse(courseItem, trackPoints);
             if (apiCourse == null) {
                 log.warn("[두루누비 코스 동기화] 코스 파싱 중 오류가 발생했습니다. 해당 코스를 건너뜁니다. externalId: {}", externalId);
+                dbCourseMap.remove(externalId); // 기존 코스는 삭제하지 않고 다음 동기화에서 다시 시도
+                failedCount++;
                 continue;
             }
 
+            TrackCoordinates trackCoordinates = TrackCoordinates.from(trackPoints);
             Course dbCourse = dbCourseMap.get(externalId); // 현재 DB에 저장된 Course
             if (dbCourse != null) { // DB에 이미 존재 -> 업데이트
-                trackPointRepository.deleteByCourseId(dbCourse.getId());
-                trackPoints.forEach(trackPoint -> trackPoint.setCourse(dbCourse));
-                trackPointRepository.saveAll(trackPoints);
+                saveCourseTrack(dbCourse, trackCoordinates);
+                dbCourse.updateSourceHash(apiTrack.sourceHash());
                 dbCourse.setStartPoint(apiCourse.getStartPoint());
+                changedCourseIds.add(dbCourse.getId());
                 dbCourse.updateElevation(apiCourse.getMinElevation(), apiCourse.getMaxElevation());
+                updateSimplifiedTrackPoints(dbCourse, trackCoordinates);
                 log.info("[두루누비 코스 동기화] 트랙포인트 업데이트 완료: courseId={}, count={}", dbCourse.getId(), trackPoints.size());
 
                 if (dbCourse.syncWith(apiCourse)) {
@@ -130,8 +218,10 @@ public class CourseDataService {
                 }
                 dbCourseMap.remove(externalId); // 업데이트 끝난 DB 데이터는 맵에서 제거 (남은 데이터는 DELETE 대상)
             } else { // DB에 없음 -> 신규 추가
-                trackPoints.forEach(trackPoint -> trackPoint.setCourse(apiCourse));
+                apiCourse.updateSourceHash(apiTrack.sourceHash());
+                updateSimplifiedTrackPoints(apiCourse, trackCoordinates);
                 newCourses.add(apiCourse);
+                newCourseTracks.put(apiCourse, trackCoordinates);
                 log.info("[두루누비 코스 동기화] 신규 코스 저장 (INSERT): externalId={}", externalId);
             }
         }
@@ -139,6 +229,13 @@ public class CourseDataService {
         // 신규 코스 저장 및 길 상태 업데이트
         if (!newCourses.isEmpty()) {
             courseRepository.saveAll(newCourses);
+            newCourses.forEach(newCourse -> {
+                courseTrackRepository.save(CourseTrack.builder()
+                        .course(newCourse)
+                        .coordinates(newCourseTracks.get(newCourse))
+                        .build());
+                changedCourseIds.add(newCourse.getId());
+            });
             log.info("[두루누비 코스 동기화] {}건의 신규 코스가 추가되었습니다.", newCourses.size());
 
             log.info("[두루누비 코스 동기화] {}건의 신규 코스에 대한 길 상태 정보 업데이트를 시작합니다.", newCourses.size());
@@ -158,15 +255,30 @@ public class CourseDataService {
             log.info("[두루누비 코스 동기화] {}건의 코스 데이터가 수정되었습니다.", updatedCourses.size());
         }
 
-        // DB에만 있고 두루누비에서 없어진 Course 삭제
+        // DB에만 있고 두루누비에서 없어진 Course 삭제 (GPX 다운로드나 파싱에 실패한 코스는 위에서 제외됨)
         if (!dbCourseMap.isEmpty()) {
             List<Course> toDelete = new ArrayList<>(dbCourseMap.values());
             courseRepository.deleteAll(toDelete);
+            toDelete.forEach(course -> changedCourseIds.add(course.getId()));
             log.info("[두루누비 코스 동기화] {}건의 오래된 코스 삭제(DELETE)", toDelete.size());
             toDelete.forEach(course -> log.debug("[두루누비 코스 동기화] 삭제된 코스: courseId={}, externalId={}", course.getId(), course.getExternalId()));
         }
 
-        log.info("[두루누비 코스 동기화] 작업을 완료했습니다.");
+        if (!changedCourseIds.isEmpty()) {
+            eventPublisher.publishEvent(CourseChangedEvent.of(changedCourseIds));
+        }
+
+        // 모든 코스를 반영한 경우에만 코스 목록의 지문 저장 (건너뛴 코스가 있으면 다음 동기화에서 다시 시도)
+        if (failedCount == 0) {
+            LocalDateTime syncedAt = LocalDateTime.now();
+            lastSync.ifPresentOrElse(
+                    fingerprint -> fingerprint.recordFullSync(listingFingerprint, syncedAt),
+                    () -> syncFingerprintRepository.save(
+                            new SyncFingerprint(SyncFingerprint.DURUNUBI_COURSE, listingFingerprint, syncedAt))
+            );
+        }
+
+        log.info("[두루누비 코스 동기화] 작업을 완료했습니다. 변경 없이 건너뛴 코스: {}건, 오류로 건너뛴 코스: {}건", unchangedCount, failedCount);
     }
 
     private Map<String, DurunubiApiResponseDto.Item> fetchAllCoursesFromApi() {
@@ -282,7 +394,7 @@ public class CourseDataService {
 
     /**
      * 시작점 좌표와 두루누비측 행정구역명을 기반으로 주소 정보를 결정합니다.
-     * 두루누비의 행정구역명이 '해운대구'의 경우 카카오 API를 호출하여 동 단위 주소를 포함한 AddressInfo를 생성하고,
+     * 두루누비의 행정구역명이 '해운대구'의 경우 시작점 좌표로 동 단위 주소를 포함한 AddressInfo를 생성하고,
      * 그 외의 경우 구 단위 주소만 포함한 AddressInfo를 생성합니다.
      *
      * @param districtName 두루누비 API로 받은 행정구역명 (구 단위)
@@ -290,10 +402,9 @@ public class CourseDataService {
      * @return 주소 정보를 담은 AddressInfo 객체
      */
     private KakaoMapService.AddressInfo determineAddressInfo(String districtName, Point startPoint) {
-        // 행정구역이 해운대구인 경우, 카카오 지도 API를 사용하여 구 단위 정보까지 생성
+        // 행정구역이 해운대구인 경우, 송정동 여부를 판별하기 위해 동 단위 정보까지 생성
         if ("해운대구".equals(districtName)) {
-            JsonNode startAddress = kakaoMapService.getAddressFromCoordinate(startPoint.getX(), startPoint.getY());
-            return kakaoMapService.extractDistrictNameAndDongName(startAddress);
+            return findAddressInfo(startPoint);
         }
         // 그 외 지역은 districtName만 사용하여 기본 주소 정보 생성
         return new KakaoMapService.AddressInfo(districtName, null);
@@ -346,20 +457,83 @@ public class CourseDataService {
     }
 
     /**
-     * GPX 파일을 다운로드 및 파싱하여, 해당 GPX 파일의 모든 좌표 정보를 TrackPoint 엔티티로 만듭니다.
+     * 두루누비 코스의 GPX 다운로드 결과
+     *
+     * @param sourceHash GPX 파일과 API 항목 필드의 SHA-256 해시, 다운로드에 실패했으면 null
+     * @param trackPoints GPX 파일의 트랙포인트, 실패했거나 파싱을 생략했으면 빈 리스트
+     * @param unchanged 기존 코스의 원본 해시와 같아 파싱을 생략했는지 여부
+     */
+    private record DurunubiTrack(String sourceHash, List<TrackPoint> trackPoints, boolean unchanged) {
+        static final DurunubiTrack FAILED = new DurunubiTrack(null, List.of(), false);
+    }
+
+    /**
+     * 코스별 GPX 파일을 GPX 전용 스레드 풀에서 병렬로 다운로드 및 파싱합니다.
+     * 한 코스의 실패는 다른 코스에 영향을 주지 않으며, 실패한 코스는 빈 트랙포인트로 반환되어 동기화에서 건너뜁니다.
+     * 원본 해시가 DB에 저장된 코스와 같으면 파싱하지 않습니다.
+     *
+     * @param apiCourseMap 두루누비 API로부터 받은 코스 데이터 (key: externalId)
+     * @param dbCourseMap DB에 저장된 두루누비 코스 데이터 (key: externalId)
+     * @return externalId를 key로, GPX 다운로드 결과를 value로 하는 Map
+     */
+    private Map<String, DurunubiTrack> fetchAllTracks(Map<String, Item> apiCourseMap, Map<String, Course> dbCourseMap) {
+        long startTime = System.currentTimeMillis();
+
+        Map<String, CompletableFuture<DurunubiTrack>> downloads = new HashMap<>();
+        apiCourseMap.forEach((externalId, item) -> {
+            Course dbCourse = dbCourseMap.get(externalId);
+            String storedHash = (dbCourse != null) ? dbCourse.getSourceHash() : null;
+            downloads.put(externalId, CompletableFuture.supplyAsync(() -> fetchTrack(item, storedHash), gpxTaskExecutor));
+        });
+
+        Map<String, DurunubiTrack> trackMap = new HashMap<>();
+        downloads.forEach((externalId, download) -> {
+            try {
+                trackMap.put(externalId, download.join());
+            } catch (CompletionException e) {
+                log.error("[두루누비 코스 동기화] GPX 다운로드 작업 실패: externalId={}", externalId, e.getCause());
+                trackMap.put(externalId, DurunubiTrack.FAILED);
+            }
+        });
+
+        log.info("[두루누비 코스 동기화] {}건의 GPX 파일 다운로드 및 파싱 완료 (소요 시간: {}ms)",
+                downloads.size(), System.currentTimeMillis() - startTime);
+        return trackMap;
+    }
+
+    /**
+     * GPX 파일을 다운로드하여 원본 해시를 계산하고, 저장된 해시와 다르면 트랙포인트로 파싱합니다.
+     * 여러 코스에서 동시에 호출되므로 공유 상태를 변경하지 않습니다.
+     */
+    private DurunubiTrack fetchTrack(Item item, String storedHash) {
+        String gpxPath = item.getGpxPath();
+        String gpxContent;
+        try {
+            gpxContent = restTemplate.getForObject(gpxPath, String.class);
+        } catch (Exception e) {
+            log.error("[두루누비 코스 동기화] GPX 파일 다운로드 중 오류 발생: gpxPath={}", gpxPath, e);
+            return DurunubiTrack.FAILED;
+        }
+        if (gpxContent == null || gpxContent.isEmpty()) {
+            log.warn("[두루누비 코스 동기화] GPX 파일이 비어있습니다. gpxPath: {}", gpxPath);
+            return DurunubiTrack.FAILED;
+        }
+
+        String sourceHash = sha256Hex(toSourceText(item), gpxContent);
+        if (sourceHash.equals(storedHash)) {
+            return new DurunubiTrack(sourceHash, List.of(), true);
+        }
+        return new DurunubiTrack(sourceHash, parseTrackPoints(gpxContent), false);
+    }
+
+    /**
+     * GPX 파일 내용을 파싱하여, 해당 GPX 파일의 모든 좌표 정보를 TrackPoint 엔티티로 만듭니다.
      */
-    private List<TrackPoint> parseTrackPoints(String gpxPath) {
+    private List<TrackPoint> parseTrackPoints(String gpxContent) {
         List<TrackPoint> trackPoints = new ArrayList<>();
         try {
             long startTime = System.currentTimeMillis();
 
-            // GPX 파일 다운로드
-            String gpxContent = restTemplate.getForObject(gpxPath, String.class);
-            if (gpxContent == null || gpxContent.isEmpty()) {
-                log.warn("[두루누비 코스 동기화] GPX 파일이 비어있습니다. gpxPath: {}", gpxPath);
-                return List.of();
-            }
-
             // Jackson을 사용한 XML 파싱
             GpxDto gpx = xmlMapper.readValue(gpxContent, GpxDto.class);
             List<GpxDto.Trkpt> allPoints = gpx.getTrk().getTrksegs().stream()
@@ -390,6 +564,46 @@ public class CourseDataService {
         return trackPoints;
     }
 
+    /**
+     * 코스 목록 전체의 지문을 계산합니다. 코스 순서와 관계없이 모든 코스의 API 항목 필드가 같으면 같은 값입니다.
+     */
+    private String computeListingFingerprint(Map<String, Item> apiCourseMap) {
+        return sha256Hex(apiCourseMap.keySet().stream()
+                .sorted()
+                .map(externalId -> toSourceText(apiCourseMap.get(externalId)))
+                .toArray(String[]::new));
+    }
+
+    /**
+     * 코스에 반영되는 API 항목 필드를 한 줄씩 이어 붙인 문자열을 반환합니다.
+     */
+    private String toSourceText(Item item) {
+        return String.join("\n",
+                String.valueOf(item.getCourseIndex()),
+                String.valueOf(item.getCourseName()),
+                String.valueOf(item.getCourseDistance()),
+                String.valueOf(item.getTotalRequiredTime()),
+                String.valueOf(item.getCourseLevel()),
+                String.valueOf(item.getSigun()),
+                String.valueOf(item.getGpxPath()));
+    }
+
+    /**
+     * 문자열들의 SHA-256 해시를 16진수로 반환합니다. 각 문자열 뒤에 구분자(\0)를 넣어 경계가 바뀌면 다른 값이 되도록 합니다.
+     */
+    private static String sha256Hex(String... values) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String value : values) {
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 지원하지 않는 환경입니다.", e);
+        }
+    }
+
     /**
      * 코스의 길 상태(road_condition) 정보를 OpenAI API 호출을 통해 저장합니다.
      * OpenAI API의 경우, 예상 토큰 값을 계산하여 최대 토큰 값을 넘으면 RDP 단순화 알고리즘을 적용하여 요청합니다.
@@ -401,10 +615,9 @@ public class CourseDataService {
     @Transactional
     public void updateRoadConditions(Long courseId) {
         Course course = courseRepository.findById(courseId).orElseThrow(() -> new BusinessException(COURSE_NOT_FOUND));
-        List<TrackPointDto> trackPointDtoList = trackPointRepository.findByCourseIdOrderBySequenceAsc(courseId)
-                .stream()
-                .map(TrackPointDto::from)
-                .toList();
+        List<TrackPointDto> trackPointDtoList = courseTrackRepository.findCoordinatesByCourseId(courseId)
+                .map(TrackCoordinates::toTrackPointDtos)
+                .orElse(Collections.emptyList());
 
         // 프롬프트 변수 준비
         Map<String,Object> variables = new HashMap<>();
@@ -458,32 +671,99 @@ public class CourseDataService {
     public void updateCourseImage(Long courseId, MultipartFile courseImageFile) {
         Course course = courseRepository.findById(courseId).orElseThrow(() -> new BusinessException(COURSE_NOT_FOUND));
 
-        // 새 파일을 S3에 먼저 업로드
-        String newImageUrl = fileService.uploadFile(courseImageFile, "image");
-        log.info("[코스 이미지 수정] S3 버킷에 이미지 업로드 완료: newImageUrl={}", newImageUrl);
+        // 새 파일을 S3에 먼저 업로드 (목록 화면용 크기별 이미지 포함)
+        ImageVariantsDto newImage = fileService.uploadImage(courseImageFile, "image");
+        log.info("[코스 이미지 수정] S3 버킷에 이미지 업로드 완료: newImageUrl={}", newImage.imgUrl());
+
+        applyCourseImage(course, newImage);
+    }
+
+    /**
+     * 이미 S3 버킷에 업로드된 썸네일 이미지를 코스에 저장합니다.
+     * 이미지 업로드를 코스 생성과 동시에 진행한 경우 사용하며, 이전 이미지는 S3 버킷 내에서 삭제합니다.
+     *
+     * @param newImage 업로드된 이미지의 S3 URL, 크기별 이미지
+     */
+    @Transactional
+    public void updateCourseImage(Long courseId, ImageVariantsDto newImage) {
+        Course course = courseRepository.findById(courseId).orElseThrow(() -> new BusinessException(COURSE_NOT_FOUND));
+        applyCourseImage(course, newImage);
+    }
+
+    /**
+     * 코스의 썸네일 이미지를 갱신하고, 기존 이미지가 있으면 S3 버킷에서 삭제합니다.
+     */
+    private void applyCourseImage(Course course, ImageVariantsDto newImage) {
+        Long courseId = course.getId();
 
         // 삭제할 기존 파일 URL을 임시 변수에 저장
-        String oldImageUrl = (course.getCourseImage() != null) ? course.getCourseImage().getImgUrl() : null;
+        ImageVariantsDto oldImage = (course.getCourseImage() != null) ? ImageVariantsDto.from(course.getCourseImage()) : null;
 
         // DB 정보 업데이트
-        if (oldImageUrl != null) {
-            course.getCourseImage().updateImageUrl(newImageUrl);
+        if (oldImage != null) {
+            course.getCourseImage().updateImage(newImage);
         } else {
-            course.updateCourseImage(CourseImage.builder().imgUrl(newImageUrl).build());
+            course.updateCourseImage(CourseImage.from(newImage));
         }
         log.info("[코스 이미지 수정] DB에 이미지 정보 갱신 완료: Course ID={}", courseId);
 
-        // 트랜잭션이 성공적으로 커밋된 후에 기존 파일 삭제
-        if (oldImageUrl != null) {
-            fileService.deleteFile(oldImageUrl);
-            log.info("[코스 이미지 수정] S3에서 기존 이미지 삭제: Course Id={}, URL={}", course.getCourseImage().getCourseImageId(), course.getCourseImage().getImgUrl());
+        // 기존 원본, 크기별 이미지 파일 삭제
+        if (oldImage != null) {
+            oldImage.fileUrls().forEach(fileService::deleteFile);
+            log.info("[코스 이미지 수정] S3에서 기존 이미지 삭제: Course Id={}, URL={}", courseId, oldImage.imgUrl());
         }
     }
 
+    /**
+     * 단순화 경로가 저장되지 않은 기존 코스들의 트랙포인트를 조회하여 상세 수준별 단순화 경로를 저장합니다.
+     * 단순화 경로 컬럼 또는 상세 수준(LOD) 컬럼 추가 이전에 생성된 코스를 위해 사용합니다.
+     *
+     * @return 단순화 경로를 저장한 코스 수
+     */
+    @Transactional
+    public int backfillSimplifiedTrackPoints() {
+        List<Course> courses = courseRepository.findBySimplifiedTrackPointsIsNullOrLowDetailTrackPointsIsNull();
+        for (Course course : courses) {
+            TrackCoordinates trackCoordinates = courseTrackRepository.findCoordinatesByCourseId(course.getId())
+                    .orElseThrow(() -> new BusinessException(TRACK_POINTS_NOT_FOUND));
+            updateSimplifiedTrackPoints(course, trackCoordinates);
+        }
+        log.info("[트랙포인트 간소화] 단순화 경로 일괄 저장 완료: {}건", courses.size());
+        return courses.size();
+    }
+
+    /**
+     * 기존 track_point 테이블에 한 행씩 저장된 트랙포인트를 코스 단위로 압축하여 course_track 테이블로 옮깁니다.
+     * course_track 테이블 추가 이전에 생성된 코스를 위해 사용하며, 이미 옮긴 코스는 건너뜁니다.
+     *
+     * @return 트랙포인트를 옮긴 코스 수
+     */
+    @Transactional
+    public int migrateTrackPoints() {
+        List<Course> courses = courseRepository.findCoursesWithoutTrack();
+        int migratedCount = 0;
+        for (Course course : courses) {
+            List<TrackPoint> trackPoints = trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId());
+            if (trackPoints.isEmpty()) {
+                log.warn("[트랙포인트 이전] 기존 트랙포인트가 없어 건너뜁니다. courseId={}", course.getId());
+                continue;
+            }
+            courseTrackRepository.save(CourseTrack.builder()
+                    .course(course)
+                    .coordinates(TrackCoordinates.from(trackPoints))
+                    .build());
+            trackPointRepository.deleteByCourseId(course.getId()); // 옮긴 트랙포인트는 course_track에서만 조회
+            migratedCount++;
+        }
+        log.info("[트랙포인트 이전] course_track 저장 완료: {}건", migratedCount);
+        return migratedCount;
+    }
+
     /**
      * GPX 파일을 받아 코스 정보를 생성하고 저장합니다.
      * OpenAI API의 경우, 예상 토큰 값을 계산하여 최대 토큰 값을 넘으면 RDP 단순화 알고리즘을 적용하여 요청합니다.
-     * S3 버킷의 디렉토리는 "gpx"로 지정합니다.
+     * S3 버킷의 디렉토리는 "gpx"로 지정하며, GPX 파일 업로드는 파싱 직후 비동기로 시작하여 외부 API 호출과 동시에 진행합니다.
+     * 트랜잭션이 롤백되면 업로드된 GPX 파일은 삭제합니다.
      *
      * @param gpxCourseRequestDto 코스 출발지, 도착지 존재
      * @param courseGpxFile 업로드된 GPX 파일
@@ -505,6 +785,10 @@ public class CourseDataService {
             throw new BusinessException(ResponseCode.GPX_FILE_PARSE_FAILED);
         }
 
+        // 파싱에 성공한 GPX 파일은 바로 S3 업로드 시작 (8단계에서 완료 대기)
+        CompletableFuture<String> gpxUpload = fileService.uploadFileAsync(courseGpxFile, "gpx");
+        fileService.deleteOnRollback(gpxUpload);
+
         // 3. 전체 거리 계산
         double distance = calculateDistance(trackPoints);
         log.info("[GPX 코스 생성] 전체 거리 계산 완료: {}km", distance);
@@ -518,10 +802,9 @@ public class CourseDataService {
         double minElevation = calculateMinElevation(trackPoints);
         log.info("[GPX 코스 생성] 고도 계산 완료 (최대: {}, 최소: {})", maxElevation, minElevation);
 
-        // 6. 시작점을 기준으로 Area 분류 (카카오 지도 API 호출)
+        // 6. 시작점을 기준으로 Area 분류 (부산 구/군 경계 근처인 경우에만 카카오 지도 API 호출)
         Point startPoint = extractStartPoint(trackPoints);
-        JsonNode startAddress = kakaoMapService.getAddressFromCoordinate(startPoint.getX(), startPoint.getY());
-        KakaoMapService.AddressInfo startAddressInfo = kakaoMapService.extractDistrictNameAndDongName(startAddress);
+        KakaoMapService.AddressInfo startAddressInfo = findAddressInfo(startPoint);
         Area area = extractArea(startAddressInfo);
         log.info("[GPX 코스 생성] Area 분류 완료: {}", area);
 
@@ -561,8 +844,8 @@ public class CourseDataService {
             level = CourseLevel.MEDIUM;
         }
 
-        // 8. AWS S3에 GPX 파일 업로드
-        String gpxPath = fileService.uploadFile(courseGpxFile, "gpx");
+        // 8. AWS S3에 GPX 파일 업로드 완료 대기
+        String gpxPath = fileService.awaitUpload(gpxUpload);
 
         // 9. course, road condition, track point DB에 저장
         Course course = Course.builder()
@@ -581,6 +864,10 @@ public class CourseDataService {
         List<Theme> themes = extractTheme(startAddressInfo);
         themes.forEach(course::addTheme);
 
+        // 11. 목록/상세 조회용 단순화 경로 저장
+        TrackCoordinates trackCoordinates = TrackCoordinates.from(trackPoints);
+        updateSimplifiedTrackPoints(course, trackCoordinates);
+
         courseRepository.save(course);
         log.info("[GPX 코스 생성] Course 저장 완료: ID={}", course.getId());
 
@@ -593,12 +880,10 @@ public class CourseDataService {
         roadConditionRepository.saveAll(roadConditions);
         log.info("[GPX 코스 생성] RoadCondition {}개 저장 완료", roadConditions.size());
 
-        for (TrackPoint trackPoint : trackPoints) {
-            trackPoint.setCourse(course);
-        }
-        trackPointRepository.saveAll(trackPoints);
-        log.info("[GPX 코스 생성] TrackPoint {}개 저장 완료", trackPoints.size());
+        courseTrackRepository.save(CourseTrack.builder().course(course).coordinates(trackCoordinates).build());
+        log.info("[GPX 코스 생성] TrackPoint {}개 저장 완료", trackCoordinates.size());
 
+        eventPublisher.publishEvent(CourseChangedEvent.of(course.getId()));
         log.info("[GPX 코스 생성] 전체 작업 완료: 코스명={})", courseName);
         return course;
     }
@@ -664,6 +949,38 @@ public class CourseDataService {
         return trackPoints;
     }
 
+    /**
+     * 트랙포인트 리스트에 RDP 알고리즘을 적용하여 상세 수준(LOD)별로 단순화한 경로를 코스에 저장합니다.
+     * 조회 요청마다 단순화하지 않도록, 트랙포인트가 생성되거나 변경될 때마다 호출해야 합니다.
+     *
+     * @param course 단순화 경로를 저장할 코스
+     * @param trackCoordinates 원본 트랙포인트 배열 (sequence 오름차순)
+     */
+    private void updateSimplifiedTrackPoints(Course course, TrackCoordinates trackCoordinates) {
+        Map<TrackDetail, List<TrackPointDto>> simplifiedTrackPoints = TrackPointSimplificationUtil
+                .simplifyTrackCoordinatesByDetail(trackCoordinates, distanceTolerance, geometryFactory);
+        course.updateSimplifiedTrackPoints(simplifiedTrackPoints);
+        log.info("[트랙포인트 간소화] 원본: {}개 → 단순화(HIGH/MEDIUM/LOW): {}/{}/{}개", trackCoordinates.size(),
+                simplifiedTrackPoints.get(TrackDetail.HIGH).size(),
+                simplifiedTrackPoints.get(TrackDetail.MEDIUM).size(),
+                simplifiedTrackPoints.get(TrackDetail.LOW).size());
+    }
+
+    /**
+     * 코스의 전체 트랙포인트를 압축하여 한 행으로 저장합니다. 이미 저장된 트랙포인트가 있으면 교체합니다.
+     * 기존 track_point 테이블에 남은 이전 트랙포인트는 더 이상 맞지 않으므로 함께 삭제합니다.
+     *
+     * @param course 트랙포인트를 저장할 코스
+     * @param trackCoordinates 저장할 트랙포인트 배열 (sequence 오름차순)
+     */
+    private void saveCourseTrack(Course course, TrackCoordinates trackCoordinates) {
+        courseTrackRepository.findById(course.getId()).ifPresentOrElse(
+                courseTrack -> courseTrack.updateCoordinates(trackCoordinates),
+                () -> courseTrackRepository.save(CourseTrack.builder().course(course).coordinates(trackCoordinates).build())
+        );
+        trackPointRepository.deleteByCourseId(course.getId());
+    }
+
     /**
      * 트랙포인트 리스트로부터 코스 전체 거리(distance)를 계산합니다.
      *
@@ -745,6 +1062,19 @@ public class CourseDataService {
         return geometryFactory.createPoint(new Coordinate(first.getLon(), first.getLat()));
     }
 
+    /**
+     * 좌표의 구/군, 동 주소 정보를 조회합니다.
+     * 부산 구/군 경계 다각형으로 먼저 판별하고, 경계 근처라 판별할 수 없거나 다각형 판별이 꺼져 있으면 카카오 지도 API를 호출합니다.
+     *
+     * @param point 조회할 좌표
+     * @return 주소 정보를 담은 AddressInfo 객체
+     */
+    private KakaoMapService.AddressInfo findAddressInfo(Point point) {
+        return busanDistrictIndex.findAddress(point.getX(), point.getY())
+                .orElseGet(() -> kakaoMapService.extractDistrictNameAndDongName(
+                        kakaoMapService.getAddressFromCoordinate(point.getX(), point.getY())));
+    }
+
     /**
      * 주소 정보에서 행정구역(Area)을 추출합니다.
      *
@@ -0,0 +1,197 @@
+package com.server.running_handai.domain.course.service;
+
+import com.server.running_handai.domain.bookmark.event.BookmarkChangedEvent;
+import com.server.running_handai.domain.course.dto.CourseFilterRequestDto;
+import com.server.running_handai.domain.course.dto.CourseInfoWithDetailsDto;
+import com.server.running_handai.domain.course.entity.CourseFilter;
+import com.server.running_handai.domain.course.event.CourseChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 코스 전체 조회(GET /api/courses) 결과 중 회원과 무관한 부분(정렬된 코스 정보, 북마크 수)을 캐시합니다.
+ * 경로 좌표는 캐시하지 않으며, 호출 측에서 요청한 페이지의 코스만 따로 조회합니다.
+ * 필터 조건과 사용자 위치를 격자(cell)로 양자화한 값을 키로 사용하며, 같은 격자의 요청은 격자 중심 좌표로 조회한 결과를 공유합니다.
+ * 따라서 distanceFromUser는 격자 크기의 절반 정도(기본 약 70m)까지 실제 위치와 차이가 날 수 있습니다.
+ * 회원별 북마크 여부(isBookmarked)는 캐시하지 않으며, 호출 측에서 캐시 조회 후 반영해야 합니다.
+ */
+@Slf4j
+@Component
+public class CourseListCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final double cellSizeDegrees;
+
+    private final Map<CacheKey, CacheEntry> entries; // 접근 순서를 유지하는 LRU, this로 동기화
+    private final AtomicLong generation = new AtomicLong(); // 무효화될 때마다 증가, 무효화 이전에 시작된 조회 결과는 저장하지 않음
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public CourseListCache(
+            MeterRegistry meterRegistry,
+            @Value("${course.list-cache.max-entries:10000}") int maxEntries,
+            @Value("${course.list-cache.ttl:24h}") Duration ttl,
+            @Value("${course.list-cache.cell-size-degrees:0.001}") double cellSizeDegrees
+    ) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                return size() > CourseListCache.this.maxEntries;
+            }
+        };
+
+        this.hitCounter = Counter.builder("course.list.cache.requests")
+                .description("코스 전체 조회 캐시 요청 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("course.list.cache.requests")
+                .description("코스 전체 조회 캐시 요청 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("course.list.cache.evictions")
+                .description("코스/북마크 변경으로 제거된 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("course.list.cache.size", this, CourseListCache::size)
+                .description("코스 전체 조회 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 필터 조건과 사용자 위치 격자
+     */
+    record CacheKey(CourseFilter filter, String category, Integer limit, Integer radius, long latCell, long lonCell) {
+    }
+
+    private record CacheEntry(List<CourseInfoWithDetailsDto> courses, Set<Long> courseIds, long expiresAt) {
+    }
+
+    /**
+     * 캐시된 코스 목록을 반환하고, 없으면 격자 중심 좌표로 바꾼 요청으로 loader를 호출하여 저장합니다.
+     *
+     * @param request 코스 필터 요청
+     * @param loader 캐시에 없을 때 코스 목록을 조회하는 함수 (경로 좌표는 비우고 isBookmarked는 false로 채워야 함)
+     * @return 회원별 정보가 반영되지 않은 코스 목록
+     */
+    public List<CourseInfoWithDetailsDto> getOrLoad(
+            CourseFilterRequestDto request,
+            Function<CourseFilterRequestDto, List<CourseInfoWithDetailsDto>> loader
+    ) {
+        CacheKey key = toCacheKey(request);
+        long now = System.currentTimeMillis();
+
+        CacheEntry cached = get(key, now);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.courses();
+        }
+        missCounter.increment();
+
+        long loadGeneration = generation.get();
+        List<CourseInfoWithDetailsDto> courses = List.copyOf(loader.apply(toCellCenterRequest(request, key)));
+        Set<Long> courseIds = courses.stream().map(CourseInfoWithDetailsDto::courseId).collect(Collectors.toSet());
+        put(key, new CacheEntry(courses, courseIds, now + ttlMillis), loadGeneration);
+        return courses;
+    }
+
+    /**
+     * 코스가 생성, 수정, 삭제되거나 동기화되면 코스 목록 자체가 바뀔 수 있으므로 전체 캐시를 비웁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCourseChangedEvent(CourseChangedEvent event) {
+        int evictedCount = invalidateAll();
+        log.info("[코스 목록 캐시] 코스 변경으로 전체 캐시 제거: courseIds={}, 제거된 항목={}", event.courseIds(), evictedCount);
+    }
+
+    /**
+     * 북마크가 변경되면 북마크 수가 달라지므로, 해당 코스가 포함된 캐시 항목만 제거합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleBookmarkChangedEvent(BookmarkChangedEvent event) {
+        int evictedCount = evictCourse(event.courseId());
+        log.debug("[코스 목록 캐시] 북마크 변경으로 캐시 제거: courseId={}, 제거된 항목={}", event.courseId(), evictedCount);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized CacheEntry get(CacheKey key, long now) {
+        CacheEntry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() <= now) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void put(CacheKey key, CacheEntry entry, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return; // 조회 도중 무효화되었다면 이전 데이터일 수 있으므로 저장하지 않음
+        }
+        entries.put(key, entry);
+    }
+
+    private synchronized int invalidateAll() {
+        generation.incrementAndGet();
+        int evictedCount = entries.size();
+        entries.clear();
+        evictionCounter.increment(evictedCount);
+        return evictedCount;
+    }
+
+    private synchronized int evictCourse(Long courseId) {
+        generation.incrementAndGet();
+        int sizeBefore = entries.size();
+        entries.values().removeIf(entry -> entry.courseIds().contains(courseId));
+        int evictedCount = sizeBefore - entries.size();
+        evictionCounter.increment(evictedCount);
+        return evictedCount;
+    }
+
+    private CacheKey toCacheKey(CourseFilterRequestDto request) {
+        String category = switch (request.filter()) {
+            case AREA -> (request.area() != null) ? request.area().name() : null;
+            case THEME -> (request.theme() != null) ? request.theme().name() : null;
+            default -> null;
+        };
+        return new CacheKey(
+                request.filter(),
+                category,
+                request.limit(),
+                request.radius(),
+                (long) Math.floor(request.lat() / cellSizeDegrees),
+                (long) Math.floor(request.lon() / cellSizeDegrees)
+        );
+    }
+
+    private CourseFilterRequestDto toCellCenterRequest(CourseFilterRequestDto request, CacheKey key) {
+        return new CourseFilterRequestDto(
+                request.filter(),
+                (key.latCell() + 0.5) * cellSizeDegrees,
+                (key.lonCell() + 0.5) * cellSizeDegrees,
+                request.area(),
+                request.theme(),
+                request.limit(),
+                request.radius()
+        );
+    }
+}
@@ -5,41 +5,41 @@ import static com.server.running_handai.global.response.ResponseCode.COURSE_NOT_
 import static com.server.running_handai.global.response.ResponseCode.DUPLICATE_COURSE_NAME;
 import static com.server.running_handai.global.response.ResponseCode.INVALID_AREA_PARAMETER;
 import static com.server.running_handai.global.response.ResponseCode.INVALID_COURSE_NAME_PARAMETER;
+import static com.server.running_handai.global.response.ResponseCode.INVALID_PAGE_SIZE_PARAMETER;
 import static com.server.running_handai.global.response.ResponseCode.INVALID_THEME_PARAMETER;
 import static com.server.running_handai.global.response.ResponseCode.MEMBER_NOT_FOUND;
 import static com.server.running_handai.global.response.ResponseCode.NO_AUTHORITY_TO_DELETE_COURSE;
 import static com.server.running_handai.global.response.ResponseCode.NO_AUTHORITY_TO_UPDATE_COURSE;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.server.running_handai.domain.bookmark.dto.BookmarkCountDto;
 import com.server.running_handai.domain.bookmark.dto.BookmarkInfoDto;
 import com.server.running_handai.domain.bookmark.repository.BookmarkRepository;
+import com.server.running_handai.domain.bookmark.service.BookmarkCountService;
 import com.server.running_handai.domain.course.dto.*;
 import com.server.running_handai.domain.course.entity.Course;
-import com.server.running_handai.domain.course.entity.TrackPoint;
+import com.server.running_handai.domain.course.entity.TrackDetail;
+import com.server.running_handai.domain.course.event.CourseChangedEvent;
 import com.server.running_handai.domain.course.event.CourseCreatedEvent;
 import com.server.running_handai.domain.course.repository.CourseRepository;
-import com.server.running_handai.domain.course.repository.TrackPointRepository;
+import com.server.running_handai.domain.course.repository.CourseTrackRepository;
 import com.server.running_handai.domain.member.entity.Member;
 import com.server.running_handai.domain.member.repository.MemberRepository;
 import com.server.running_handai.domain.review.dto.ReviewInfoDto;
-import com.server.running_handai.domain.review.repository.ReviewRepository;
+import com.server.running_handai.domain.review.dto.ReviewStatsDto;
 import com.server.running_handai.domain.review.service.ReviewService;
 import com.server.running_handai.domain.spot.dto.SpotInfoDto;
 import com.server.running_handai.domain.spot.repository.SpotRepository;
 import com.server.running_handai.global.response.exception.BusinessException;
+import com.server.running_handai.global.util.GeoUtil;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.locationtech.jts.geom.Coordinate;
-import org.locationtech.jts.geom.GeometryFactory;
-import org.locationtech.jts.geom.LineString;
-import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
-import org.springframework.beans.factory.annotation.Value;
+import org.locationtech.jts.geom.Envelope;
 import org.springframework.data.domain.Pageable;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -53,54 +53,144 @@ import org.springframework.web.multipart.MultipartFile;
 public class CourseService {
 
     public static final String MYSQL_POINT_FORMAT = "POINT(%f %f)";
+    public static final String MYSQL_POLYGON_FORMAT = "POLYGON((%f %f, %f %f, %f %f, %f %f, %f %f))";
     public static final String COURSE_NAME_DELIMITER = "-";
-    private static final double SOUTH_KOREA_MIN_LATITUDE = 33.0;
-    private static final double SOUTH_KOREA_MAX_LATITUDE = 38.9;
-    private static final double SOUTH_KOREA_MIN_LONGITUDE = 124.5;
-    private static final double SOUTH_KOREA_MAX_LONGITUDE = 132.0;
+    private static final double NEARBY_RADIUS_METERS = 5000; // 주변 코스 조회 반경 (5km)
+    private static final int DEFAULT_NEAREST_LIMIT = 10;
+    private static final int MAX_NEAREST_LIMIT = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int SUMMARY_REVIEW_COUNT = 2; // 코스 요약에 포함할 최신 리뷰 수
+    private static final Comparator<CourseInfoDto> COURSE_ORDER = Comparator
+            .comparingDouble(CourseInfoDto::getDistanceFromUser)
+            .thenComparingLong(CourseInfoDto::getId); // 커서 페이지네이션의 정렬 키
 
     private final CourseRepository courseRepository;
-    private final TrackPointRepository trackPointRepository;
+    private final CourseTrackRepository courseTrackRepository;
     private final BookmarkRepository bookmarkRepository;
-    private final ReviewRepository reviewRepository;
+    private final BookmarkCountService bookmarkCountService;
     private final SpotRepository spotRepository;
     private final MemberRepository memberRepository;
-    private final GeometryFactory geometryFactory;
     private final ReviewService reviewService;
     private final FileService fileService;
     private final CourseDataService courseDataService;
     private final KakaoMapService kakaoMapService;
+    private final KoreaBoundary koreaBoundary;
+    private final BusanDistrictIndex busanDistrictIndex;
+    private final CourseSpatialIndex courseSpatialIndex;
+    private final CourseListCache courseListCache;
     private final ApplicationEventPublisher eventPublisher;
 
-    @Value("${course.simplification.distance-tolerance}")
-    private double distanceTolerance;
-
     /**
-     * 필터링 조건에 맞는 코스를 전체 조회합니다.
+     * 필터링 조건에 맞는 코스를 사용자와 가까운 순서로 페이지 단위 조회합니다.
+     * (distanceFromUser, courseId) 기준 keyset 페이지네이션을 사용하며, 경로 좌표는 조회한 페이지의 코스만 불러옵니다.
      *
      * @param filterOption 필터링 조건
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     * @param detail 응답할 단순화 경로의 상세 수준
      * @param memberId 조회 요청한 회원 ID (비회원은 null)
-     * @return 조회된 코스 목록 DTO
-     * @throws BusinessException Area 또는 Theme가 null인 경우
+     * @return 조회된 코스 페이지 DTO
+     * @throws BusinessException Area 또는 Theme가 null이거나, 페이지 크기 또는 커서가 올바르지 않거나, 커서와 필터 조건이 다른 경우
+     */
+    public CourseInfoPageDto findCourses(CourseFilterRequestDto filterOption, String cursor, int size,
+                                         TrackDetail detail, Long memberId) {
+        if (size <= 0) {
+            throw new BusinessException(INVALID_PAGE_SIZE_PARAMETER);
+        }
+        CourseCursor courseCursor = CourseCursor.decode(cursor);
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+
+        // 다음 페이지는 첫 페이지의 사용자 위치 기준으로 정렬해야 페이지 사이에 이동해도 코스가 중복되거나 누락되지 않음
+        CourseFilterRequestDto pageRequest = (courseCursor != null) ? courseCursor.toOriginRequest(filterOption) : filterOption;
+        List<CourseInfoWithDetailsDto> courses = courseListCache.getOrLoad(pageRequest, this::loadCourses);
+        List<CourseInfoWithDetailsDto> page = sliceAfterCursor(courses, courseCursor, pageSize + 1);
+        boolean hasNext = page.size() > pageSize;
+        if (hasNext) {
+            page = page.subList(0, pageSize);
+        }
+        log.info("[코스 전체조회] Filter: {}, Member ID: {}, 전체 코스 수: {}, 페이지 코스 수: {}",
+                filterOption, memberId, courses.size(), page.size());
+
+        page = applyBookmarked(applyTrackPoints(page, detail), memberId);
+        return CourseInfoPageDto.from(page, hasNext, pageRequest);
+    }
+
+    /**
+     * 필터링 조건에 맞는 코스를 DB 또는 공간 인덱스에서 조회합니다.
+     * 회원과 무관한 결과만 (distanceFromUser, courseId) 순서로 만들며, 경로 좌표는 비워두고 isBookmarked는 false로 채웁니다.
      */
-    public List<CourseInfoWithDetailsDto> findCourses(CourseFilterRequestDto filterOption, Long memberId) {
+    private List<CourseInfoWithDetailsDto> loadCourses(CourseFilterRequestDto filterOption) {
         List<CourseInfoDto> courseInfos = switch (filterOption.filter()) {
             case NEARBY -> findCoursesNearby(filterOption);
+            case NEAREST -> findCoursesNearest(filterOption);
             case AREA -> findCoursesByArea(filterOption);
             case THEME -> findCoursesByTheme(filterOption);
         };
-        log.info("[코스 전체조회] Filter: {}, Member ID: {}, 조회된 코스 수: {}", filterOption, memberId, courseInfos.size());
-        return buildCourseWithDetails(courseInfos, memberId);
+        return buildCourseWithDetails(courseInfos.stream().sorted(COURSE_ORDER).toList());
+    }
+
+    /**
+     * 정렬된 코스 목록에서 커서 다음 코스부터 최대 count개를 잘라냅니다.
+     */
+    private List<CourseInfoWithDetailsDto> sliceAfterCursor(List<CourseInfoWithDetailsDto> courses,
+                                                            CourseCursor cursor, int count) {
+        int fromIndex = 0;
+        if (cursor != null) {
+            // 목록이 커서 정렬 키 순서이므로 이진 탐색으로 시작 위치를 찾음
+            int low = 0;
+            int high = courses.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cursor.precedes(courses.get(mid))) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            fromIndex = low;
+        }
+        return courses.subList(fromIndex, Math.min(fromIndex + count, courses.size()));
     }
 
     private List<CourseInfoDto> findCoursesNearby(CourseFilterRequestDto request) {
-        return courseRepository.findCoursesNearbyUser(parseUserPoint(request));
+        if (!courseSpatialIndex.isReady()) {
+            log.warn("[코스 전체조회] 공간 인덱스가 준비되지 않아 DB로 주변 코스를 조회합니다.");
+            return courseRepository.findCoursesNearbyUser(
+                    parseUserPoint(request), parseUserEnvelope(request, NEARBY_RADIUS_METERS), NEARBY_RADIUS_METERS);
+        }
+        List<CourseSpatialIndex.CourseDistance> courseDistances =
+                courseSpatialIndex.findWithinRadius(request.lat(), request.lon(), NEARBY_RADIUS_METERS);
+        return findCoursesByDistances(request, courseDistances);
+    }
+
+    private List<CourseInfoDto> findCoursesNearest(CourseFilterRequestDto request) {
+        int limit = (request.limit() != null) ? Math.min(request.limit(), MAX_NEAREST_LIMIT) : DEFAULT_NEAREST_LIMIT;
+        if (!courseSpatialIndex.isReady()) {
+            log.warn("[코스 전체조회] 공간 인덱스가 준비되지 않아 DB로 가까운 코스를 조회합니다.");
+            return courseRepository.findNearestCourses(parseUserPoint(request), limit);
+        }
+        List<CourseSpatialIndex.CourseDistance> courseDistances =
+                courseSpatialIndex.findNearest(request.lat(), request.lon(), limit);
+        return findCoursesByDistances(request, courseDistances);
+    }
+
+    private List<CourseInfoDto> findCoursesByDistances(CourseFilterRequestDto request,
+                                                       List<CourseSpatialIndex.CourseDistance> courseDistances) {
+        if (courseDistances.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> courseIds = courseDistances.stream().map(CourseSpatialIndex.CourseDistance::courseId).toList();
+        return courseRepository.findCoursesByIdIn(parseUserPoint(request), courseIds);
     }
 
     private List<CourseInfoDto> findCoursesByArea(CourseFilterRequestDto request) {
         if (request.area() == null) {
             throw new BusinessException(INVALID_AREA_PARAMETER);
         }
+        if (request.radius() != null) {
+            return courseRepository.findCoursesByAreaWithinEnvelope(parseUserPoint(request),
+                    parseUserEnvelope(request, request.radius()), request.radius(), request.area().name());
+        }
         return courseRepository.findCoursesByArea(parseUserPoint(request), request.area().name());
     }
 
@@ -108,6 +198,10 @@ public class CourseService {
         if (request.theme() == null) {
             throw new BusinessException(INVALID_THEME_PARAMETER);
         }
+        if (request.radius() != null) {
+            return courseRepository.findCoursesByThemeWithinEnvelope(parseUserPoint(request),
+                    parseUserEnvelope(request, request.radius()), request.radius(), request.theme().name());
+        }
         return courseRepository.findCoursesByTheme(parseUserPoint(request), request.theme().name());
     }
 
@@ -115,47 +209,92 @@ public class CourseService {
         return String.format(MYSQL_POINT_FORMAT, request.lat(), request.lon());
     }
 
-    private List<CourseInfoWithDetailsDto> buildCourseWithDetails(List<CourseInfoDto> courseInfos, Long memberId) {
+    /**
+     * 사용자 위치를 중심으로 반경을 포함하는 사각형 영역(MBR)을 WKT 폴리곤으로 만듭니다.
+     * SRID 4326의 축 순서에 맞춰 MYSQL_POINT_FORMAT과 같이 (위도 경도) 순서로 작성합니다.
+     */
+    private String parseUserEnvelope(CourseFilterRequestDto request, double radiusMeters) {
+        Envelope envelope = GeoUtil.createEnvelope(request.lat(), request.lon(), radiusMeters);
+        return String.format(MYSQL_POLYGON_FORMAT,
+                envelope.getMinY(), envelope.getMinX(),
+                envelope.getMinY(), envelope.getMaxX(),
+                envelope.getMaxY(), envelope.getMaxX(),
+                envelope.getMaxY(), envelope.getMinX(),
+                envelope.getMinY(), envelope.getMinX());
+    }
+
+    private List<CourseInfoWithDetailsDto> buildCourseWithDetails(List<CourseInfoDto> courseInfos) {
         if (courseInfos.isEmpty()) {
             return Collections.emptyList();
         }
 
-        List<Long> courseIds = courseInfos.stream().map(CourseInfoDto::getId).toList();
-        Map<Long, List<TrackPointDto>> trackPointMap = getSimplifiedTrackPointMap(courseIds);
-        Map<Long, Long> bookmarkCountMap = getBookmarkCountMap(courseIds);
-        Set<Long> bookmarkedCourseIds = getBookmarkedCourseIds(memberId, courseIds);
-
         return courseInfos.stream()
                 .map(courseInfo -> {
-                    long courseId = courseInfo.getId();
-                    List<TrackPointDto> trackPoints = trackPointMap.getOrDefault(courseId, Collections.emptyList());
-                    int bookmarks = bookmarkCountMap.getOrDefault(courseId, 0L).intValue();
-                    boolean isBookmarked = bookmarkedCourseIds.contains(courseId);
-                    return CourseInfoWithDetailsDto.from(courseInfo, trackPoints, bookmarks, isBookmarked);
+                    int bookmarks = bookmarkCountService.getBookmarkCount(courseInfo.getId(), courseInfo.getBookmarkCount());
+                    return CourseInfoWithDetailsDto.from(courseInfo, null, bookmarks, false);
                 })
                 .toList();
     }
 
-    private Map<Long, List<TrackPointDto>> getSimplifiedTrackPointMap(List<Long> courseIds) {
-        Map<Long, List<TrackPoint>> trackPointMap = trackPointRepository.findByCourseIdInOrderBySequenceAsc(courseIds)
-                .stream()
-                .collect(Collectors.groupingBy(trackPoint -> trackPoint.getCourse().getId()));
+    /**
+     * 페이지에 포함된 코스의 단순화 경로만 요청한 상세 수준으로 조회하여 반영합니다.
+     */
+    private List<CourseInfoWithDetailsDto> applyTrackPoints(List<CourseInfoWithDetailsDto> courses, TrackDetail detail) {
+        if (courses.isEmpty()) {
+            return courses;
+        }
 
-        return trackPointMap.entrySet().stream()
-                .collect(
-                        Collectors.toMap(
-                                Map.Entry::getKey, // courseId
-                                entry -> simplifyTrackPoints(entry.getValue()) // List<TrackPointDto>
-                        )
-                );
+        List<Long> courseIds = courses.stream().map(CourseInfoWithDetailsDto::courseId).toList();
+        Map<Long, List<TrackPointDto>> trackPointMap = getSimplifiedTrackPointMap(courseIds, detail);
+        return courses.stream()
+                .map(course -> course.withTrackPoints(
+                        trackPointMap.getOrDefault(course.courseId(), Collections.emptyList())))
+                .toList();
     }
 
-    private Map<Long, Long> getBookmarkCountMap(List<Long> courseIds) {
-        return bookmarkRepository.countByCourseIdIn(courseIds)
-                .stream()
+    /**
+     * 캐시에서 가져온 코스 목록에 회원의 북마크 여부를 반영합니다.
+     */
+    private List<CourseInfoWithDetailsDto> applyBookmarked(List<CourseInfoWithDetailsDto> courses, Long memberId) {
+        if (memberId == null || courses.isEmpty()) {
+            return courses;
+        }
+
+        List<Long> courseIds = courses.stream().map(CourseInfoWithDetailsDto::courseId).toList();
+        Set<Long> bookmarkedCourseIds = getBookmarkedCourseIds(memberId, courseIds);
+        if (bookmarkedCourseIds.isEmpty()) {
+            return courses;
+        }
+
+        return courses.stream()
+                .map(course -> bookmarkedCourseIds.contains(course.courseId()) ? course.withBookmarked(true) : course)
+                .toList();
+    }
+
+    private Map<Long, List<TrackPointDto>> getSimplifiedTrackPointMap(List<Long> courseIds, TrackDetail detail) {
+        List<CourseSimplifiedTrackPointsDto> simplifiedTrackPoints = switch (detail) {
+            case LOW -> courseRepository.findLowDetailTrackPointsByIdIn(courseIds);
+            case MEDIUM -> courseRepository.findMediumDetailTrackPointsByIdIn(courseIds);
+            case HIGH -> courseRepository.findSimplifiedTrackPointsByIdIn(courseIds);
+        };
+        Map<Long, List<TrackPointDto>> trackPointMap = toTrackPointMap(simplifiedTrackPoints);
+
+        // 상세 수준별 경로가 아직 저장되지 않은 코스는 HIGH 수준 경로로 응답
+        if (detail != TrackDetail.HIGH && trackPointMap.size() < courseIds.size()) {
+            List<Long> missingCourseIds = courseIds.stream().filter(id -> !trackPointMap.containsKey(id)).toList();
+            trackPointMap.putAll(toTrackPointMap(courseRepository.findSimplifiedTrackPointsByIdIn(missingCourseIds)));
+        }
+        return trackPointMap;
+    }
+
+    private Map<Long, List<TrackPointDto>> toTrackPointMap(List<CourseSimplifiedTrackPointsDto> simplifiedTrackPoints) {
+        return simplifiedTrackPoints.stream()
+                .filter(dto -> dto.simplifiedTrackPoints() != null) // 단순화 경로가 저장되지 않은 코스는 빈 경로로 응답
                 .collect(Collectors.toMap(
-                        BookmarkCountDto::courseId,
-                        BookmarkCountDto::bookmarkCount
+                        CourseSimplifiedTrackPointsDto::courseId,
+                        CourseSimplifiedTrackPointsDto::simplifiedTrackPoints,
+                        (existing, replacement) -> existing,
+                        HashMap::new
                 ));
     }
 
@@ -170,14 +309,16 @@ public class CourseService {
      * 상세 정보에는 코스 정보, 경로 좌표, 북마크 여부 등을 포함합니다.
      *
      * @param courseId 조회하려는 코스의 ID
+     * @param detail 응답할 단순화 경로의 상세 수준
      * @param memberId 조회 요청한 회원 ID (비회원은 null)
      * @return 코스의 상세정보가 담긴 DTO
      * @throws BusinessException 코스를 찾지 못한 경우
      */
-    public CourseDetailDto findCourseDetails(Long courseId, Long memberId) {
+    public CourseDetailDto findCourseDetails(Long courseId, TrackDetail detail, Long memberId) {
         Course course = findCourseByIdWithDetails(courseId);
-        List<TrackPointDto> trackPoints = simplifyTrackPoints(course.getTrackPoints());
-        BookmarkInfoDto bookmarkInfoDto = getBookmarkInfo(courseId, memberId);
+        List<TrackPointDto> trackPoints = Optional.ofNullable(course.getSimplifiedTrackPoints(detail))
+                .orElse(Collections.emptyList());
+        BookmarkInfoDto bookmarkInfoDto = getBookmarkInfo(course, memberId);
         return CourseDetailDto.from(course, trackPoints, bookmarkInfoDto);
     }
 
@@ -186,28 +327,9 @@ public class CourseService {
                 .orElseThrow(() -> new BusinessException(COURSE_NOT_FOUND));
     }
 
-    private List<TrackPointDto> simplifyTrackPoints(List<TrackPoint> trackPoints) {
-        if (trackPoints.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        Coordinate[] originalCoordinates = trackPoints.stream()
-                .map(point -> new Coordinate(point.getLon(), point.getLat(), point.getEle()))
-                .toArray(Coordinate[]::new);
-
-        LineString originalLine = geometryFactory.createLineString(originalCoordinates);
-        DouglasPeuckerSimplifier simplifier = new DouglasPeuckerSimplifier(originalLine); // RDP 알고리즘 사용하여 경로 단순화
-        simplifier.setDistanceTolerance(distanceTolerance); // 이 값이 클수록 더 많이 단순화됨 (0.0001은 약 10m에 해당)
-        LineString simplifiedLine = (LineString) simplifier.getResultGeometry();
-        log.info("[트랙포인트 간소화] 원본: {}개 → 단순화: {}개)", originalLine.getNumPoints(), simplifiedLine.getNumPoints());
-
-        return Arrays.stream(simplifiedLine.getCoordinates())
-                .map(TrackPointDto::from)
-                .toList();
-    }
-
-    private BookmarkInfoDto getBookmarkInfo(Long courseId, Long memberId) {
-        int totalBookmarks = bookmarkRepository.countByCourseId(courseId);
+    private BookmarkInfoDto getBookmarkInfo(Course course, Long memberId) {
+        Long courseId = course.getId();
+        int totalBookmarks = bookmarkCountService.getBookmarkCount(courseId, course.getBookmarkCount());
         boolean isBookmarkedByUser = (memberId != null) && bookmarkRepository.existsByCourseIdAndMemberId(courseId, memberId);
         return new BookmarkInfoDto(totalBookmarks, isBookmarkedByUser);
     }
@@ -227,15 +349,13 @@ public class CourseService {
                 .orElseThrow(() -> new BusinessException(COURSE_NOT_FOUND));
 
         // 리뷰 조회
-        List<ReviewInfoDto> reviewInfoDtos = reviewService.convertToReviewInfoDtos(
-                reviewRepository.findRecent2ByCourseId(courseId), memberId);
-        int reviewCount = (int) reviewRepository.countByCourseId(courseId); // 리뷰 전체 개수
-        double starAverage = reviewService.calculateAverageStars(courseId); // 리뷰 전체 평점
+        List<ReviewInfoDto> reviewInfoDtos = reviewService.findRecentReviews(courseId, SUMMARY_REVIEW_COUNT, memberId);
+        ReviewStatsDto reviewStats = reviewService.getReviewStats(courseId); // 리뷰 전체 개수, 평점, 별점 분포
 
         // 즐길거리 초기화 완료 시, 즐길거리 조회 결과 반환
         if (course.getSpotStatus() == COMPLETED) {
             List<SpotInfoDto> spotInfoDtos = spotRepository.findRandom3ByCourseId(course.getId());
-            return CourseSummaryDto.from(course, reviewCount, starAverage, reviewInfoDtos, spotInfoDtos);
+            return CourseSummaryDto.from(course, reviewStats, reviewInfoDtos, spotInfoDtos);
         }
 
         // 즐길거리 초기화 실패한 경우, 로그만 남기고 빈 리스트 반환
@@ -244,7 +364,7 @@ public class CourseService {
         }
 
         // 그 외의 경우, 상태값과 빈 리스트 반환
-        return CourseSummaryDto.from(course, reviewCount, starAverage, reviewInfoDtos, Collections.emptyList());
+        return CourseSummaryDto.from(course, reviewStats, reviewInfoDtos, Collections.emptyList());
     }
 
     /**
@@ -289,23 +409,35 @@ public class CourseService {
      * @return 코스 정보가 포함된 DTO
      */
     public MyCourseDetailDto getMyCourse(Long memberId, Long courseId) {
-        Course course = courseRepository.findByIdAndCreatorIdWithTrackPoints(courseId, memberId)
+        Course course = courseRepository.findByIdAndCreatorId(courseId, memberId)
                 .orElseThrow(() -> new BusinessException(COURSE_NOT_FOUND));
 
-        List<TrackPointDto> trackPointDtos = course.getTrackPoints().stream()
-                .map(TrackPointDto::from)
-                .toList();
+        List<TrackPointDto> trackPointDtos = courseTrackRepository.findCoordinatesByCourseId(courseId)
+                .map(TrackCoordinates::toTrackPointDtos)
+                .orElse(Collections.emptyList());
 
         return MyCourseDetailDto.from(course, trackPointDtos);
     }
     /**
      * 주어진 좌표가 부산 내에 있는지 판별합니다.
+     * 부산 구/군 경계 다각형으로 먼저 판별하고, 경계 근처이거나 다각형 판별이 꺼져 있으면 카카오 지도 API로 확인합니다.
      *
      * @param longitude 경도 (x)
      * @param latitude  위도 (y)
      * @return 부산 지역 내에 있으면 true, 아니면 false
      */
     public boolean isInsideBusan(double longitude, double latitude) {
+        switch (busanDistrictIndex.locate(longitude, latitude)) {
+            case INSIDE -> {
+                return true;
+            }
+            case OUTSIDE -> {
+                return false;
+            }
+            case NEAR_BORDER -> log.info("[지역 판별] 부산 경계 근처 좌표, 카카오 지도 API로 확인: x={}, y={}", longitude, latitude);
+        }
+
+        // 경계 근처 좌표에 대해 카카오 지도 API를 통해 주소 정보를 조회
         JsonNode addressNode = kakaoMapService.getAddressFromCoordinate(longitude, latitude);
 
         if (addressNode == null) {
@@ -321,6 +453,7 @@ public class CourseService {
 
     /**
      * 회원이 생성한 코스를 저장하고, 트랜잭션 커밋 후 이벤트를 발행합니다.
+     * 썸네일 이미지는 GPX 코스 생성(파싱, 외부 API 호출, GPX 업로드)과 동시에 비동기로 업로드하고, 커밋 전에 완료를 기다립니다.
      *
      * @param memberId 요청 회원의 ID
      * @param request 코스 생성에 필요한 데이터 DTO
@@ -328,17 +461,16 @@ public class CourseService {
      */
     @Transactional
     public Long createMemberCourse(Long memberId, CourseCreateRequestDto request) {
-        Course newCourse = saveMemberCourse(memberId, request);
-        courseDataService.updateCourseImage(newCourse.getId(), request.thumbnailImage());
-        publishCourseCreatedEvent(newCourse.getId(), request.isInsideBusan());
-        return newCourse.getId();
-    }
-
-    private Course saveMemberCourse(Long memberId, CourseCreateRequestDto request) {
         Member member = memberRepository.findById(memberId).orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
+
+        CompletableFuture<ImageVariantsDto> thumbnailUpload = fileService.uploadImageAsync(request.thumbnailImage(), "image");
+        fileService.deleteOnRollback(thumbnailUpload);
+
         Course newCourse = courseDataService.createCourseToGpx(new GpxCourseRequestDto(request.startPointName(), request.endPointName()), request.gpxFile());
         newCourse.setCreator(member);
-        return newCourse;
+        courseDataService.updateCourseImage(newCourse.getId(), fileService.awaitUpload(thumbnailUpload));
+        publishCourseCreatedEvent(newCourse.getId(), request.isInsideBusan());
+        return newCourse.getId();
     }
 
     private void publishCourseCreatedEvent(Long courseId, boolean isInsideBusan) {
@@ -378,10 +510,11 @@ public class CourseService {
         }
 
         fileService.deleteFile(course.getGpxPath()); // s3에서 gpx 파일 삭제
-        fileService.deleteFile(course.getCourseImage().getImgUrl()); // s3에서 썸네일 이미지 삭제
+        ImageVariantsDto.from(course.getCourseImage()).fileUrls().forEach(fileService::deleteFile); // s3에서 썸네일 이미지 삭제 (크기별 이미지 포함)
 
         course.removeCreator();
         courseRepository.delete(course);
+        eventPublisher.publishEvent(CourseChangedEvent.of(courseId));
     }
 
     /**
@@ -405,6 +538,7 @@ public class CourseService {
         // 필드 업데이트
         updateCourseName(course, request.startPointName(), request.endPointName());
         updateThumbnailImage(course, request.thumbnailImage());
+        eventPublisher.publishEvent(CourseChangedEvent.of(courseId));
     }
 
     private void updateCourseName(Course course, String newStartPointName, String newEndPointName) {
@@ -439,6 +573,7 @@ public class CourseService {
 
     /**
      * 주어진 좌표 배열의 모든 좌표가 대한민국 내에 있는지 판별합니다.
+     * 대한민국 영역 다각형으로 먼저 판별하고, 경계 근처의 좌표만 카카오 지도 API로 확인합니다.
      *
      * @param coordinateDtoList 좌표 배열
      * @return 모두 대한민국 지역 내에 있으면 true, 하나라도 아니면 false
@@ -449,7 +584,7 @@ public class CourseService {
         boolean result = coordinateDtoList.coordinateDtoList().stream()
                 .allMatch(dto -> isCoordinateInKorea(dto, apiCallCount)); // false일 경우, 즉시 종료!
 
-        log.info("[대한민국 판별] 경계 좌표 필터링 통과해 API 호출: {}", apiCallCount.get());
+        log.info("[대한민국 판별] 좌표={}, 경계 근처라 API 호출: {}", coordinateDtoList.coordinateDtoList().size(), apiCallCount.get());
         return result;
     }
 
@@ -467,15 +602,18 @@ public class CourseService {
         double latitude = coordinateDto.latitude();
         double longitude = coordinateDto.longitude();
 
-        // 대한민국 경계 좌표를 통해 필터링
-        if (latitude < SOUTH_KOREA_MIN_LATITUDE || latitude > SOUTH_KOREA_MAX_LATITUDE
-                || longitude < SOUTH_KOREA_MIN_LONGITUDE || longitude > SOUTH_KOREA_MAX_LONGITUDE) {
-            return false;
+        // 대한민국 영역 다각형을 통해 판별
+        switch (koreaBoundary.locate(longitude, latitude)) {
+            case INSIDE -> {
+                return true;
+            }
+            case OUTSIDE -> {
+                return false;
+            }
+            case NEAR_BORDER -> apiCallCount.incrementAndGet();
         }
 
-        apiCallCount.incrementAndGet();
-
-        // 대한민국 경계 좌표를 통과한 좌표에 대해 카카오 지도 API를 통해 행정구역 정보를 조회
+        // 경계 근처 좌표에 대해 카카오 지도 API를 통해 행정구역 정보를 조회
         // 행정구역 정보가 존재하지 않을 경우 false로 반환
         JsonNode regionCode = kakaoMapService.getRegionCodeFromCoordinate(longitude, latitude);
         if (regionCode == null) {
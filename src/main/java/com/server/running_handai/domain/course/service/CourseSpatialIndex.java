@@ -0,0 +1,189 @@
+package com.server.running_handai.domain.course.service;
+
+import com.server.running_handai.domain.course.dto.CourseStartPointDto;
+import com.server.running_handai.domain.course.event.CourseChangedEvent;
+import com.server.running_handai.domain.course.repository.CourseRepository;
+import com.server.running_handai.global.util.GeoUtil;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 코스 시작점을 메모리에 STRtree로 색인하여 반경 조회와 가까운 코스 k개 조회를 처리합니다.
+ * STRtree는 한 번 조회하면 더 이상 삽입할 수 없으므로, 코스가 변경되면 전체 트리를 새로 만들어 교체합니다.
+ * 인덱스가 준비되지 않은 경우 호출 측은 DB 조회로 대체해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseSpatialIndex {
+
+    private static final double NEAREST_INITIAL_RADIUS_METERS = 5_000.0;
+    private static final double NEAREST_MAX_RADIUS_METERS = 20_015_000.0; // 지구 둘레의 절반
+
+    private final CourseRepository courseRepository;
+
+    private final Map<Long, IndexedCourse> indexedCourses = new HashMap<>(); // key: courseId, rebuild 시에만 접근
+    private volatile STRtree tree; // null이면 아직 인덱스가 준비되지 않은 상태
+
+    /**
+     * 코스와 사용자 사이의 거리
+     *
+     * @param courseId 코스 ID
+     * @param distanceMeters 코스 시작점과 사용자 사이의 거리(m)
+     */
+    public record CourseDistance(long courseId, double distanceMeters) {
+    }
+
+    private record IndexedCourse(long courseId, double lat, double lon) {
+    }
+
+    /**
+     * 애플리케이션 시작 시 모든 코스의 시작점을 읽어 인덱스를 구성합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            List<CourseStartPointDto> startPoints = courseRepository.findAllStartPoints();
+            synchronized (this) {
+                indexedCourses.clear();
+                startPoints.forEach(this::putIndexedCourse);
+                rebuildTree();
+            }
+            log.info("[코스 공간 인덱스] 초기화 완료: {}건", startPoints.size());
+        } catch (Exception e) {
+            log.error("[코스 공간 인덱스] 초기화 실패. DB 조회로 대체합니다.", e);
+        }
+    }
+
+    /**
+     * 코스 변경 이벤트를 수신하여 변경된 코스만 다시 읽어 인덱스에 반영합니다.
+     * DB에서 조회되지 않는 코스는 삭제된 것으로 보고 인덱스에서 제거합니다.
+     *
+     * @param event 코스 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCourseChangedEvent(CourseChangedEvent event) {
+        if (event.courseIds().isEmpty()) {
+            return;
+        }
+        // 초기화 또는 이전 반영에 실패한 상태라면 전체를 다시 읽어 복구
+        if (tree == null) {
+            initialize();
+            return;
+        }
+
+        try {
+            List<CourseStartPointDto> startPoints = courseRepository.findStartPointsByIdIn(event.courseIds());
+            synchronized (this) {
+                Set<Long> removedCourseIds = new HashSet<>(event.courseIds());
+                for (CourseStartPointDto startPoint : startPoints) {
+                    putIndexedCourse(startPoint);
+                    removedCourseIds.remove(startPoint.courseId());
+                }
+                removedCourseIds.forEach(indexedCourses::remove);
+                rebuildTree();
+            }
+            log.info("[코스 공간 인덱스] 변경 반영 완료: courseIds={}", event.courseIds());
+        } catch (Exception e) {
+            // 일부만 반영된 인덱스로 잘못된 결과를 주지 않도록, 다음 초기화 전까지 DB 조회로 대체
+            tree = null;
+            log.error("[코스 공간 인덱스] 변경 반영 실패. 인덱스를 비활성화합니다. courseIds={}", event.courseIds(), e);
+        }
+    }
+
+    /**
+     * 인덱스가 준비되어 조회에 사용할 수 있는지 확인합니다.
+     */
+    public boolean isReady() {
+        return tree != null;
+    }
+
+    /**
+     * 사용자 위치에서 반경 내에 시작점이 있는 코스를 가까운 순서대로 조회합니다.
+     *
+     * @param lat 사용자 위도
+     * @param lon 사용자 경도
+     * @param radiusMeters 조회 반경(m)
+     * @return 가까운 순서로 정렬된 코스 거리 목록
+     */
+    public List<CourseDistance> findWithinRadius(double lat, double lon, double radiusMeters) {
+        STRtree currentTree = tree;
+        if (currentTree == null) {
+            return List.of();
+        }
+        return queryWithinRadius(currentTree, lat, lon, radiusMeters);
+    }
+
+    /**
+     * 사용자 위치에서 가장 가까운 코스를 최대 limit개 조회합니다.
+     * 반경을 두 배씩 넓혀가며 limit개 이상이 모이면 그 중 가까운 limit개를 반환합니다.
+     *
+     * @param lat 사용자 위도
+     * @param lon 사용자 경도
+     * @param limit 조회할 코스 수
+     * @return 가까운 순서로 정렬된 코스 거리 목록
+     */
+    public List<CourseDistance> findNearest(double lat, double lon, int limit) {
+        STRtree currentTree = tree;
+        if (currentTree == null) {
+            return List.of();
+        }
+
+        double radiusMeters = NEAREST_INITIAL_RADIUS_METERS;
+        List<CourseDistance> candidates = queryWithinRadius(currentTree, lat, lon, radiusMeters);
+        while (candidates.size() < limit && radiusMeters < NEAREST_MAX_RADIUS_METERS) {
+            radiusMeters = Math.min(radiusMeters * 2, NEAREST_MAX_RADIUS_METERS);
+            candidates = queryWithinRadius(currentTree, lat, lon, radiusMeters);
+        }
+        return candidates.subList(0, Math.min(limit, candidates.size()));
+    }
+
+    private List<CourseDistance> queryWithinRadius(STRtree currentTree, double lat, double lon, double radiusMeters) {
+        List<?> candidates = currentTree.query(GeoUtil.createEnvelope(lat, lon, radiusMeters));
+
+        List<CourseDistance> results = new ArrayList<>();
+        for (Object candidate : candidates) {
+            IndexedCourse course = (IndexedCourse) candidate;
+            double distanceMeters = GeoUtil.haversineMeters(lat, lon, course.lat(), course.lon());
+            if (distanceMeters <= radiusMeters) {
+                results.add(new CourseDistance(course.courseId(), distanceMeters));
+            }
+        }
+        results.sort(Comparator.comparingDouble(CourseDistance::distanceMeters));
+        return results;
+    }
+
+    private void putIndexedCourse(CourseStartPointDto startPointDto) {
+        Point startPoint = startPointDto.startPoint();
+        if (startPoint == null || startPoint.isEmpty()) {
+            indexedCourses.remove(startPointDto.courseId());
+            return;
+        }
+        // startPoint는 (x: 경도, y: 위도)로 저장되어 있음
+        indexedCourses.put(startPointDto.courseId(),
+                new IndexedCourse(startPointDto.courseId(), startPoint.getY(), startPoint.getX()));
+    }
+
+    private void rebuildTree() {
+        STRtree newTree = new STRtree();
+        for (IndexedCourse course : indexedCourses.values()) {
+            newTree.insert(new Envelope(course.lon(), course.lon(), course.lat(), course.lat()), course);
+        }
+        newTree.build();
+        tree = newTree;
+    }
+}
@@ -0,0 +1,227 @@
+package com.server.running_handai.domain.course.service;
+
+import static com.server.running_handai.global.response.ResponseCode.INVALID_TILE_COORDINATE;
+
+import com.server.running_handai.domain.course.dto.CourseTileGeometryDto;
+import com.server.running_handai.domain.course.dto.TrackPointDto;
+import com.server.running_handai.domain.course.entity.TrackDetail;
+import com.server.running_handai.domain.course.event.CourseChangedEvent;
+import com.server.running_handai.domain.course.repository.CourseRepository;
+import com.server.running_handai.global.response.exception.BusinessException;
+import com.server.running_handai.global.util.MvtEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.index.strtree.STRtree;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 코스 경로와 시작점을 Mapbox Vector Tile(MVT)로 만들어 제공합니다.
+ * 저장된 상세 수준별 단순화 경로를 줌 레벨에 맞게 골라 타일 영역으로 잘라내며, 만든 타일은 타일 좌표(z/x/y)별로 캐시합니다.
+ * 코스가 변경되면 타일 캐시와 메모리에 올려둔 코스 경로를 모두 비우고, 다음 요청 시 다시 읽습니다.
+ */
+@Slf4j
+@Service
+public class CourseTileService {
+
+    public static final String COURSE_LAYER = "courses";
+    public static final String START_POINT_LAYER = "start_points";
+    private static final int MAX_ZOOM = 22;
+    private static final byte[] EMPTY_TILE = new byte[0];
+
+    private final CourseRepository courseRepository;
+    private final int maxEntries;
+
+    private final Map<TileKey, byte[]> tiles; // 접근 순서를 유지하는 LRU, this로 동기화
+    private final AtomicLong generation = new AtomicLong(); // 무효화될 때마다 증가, 무효화 이전에 만든 타일은 저장하지 않음
+    private volatile TileSource tileSource; // null이면 다음 요청 시 DB에서 다시 읽음
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public CourseTileService(
+            CourseRepository courseRepository,
+            MeterRegistry meterRegistry,
+            @Value("${course.tile-cache.max-entries:5000}") int maxEntries
+    ) {
+        this.courseRepository = courseRepository;
+        this.maxEntries = maxEntries;
+        this.tiles = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, byte[]> eldest) {
+                return size() > CourseTileService.this.maxEntries;
+            }
+        };
+
+        this.hitCounter = Counter.builder("course.tile.cache.requests")
+                .description("코스 벡터 타일 캐시 요청 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("course.tile.cache.requests")
+                .description("코스 벡터 타일 캐시 요청 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("course.tile.cache.size", this, CourseTileService::size)
+                .description("코스 벡터 타일 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    record TileKey(int z, int x, int y) {
+    }
+
+    /**
+     * 메모리에 올려둔 코스 경로와 경로 영역으로 만든 STRtree
+     */
+    private record TileSource(STRtree tree, int courseCount) {
+    }
+
+    /**
+     * 타일 좌표에 해당하는 코스 벡터 타일을 조회합니다.
+     *
+     * @param z 줌 레벨 (0 ~ 22)
+     * @param x 타일 x 좌표 (0 ~ 2^z - 1)
+     * @param y 타일 y 좌표 (0 ~ 2^z - 1)
+     * @return MVT로 인코딩된 타일, 타일 영역에 코스가 없으면 빈 배열
+     * @throws BusinessException 타일 좌표가 범위를 벗어난 경우
+     */
+    public byte[] getTile(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM || x < 0 || y < 0 || x >= (1 << z) || y >= (1 << z)) {
+            throw new BusinessException(INVALID_TILE_COORDINATE);
+        }
+
+        TileKey key = new TileKey(z, x, y);
+        byte[] cached = get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+
+        long buildGeneration = generation.get();
+        byte[] tile = buildTile(getTileSource(), key);
+        put(key, tile, buildGeneration);
+        return tile;
+    }
+
+    /**
+     * 코스가 생성, 수정, 삭제되거나 동기화되면 타일 캐시와 메모리의 코스 경로를 비웁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCourseChangedEvent(CourseChangedEvent event) {
+        int evictedCount;
+        synchronized (this) {
+            generation.incrementAndGet();
+            evictedCount = tiles.size();
+            tiles.clear();
+            tileSource = null;
+        }
+        log.info("[코스 벡터 타일] 코스 변경으로 타일 캐시 제거: courseIds={}, 제거된 타일={}", event.courseIds(), evictedCount);
+    }
+
+    public synchronized int size() {
+        return tiles.size();
+    }
+
+    private synchronized byte[] get(TileKey key) {
+        return tiles.get(key);
+    }
+
+    private synchronized void put(TileKey key, byte[] tile, long buildGeneration) {
+        if (generation.get() != buildGeneration) {
+            return; // 타일을 만드는 도중 무효화되었다면 이전 데이터일 수 있으므로 저장하지 않음
+        }
+        tiles.put(key, tile);
+    }
+
+    private TileSource getTileSource() {
+        TileSource current = tileSource;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (tileSource == null) {
+                tileSource = loadTileSource();
+            }
+            return tileSource;
+        }
+    }
+
+    private TileSource loadTileSource() {
+        List<CourseTileGeometryDto> courses = courseRepository.findAllTileGeometries();
+        STRtree tree = new STRtree();
+        for (CourseTileGeometryDto course : courses) {
+            Envelope envelope = new Envelope();
+            Point startPoint = course.startPoint();
+            if (startPoint != null && !startPoint.isEmpty()) {
+                envelope.expandToInclude(startPoint.getX(), startPoint.getY()); // (x: 경도, y: 위도)
+            }
+            List<TrackPointDto> trackPoints = course.trackPoints(TrackDetail.HIGH);
+            if (trackPoints != null) {
+                trackPoints.forEach(point -> envelope.expandToInclude(point.lon(), point.lat()));
+            }
+            if (!envelope.isNull()) {
+                tree.insert(envelope, course);
+            }
+        }
+        tree.build();
+        log.info("[코스 벡터 타일] 코스 경로 로드 완료: {}건", courses.size());
+        return new TileSource(tree, courses.size());
+    }
+
+    private byte[] buildTile(TileSource source, TileKey key) {
+        if (source.courseCount() == 0) {
+            return EMPTY_TILE;
+        }
+
+        // 타일 경계에 걸친 코스가 잘리지 않도록 버퍼만큼 넓힌 영역으로 후보를 조회
+        Envelope tileEnvelope = MvtEncoder.tileEnvelope(key.z(), key.x(), key.y());
+        Envelope searchEnvelope = new Envelope(tileEnvelope);
+        double bufferRatio = (double) MvtEncoder.DEFAULT_BUFFER / MvtEncoder.DEFAULT_EXTENT;
+        searchEnvelope.expandBy(tileEnvelope.getWidth() * bufferRatio, tileEnvelope.getHeight() * bufferRatio);
+        List<?> candidates = source.tree().query(searchEnvelope);
+        if (candidates.isEmpty()) {
+            return EMPTY_TILE;
+        }
+
+        TrackDetail detail = TrackDetail.resolve(null, key.z());
+        MvtEncoder encoder = new MvtEncoder();
+        MvtEncoder.Layer courseLayer = encoder.layer(COURSE_LAYER);
+        MvtEncoder.Layer startPointLayer = encoder.layer(START_POINT_LAYER);
+
+        for (Object candidate : candidates) {
+            CourseTileGeometryDto course = (CourseTileGeometryDto) candidate;
+            Map<String, Object> attributes = new LinkedHashMap<>();
+            attributes.put("courseId", course.courseId());
+            attributes.put("name", course.name());
+            attributes.put("distance", Math.round(course.distance()));
+
+            List<TrackPointDto> trackPoints = course.trackPoints(detail);
+            if (trackPoints != null && trackPoints.size() >= 2) {
+                double[] tileXs = new double[trackPoints.size()];
+                double[] tileYs = new double[trackPoints.size()];
+                for (int i = 0; i < trackPoints.size(); i++) {
+                    tileXs[i] = encoder.toTileX(trackPoints.get(i).lon(), key.z(), key.x());
+                    tileYs[i] = encoder.toTileY(trackPoints.get(i).lat(), key.z(), key.y());
+                }
+                courseLayer.addLineString(course.courseId(), attributes, tileXs, tileYs);
+            }
+
+            Point startPoint = course.startPoint();
+            if (startPoint != null && !startPoint.isEmpty()) {
+                startPointLayer.addPoint(course.courseId(), attributes,
+                        encoder.toTileX(startPoint.getX(), key.z(), key.x()),
+                        encoder.toTileY(startPoint.getY(), key.z(), key.y()));
+            }
+        }
+        return encoder.isEmpty() ? EMPTY_TILE : encoder.encode();
+    }
+}
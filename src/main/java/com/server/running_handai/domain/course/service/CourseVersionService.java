@@ -0,0 +1,97 @@
+package com.server.running_handai.domain.course.service;
+
+import static com.server.running_handai.global.response.ResponseCode.COURSE_NOT_FOUND;
+
+import com.server.running_handai.domain.course.dto.CourseVersionDto;
+import com.server.running_handai.domain.course.repository.CourseRepository;
+import com.server.running_handai.global.response.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 코스 상세, 요약, 즐길거리 응답의 강한(strong) ETag를 계산합니다.
+ * 응답 내용에 영향을 주는 코스 버전 정보만 한 번의 조회로 가져와 해시하므로,
+ * 클라이언트의 If-None-Match와 같으면 응답을 만드는 조회 없이 304 Not Modified로 응답할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CourseVersionService {
+
+    private static final int ETAG_HASH_LENGTH = 32; // SHA-256 hex 중 앞 16바이트만 사용
+
+    private final CourseRepository courseRepository;
+
+    /**
+     * 코스 상세 조회 응답의 ETag를 계산합니다.
+     * 코스 정보, 길 상태, 북마크 수와 회원의 북마크 여부가 응답에 포함되므로 회원 ID를 함께 반영합니다.
+     *
+     * @param courseId 코스 ID
+     * @param memberId 조회 요청한 회원 ID (비회원은 null)
+     * @param variant 같은 코스라도 응답이 달라지는 요청 옵션 (경로 상세 수준, 응답 형식 등)
+     * @return 큰따옴표로 감싼 ETag
+     * @throws BusinessException 코스를 찾지 못한 경우
+     */
+    public String getCourseDetailETag(Long courseId, Long memberId, String variant) {
+        CourseVersionDto version = findVersion(courseId);
+        return toETag("detail", version.courseId(), version.updatedAt(),
+                version.roadConditionCount(), version.lastRoadConditionId(),
+                version.bookmarkCount(), version.lastBookmarkId(), memberId, variant);
+    }
+
+    /**
+     * 코스 요약 조회 응답의 ETag를 계산합니다.
+     * 리뷰의 isMyReview가 회원마다 다르므로 회원 ID를 함께 반영하고, 리뷰에 작성자 닉네임이 포함되므로 작성자의 수정 시각도 반영합니다.
+     *
+     * @param courseId 코스 ID
+     * @param memberId 조회 요청한 회원 ID (비회원은 null)
+     * @return 큰따옴표로 감싼 ETag
+     * @throws BusinessException 코스를 찾지 못한 경우
+     */
+    public String getCourseSummaryETag(Long courseId, Long memberId) {
+        CourseVersionDto version = findVersion(courseId);
+        return toETag("summary", version.courseId(), version.updatedAt(), version.spotStatus(),
+                version.reviewCount(), version.lastReviewUpdatedAt(), version.lastWriterUpdatedAt(),
+                version.spotCount(), version.lastSpotUpdatedAt(),
+                version.spotImageCount(), version.lastSpotImageUpdatedAt(), memberId);
+    }
+
+    /**
+     * 즐길거리 전체 조회 응답의 ETag를 계산합니다.
+     *
+     * @param courseId 코스 ID
+     * @return 큰따옴표로 감싼 ETag
+     * @throws BusinessException 코스를 찾지 못한 경우
+     */
+    public String getSpotDetailETag(Long courseId) {
+        CourseVersionDto version = findVersion(courseId);
+        return toETag("spots", version.courseId(), version.updatedAt(), version.spotStatus(),
+                version.spotCount(), version.lastSpotUpdatedAt(),
+                version.spotImageCount(), version.lastSpotImageUpdatedAt());
+    }
+
+    private CourseVersionDto findVersion(Long courseId) {
+        return courseRepository.findVersionById(courseId)
+                .orElseThrow(() -> new BusinessException(COURSE_NOT_FOUND));
+    }
+
+    private String toETag(Object... values) {
+        String source = Stream.of(values)
+                .map(value -> Objects.toString(value, ""))
+                .collect(Collectors.joining("|"));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(hash).substring(0, ETAG_HASH_LENGTH) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e); // 모든 JVM에서 지원하므로 발생하지 않음
+        }
+    }
+}
@@ -1,27 +1,52 @@
 package com.server.running_handai.domain.course.service;
 
+import com.server.running_handai.domain.course.dto.ImageVariantsDto;
 import com.server.running_handai.global.response.ResponseCode;
 import com.server.running_handai.global.response.exception.BusinessException;
+import com.server.running_handai.global.util.ImageResizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
@@ -32,19 +57,55 @@ public class FileService {
     @Value("${spring.cloud.aws.region.static}")
     private String region;
 
-    @Value("${spring.cloud.aws.credentials.access-key}")
-    private String accessKey;
-
-    @Value("${spring.cloud.aws.credentials.secret-key}")
-    private String secretKey;
-
     private final S3Client s3Client;
-
-    public FileService(S3Client s3Client) {
+    private final S3AsyncClient s3AsyncClient;
+    private final S3Presigner s3Presigner;
+    private final ExecutorService uploadExecutor; // 비동기 업로드 시 업로드 스트림을 읽는 스레드 풀
+    private final MeterRegistry meterRegistry;
+    private final Duration uploadTimeout;
+    private final int presignedUrlMaxEntries;
+    private final Duration presignedUrlRefreshBefore;
+
+    private final Map<PresignedUrlKey, PresignedUrl> presignedUrls; // 접근 순서를 유지하는 LRU, this로 동기화
+
+    public FileService(
+            S3Client s3Client,
+            S3AsyncClient s3AsyncClient,
+            S3Presigner s3Presigner,
+            @Qualifier("fileUploadTaskExecutor") ThreadPoolTaskExecutor uploadTaskExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${course.file-upload.timeout:60s}") Duration uploadTimeout,
+            @Value("${course.presigned-url.max-entries:10000}") int presignedUrlMaxEntries,
+            @Value("${course.presigned-url.refresh-before:5m}") Duration presignedUrlRefreshBefore
+    ) {
         this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3Presigner = s3Presigner;
+        this.uploadExecutor = uploadTaskExecutor.getThreadPoolExecutor();
+        this.meterRegistry = meterRegistry;
+        this.uploadTimeout = uploadTimeout;
+        this.presignedUrlMaxEntries = presignedUrlMaxEntries;
+        this.presignedUrlRefreshBefore = presignedUrlRefreshBefore;
+        this.presignedUrls = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PresignedUrlKey, PresignedUrl> eldest) {
+                return size() > FileService.this.presignedUrlMaxEntries;
+            }
+        };
     }
 
     private static final String FILENAME_PATTERN = "[^A-Za-z0-9_-]";
+    private static final int URL_CONNECT_TIMEOUT_MS = 5000;
+    private static final int URL_READ_TIMEOUT_MS = 10000;
+    private static final long MAX_URL_FILE_BYTES = 20L * 1024 * 1024; // URL로 받는 파일 최대 크기 (20MB)
+    private static final int SMALL_IMAGE_WIDTH = 320; // 목록 카드용 (100px 카드를 3배율 화면까지)
+    private static final int MEDIUM_IMAGE_WIDTH = 720; // 즐길거리 카드용
+
+    private record PresignedUrlKey(String key, int minutes) {
+    }
+
+    private record PresignedUrl(String url, Instant expiresAt) {
+    }
 
     /**
      * MultipartFile을 S3 버킷에 업로드하고, 업로드된 파일의 URL을 반환합니다.
@@ -55,59 +116,167 @@ public class FileService {
      * @return 업로드된 파일의 S3 URL
      */
     public String uploadFile(MultipartFile multipartFile, String directory) {
-        String originalFileName = multipartFile.getOriginalFilename();
+        String originalFileName = getOriginalFileName(multipartFile);
+        String contentType = guessContentType(originalFileName);
+        validateFileType(originalFileName);
+        String fileName = createFileName(originalFileName, directory);
 
-        if (originalFileName == null || originalFileName.isBlank()) {
-            log.warn("[S3 파일 업로드] 파일명을 찾을 수 없어 기본값 제공");
-            originalFileName = "file";
+        try {
+            return uploadToS3(fileName, contentType, multipartFile.getInputStream(), multipartFile.getSize());
+        } catch (IOException e) {
+            log.error("[S3 파일 업로드] 업로드 실패: 파일명={}, 대상경로={}", originalFileName, fileName, e);
+            throw new BusinessException(ResponseCode.FILE_UPLOAD_FAILED);
         }
+    }
+
+    /**
+     * MultipartFile을 S3 버킷에 비동기로 업로드하고, 업로드가 끝나면 파일의 URL로 완료되는 CompletableFuture를 반환합니다.
+     * 파일 형식 검증은 호출 스레드에서 바로 수행하며, 임계값보다 큰 파일은 S3AsyncClient가 멀티파트로 나누어 병렬 업로드합니다.
+     * 업로드 결과는 {@link #awaitUpload(CompletableFuture)}로 기다립니다.
+     *
+     * @param multipartFile 업로드할 파일
+     * @param directory S3 버킷 내 디렉토리
+     * @return 업로드된 파일의 S3 URL로 완료되는 CompletableFuture
+     */
+    public CompletableFuture<String> uploadFileAsync(MultipartFile multipartFile, String directory) {
+        String originalFileName = getOriginalFileName(multipartFile);
+        String contentType = guessContentType(originalFileName);
+        validateFileType(originalFileName);
+        String fileName = createFileName(originalFileName, directory);
+
+        return putObjectAsync(multipartFile, originalFileName, fileName, contentType, directory);
+    }
+
+    /**
+     * 이미지 파일을 S3 버킷에 업로드하고, 목록 화면용 크기별 이미지(JPEG)와 블러 플레이스홀더를 함께 만들어 저장합니다.
+     * 크기별 이미지를 만들 수 없는 형식이면 원본만 저장합니다.
+     *
+     * @param multipartFile 업로드할 이미지 파일
+     * @param directory S3 버킷 내 디렉토리
+     * @return 원본과 크기별 이미지의 S3 URL, 플레이스홀더
+     */
+    public ImageVariantsDto uploadImage(MultipartFile multipartFile, String directory) {
+        String originalFileName = getOriginalFileName(multipartFile);
+        String contentType = guessContentType(originalFileName);
+        validateFileType(originalFileName);
+        String fileName = createFileName(originalFileName, directory);
+        byte[] content = readContent(multipartFile, originalFileName);
 
+        String imgUrl = uploadToS3(fileName, contentType, new ByteArrayInputStream(content), content.length);
+        return uploadVariants(content, fileName, imgUrl, false);
+    }
+
+    /**
+     * 이미지 파일을 S3 버킷에 비동기로 업로드합니다.
+     * 원본 업로드와 크기별 이미지 생성, 업로드를 동시에 진행하며, 모두 끝나면 결과로 완료되는 CompletableFuture를 반환합니다.
+     *
+     * @param multipartFile 업로드할 이미지 파일
+     * @param directory S3 버킷 내 디렉토리
+     * @return 원본과 크기별 이미지의 S3 URL, 플레이스홀더로 완료되는 CompletableFuture
+     */
+    public CompletableFuture<ImageVariantsDto> uploadImageAsync(MultipartFile multipartFile, String directory) {
+        String originalFileName = getOriginalFileName(multipartFile);
         String contentType = guessContentType(originalFileName);
         validateFileType(originalFileName);
+        String fileName = createFileName(originalFileName, directory);
+        byte[] content = readContent(multipartFile, originalFileName);
 
-        String newFileName = changeFileName(originalFileName);
-        String fileName = directory + "/" + UUID.randomUUID() + "_" + newFileName;
+        CompletableFuture<String> original = putObjectAsync(multipartFile, originalFileName, fileName, contentType, directory);
+        CompletableFuture<ImageVariantsDto> variants = CompletableFuture.supplyAsync(
+                () -> uploadVariants(content, fileName, toFileUrl(fileName), false), uploadExecutor);
 
+        // 원본 업로드에 실패하면 먼저 저장한 크기별 이미지 삭제
+        original.whenComplete((imgUrl, throwable) -> {
+            if (throwable != null) {
+                variants.thenAccept(image -> deleteQuietly(image.fileUrls()));
+            }
+        });
+        return original.thenCombine(variants, (imgUrl, image) -> image);
+    }
+
+    /**
+     * 비동기 업로드가 끝날 때까지 최대 timeout 동안 기다리고, 업로드 결과를 반환합니다.
+     *
+     * @param upload {@link #uploadFileAsync(MultipartFile, String)}, {@link #uploadImageAsync(MultipartFile, String)}가 반환한 CompletableFuture
+     * @return 업로드된 파일의 S3 URL 또는 이미지 업로드 결과
+     */
+    public <T> T awaitUpload(CompletableFuture<T> upload) {
         try {
-            return uploadToS3(fileName, contentType, multipartFile.getInputStream(), multipartFile.getSize());
-        } catch (IOException e) {
-            log.error("[S3 파일 업로드] 업로드 실패: 파일명={}, 대상경로={}", originalFileName, fileName, e);
+            return upload.get(uploadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ResponseCode.FILE_UPLOAD_FAILED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(ResponseCode.FILE_UPLOAD_FAILED);
+        } catch (TimeoutException e) {
+            log.error("[S3 파일 업로드] 업로드 대기 시간 초과: timeout={}", uploadTimeout);
             throw new BusinessException(ResponseCode.FILE_UPLOAD_FAILED);
         }
     }
 
     /**
-     * 이미지 URL을 통해 파일을 S3 버킷에 업로드하고, 업로드된 파일의 URL을 반환합니다.
-     * 파일에 따라 디렉토리로 구분하여 저장합니다. (예: gpx, image)
+     * 현재 트랜잭션이 롤백되면 비동기 업로드된 파일을 삭제하도록 등록합니다.
+     * 업로드가 아직 진행 중이면 완료된 뒤 삭제하며, 트랜잭션이 없으면 아무것도 하지 않습니다.
+     *
+     * @param upload {@link #uploadFileAsync(MultipartFile, String)}, {@link #uploadImageAsync(MultipartFile, String)}가 반환한 CompletableFuture
+     */
+    public void deleteOnRollback(CompletableFuture<?> upload) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                upload.thenAccept(result -> {
+                    List<String> fileUrls = switch (result) {
+                        case ImageVariantsDto image -> image.fileUrls();
+                        case String fileUrl -> List.of(fileUrl);
+                        default -> List.of();
+                    };
+                    log.info("[S3 파일 업로드] 트랜잭션 롤백으로 업로드 파일 삭제: fileUrls={}", fileUrls);
+                    deleteQuietly(fileUrls);
+                });
+            }
+        });
+    }
+
+    /**
+     * 이미지 URL의 파일을 내려받아 내용의 SHA-256 해시를 파일 이름으로 S3 버킷에 업로드하고, 크기별 이미지와 함께 S3 URL을 반환합니다.
+     * 같은 내용의 파일은 같은 경로에 저장되므로, 이미 저장된 파일이면 업로드하지 않고 기존 파일의 URL을 반환합니다.
+     * 여러 곳에서 같은 파일을 참조할 수 있으므로, 삭제 전에 다른 참조가 없는지 호출하는 쪽에서 확인해야 합니다.
      *
      * @param fileUrl 이미지 URL
      * @param directory S3 버킷 내 디렉토리
-     * @return 업로드된 파일의 S3 URL
+     * @return 원본과 크기별 이미지의 S3 URL, 플레이스홀더
      */
-    public String uploadFileByUrl(String fileUrl, String directory) {
+    public ImageVariantsDto uploadImageByUrlDeduplicated(String fileUrl, String directory) {
         try {
             URL url = new URL(fileUrl);
             String path = url.getPath();
             String originalFileName = path.substring(path.lastIndexOf('/') + 1);
 
-            if (originalFileName.isBlank()) {
-                log.warn("[S3 파일 업로드] 파일명을 찾을 수 없어 기본값 제공");
-                originalFileName = "file";
-            }
-
             String contentType = guessContentType(originalFileName);
             validateFileType(originalFileName);
 
-            String newFileName = changeFileName(originalFileName);
-            String fileName = directory + "/" + UUID.randomUUID() + "_" + newFileName;
-
-            HttpURLConnection httpURLConnection = (HttpURLConnection) url.openConnection();
-            httpURLConnection.setRequestMethod("GET");
-            httpURLConnection.connect();
+            byte[] content = download(url);
+            String extension = originalFileName.substring(originalFileName.lastIndexOf('.')).toLowerCase();
+            String fileName = directory + "/" + sha256Hex(content) + extension;
 
-            try (InputStream inputStream = httpURLConnection.getInputStream()) {
-                return uploadToS3(fileName, contentType, inputStream, httpURLConnection.getContentLengthLong());
+            String imgUrl;
+            if (existsInS3(fileName)) {
+                log.info("[S3 파일 업로드] 같은 내용의 파일이 이미 있어 업로드 생략: fileUrl={}, key={}", fileUrl, fileName);
+                imgUrl = toFileUrl(fileName);
+            } else {
+                imgUrl = uploadToS3(fileName, contentType, new ByteArrayInputStream(content), content.length);
             }
+            return uploadVariants(content, fileName, imgUrl, true);
         } catch (IOException e) {
             log.error("[S3 파일 업로드] 업로드 실패: fileUrl={}, error={}", fileUrl, e.getMessage(), e);
             throw new BusinessException(ResponseCode.FILE_UPLOAD_FAILED);
@@ -117,6 +286,7 @@ public class FileService {
     /**
      * S3 버킷에 저장된 파일의 Presigned GET URL을 발급합니다.
      * URL은 지정한 유효 시간 동안만 접근 가능합니다.
+     * 발급한 URL은 파일별로 캐시하여 만료되기 직전(refresh-before)까지 그대로 반환하므로, 반환된 URL의 남은 유효 시간은 그보다 짧지 않습니다.
      *
      * @param fileUrl DB에 저장된 S3 파일 URL
      * @param minutes Presigned URL 유효 시간
@@ -125,16 +295,17 @@ public class FileService {
     public String getPresignedGetUrl(String fileUrl, int minutes) {
         Duration duration = Duration.ofMinutes(minutes);
         String key = extractKeyFromUrl(fileUrl);
+        PresignedUrlKey cacheKey = new PresignedUrlKey(key, minutes);
 
-        try (S3Presigner s3Presigner = S3Presigner.builder()
-                .region(Region.of(region))
-                .credentialsProvider(
-                        StaticCredentialsProvider.create(
-                                AwsBasicCredentials.create(accessKey, secretKey)
-                        )
-                )
-                .build()) {
+        Instant now = Instant.now();
+        synchronized (this) {
+            PresignedUrl cached = presignedUrls.get(cacheKey);
+            if (cached != null && now.isBefore(cached.expiresAt().minus(presignedUrlRefreshBefore))) {
+                return cached.url();
+            }
+        }
 
+        try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
@@ -145,9 +316,13 @@ public class FileService {
                     .getObjectRequest(getObjectRequest)
                     .build();
 
-            URL presignedUrl = s3Presigner.presignGetObject(getObjectPresignRequest).url();
+            PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(getObjectPresignRequest);
+            String presignedUrl = presignedRequest.url().toString();
             log.info("[S3 presigned URL 발급] 성공: key={}, url={}", key, presignedUrl);
-            return presignedUrl.toString();
+            synchronized (this) {
+                presignedUrls.put(cacheKey, new PresignedUrl(presignedUrl, presignedRequest.expiration()));
+            }
+            return presignedUrl;
         } catch (Exception e) {
             log.error("[S3 presigned URL 발급] 실패: key={}, duration={}분", key, minutes, e);
             throw new BusinessException(ResponseCode.PRESIGEND_URL_FAILED);
@@ -169,6 +344,9 @@ public class FileService {
                     .build();
 
             s3Client.deleteObject(deleteObjectRequest);
+            synchronized (this) {
+                presignedUrls.keySet().removeIf(cacheKey -> cacheKey.key().equals(key)); // 삭제된 파일의 URL은 더 이상 반환하지 않음
+            }
         } catch (Exception e) {
             log.error("[S3 파일 삭제] 삭제 실패: key={}", key);
             throw new BusinessException(ResponseCode.FILE_DELETE_FAILED);
@@ -272,11 +450,187 @@ public class FileService {
                 .contentType(contentType)
                 .build();
 
-        s3Client.putObject(
-                putObjectRequest,
-                software.amazon.awssdk.core.sync.RequestBody.fromInputStream(inputStream, contentLength)
-        );
+        long startTime = System.nanoTime();
+        boolean success = false;
+        try {
+            s3Client.putObject(
+                    putObjectRequest,
+                    software.amazon.awssdk.core.sync.RequestBody.fromInputStream(inputStream, contentLength)
+            );
+            success = true;
+        } finally {
+            recordUpload(fileName.substring(0, fileName.indexOf('/')), "sync", success, startTime);
+        }
+
+        return toFileUrl(fileName);
+    }
+
+    /**
+     * URL의 파일을 최대 크기까지 메모리로 내려받습니다.
+     *
+     * @param url 파일 URL
+     * @return 파일 내용
+     */
+    private byte[] download(URL url) throws IOException {
+        HttpURLConnection httpURLConnection = (HttpURLConnection) url.openConnection();
+        httpURLConnection.setRequestMethod("GET");
+        httpURLConnection.setConnectTimeout(URL_CONNECT_TIMEOUT_MS);
+        httpURLConnection.setReadTimeout(URL_READ_TIMEOUT_MS);
+        httpURLConnection.connect();
+
+        try (InputStream inputStream = httpURLConnection.getInputStream()) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            long totalBytes = 0;
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                totalBytes += read;
+                if (totalBytes > MAX_URL_FILE_BYTES) {
+                    throw new IOException("파일 크기가 최대 크기를 넘습니다: " + url);
+                }
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            httpURLConnection.disconnect();
+        }
+    }
 
+    private String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * S3 버킷에 해당 key의 파일이 있는지 확인합니다.
+     *
+     * @param fileName S3에 저장된 파일 이름
+     * @return 파일이 있으면 true, 없으면 false
+     */
+    private boolean existsInS3(String fileName) {
+        try {
+            s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(fileName)
+                    .build());
+            return true;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * MultipartFile을 S3AsyncClient로 업로드하고, 업로드가 끝나면 파일의 URL로 완료되는 CompletableFuture를 반환합니다.
+     */
+    private CompletableFuture<String> putObjectAsync(MultipartFile multipartFile, String originalFileName, String fileName,
+                                                     String contentType, String directory) {
+        InputStream inputStream;
+        try {
+            inputStream = multipartFile.getInputStream();
+        } catch (IOException e) {
+            log.error("[S3 파일 업로드] 업로드 실패: 파일명={}, 대상경로={}", originalFileName, fileName, e);
+            throw new BusinessException(ResponseCode.FILE_UPLOAD_FAILED);
+        }
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(fileName)
+                .contentType(contentType)
+                .build();
+
+        long startTime = System.nanoTime();
+        return s3AsyncClient.putObject(
+                        putObjectRequest,
+                        AsyncRequestBody.fromInputStream(inputStream, multipartFile.getSize(), uploadExecutor)
+                )
+                .handle((response, throwable) -> {
+                    closeQuietly(inputStream);
+                    recordUpload(directory, "async", throwable == null, startTime);
+                    if (throwable != null) {
+                        log.error("[S3 파일 업로드] 비동기 업로드 실패: 파일명={}, 대상경로={}", originalFileName, fileName, throwable);
+                        throw new BusinessException(ResponseCode.FILE_UPLOAD_FAILED);
+                    }
+                    return toFileUrl(fileName);
+                });
+    }
+
+    private byte[] readContent(MultipartFile multipartFile, String originalFileName) {
+        try {
+            return multipartFile.getBytes();
+        } catch (IOException e) {
+            log.error("[S3 파일 업로드] 파일 읽기 실패: 파일명={}", originalFileName, e);
+            throw new BusinessException(ResponseCode.FILE_UPLOAD_FAILED);
+        }
+    }
+
+    /**
+     * 원본 이미지로 크기별 이미지(JPEG)와 블러 플레이스홀더를 만들고, 크기별 이미지를 원본 옆 경로에 저장합니다. (예: image/uuid_file_w320.jpg)
+     * 원본이 목표 너비보다 좁으면 원본 URL을 그대로 사용하며, 이미지를 읽을 수 없거나 실패하면 원본만 반환합니다.
+     *
+     * @param content 원본 이미지 내용
+     * @param fileName 원본 이미지가 저장된 S3 파일 이름
+     * @param imgUrl 원본 이미지의 S3 URL
+     * @param skipExisting 같은 경로의 파일이 이미 있으면 업로드를 생략할지 여부 (내용 해시로 저장한 파일용)
+     * @return 원본과 크기별 이미지의 S3 URL, 플레이스홀더
+     */
+    private ImageVariantsDto uploadVariants(byte[] content, String fileName, String imgUrl, boolean skipExisting) {
+        try {
+            BufferedImage image = ImageResizer.read(content);
+            if (image == null) {
+                log.info("[S3 파일 업로드] 크기별 이미지를 만들 수 없는 형식이라 원본만 저장: key={}", fileName);
+                return ImageVariantsDto.original(imgUrl);
+            }
+
+            String baseName = fileName.substring(0, fileName.lastIndexOf('.'));
+            return new ImageVariantsDto(
+                    imgUrl,
+                    uploadVariant(image, baseName, SMALL_IMAGE_WIDTH, imgUrl, skipExisting),
+                    uploadVariant(image, baseName, MEDIUM_IMAGE_WIDTH, imgUrl, skipExisting),
+                    ImageResizer.toPlaceholder(image)
+            );
+        } catch (IOException | RuntimeException e) {
+            log.warn("[S3 파일 업로드] 크기별 이미지 생성 실패, 원본만 저장: key={}, error={}", fileName, e.getMessage());
+            return ImageVariantsDto.original(imgUrl);
+        }
+    }
+
+    private String uploadVariant(BufferedImage image, String baseName, int width, String imgUrl, boolean skipExisting) throws IOException {
+        if (image.getWidth() <= width) {
+            return imgUrl;
+        }
+
+        String variantFileName = baseName + "_w" + width + ".jpg";
+        if (skipExisting && existsInS3(variantFileName)) {
+            return toFileUrl(variantFileName);
+        }
+
+        byte[] variant = ImageResizer.resizeToJpeg(image, width);
+        return uploadToS3(variantFileName, "image/jpeg", new ByteArrayInputStream(variant), variant.length);
+    }
+
+    private void deleteQuietly(List<String> fileUrls) {
+        for (String fileUrl : fileUrls) {
+            try {
+                deleteFile(fileUrl);
+            } catch (BusinessException e) {
+                log.warn("[S3 파일 삭제] 삭제 실패: fileUrl={}", fileUrl);
+            }
+        }
+    }
+
+    /**
+     * S3에 저장된 파일 이름으로 파일 URL을 만듭니다.
+     *
+     * @param fileName S3에 저장된 파일 이름
+     * @return S3 파일 URL
+     */
+    private String toFileUrl(String fileName) {
         return String.format(
                 "https://%s.s3.%s.amazonaws.com/%s",
                 bucket,
@@ -284,4 +638,51 @@ public class FileService {
                 fileName
         );
     }
+
+    /**
+     * MultipartFile의 원본 파일명을 반환합니다. 파일명이 없으면 기본값(file)을 사용합니다.
+     *
+     * @param multipartFile 업로드할 파일
+     * @return 원본 파일명
+     */
+    private String getOriginalFileName(MultipartFile multipartFile) {
+        String originalFileName = multipartFile.getOriginalFilename();
+
+        if (originalFileName == null || originalFileName.isBlank()) {
+            log.warn("[S3 파일 업로드] 파일명을 찾을 수 없어 기본값 제공");
+            originalFileName = "file";
+        }
+        return originalFileName;
+    }
+
+    /**
+     * S3에 저장할 파일 이름을 만듭니다. (디렉토리/UUID_파일명)
+     *
+     * @param originalFileName 원본 파일명
+     * @param directory S3 버킷 내 디렉토리
+     * @return S3에 저장할 파일 이름
+     */
+    private String createFileName(String originalFileName, String directory) {
+        return directory + "/" + UUID.randomUUID() + "_" + changeFileName(originalFileName);
+    }
+
+    /**
+     * 업로드 소요 시간을 디렉토리, 업로드 방식, 결과별로 기록합니다.
+     */
+    private void recordUpload(String directory, String mode, boolean success, long startTime) {
+        Timer.builder("course.file.upload")
+                .tag("directory", directory)
+                .tag("mode", mode)
+                .tag("result", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    private void closeQuietly(InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (IOException e) {
+            log.warn("[S3 파일 업로드] 업로드 스트림 닫기 실패", e);
+        }
+    }
 }
@@ -0,0 +1,479 @@
+package com.server.running_handai.domain.course.service;
+
+import static com.server.running_handai.global.response.ResponseCode.FAIL_TO_FETCH_IMAGE;
+import static com.server.running_handai.global.response.ResponseCode.INVALID_IMAGE_PROXY_URL;
+
+import com.server.running_handai.global.response.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 이미지(카카오 지도 이미지 등)를 대신 요청하여 반환하는 이미지 프록시입니다.
+ * 허용된 호스트의 이미지만 요청하며, 받은 이미지는 메모리에 올리지 않고 디스크에 바로 저장한 뒤 URL별로 캐시합니다.
+ * 작은 이미지는 메모리에도 함께 캐시하고, 디스크/메모리 모두 최대 용량을 넘으면 가장 오래 사용하지 않은 이미지부터 제거합니다.
+ * 캐시 유지 시간이 지난 이미지는 ETag, Last-Modified로 조건부 요청을 보내 변경되지 않았으면(304) 그대로 사용합니다.
+ * 같은 URL을 동시에 요청하면 원본 서버에는 한 번만 요청하고 나머지 요청은 그 결과를 기다립니다.
+ * 캐시 목록은 메모리에만 유지하므로, 서버 시작 시 캐시 디렉터리에서 이 서비스가 만든 이전 캐시 파일(URL 해시, 임시 파일)만 삭제합니다.
+ */
+@Slf4j
+@Service
+public class ImageProxyService {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final Pattern CACHE_FILE_NAME = Pattern.compile("[0-9a-f]{64}(\\d*\\.tmp)?"); // URL 해시, 또는 URL 해시로 시작하는 임시 파일
+
+    private final RestTemplate restTemplate;
+    private final List<String> allowedHosts;
+    private final Path cacheDir;
+    private final long maxDiskBytes;
+    private final long maxMemoryBytes;
+    private final long maxMemoryImageBytes;
+    private final long maxImageBytes;
+    private final long revalidateAfterMillis;
+
+    private final Map<String, CachedImage> images; // URL 해시 -> 디스크에 저장된 이미지, 접근 순서를 유지하는 LRU, this로 동기화
+    private final Map<String, byte[]> memoryImages; // URL 해시 -> 작은 이미지 본문, 접근 순서를 유지하는 LRU, this로 동기화
+    private long diskBytes;
+    private long memoryBytes;
+    private final Map<String, CompletableFuture<ProxiedImage>> inFlight = new ConcurrentHashMap<>(); // 원본 서버에 요청 중인 URL 해시
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter revalidatedCounter;
+    private final Counter staleCounter;
+
+    @Autowired
+    public ImageProxyService(
+            MeterRegistry meterRegistry,
+            @Value("${course.image-proxy.allowed-hosts:daumcdn.net,daum.net,kakaocdn.net,kakao.com}") List<String> allowedHosts,
+            @Value("${course.image-proxy.cache-dir:${java.io.tmpdir}/running-handai/image-proxy}") Path cacheDir,
+            @Value("${course.image-proxy.max-disk-bytes:536870912}") long maxDiskBytes,
+            @Value("${course.image-proxy.max-memory-bytes:33554432}") long maxMemoryBytes,
+            @Value("${course.image-proxy.max-memory-image-bytes:262144}") long maxMemoryImageBytes,
+            @Value("${course.image-proxy.max-image-bytes:5242880}") long maxImageBytes,
+            @Value("${course.image-proxy.revalidate-after:7d}") Duration revalidateAfter
+    ) {
+        this(createRestTemplate(), meterRegistry, allowedHosts, cacheDir, maxDiskBytes, maxMemoryBytes,
+                maxMemoryImageBytes, maxImageBytes, revalidateAfter);
+    }
+
+    ImageProxyService(
+            RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            List<String> allowedHosts,
+            Path cacheDir,
+            long maxDiskBytes,
+            long maxMemoryBytes,
+            long maxMemoryImageBytes,
+            long maxImageBytes,
+            Duration revalidateAfter
+    ) {
+        this.restTemplate = restTemplate;
+        this.allowedHosts = allowedHosts.stream()
+                .map(host -> host.trim().toLowerCase(Locale.ROOT))
+                .filter(host -> !host.isEmpty())
+                .toList();
+        this.cacheDir = cacheDir;
+        this.maxDiskBytes = maxDiskBytes;
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxMemoryImageBytes = maxMemoryImageBytes;
+        this.maxImageBytes = maxImageBytes;
+        this.revalidateAfterMillis = revalidateAfter.toMillis();
+        this.images = new LinkedHashMap<>(16, 0.75f, true);
+        this.memoryImages = new LinkedHashMap<>(16, 0.75f, true);
+        clearCacheDir();
+
+        this.hitCounter = Counter.builder("course.image-proxy.requests")
+                .description("이미지 프록시 요청 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("course.image-proxy.requests")
+                .description("이미지 프록시 요청 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.revalidatedCounter = Counter.builder("course.image-proxy.requests")
+                .description("이미지 프록시 요청 수")
+                .tag("result", "revalidated")
+                .register(meterRegistry);
+        this.staleCounter = Counter.builder("course.image-proxy.requests")
+                .description("이미지 프록시 요청 수")
+                .tag("result", "stale")
+                .register(meterRegistry);
+        Gauge.builder("course.image-proxy.cache.disk-bytes", this, ImageProxyService::getDiskBytes)
+                .description("이미지 프록시 디스크 캐시 사용량")
+                .register(meterRegistry);
+        Gauge.builder("course.image-proxy.cache.memory-bytes", this, ImageProxyService::getMemoryBytes)
+                .description("이미지 프록시 메모리 캐시 사용량")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리다이렉트를 따라가지 않는 이미지 프록시 전용 RestTemplate을 생성합니다. (허용되지 않은 호스트로 우회 방지)
+     * JDK HttpClient는 연결을 재사용하므로 같은 호스트로의 반복 요청에 매번 새로 연결하지 않습니다.
+     */
+    private static RestTemplate createRestTemplate() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(READ_TIMEOUT);
+        return new RestTemplate(requestFactory);
+    }
+
+    /**
+     * 프록시로 반환할 이미지
+     *
+     * @param eTag 이미지 본문으로 만든 ETag (클라이언트 조건부 요청 비교용)
+     * @param memoryBody 메모리에 캐시된 이미지 본문 (디스크에만 있으면 null)
+     * @param file 디스크에 저장된 이미지 파일
+     */
+    public record ProxiedImage(String eTag, MediaType contentType, long contentLength, byte[] memoryBody, Path file) {
+
+        /**
+         * 이미지 본문을 반환합니다. 디스크에만 있는 이미지는 파일을 스트림으로 열어 힙에 올리지 않고 전송합니다.
+         *
+         * @throws BusinessException 반환 직전에 캐시에서 제거되어 파일이 없는 경우
+         */
+        public Resource openBody() {
+            if (memoryBody != null) {
+                return new ByteArrayResource(memoryBody);
+            }
+            try {
+                return new InputStreamResource(Files.newInputStream(file));
+            } catch (IOException e) {
+                throw new BusinessException(FAIL_TO_FETCH_IMAGE);
+            }
+        }
+    }
+
+    private record CachedImage(String eTag, MediaType contentType, long size, String upstreamETag,
+                               String upstreamLastModified, long validatedAt) {
+    }
+
+    private enum FetchResult { NOT_MODIFIED, DOWNLOADED }
+
+    /**
+     * 이미지를 캐시에서 찾아 반환하고, 없거나 재검증 시각이 지났으면 원본 서버에 요청합니다.
+     * 같은 URL을 요청 중인 다른 요청이 있으면 원본 서버에 다시 요청하지 않고 그 결과를 기다립니다.
+     *
+     * @param url 이미지 URL
+     * @return 프록시로 반환할 이미지
+     * @throws BusinessException 허용되지 않은 URL이거나, 캐시에 없는 이미지를 받아오지 못한 경우
+     */
+    public ProxiedImage getImage(String url) {
+        URI uri = validateUrl(url);
+        String key = sha256Hex(url.getBytes(StandardCharsets.UTF_8));
+
+        ProxiedImage fresh = getFresh(key);
+        if (fresh != null) {
+            return fresh;
+        }
+
+        // 같은 URL을 요청 중인 요청이 있으면 그 결과를 기다림
+        CompletableFuture<ProxiedImage> loading = new CompletableFuture<>();
+        CompletableFuture<ProxiedImage> existing = inFlight.putIfAbsent(key, loading);
+        if (existing != null) {
+            return awaitInFlight(existing);
+        }
+
+        try {
+            // 캐시를 확인한 뒤 먼저 요청하던 요청이 끝났을 수 있으므로 다시 확인
+            ProxiedImage image = getFresh(key);
+            if (image == null) {
+                image = fetch(uri, url, key);
+            }
+            loading.complete(image);
+            return image;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, loading);
+            loading.completeExceptionally(new BusinessException(FAIL_TO_FETCH_IMAGE)); // 예상하지 못한 오류로 끝나도 기다리는 요청이 멈추지 않도록 함
+        }
+    }
+
+    /**
+     * 재검증 시각이 지나지 않은 캐시된 이미지를 반환하고, 없으면 null을 반환합니다.
+     */
+    private ProxiedImage getFresh(String key) {
+        CachedImage cached = getCached(key);
+        if (cached != null && System.currentTimeMillis() - cached.validatedAt() < revalidateAfterMillis) {
+            hitCounter.increment();
+            return toProxiedImage(key, cached);
+        }
+        return null;
+    }
+
+    private ProxiedImage awaitInFlight(CompletableFuture<ProxiedImage> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(FAIL_TO_FETCH_IMAGE);
+        }
+    }
+
+    /**
+     * 원본 서버에 이미지를 요청하고, 재검증 요청이 실패하면 캐시된 이미지를 그대로 반환합니다.
+     */
+    private ProxiedImage fetch(URI uri, String url, String key) {
+        CachedImage cached = getCached(key);
+        long now = System.currentTimeMillis();
+        try {
+            if (download(uri, key, cached) == FetchResult.NOT_MODIFIED) {
+                revalidatedCounter.increment();
+                CachedImage revalidated = new CachedImage(cached.eTag(), cached.contentType(), cached.size(),
+                        cached.upstreamETag(), cached.upstreamLastModified(), now);
+                return toProxiedImage(key, replaceMetadata(key, revalidated));
+            }
+            missCounter.increment();
+            return toProxiedImage(key, getCached(key));
+        } catch (RestClientException | IOException e) {
+            if (cached != null) {
+                staleCounter.increment();
+                log.warn("[이미지 프록시] 재검증 실패, 캐시된 이미지 반환: url={}, error={}", url, e.getMessage());
+                return toProxiedImage(key, cached);
+            }
+            log.error("[이미지 프록시] 이미지 다운로드 실패: url={}", url, e);
+            throw new BusinessException(FAIL_TO_FETCH_IMAGE);
+        }
+    }
+
+    /**
+     * http(s) URL이고 호스트가 허용 목록의 도메인(또는 그 하위 도메인)인지 확인합니다.
+     */
+    private URI validateUrl(String url) {
+        try {
+            URI uri = new URI(url);
+            String scheme = uri.getScheme();
+            String host = uri.getHost();
+            if (scheme == null || host == null || uri.getUserInfo() != null
+                    || !(scheme.equalsIgnoreCase("https") || scheme.equalsIgnoreCase("http"))) {
+                throw new BusinessException(INVALID_IMAGE_PROXY_URL);
+            }
+            String normalizedHost = host.toLowerCase(Locale.ROOT);
+            boolean allowed = allowedHosts.stream()
+                    .anyMatch(allowedHost -> normalizedHost.equals(allowedHost) || normalizedHost.endsWith("." + allowedHost));
+            if (!allowed) {
+                throw new BusinessException(INVALID_IMAGE_PROXY_URL);
+            }
+            return uri;
+        } catch (URISyntaxException e) {
+            throw new BusinessException(INVALID_IMAGE_PROXY_URL);
+        }
+    }
+
+    /**
+     * 원본 서버에 이미지를 요청하여 본문을 임시 파일로 스트리밍한 뒤 캐시 파일로 옮깁니다.
+     * 캐시된 이미지가 있으면 조건부 요청을 보내고, 변경되지 않았으면(304) 본문을 받지 않습니다.
+     */
+    private FetchResult download(URI uri, String key, CachedImage cached) throws IOException {
+        Path tempFile = Files.createTempFile(cacheDir, key, TEMP_FILE_SUFFIX);
+        try {
+            return restTemplate.execute(uri, HttpMethod.GET,
+                    request -> {
+                        request.getHeaders().setAccept(List.of(MediaType.parseMediaType("image/*")));
+                        if (cached != null && cached.upstreamETag() != null) {
+                            request.getHeaders().setIfNoneMatch(cached.upstreamETag());
+                        }
+                        if (cached != null && cached.upstreamLastModified() != null) {
+                            request.getHeaders().set(HttpHeaders.IF_MODIFIED_SINCE, cached.upstreamLastModified());
+                        }
+                    },
+                    response -> readResponse(response, key, tempFile, cached));
+        } finally {
+            Files.deleteIfExists(tempFile); // 실패했거나 304인 경우 남은 임시 파일 삭제
+        }
+    }
+
+    private FetchResult readResponse(ClientHttpResponse response, String key, Path tempFile, CachedImage cached)
+            throws IOException {
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED) && cached != null) {
+            return FetchResult.NOT_MODIFIED;
+        }
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            throw new IOException("원본 서버 응답 오류: " + response.getStatusCode());
+        }
+        MediaType contentType = response.getHeaders().getContentType();
+        if (contentType == null || !contentType.getType().equalsIgnoreCase("image")) {
+            throw new IOException("이미지가 아닌 응답: " + contentType);
+        }
+
+        // 본문을 고정 크기 버퍼로 임시 파일에 옮겨 적으면서 ETag용 해시를 함께 계산
+        MessageDigest digest = newSha256();
+        long size = 0;
+        try (InputStream body = new DigestInputStream(response.getBody(), digest);
+             OutputStream out = Files.newOutputStream(tempFile)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                size += read;
+                if (size > maxImageBytes) {
+                    throw new IOException("이미지 크기 제한 초과: " + maxImageBytes + " bytes");
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+
+        byte[] memoryBody = (size <= maxMemoryImageBytes) ? Files.readAllBytes(tempFile) : null;
+        Files.move(tempFile, cacheDir.resolve(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        String eTag = "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        CachedImage image = new CachedImage(eTag, contentType, size, response.getHeaders().getETag(),
+                response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED), System.currentTimeMillis());
+        putCached(key, image, memoryBody);
+        return FetchResult.DOWNLOADED;
+    }
+
+    private ProxiedImage toProxiedImage(String key, CachedImage image) {
+        byte[] memoryBody;
+        synchronized (this) {
+            memoryBody = memoryImages.get(key);
+        }
+        return new ProxiedImage(image.eTag(), image.contentType(), image.size(), memoryBody, cacheDir.resolve(key));
+    }
+
+    private synchronized CachedImage getCached(String key) {
+        return images.get(key);
+    }
+
+    private synchronized CachedImage replaceMetadata(String key, CachedImage image) {
+        if (images.containsKey(key)) {
+            images.put(key, image);
+        }
+        return image;
+    }
+
+    /**
+     * 캐시 목록에 이미지를 등록하고, 최대 용량을 넘으면 가장 오래 사용하지 않은 이미지부터 제거합니다.
+     * 파일은 등록 전에 캐시 경로로 옮겨 두며, 같은 키를 교체하는 경우 기존 파일은 덮어씁니다.
+     */
+    private synchronized void putCached(String key, CachedImage image, byte[] memoryBody) {
+        CachedImage previous = images.put(key, image);
+        if (previous != null) {
+            diskBytes -= previous.size();
+        }
+        diskBytes += image.size();
+        byte[] previousBody = (memoryBody != null) ? memoryImages.put(key, memoryBody) : memoryImages.remove(key);
+        if (previousBody != null) {
+            memoryBytes -= previousBody.length;
+        }
+        if (memoryBody != null) {
+            memoryBytes += memoryBody.length;
+        }
+
+        Iterator<Map.Entry<String, CachedImage>> diskIterator = images.entrySet().iterator();
+        while (diskBytes > maxDiskBytes && diskIterator.hasNext()) {
+            Map.Entry<String, CachedImage> eldest = diskIterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            diskIterator.remove();
+            diskBytes -= eldest.getValue().size();
+            byte[] evictedBody = memoryImages.remove(eldest.getKey());
+            if (evictedBody != null) {
+                memoryBytes -= evictedBody.length;
+            }
+            deleteQuietly(cacheDir.resolve(eldest.getKey()));
+        }
+
+        Iterator<Map.Entry<String, byte[]>> memoryIterator = memoryImages.entrySet().iterator();
+        while (memoryBytes > maxMemoryBytes && memoryIterator.hasNext()) {
+            memoryBytes -= memoryIterator.next().getValue().length;
+            memoryIterator.remove(); // 디스크에는 남아 있으므로 파일로 반환
+        }
+    }
+
+    public synchronized long getDiskBytes() {
+        return diskBytes;
+    }
+
+    public synchronized long getMemoryBytes() {
+        return memoryBytes;
+    }
+
+    /**
+     * 캐시 디렉터리를 만들고, 이전 실행에서 남은 캐시 파일을 삭제합니다.
+     * 캐시 디렉터리가 다른 용도와 공유되어도 안전하도록 이 서비스의 파일 이름 형식과 일치하는 파일만 삭제합니다.
+     */
+    private void clearCacheDir() {
+        try {
+            Files.createDirectories(cacheDir);
+            try (var files = Files.list(cacheDir)) {
+                files.filter(file -> Files.isRegularFile(file)
+                                && CACHE_FILE_NAME.matcher(file.getFileName().toString()).matches())
+                        .forEach(this::deleteQuietly);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("이미지 프록시 캐시 디렉터리를 준비하지 못했습니다: " + cacheDir, e);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (NoSuchFileException ignored) {
+            // 이미 삭제됨
+        } catch (IOException e) {
+            log.warn("[이미지 프록시] 캐시 파일 삭제 실패: {}", file, e);
+        }
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        return HexFormat.of().formatHex(newSha256().digest(bytes));
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 지원하지 않는 환경입니다.", e);
+        }
+    }
+}
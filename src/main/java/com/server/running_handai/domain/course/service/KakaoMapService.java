@@ -1,8 +1,10 @@
 package com.server.running_handai.domain.course.service;
 
+import com.server.running_handai.domain.course.entity.GeocodeType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.web.client.RestTemplate;
@@ -15,6 +17,7 @@ import org.springframework.stereotype.Service;
 public class KakaoMapService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ReverseGeocodeCache reverseGeocodeCache;
 
     @Value("${spring.security.oauth2.client.registration.kakao.client-id}")
     private String kakaoApiKey;
@@ -29,48 +32,34 @@ public class KakaoMapService {
 
     /**
      * 주어진 위도(latitude), 경도(longitude) 좌표로부터 카카오 지도 API를 통해 주소 정보를 조회합니다.
+     * 약 50m 격자 단위로 캐시된 결과를 우선 사용합니다. (ReverseGeocodeCache)
      *
      * @param longitude 경도 (x)
      * @param latitude 위도 (y)
      * @return 주소 정보가 담긴 JsonNode (성공 시 documents[0]), 없거나 파싱 실패시 null
      */
     public JsonNode getAddressFromCoordinate(double longitude, double latitude) {
+        return reverseGeocodeCache.getOrLoad(GeocodeType.ADDRESS, longitude, latitude, this::requestAddress);
+    }
+
+    private JsonNode requestAddress(double longitude, double latitude) throws JsonProcessingException {
         String requestUrl = addressRequestUrl
                 + "?x=" + longitude
                 + "&y=" + latitude
                 + "&input_coord=WGS84"; // 좌표계 (기본값)
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    requestUrl,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
+        JsonNode root = objectMapper.readTree(exchange(requestUrl));
 
-            JsonNode root = objectMapper.readTree(response.getBody());
+        // documents 안에 도로명 주소(road_address)와 지번 주소(address)가 포함되어 응답
+        JsonNode documents = root.path("documents");
 
-            // documents 안에 도로명 주소(road_address)와 지번 주소(address)가 포함되어 응답
-            JsonNode documents = root.path("documents");
-
-            // 도로명 주소(road_address)는 좌표에 따라 반환되지 않을 수 있기 때문에 지번 주소(address)를 기준으로 함
-            if (documents.isArray() && !documents.isEmpty()) {
-                return documents.get(0);
-            }
-
-            log.warn("[카카오 지도 API 호출] 카카오 지도 API에서 주소 정보 없음: x={}, y={}", longitude, latitude);
-            return null;
-
-        } catch (Exception e) {
-            log.error("[카카오 지도 API 호출] 카카오 지도 API 파싱 실패: x={}, y={}", longitude, latitude, e);
-            return null;
+        // 도로명 주소(road_address)는 좌표에 따라 반환되지 않을 수 있기 때문에 지번 주소(address)를 기준으로 함
+        if (documents.isArray() && !documents.isEmpty()) {
+            return documents.get(0);
         }
+
+        log.warn("[카카오 지도 API 호출] 카카오 지도 API에서 주소 정보 없음: x={}, y={}", longitude, latitude);
+        return null;
     }
 
     /**
@@ -92,47 +81,47 @@ public class KakaoMapService {
 
     /**
      * 주어진 위도(latitude), 경도(longitude) 좌표로부터 카카오 지도 API를 통해 행정구역 정보를 조회합니다.
+     * 약 50m 격자 단위로 캐시된 결과를 우선 사용합니다. (ReverseGeocodeCache)
      *
      * @param longitude 경도 (x)
      * @param latitude 위도 (y)
      * @return 행정구역 정보가 담긴 JsonNode (성공 시 documents[0]), 없거나 파싱 실패시 null
      */
     public JsonNode getRegionCodeFromCoordinate(double longitude, double latitude) {
+        return reverseGeocodeCache.getOrLoad(GeocodeType.REGION_CODE, longitude, latitude, this::requestRegionCode);
+    }
+
+    private JsonNode requestRegionCode(double longitude, double latitude) throws JsonProcessingException {
         String requestUrl = regionCodeRequestUrl
                 + "?x=" + longitude
                 + "&y=" + latitude;
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        JsonNode root = objectMapper.readTree(exchange(requestUrl));
 
-        HttpEntity<String> entity = new HttpEntity<>(headers);
+        // documents 안에 해당 좌표에 부합하는 행정동(H), 법정동(B) 행정구역 정보가 포함되어 응답
+        JsonNode documents = root.path("documents");
 
-        try {
-            ResponseEntity<String> response = restTemplate.exchange(
-                    requestUrl,
-                    HttpMethod.GET,
-                    entity,
-                    String.class
-            );
-
-            JsonNode root = objectMapper.readTree(response.getBody());
-
-            // documents 안에 해당 좌표에 부합하는 행정동(H), 법정동(B) 행정구역 정보가 포함되어 응답
-            JsonNode documents = root.path("documents");
+        // 법으로 지정되어 행정동(H)보다 안정적인 법정동(B)을 기준으로 함
+        if (documents.isArray() && !documents.isEmpty()) {
+            return documents.get(0);
+        }
 
-            // 법으로 지정되어 행정동(H)보다 안정적인 법정동(B)을 기준으로 함
-            if (documents.isArray() && !documents.isEmpty()) {
-                return documents.get(0);
-            }
+        log.warn("[카카오 지도 API 호출] 카카오 지도 API에서 행정구역 정보 없음: x={}, y={}", longitude, latitude);
+        return null;
+    }
 
-            log.warn("[카카오 지도 API 호출] 카카오 지도 API에서 행정구역 정보 없음: x={}, y={}", longitude, latitude);
-            return null;
+    private String exchange(String requestUrl) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "KakaoAK " + kakaoApiKey);
+        headers.setContentType(MediaType.APPLICATION_JSON);
 
-        } catch (Exception e) {
-            log.error("[카카오 지도 API 호출] 카카오 지도 API 파싱 실패: x={}, y={}", longitude, latitude, e);
-            return null;
-        }
+        ResponseEntity<String> response = restTemplate.exchange(
+                requestUrl,
+                HttpMethod.GET,
+                new HttpEntity<>(headers),
+                String.class
+        );
+        return response.getBody();
     }
 
     /**
@@ -0,0 +1,61 @@
+package com.server.running_handai.domain.course.service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대한민국 영역(육지와 영해를 단순화한 다각형)으로 좌표가 대한민국 내에 있는지 외부 API 호출 없이 판별합니다.
+ * 다각형은 geo/south-korea.wkt에 있으며, 군사분계선과 일본/중국 방향 해상 경계를 수 km 오차로 단순화한 것입니다.
+ * 경계에서 border-margin-degrees 이내인 좌표는 다각형만으로 판별하지 않고 NEAR_BORDER로 반환하므로, 호출 측에서 카카오 지도 API로 확인해야 합니다.
+ * 백령도, 연평도, 울릉도, 독도 등 작은 섬은 전체가 경계 구간에 속합니다.
+ */
+@Slf4j
+@Component
+public class KoreaBoundary {
+
+    private static final String BOUNDARY_RESOURCE = "geo/south-korea.wkt";
+
+    private final GeometryFactory geometryFactory;
+    private final BufferedBoundary boundary;
+
+    public KoreaBoundary(
+            GeometryFactory geometryFactory,
+            @Value("${course.korea-boundary.border-margin-degrees:0.1}") double borderMarginDegrees
+    ) {
+        this.geometryFactory = geometryFactory;
+        Geometry korea = readBoundary(geometryFactory);
+        this.boundary = new BufferedBoundary(korea, borderMarginDegrees);
+        log.info("[대한민국 판별] 대한민국 영역 다각형 로드 완료: 꼭짓점={}, 경계 구간={}도", korea.getNumPoints(), borderMarginDegrees);
+    }
+
+    /**
+     * 좌표가 대한민국 영역 안, 밖, 경계 근처 중 어디에 있는지 판별합니다.
+     *
+     * @param longitude 경도 (x)
+     * @param latitude 위도 (y)
+     * @return INSIDE, OUTSIDE, NEAR_BORDER 중 하나
+     */
+    public BoundaryLocation locate(double longitude, double latitude) {
+        return boundary.locate(geometryFactory.createPoint(new Coordinate(longitude, latitude)));
+    }
+
+    private Geometry readBoundary(GeometryFactory geometryFactory) {
+        try (Reader reader = new InputStreamReader(
+                new ClassPathResource(BOUNDARY_RESOURCE).getInputStream(), StandardCharsets.UTF_8)) {
+            return new WKTReader(geometryFactory).read(reader);
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("대한민국 영역 다각형을 읽을 수 없습니다: " + BOUNDARY_RESOURCE, e);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.server.running_handai.domain.course.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.running_handai.domain.course.entity.GeocodeType;
+import com.server.running_handai.domain.course.entity.ReverseGeocode;
+import com.server.running_handai.domain.course.repository.ReverseGeocodeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카카오 지도 API 좌표 변환(주소, 행정구역) 결과를 메모리와 reverse_geocode 테이블에 캐시합니다.
+ * 좌표를 격자(cell)로 양자화한 값을 키로 사용하며, 같은 격자의 좌표는 격자 중심 좌표로 조회한 결과를 공유합니다.
+ * 따라서 행정구역 경계에서 격자 크기의 절반 정도(기본 약 25m)까지 떨어진 좌표는 이웃 구/동으로 판정될 수 있습니다.
+ * 같은 격자를 동시에 조회하면 카카오 지도 API는 한 번만 호출하고 결과를 함께 사용합니다.
+ * 결과가 없는 좌표(바다 등)도 캐시하며, 호출에 실패한 경우에는 캐시하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ReverseGeocodeCache {
+
+    private final ReverseGeocodeRepository reverseGeocodeRepository;
+    private final ObjectMapper objectMapper;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final double cellSizeDegrees;
+
+    private final Map<CacheKey, CacheEntry> entries; // 접근 순서를 유지하는 LRU, this로 동기화
+    private final Map<CacheKey, CompletableFuture<JsonNode>> inFlight = new ConcurrentHashMap<>(); // 조회 중인 격자
+
+    private final Counter memoryHitCounter;
+    private final Counter databaseHitCounter;
+    private final Counter missCounter;
+
+    public ReverseGeocodeCache(
+            ReverseGeocodeRepository reverseGeocodeRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${course.reverse-geocode-cache.max-entries:50000}") int maxEntries,
+            @Value("${course.reverse-geocode-cache.ttl:180d}") Duration ttl,
+            @Value("${course.reverse-geocode-cache.cell-size-degrees:0.0005}") double cellSizeDegrees
+    ) {
+        this.reverseGeocodeRepository = reverseGeocodeRepository;
+        this.objectMapper = objectMapper;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.cellSizeDegrees = cellSizeDegrees;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                return size() > ReverseGeocodeCache.this.maxEntries;
+            }
+        };
+
+        this.memoryHitCounter = Counter.builder("course.reverse.geocode.cache.requests")
+                .description("좌표 변환 캐시 요청 수")
+                .tag("result", "memory")
+                .register(meterRegistry);
+        this.databaseHitCounter = Counter.builder("course.reverse.geocode.cache.requests")
+                .description("좌표 변환 캐시 요청 수")
+                .tag("result", "database")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("course.reverse.geocode.cache.requests")
+                .description("좌표 변환 캐시 요청 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("course.reverse.geocode.cache.size", this, ReverseGeocodeCache::size)
+                .description("좌표 변환 메모리 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좌표 변환 종류와 좌표 격자
+     */
+    record CacheKey(GeocodeType type, long latCell, long lonCell) {
+    }
+
+    private record CacheEntry(JsonNode document, long expiresAt) {
+    }
+
+    /**
+     * 카카오 지도 API를 호출하는 함수 (결과가 없으면 null 반환, 실패하면 예외를 던지며 예외는 캐시하지 않음)
+     */
+    @FunctionalInterface
+    public interface Loader {
+        JsonNode load(double longitude, double latitude) throws Exception;
+    }
+
+    /**
+     * 캐시된 좌표 변환 결과를 반환하고, 없으면 격자 중심 좌표로 loader를 호출하여 저장합니다.
+     *
+     * @param type 좌표 변환 종류
+     * @param longitude 경도 (x)
+     * @param latitude 위도 (y)
+     * @param loader 캐시에 없을 때 카카오 지도 API를 호출하는 함수
+     * @return 카카오 지도 API 응답의 documents[0], 결과가 없거나 호출에 실패했으면 null
+     */
+    public JsonNode getOrLoad(GeocodeType type, double longitude, double latitude, Loader loader) {
+        CacheKey key = toCacheKey(type, longitude, latitude);
+
+        CacheEntry cached = get(key, System.currentTimeMillis());
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return cached.document();
+        }
+
+        // 같은 격자를 조회 중인 요청이 있으면 그 결과를 기다림
+        CompletableFuture<JsonNode> loading = new CompletableFuture<>();
+        CompletableFuture<JsonNode> existing = inFlight.putIfAbsent(key, loading);
+        if (existing != null) {
+            return existing.join();
+        }
+
+        try {
+            JsonNode document = load(key, loader);
+            loading.complete(document);
+            return document;
+        } finally {
+            inFlight.remove(key, loading);
+            loading.complete(null); // 예상하지 못한 예외로 끝나도 기다리는 요청이 멈추지 않도록 함
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 테이블에 저장된 결과를 먼저 확인하고, 없거나 만료되었으면 카카오 지도 API를 호출하여 테이블과 메모리에 저장합니다.
+     */
+    private JsonNode load(CacheKey key, Loader loader) {
+        Optional<ReverseGeocode> stored = reverseGeocodeRepository
+                .findByGeocodeTypeAndLatCellAndLonCell(key.type(), key.latCell(), key.lonCell());
+        if (stored.isPresent()) {
+            long expiresAt = toEpochMillis(stored.get().getUpdatedAt()) + ttl.toMillis();
+            if (expiresAt > System.currentTimeMillis()) {
+                Optional<JsonNode> document = parse(stored.get().getDocument());
+                if (document.isPresent()) {
+                    JsonNode value = document.get().isNull() ? null : document.get();
+                    databaseHitCounter.increment();
+                    put(key, new CacheEntry(value, expiresAt));
+                    return value;
+                }
+            }
+        }
+        missCounter.increment();
+
+        double cellLongitude = (key.lonCell() + 0.5) * cellSizeDegrees;
+        double cellLatitude = (key.latCell() + 0.5) * cellSizeDegrees;
+        JsonNode document;
+        try {
+            document = loader.load(cellLongitude, cellLatitude);
+        } catch (Exception e) {
+            log.error("[좌표 변환 캐시] 카카오 지도 API 호출 실패, 캐시하지 않음: type={}, x={}, y={}",
+                    key.type(), cellLongitude, cellLatitude, e);
+            return null;
+        }
+
+        try {
+            reverseGeocodeRepository.upsert(key.type().name(), key.latCell(), key.lonCell(),
+                    (document != null) ? document.toString() : null);
+        } catch (Exception e) {
+            log.warn("[좌표 변환 캐시] 좌표 변환 결과 저장 실패, 메모리에만 캐시: type={}, latCell={}, lonCell={}, error={}",
+                    key.type(), key.latCell(), key.lonCell(), e.getMessage());
+        }
+        put(key, new CacheEntry(document, System.currentTimeMillis() + ttl.toMillis()));
+        return document;
+    }
+
+    /**
+     * 저장된 JSON을 읽습니다. 결과가 없는 좌표(null)는 NullNode로 반환하고, 읽을 수 없으면 빈 값을 반환합니다.
+     */
+    private Optional<JsonNode> parse(String document) {
+        if (document == null) {
+            return Optional.of(objectMapper.nullNode());
+        }
+        try {
+            return Optional.of(objectMapper.readTree(document));
+        } catch (Exception e) {
+            log.warn("[좌표 변환 캐시] 저장된 좌표 변환 결과 파싱 실패, 다시 조회: error={}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private synchronized CacheEntry get(CacheKey key, long now) {
+        CacheEntry entry = entries.get(key);
+        if (entry != null && entry.expiresAt() <= now) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void put(CacheKey key, CacheEntry entry) {
+        entries.put(key, entry);
+    }
+
+    private CacheKey toCacheKey(GeocodeType type, double longitude, double latitude) {
+        return new CacheKey(
+                type,
+                (long) Math.floor(latitude / cellSizeDegrees),
+                (long) Math.floor(longitude / cellSizeDegrees)
+        );
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
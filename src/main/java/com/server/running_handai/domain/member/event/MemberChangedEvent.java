@@ -0,0 +1,12 @@
+package com.server.running_handai.domain.member.event;
+
+/**
+ * 회원 정보(닉네임, 역할)가 수정되거나 회원이 삭제되고 트랜잭션이 커밋된 후 발행되는 이벤트
+ * 회원 정보를 메모리에 유지하는 컴포넌트(인증 회원 캐시 등)는 이 이벤트를 받아 해당 회원을 제거합니다.
+ *
+ * @param memberId 변경된 회원의 ID
+ */
+public record MemberChangedEvent(
+        Long memberId
+) {
+}
@@ -22,11 +22,13 @@ import com.server.running_handai.domain.member.dto.TokenRequestDto;
 import com.server.running_handai.domain.member.dto.TokenResponseDto;
 import com.server.running_handai.domain.member.entity.Member;
 import com.server.running_handai.domain.member.entity.Role;
+import com.server.running_handai.domain.member.event.MemberChangedEvent;
 import com.server.running_handai.domain.member.repository.MemberRepository;
 import io.jsonwebtoken.ExpiredJwtException;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +51,7 @@ public class MemberService {
     private final JwtProvider jwtProvider;
     private final BookmarkService bookmarkService;
     private final CourseService courseService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * OAuth2 사용자 정보를 기반으로 회원을 생성하거나 기존 회원을 조회합니다.
@@ -214,6 +217,7 @@ public class MemberService {
 
         if (isNicknameValid(newNickname, currentNickname)) {
             member.updateNickname(newNickname);
+            eventPublisher.publishEvent(new MemberChangedEvent(member.getId())); // 커밋 후 인증 회원 캐시에서 제거
         } else {
             throw new BusinessException(ResponseCode.DUPLICATE_NICKNAME);
         }
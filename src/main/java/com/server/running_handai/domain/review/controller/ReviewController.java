@@ -1,6 +1,6 @@
 package com.server.running_handai.domain.review.controller;
 
-import com.server.running_handai.domain.review.dto.MyReviewInfoDto;
+import com.server.running_handai.domain.review.dto.MyReviewPageDto;
 import com.server.running_handai.domain.review.dto.ReviewCreateResponseDto;
 import com.server.running_handai.domain.review.dto.ReviewInfoListDto;
 import com.server.running_handai.domain.review.dto.ReviewCreateRequestDto;
@@ -11,11 +11,11 @@ import com.server.running_handai.global.oauth.CustomOAuth2User;
 import com.server.running_handai.global.response.CommonResponse;
 import com.server.running_handai.global.response.ResponseCode;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +26,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -53,19 +54,25 @@ public class ReviewController {
         return ResponseEntity.ok(CommonResponse.success(ResponseCode.SUCCESS, responseData));
     }
 
-    @Operation(summary = "리뷰 조회", description = "코스의 리뷰를 조회합니다.")
+    @Operation(summary = "리뷰 조회", description = "코스의 리뷰를 최신순으로 조회합니다."
+            + "<br> 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다. (hasNext가 false면 마지막 페이지)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공"),
             @ApiResponse(responseCode = "200", description = "성공 (리뷰 없음)"),
+            @ApiResponse(responseCode = "400", description = "실패 (요청 파라미터 오류)"),
             @ApiResponse(responseCode = "404", description = "실패 (존재하지 않는 코스)")
     })
     @GetMapping("/api/courses/{courseId}/reviews")
     public ResponseEntity<CommonResponse<ReviewInfoListDto>> getReviewsByCourse(
             @PathVariable Long courseId,
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "한 페이지에 조회할 리뷰 수 (최대 100)")
+            @RequestParam(value = "size", defaultValue = "${review.page.default-size:20}") int size,
             @AuthenticationPrincipal CustomOAuth2User customOAuth2User
     ) {
         Long memberId = (customOAuth2User != null) ? customOAuth2User.getMember().getId() : null;
-        ReviewInfoListDto responseData = reviewService.findAllReviewsByCourse(courseId, memberId);
+        ReviewInfoListDto responseData = reviewService.findAllReviewsByCourse(courseId, cursor, size, memberId);
 
         if (responseData.reviewCount() == 0) {
             return ResponseEntity.ok(CommonResponse.success(ResponseCode.SUCCESS, responseData));
@@ -105,19 +112,25 @@ public class ReviewController {
         return ResponseEntity.ok(CommonResponse.success(ResponseCode.SUCCESS, null));
     }
 
-    @Operation(summary = "내 리뷰 조회", description = "회원이 작성한 리뷰를 조회합니다.")
+    @Operation(summary = "내 리뷰 조회", description = "회원이 작성한 리뷰를 최신순으로 조회합니다."
+            + "<br> 다음 페이지는 응답의 nextCursor를 cursor 파라미터로 전달하여 조회합니다. (hasNext가 false면 마지막 페이지)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공"),
-            @ApiResponse(responseCode = "200", description = "성공 (리뷰 없음)")
+            @ApiResponse(responseCode = "200", description = "성공 (리뷰 없음)"),
+            @ApiResponse(responseCode = "400", description = "실패 (요청 파라미터 오류)")
     })
     @GetMapping("/api/members/me/reviews")
-    public ResponseEntity<CommonResponse<List<MyReviewInfoDto>>> getMyReviews(
+    public ResponseEntity<CommonResponse<MyReviewPageDto>> getMyReviews(
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "한 페이지에 조회할 리뷰 수 (최대 100)")
+            @RequestParam(value = "size", defaultValue = "${review.page.default-size:20}") int size,
             @AuthenticationPrincipal CustomOAuth2User customOAuth2User
     ) {
         Long memberId = customOAuth2User.getMember().getId();
-        List<MyReviewInfoDto> responseData = reviewService.getMyReviews(memberId);
+        MyReviewPageDto responseData = reviewService.getMyReviews(memberId, cursor, size);
 
-        if (responseData.isEmpty()) {
+        if (responseData.reviews().isEmpty()) {
             return ResponseEntity.ok(CommonResponse.success(ResponseCode.SUCCESS_EMPTY_REVIEWS, responseData));
         }
 
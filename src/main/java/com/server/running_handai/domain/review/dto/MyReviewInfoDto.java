@@ -1,5 +1,7 @@
 package com.server.running_handai.domain.review.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.server.running_handai.domain.course.dto.ImageVariantsDto;
 import com.server.running_handai.domain.course.entity.Course;
 import com.server.running_handai.domain.review.entity.Review;
 import java.time.format.DateTimeFormatter;
@@ -8,7 +10,11 @@ public record MyReviewInfoDto(
         long reviewId,
         long courseId,
         String courseName,
-        String thumbnailUrl,
+        String thumbnailUrl, // 목록용 작은 이미지, 없으면 원본 이미지
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailOriginalUrl, // 아래 크기별 이미지는 클라이언트가 화면 크기에 맞게 선택
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailSmallUrl, // 너비 320px
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailMediumUrl, // 너비 720px
+        @JsonInclude(JsonInclude.Include.NON_NULL) String thumbnailPlaceholder,
         String area,
         int distance,
         int duration,
@@ -21,12 +27,18 @@ public record MyReviewInfoDto(
         Course course = review.getCourse();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
         String formattedCreatedAt = review.getCreatedAt().format(formatter);
+        ImageVariantsDto thumbnail = (course.getCourseImage() != null)
+                ? ImageVariantsDto.from(course.getCourseImage()) : ImageVariantsDto.original(null);
 
         return new MyReviewInfoDto(
                 review.getId(),
                 course.getId(),
                 course.getName(),
-                (course.getCourseImage() != null) ? course.getCourseImage().getImgUrl() : null,
+                thumbnail.smallOrOriginal(),
+                thumbnail.imgUrl(),
+                thumbnail.smallImgUrl(),
+                thumbnail.mediumImgUrl(),
+                thumbnail.placeholder(),
                 course.getArea().name(),
                 (int) course.getDistance(),
                 course.getDuration(),
@@ -0,0 +1,13 @@
+package com.server.running_handai.domain.review.dto;
+
+import java.util.List;
+
+public record MyReviewPageDto(
+        List<MyReviewInfoDto> reviews,
+        boolean hasNext, // 다음 페이지 존재 여부
+        String nextCursor // 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+) {
+    public static MyReviewPageDto from(List<MyReviewInfoDto> reviews, boolean hasNext, ReviewCursor nextCursor) {
+        return new MyReviewPageDto(reviews, hasNext, (hasNext && nextCursor != null) ? nextCursor.encode() : null);
+    }
+}
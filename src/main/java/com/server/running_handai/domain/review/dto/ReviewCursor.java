@@ -0,0 +1,51 @@
+package com.server.running_handai.domain.review.dto;
+
+import static com.server.running_handai.global.response.ResponseCode.INVALID_CURSOR_PARAMETER;
+
+import com.server.running_handai.global.response.exception.BusinessException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 리뷰 목록의 keyset 페이지네이션 커서입니다.
+ * 리뷰 목록은 (createdAt, reviewId) 내림차순으로 정렬되며, 커서는 이전 페이지 마지막 리뷰의 정렬 키를 담습니다.
+ *
+ * @param createdAt 이전 페이지 마지막 리뷰의 작성 시각
+ * @param reviewId 이전 페이지 마지막 리뷰 ID
+ */
+public record ReviewCursor(
+        LocalDateTime createdAt,
+        long reviewId
+) {
+    private static final String DELIMITER = ",";
+
+    /**
+     * 클라이언트가 전달한 커서 토큰을 해석합니다.
+     *
+     * @param token Base64(URL-safe)로 인코딩된 커서 토큰 (첫 페이지는 null)
+     * @return 커서, 토큰이 비어 있으면 null
+     * @throws BusinessException 토큰 형식이 올바르지 않은 경우
+     */
+    public static ReviewCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(DELIMITER);
+            if (parts.length != 2) {
+                throw new BusinessException(INVALID_CURSOR_PARAMETER);
+            }
+            return new ReviewCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) { // Base64, 날짜 및 숫자 형식 오류
+            throw new BusinessException(INVALID_CURSOR_PARAMETER);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + reviewId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,20 @@
+package com.server.running_handai.domain.review.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 코스 리뷰 목록 조회용 프로젝션
+ * 작성자 엔티티를 불러오지 않고 작성자 ID와 닉네임만 함께 조회하여, 내 리뷰 여부를 메모리에서 판단합니다.
+ */
+public record ReviewFeedDto(
+        Long reviewId,
+        Double stars,
+        String contents,
+        Long writerId, // 탈퇴한 회원의 리뷰는 null
+        String writerNickname,
+        LocalDateTime createdAt
+) {
+    public ReviewCursor toCursor() {
+        return new ReviewCursor(createdAt, reviewId);
+    }
+}
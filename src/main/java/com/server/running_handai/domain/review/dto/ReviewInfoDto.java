@@ -1,6 +1,5 @@
 package com.server.running_handai.domain.review.dto;
 
-import com.server.running_handai.domain.review.entity.Review;
 import java.time.format.DateTimeFormatter;
 
 public record ReviewInfoDto(
@@ -11,17 +10,21 @@ public record ReviewInfoDto(
         boolean isMyReview,
         String createdAt
 ) {
-    public static ReviewInfoDto from(Review review, boolean isMyReview) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        String formattedCreatedAt = review.getCreatedAt().format(formatter);
+    private static final DateTimeFormatter CREATED_AT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    /**
+     * @param review 리뷰 목록 조회용 프로젝션
+     * @param memberId 요청 회원의 ID (비회원은 null)
+     */
+    public static ReviewInfoDto from(ReviewFeedDto review, Long memberId) {
+        boolean isMyReview = memberId != null && memberId.equals(review.writerId());
         return new ReviewInfoDto(
-                review.getId(),
-                review.getStars(),
-                review.getContents(),
-                review.getWriter().getNickname(),
+                review.reviewId(),
+                review.stars(),
+                review.contents(),
+                review.writerNickname(),
                 isMyReview,
-                formattedCreatedAt
+                review.createdAt().format(CREATED_AT_FORMATTER)
         );
     }
 }
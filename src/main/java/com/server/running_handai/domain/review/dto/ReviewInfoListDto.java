@@ -5,9 +5,15 @@ import java.util.List;
 public record ReviewInfoListDto(
         double starAverage,
         int reviewCount,
-        List<ReviewInfoDto> reviewInfoDtos
+        List<StarCountDto> starHistogram,
+        List<ReviewInfoDto> reviewInfoDtos,
+        boolean hasNext, // 다음 페이지 존재 여부
+        String nextCursor // 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
 ) {
-    public static ReviewInfoListDto from(double starAverage, int reviewCount, List<ReviewInfoDto> reviewInfoDtos) {
-        return new ReviewInfoListDto(starAverage, reviewCount, reviewInfoDtos);
+    public static ReviewInfoListDto from(ReviewStatsDto reviewStats, List<ReviewInfoDto> reviewInfoDtos,
+                                         boolean hasNext, ReviewCursor nextCursor) {
+        return new ReviewInfoListDto(reviewStats.starAverage(), reviewStats.reviewCount(),
+                reviewStats.starHistogram(), reviewInfoDtos,
+                hasNext, (hasNext && nextCursor != null) ? nextCursor.encode() : null);
     }
 }
@@ -0,0 +1,31 @@
+package com.server.running_handai.domain.review.dto;
+
+import com.server.running_handai.domain.review.entity.ReviewStats;
+import java.util.ArrayList;
+import java.util.List;
+
+public record ReviewStatsDto(
+        int reviewCount,
+        double starAverage,
+        List<StarCountDto> starHistogram // 0.5점부터 5.0점까지 별점별 리뷰 수
+) {
+    public static ReviewStatsDto from(ReviewStats reviewStats) {
+        return new ReviewStatsDto(
+                reviewStats.getReviewCount(),
+                reviewStats.getStarAverage(),
+                toStarHistogram(reviewStats.getStarHistogram())
+        );
+    }
+
+    public static ReviewStatsDto empty() {
+        return new ReviewStatsDto(0, 0.0, toStarHistogram(new int[ReviewStats.STAR_LEVELS]));
+    }
+
+    private static List<StarCountDto> toStarHistogram(int[] histogram) {
+        List<StarCountDto> starHistogram = new ArrayList<>(histogram.length);
+        for (int i = 0; i < histogram.length; i++) {
+            starHistogram.add(new StarCountDto((i + 1) / 2.0, histogram[i]));
+        }
+        return starHistogram;
+    }
+}
@@ -0,0 +1,7 @@
+package com.server.running_handai.domain.review.dto;
+
+public record StarCountDto(
+        double stars, // 별점 (0.5점 단위)
+        int count // 해당 별점의 리뷰 수
+) {
+}
@@ -0,0 +1,75 @@
+package com.server.running_handai.domain.review.entity;
+
+import com.server.running_handai.domain.review.entity.converter.StarHistogramConverter;
+import com.server.running_handai.global.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 코스별 리뷰 별점 집계 (리뷰 수, 별점 합계, 0.5점 단위 별점 분포)
+ * 리뷰 생성/수정/삭제 트랜잭션에서 행 잠금을 걸고 함께 갱신하므로, 조회 시 리뷰 전체를 집계하지 않아도 됩니다.
+ */
+@Entity
+@Getter
+@Table(name = "review_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewStats extends BaseTimeEntity {
+
+    public static final int STAR_LEVELS = 10; // 0.5점 ~ 5.0점
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "review_count", nullable = false)
+    private int reviewCount; // 리뷰 수
+
+    @Column(name = "half_star_sum", nullable = false)
+    private long halfStarSum; // 별점 합계 (0.5점 단위 정수, 별점 x 2)
+
+    @Convert(converter = StarHistogramConverter.class)
+    @Column(name = "star_histogram", nullable = false)
+    private int[] starHistogram = new int[STAR_LEVELS]; // 별점별 리뷰 수 (인덱스 0: 0.5점 ~ 인덱스 9: 5.0점)
+
+    public ReviewStats(Long courseId) {
+        this.courseId = courseId;
+    }
+
+    public void addStars(double stars) {
+        apply(stars, 1);
+    }
+
+    public void removeStars(double stars) {
+        apply(stars, -1);
+    }
+
+    public void updateStars(double oldStars, double newStars) {
+        removeStars(oldStars);
+        addStars(newStars);
+    }
+
+    /**
+     * 별점 평균을 소수점 첫째 자리까지 반올림하여 반환합니다. 리뷰가 없으면 0.0을 반환합니다.
+     */
+    public double getStarAverage() {
+        if (reviewCount == 0) {
+            return 0.0;
+        }
+        return Math.round((halfStarSum / 2.0) / reviewCount * 10) / 10.0;
+    }
+
+    private void apply(double stars, int delta) {
+        int halfStars = (int) Math.round(stars * 2);
+        int[] histogram = starHistogram.clone(); // 변경 감지를 위해 새 배열로 교체
+        histogram[halfStars - 1] += delta;
+        this.starHistogram = histogram;
+        this.reviewCount += delta;
+        this.halfStarSum += (long) halfStars * delta;
+    }
+}
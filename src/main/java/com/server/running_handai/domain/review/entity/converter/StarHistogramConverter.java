@@ -0,0 +1,35 @@
+package com.server.running_handai.domain.review.entity.converter;
+
+import com.server.running_handai.domain.review.entity.ReviewStats;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 별점별 리뷰 수 배열을 쉼표로 구분한 문자열로 변환하여 하나의 컬럼에 저장합니다. (예: "0,0,1,0,0,0,2,0,5,3")
+ */
+@Converter
+public class StarHistogramConverter implements AttributeConverter<int[], String> {
+
+    @Override
+    public String convertToDatabaseColumn(int[] histogram) {
+        int[] values = (histogram != null) ? histogram : new int[ReviewStats.STAR_LEVELS];
+        return Arrays.stream(values)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public int[] convertToEntityAttribute(String value) {
+        int[] histogram = new int[ReviewStats.STAR_LEVELS];
+        if (value == null || value.isBlank()) {
+            return histogram;
+        }
+        String[] counts = value.split(",");
+        for (int i = 0; i < Math.min(counts.length, histogram.length); i++) {
+            histogram[i] = Integer.parseInt(counts[i].trim());
+        }
+        return histogram;
+    }
+}
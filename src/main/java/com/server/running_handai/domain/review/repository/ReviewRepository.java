@@ -1,7 +1,10 @@
 package com.server.running_handai.domain.review.repository;
 
+import com.server.running_handai.domain.review.dto.ReviewFeedDto;
 import com.server.running_handai.domain.review.entity.Review;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,39 +12,60 @@ import org.springframework.data.repository.query.Param;
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     /**
-     * courseId로 리뷰 전체 조회
+     * 코스 리뷰 목록 프로젝션 (작성자 ID, 닉네임 포함)
+     * idx_review_course_created (course_id, created_at, review_id) 인덱스 순서대로 읽으므로 리뷰 수와 관계없이 페이지 크기만큼만 조회합니다.
      */
-    List<Review> findAllByCourseId(Long courseId);
+    String FIND_REVIEW_FEED_QUERY =
+            "SELECT new com.server.running_handai.domain.review.dto.ReviewFeedDto(" +
+            "r.id, r.stars, r.contents, w.id, w.nickname, r.createdAt) " +
+            "FROM Review r " +
+            "LEFT JOIN r.writer w " +
+            "WHERE r.course.id = :courseId ";
+
+    String REVIEW_ORDER = "ORDER BY r.createdAt DESC, r.id DESC";
 
     /**
-     * memberId가 리뷰 작성자의 id와 일치하는지 조회
+     * 이전 페이지 마지막 리뷰(:createdAt, :reviewId)보다 뒤에 정렬되는 리뷰 조건
      */
-    boolean existsByIdAndWriterId(Long reviewId, Long writerId);
+    String AFTER_CURSOR_CONDITION =
+            "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.id < :reviewId)) ";
 
     /**
-     * courseId로 최신순 리뷰 2개 조회
+     * 코스의 최신 리뷰부터 pageable의 크기만큼 조회
      */
-    @Query(value = "SELECT * FROM review r WHERE r.course_id = :courseId ORDER BY created_at DESC LIMIT 2", nativeQuery = true)
-    List<Review> findRecent2ByCourseId(@Param("courseId") Long courseId);
+    @Query(FIND_REVIEW_FEED_QUERY + REVIEW_ORDER)
+    List<ReviewFeedDto> findReviewFeedByCourseId(@Param("courseId") Long courseId, Pageable pageable);
 
     /**
-     * courseId에 해당하는 모든 리뷰의 평점(stars) 평균을 계산
+     * 커서 이후의 코스 리뷰를 pageable의 크기만큼 조회
      */
-    @Query("SELECT AVG(r.stars) FROM Review r WHERE r.course.id = :courseId")
-    Double findAverageStarsByCourseId(@Param("courseId") Long courseId);
+    @Query(FIND_REVIEW_FEED_QUERY + AFTER_CURSOR_CONDITION + REVIEW_ORDER)
+    List<ReviewFeedDto> findReviewFeedByCourseIdAfter(@Param("courseId") Long courseId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("reviewId") Long reviewId,
+                                                      Pageable pageable);
 
     /**
-     * courseId로 조회한 리뷰의 전체 개수 조회
+     * 특정 회원이 작성한 최신 리뷰부터 pageable의 크기만큼 조회 (연관 엔티티 동시 조회)
      */
-    long countByCourseId(Long courseId);
+    @Query("SELECT r FROM Review r " +
+            "LEFT JOIN FETCH r.course c " +
+            "LEFT JOIN FETCH c.courseImage ci " +
+            "WHERE r.writer.id = :memberId " +
+            REVIEW_ORDER)
+    List<Review> findReviewsWithDetailsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
     /**
-     * 특정 회원이 작성한 리뷰 조회 (연관 엔티티 동시 조회)
+     * 커서 이후의 특정 회원이 작성한 리뷰를 pageable의 크기만큼 조회 (연관 엔티티 동시 조회)
      */
     @Query("SELECT r FROM Review r " +
             "LEFT JOIN FETCH r.course c " +
             "LEFT JOIN FETCH c.courseImage ci " +
             "WHERE r.writer.id = :memberId " +
-            "ORDER BY r.createdAt DESC")
-    List<Review> findReviewsWithDetailsByMemberId(@Param("memberId") Long memberId);
+            AFTER_CURSOR_CONDITION +
+            REVIEW_ORDER)
+    List<Review> findReviewsWithDetailsByMemberIdAfter(@Param("memberId") Long memberId,
+                                                       @Param("createdAt") LocalDateTime createdAt,
+                                                       @Param("reviewId") Long reviewId,
+                                                       Pageable pageable);
 }
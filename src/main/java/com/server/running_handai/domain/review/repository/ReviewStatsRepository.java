@@ -0,0 +1,28 @@
+package com.server.running_handai.domain.review.repository;
+
+import com.server.running_handai.domain.review.entity.ReviewStats;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReviewStatsRepository extends JpaRepository<ReviewStats, Long> {
+
+    /**
+     * 리뷰 변경 시 집계를 갱신하기 위해 코스의 리뷰 집계를 행 잠금과 함께 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rs FROM ReviewStats rs WHERE rs.courseId = :courseId")
+    Optional<ReviewStats> findByCourseIdForUpdate(@Param("courseId") Long courseId);
+
+    /**
+     * 코스의 리뷰 집계 행이 없으면 빈 집계로 생성 (동시에 요청해도 한 행만 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO review_stats (course_id, review_count, half_star_sum, star_histogram, created_at, updated_at) " +
+            "VALUES (:courseId, 0, 0, '0,0,0,0,0,0,0,0,0,0', NOW(6), NOW(6))", nativeQuery = true)
+    void insertIfAbsent(@Param("courseId") Long courseId);
+}
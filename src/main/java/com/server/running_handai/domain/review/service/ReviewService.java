@@ -5,22 +5,28 @@ import com.server.running_handai.domain.course.repository.CourseRepository;
 import com.server.running_handai.domain.member.entity.Member;
 import com.server.running_handai.domain.member.repository.MemberRepository;
 import com.server.running_handai.domain.review.dto.MyReviewInfoDto;
+import com.server.running_handai.domain.review.dto.MyReviewPageDto;
 import com.server.running_handai.domain.review.dto.ReviewCreateResponseDto;
+import com.server.running_handai.domain.review.dto.ReviewCursor;
+import com.server.running_handai.domain.review.dto.ReviewFeedDto;
 import com.server.running_handai.domain.review.dto.ReviewInfoDto;
 import com.server.running_handai.domain.review.dto.ReviewInfoListDto;
+import com.server.running_handai.domain.review.dto.ReviewStatsDto;
 import com.server.running_handai.domain.review.dto.ReviewCreateRequestDto;
 import com.server.running_handai.domain.review.dto.ReviewUpdateRequestDto;
 import com.server.running_handai.domain.review.dto.ReviewUpdateResponseDto;
 import com.server.running_handai.domain.review.entity.Review;
+import com.server.running_handai.domain.review.entity.ReviewStats;
 import com.server.running_handai.domain.review.repository.ReviewRepository;
+import com.server.running_handai.domain.review.repository.ReviewStatsRepository;
 import com.server.running_handai.global.response.ResponseCode;
 import com.server.running_handai.global.response.exception.BusinessException;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +36,10 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ReviewService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ReviewRepository reviewRepository;
+    private final ReviewStatsRepository reviewStatsRepository;
     private final CourseRepository courseRepository;
     private final MemberRepository memberRepository;
 
@@ -60,55 +69,92 @@ public class ReviewService {
 
         review.setCourse(course);
         review.setWriter(writer);
-        return ReviewCreateResponseDto.from(reviewRepository.save(review));
+        Review savedReview = reviewRepository.save(review);
+        getReviewStatsForUpdate(courseId).addStars(requestDto.stars());
+        return ReviewCreateResponseDto.from(savedReview);
     }
 
     /**
-     * 코스의 리뷰를 전체 조회합니다.
+     * 코스의 리뷰를 최신순으로 페이지 단위로 조회합니다.
+     * (createdAt, reviewId) 커서 이후의 리뷰를 인덱스 순서대로 size + 1개만 읽어 다음 페이지 존재 여부를 판단합니다.
      *
      * @param courseId 리뷰 대상인 코스의 ID
-     * @return 조회된 리뷰 목록을 담는 DTO
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     * @param memberId 요청 회원의 ID (비회원은 null)
+     * @return 리뷰 집계와 조회된 리뷰 목록을 담는 DTO
+     * @throws BusinessException 코스를 찾지 못했거나, 페이지 크기 또는 커서가 올바르지 않은 경우
      */
-    public ReviewInfoListDto findAllReviewsByCourse(Long courseId, Long memberId) {
+    public ReviewInfoListDto findAllReviewsByCourse(Long courseId, String cursor, int size, Long memberId) {
+        int pageSize = validatePageSize(size);
+        ReviewCursor reviewCursor = ReviewCursor.decode(cursor);
         if (!courseRepository.existsById(courseId)) {
             throw new BusinessException(ResponseCode.COURSE_NOT_FOUND);
         }
 
-        double averageStars = calculateAverageStars(courseId);
-        List<ReviewInfoDto> reviewInfoDtos = convertToReviewInfoDtos(reviewRepository.findAllByCourseId(courseId), memberId);
-        return ReviewInfoListDto.from(averageStars, reviewInfoDtos.size(), reviewInfoDtos);
+        List<ReviewFeedDto> reviews = findReviewFeed(courseId, reviewCursor, pageSize + 1);
+        boolean hasNext = reviews.size() > pageSize;
+        List<ReviewFeedDto> page = hasNext ? reviews.subList(0, pageSize) : reviews;
+
+        ReviewStatsDto reviewStats = getReviewStats(courseId);
+        ReviewCursor nextCursor = page.isEmpty() ? null : page.getLast().toCursor();
+        return ReviewInfoListDto.from(reviewStats, convertToReviewInfoDtos(page, memberId), hasNext, nextCursor);
+    }
+
+    /**
+     * 코스의 최신 리뷰를 limit개 조회합니다. (코스 요약 조회용)
+     *
+     * @param courseId 리뷰 대상인 코스의 ID
+     * @param limit 조회할 리뷰 수
+     * @param memberId 요청 회원의 ID (비회원은 null)
+     * @return 리뷰 조회용 DTO 목록
+     */
+    public List<ReviewInfoDto> findRecentReviews(Long courseId, int limit, Long memberId) {
+        return convertToReviewInfoDtos(findReviewFeed(courseId, null, limit), memberId);
     }
 
     /**
-     * 코스의 별점 평균을 계산합니다.
+     * 코스의 리뷰 집계(리뷰 수, 별점 평균, 별점 분포)를 조회합니다.
+     * 리뷰 변경 시 함께 갱신되는 집계를 읽으므로 리뷰 전체를 집계하지 않습니다.
      *
-     * @param courseId 리뷰 평균을 계산할 코스의 ID
-     * @return 별점 평균
+     * @param courseId 리뷰 집계를 조회할 코스의 ID
+     * @return 리뷰 집계 DTO, 리뷰가 없으면 빈 집계
      */
-    public double calculateAverageStars(Long courseId) {
-        double averageStars = Optional.ofNullable(
-                reviewRepository.findAverageStarsByCourseId(courseId)
-        ).orElse(0.0); // 리뷰가 없으면 0.0
-        averageStars = Math.round(averageStars * 10) / 10.0;
-        return averageStars;
+    public ReviewStatsDto getReviewStats(Long courseId) {
+        return reviewStatsRepository.findById(courseId)
+                .map(ReviewStatsDto::from)
+                .orElseGet(ReviewStatsDto::empty);
+    }
+
+    private List<ReviewFeedDto> findReviewFeed(Long courseId, ReviewCursor cursor, int limit) {
+        Pageable pageable = PageRequest.ofSize(limit);
+        if (cursor == null) {
+            return reviewRepository.findReviewFeedByCourseId(courseId, pageable);
+        }
+        return reviewRepository.findReviewFeedByCourseIdAfter(courseId, cursor.createdAt(), cursor.reviewId(), pageable);
     }
 
     /**
-     * 리뷰 엔티티 리스트를 리뷰 조회용 DTO 리스트로 변환합니다.
+     * 리뷰 목록 프로젝션을 리뷰 조회용 DTO 리스트로 변환합니다.
+     * 내 리뷰 여부는 함께 조회한 작성자 ID로 판단하므로 리뷰마다 추가 조회하지 않습니다.
      *
-     * @param reviews 변환 대상인 리뷰 엔티티 리스트
-     * @param memberId 요청 회원의 ID
+     * @param reviews 변환 대상인 리뷰 목록 프로젝션
+     * @param memberId 요청 회원의 ID (비회원은 null)
      * @return 리뷰 조회용 DTO 목록
      */
-    public List<ReviewInfoDto> convertToReviewInfoDtos(List<Review> reviews, Long memberId) {
+    private List<ReviewInfoDto> convertToReviewInfoDtos(List<ReviewFeedDto> reviews, Long memberId) {
         return reviews.stream()
-                .map(review -> {
-                    boolean isMyReview = reviewRepository.existsByIdAndWriterId(review.getId(), memberId);
-                    return ReviewInfoDto.from(review, isMyReview);
-                })
+                .map(review -> ReviewInfoDto.from(review, memberId))
                 .toList();
     }
 
+    private int validatePageSize(int size) {
+        if (size <= 0) {
+            throw new BusinessException(ResponseCode.INVALID_PAGE_SIZE_PARAMETER);
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
     /**
      * 코스의 리뷰를 수정합니다.
      *
@@ -126,6 +172,7 @@ public class ReviewService {
             throw new BusinessException(ResponseCode.ACCESS_DENIED); // 작성자가 아니라면 접근 권한 없음
         }
 
+        Double oldStars = review.getStars();
         Double newStars = requestDto.stars();
         String newContents = requestDto.contents();
 
@@ -145,6 +192,11 @@ public class ReviewService {
             review.updateContents(newContents);
         }
 
+        // 별점이 바뀐 경우에만 집계 갱신
+        if (newStars != null && !newStars.equals(oldStars)) {
+            getReviewStatsForUpdate(review.getCourse().getId()).updateStars(oldStars, newStars);
+        }
+
         return ReviewUpdateResponseDto.from(reviewRepository.save(review));
     }
 
@@ -164,24 +216,51 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+        getReviewStatsForUpdate(review.getCourse().getId()).removeStars(review.getStars());
+    }
+
+    /**
+     * 리뷰 변경과 함께 갱신할 코스의 리뷰 집계를 행 잠금과 함께 조회합니다.
+     * 같은 코스의 리뷰 변경은 이 잠금으로 순서대로 반영되어 집계가 어긋나지 않으며, 첫 리뷰인 경우 빈 집계를 먼저 생성합니다.
+     */
+    private ReviewStats getReviewStatsForUpdate(Long courseId) {
+        return reviewStatsRepository.findByCourseIdForUpdate(courseId)
+                .orElseGet(() -> {
+                    reviewStatsRepository.insertIfAbsent(courseId);
+                    return reviewStatsRepository.findByCourseIdForUpdate(courseId).orElseThrow();
+                });
     }
 
     /**
-     * 회원이 작성한 리뷰를 조회합니다.
+     * 회원이 작성한 리뷰를 최신순으로 페이지 단위로 조회합니다.
      *
      * @param memberId 요청한 회원의 ID
-     * @return 내 리뷰 조회용 DTO
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     * @return 내 리뷰 조회용 DTO 목록과 다음 페이지 커서
+     * @throws BusinessException 페이지 크기 또는 커서가 올바르지 않은 경우
      */
-    public List<MyReviewInfoDto> getMyReviews(Long memberId) {
-        List<Review> reviews = reviewRepository.findReviewsWithDetailsByMemberId(memberId);
+    public MyReviewPageDto getMyReviews(Long memberId, String cursor, int size) {
+        int pageSize = validatePageSize(size);
+        ReviewCursor reviewCursor = ReviewCursor.decode(cursor);
+        Pageable pageable = PageRequest.ofSize(pageSize + 1);
+
+        List<Review> reviews = (reviewCursor == null)
+                ? reviewRepository.findReviewsWithDetailsByMemberId(memberId, pageable)
+                : reviewRepository.findReviewsWithDetailsByMemberIdAfter(
+                        memberId, reviewCursor.createdAt(), reviewCursor.reviewId(), pageable);
 
         if (reviews.isEmpty()) {
-            return Collections.emptyList();
+            return MyReviewPageDto.from(Collections.emptyList(), false, null);
         }
 
-        return reviews.stream()
+        boolean hasNext = reviews.size() > pageSize;
+        List<Review> page = hasNext ? reviews.subList(0, pageSize) : reviews;
+        Review last = page.getLast();
+        List<MyReviewInfoDto> myReviews = page.stream()
                 .map(MyReviewInfoDto::from)
-                .collect(Collectors.toList());
+                .toList();
+        return MyReviewPageDto.from(myReviews, hasNext, new ReviewCursor(last.getCreatedAt(), last.getId()));
     }
 
 }
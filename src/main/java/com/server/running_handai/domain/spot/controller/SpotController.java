@@ -1,5 +1,6 @@
 package com.server.running_handai.domain.spot.controller;
 
+import com.server.running_handai.domain.course.service.CourseVersionService;
 import com.server.running_handai.domain.spot.dto.SpotDetailDto;
 import com.server.running_handai.domain.spot.service.SpotService;
 import com.server.running_handai.global.oauth.CustomOAuth2User;
@@ -11,12 +12,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import static com.server.running_handai.domain.course.entity.SpotStatus.IN_PROGRESS;
 import static com.server.running_handai.global.response.ResponseCode.SUCCESS;
@@ -29,7 +33,11 @@ import static com.server.running_handai.global.response.ResponseCode.SUCCESS_SPO
 @Tag(name = "Spot", description = "즐길거리 관련 API")
 public class SpotController {
 
+    // 응답은 저장해도 되지만, 사용하기 전에 항상 ETag로 재검증
+    private static final CacheControl REVALIDATE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final SpotService spotService;
+    private final CourseVersionService courseVersionService;
 
     @Operation(summary = "즐길거리 전체 조회", description = "특정 코스의 즐길거리 전체 정보를 조회합니다."
             + "<br> 즐길거리는 초기화 상태(spotStatus)에 따라 다르게 반환합니다.<br>"
@@ -38,24 +46,38 @@ public class SpotController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "성공"),
+            @ApiResponse(responseCode = "304", description = "성공 (If-None-Match의 ETag와 같아 변경 없음)"),
             @ApiResponse(responseCode = "404", description = "실패 (존재하지 않는 코스)"),
     })
     @GetMapping("/{courseId}/spots")
     public ResponseEntity<CommonResponse<SpotDetailDto>> getSpotDetails(
             @Parameter(description = "조회하려는 코스 ID", required = true) @PathVariable("courseId") Long courseId,
-            @AuthenticationPrincipal CustomOAuth2User customOAuth2User
+            @AuthenticationPrincipal CustomOAuth2User customOAuth2User,
+            WebRequest webRequest
     ) {
         Long memberId = (customOAuth2User != null) ? customOAuth2User.getMember().getId() : null;
         log.info("[즐길거리 전체 조회] courseId: {}, memberId: {}", courseId, memberId);
+
+        // 변경 사항이 없으면 즐길거리를 조회하지 않고 304 반환
+        String eTag = courseVersionService.getSpotDetailETag(courseId);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(REVALIDATE_CACHE_CONTROL).build();
+        }
+
         SpotDetailDto spotDetailDto = spotService.getSpotDetails(courseId);
         String status = spotDetailDto.spotStatus();
 
         // 즐길거리 초기화 진행 중일 때 202 accepted 반환
         if (status.equals(IN_PROGRESS.name())) {
             return ResponseEntity.accepted()
+                    .eTag(eTag)
+                    .cacheControl(REVALIDATE_CACHE_CONTROL)
                     .body(CommonResponse.success(SUCCESS_SPOT_INIT_IN_PROGRESS, spotDetailDto));
         }
 
-        return ResponseEntity.ok(CommonResponse.success(SUCCESS, spotDetailDto));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE_CACHE_CONTROL)
+                .body(CommonResponse.success(SUCCESS, spotDetailDto));
     }
 }
@@ -0,0 +1,15 @@
+package com.server.running_handai.domain.spot.dto;
+
+import com.server.running_handai.domain.course.dto.ImageVariantsDto;
+
+public record SpotImageUrlDto(
+        String originalUrl, // [국문 관광정보 API]에서 제공하는 이미지 url
+        String imgUrl, // s3 url
+        String smallImgUrl,
+        String mediumImgUrl,
+        String placeholder
+) {
+    public ImageVariantsDto toImageVariants() {
+        return new ImageVariantsDto(imgUrl, smallImgUrl, mediumImgUrl, placeholder);
+    }
+}
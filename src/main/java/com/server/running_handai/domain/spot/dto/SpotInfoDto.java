@@ -1,19 +1,31 @@
 package com.server.running_handai.domain.spot.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.server.running_handai.domain.course.dto.ImageVariantsDto;
 import com.server.running_handai.domain.spot.entity.Spot;
 
 public record SpotInfoDto(
         long spotId,
         String name,
         String description,
-        String imageUrl
+        String imageUrl, // 카드용 중간 크기 이미지, 없으면 원본 이미지
+        @JsonInclude(JsonInclude.Include.NON_NULL) String imageOriginalUrl, // 아래 크기별 이미지는 클라이언트가 화면 크기에 맞게 선택
+        @JsonInclude(JsonInclude.Include.NON_NULL) String imageSmallUrl, // 너비 320px
+        @JsonInclude(JsonInclude.Include.NON_NULL) String imageMediumUrl, // 너비 720px
+        @JsonInclude(JsonInclude.Include.NON_NULL) String imagePlaceholder
 ) {
     public static SpotInfoDto from(Spot spot) {
+        ImageVariantsDto image = (spot.getSpotImage() != null)
+                ? ImageVariantsDto.from(spot.getSpotImage()) : ImageVariantsDto.original(null);
         return new SpotInfoDto(
                 spot.getId(),
                 spot.getName(),
                 spot.getDescription(),
-                spot.getSpotImage() != null ? spot.getSpotImage().getImgUrl() : null
+                image.mediumOrOriginal(),
+                image.imgUrl(),
+                image.smallImgUrl(),
+                image.mediumImgUrl(),
+                image.placeholder()
         );
     }
 }
@@ -1,5 +1,6 @@
 package com.server.running_handai.domain.spot.entity;
 
+import com.server.running_handai.domain.course.dto.ImageVariantsDto;
 import com.server.running_handai.global.entity.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -21,6 +22,15 @@ public class SpotImage extends BaseTimeEntity {
     @Column(name = "img_url", nullable = false)
     private String imgUrl; // s3 url
 
+    @Column(name = "small_img_url")
+    private String smallImgUrl; // 너비 320px s3 url
+
+    @Column(name = "medium_img_url")
+    private String mediumImgUrl; // 너비 720px s3 url
+
+    @Column(name = "placeholder", length = 2048)
+    private String placeholder; // 블러 플레이스홀더 data URI
+
     @Column(name = "original_url", nullable = false)
     private String originalUrl; // [국문 관광정보 API]에서 제공하는 이미지 url
 
@@ -29,18 +39,34 @@ public class SpotImage extends BaseTimeEntity {
     private Spot spot;
 
     @Builder
-    public SpotImage(String imgUrl, String originalUrl) {
+    public SpotImage(String imgUrl, String smallImgUrl, String mediumImgUrl, String placeholder, String originalUrl) {
         this.imgUrl = imgUrl;
+        this.smallImgUrl = smallImgUrl;
+        this.mediumImgUrl = mediumImgUrl;
+        this.placeholder = placeholder;
         this.originalUrl = originalUrl;
     }
 
+    public static SpotImage from(ImageVariantsDto image, String originalUrl) {
+        return SpotImage.builder()
+                .imgUrl(image.imgUrl())
+                .smallImgUrl(image.smallImgUrl())
+                .mediumImgUrl(image.mediumImgUrl())
+                .placeholder(image.placeholder())
+                .originalUrl(originalUrl)
+                .build();
+    }
+
     // ==== 연관관계 편의 메서드 ==== //
     protected void setSpot(Spot spot) {
         this.spot = spot;
     }
 
-    public void updateSpotImage(String imgUrl, String originalUrl) {
-        this.imgUrl = imgUrl;
+    public void updateSpotImage(ImageVariantsDto image, String originalUrl) {
+        this.imgUrl = image.imgUrl();
+        this.smallImgUrl = image.smallImgUrl();
+        this.mediumImgUrl = image.mediumImgUrl();
+        this.placeholder = image.placeholder();
         this.originalUrl = originalUrl;
     }
 }
@@ -0,0 +1,26 @@
+package com.server.running_handai.domain.spot.repository;
+
+import com.server.running_handai.domain.spot.dto.SpotImageUrlDto;
+import com.server.running_handai.domain.spot.entity.SpotImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SpotImageRepository extends JpaRepository<SpotImage, Long> {
+    /**
+     * 원본 이미지 URL 목록 중 이미 S3에 저장된 이미지의 원본 URL과 S3 URL(크기별 이미지 포함)을 조회합니다.
+     */
+    @Query("SELECT DISTINCT new com.server.running_handai.domain.spot.dto.SpotImageUrlDto(" +
+            "si.originalUrl, si.imgUrl, si.smallImgUrl, si.mediumImgUrl, si.placeholder) " +
+            "FROM SpotImage si " +
+            "WHERE si.originalUrl IN :originalUrls")
+    List<SpotImageUrlDto> findImageUrlsByOriginalUrlIn(@Param("originalUrls") Collection<String> originalUrls);
+
+    /**
+     * S3 URL을 사용하는 SpotImage가 있는지 확인합니다.
+     */
+    boolean existsByImgUrl(String imgUrl);
+}
@@ -47,7 +47,11 @@ public interface SpotRepository extends JpaRepository<Spot, Long> {
                         s.spot_id AS spotId,
                         s.name,
                         s.description,
-                        si.img_url AS imageUrl
+                        COALESCE(si.medium_img_url, si.img_url) AS imageUrl,
+                        si.img_url AS imageOriginalUrl,
+                        si.small_img_url AS imageSmallUrl,
+                        si.medium_img_url AS imageMediumUrl,
+                        si.placeholder AS imagePlaceholder
                     FROM
                         spot s
                     JOIN
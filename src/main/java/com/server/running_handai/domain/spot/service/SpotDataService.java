@@ -1,11 +1,11 @@
 package com.server.running_handai.domain.spot.service;
 
 import com.server.running_handai.domain.course.dto.CourseTrackPointDto;
+import com.server.running_handai.domain.course.dto.ImageVariantsDto;
+import com.server.running_handai.domain.course.dto.TrackCoordinates;
 import com.server.running_handai.domain.course.entity.Course;
-import com.server.running_handai.domain.course.entity.TrackPoint;
 import com.server.running_handai.domain.course.repository.CourseRepository;
-import com.server.running_handai.domain.course.repository.TrackPointRepository;
-import com.server.running_handai.domain.course.service.FileService;
+import com.server.running_handai.domain.course.repository.CourseTrackRepository;
 import com.server.running_handai.domain.spot.client.SpotApiClient;
 import com.server.running_handai.domain.spot.client.SpotLocationApiClient;
 import com.server.running_handai.domain.spot.client.SpotSyncApiClient;
@@ -38,10 +38,10 @@ public class SpotDataService {
     private final SpotApiClient spotApiClient;
     private final SpotSyncApiClient spotSyncApiClient;
     private final CourseRepository courseRepository;
-    private final TrackPointRepository trackPointRepository;
+    private final CourseTrackRepository courseTrackRepository;
     private final SpotRepository spotRepository;
     private final CourseSpotRepository courseSpotRepository;
-    private final FileService fileService;
+    private final SpotImageIngestionService spotImageIngestionService;
 
     // [국문 관광정보] 관광 타입
     private static final int TOURIST_SPOT_TYPE = 12;
@@ -59,12 +59,13 @@ public class SpotDataService {
     public void updateSpots(Long courseId) {
         Course course = courseRepository.findById(courseId).orElseThrow(() -> new BusinessException(ResponseCode.COURSE_NOT_FOUND));
 
-        List<TrackPoint> trackPoints = trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId());
-        TrackPoint startPoint = trackPoints.getFirst();
-        TrackPoint endPoint = trackPoints.getLast();
+        TrackCoordinates trackCoordinates = courseTrackRepository.findCoordinatesByCourseId(course.getId())
+                .filter(coordinates -> !coordinates.isEmpty())
+                .orElseThrow(() -> new BusinessException(ResponseCode.TRACK_POINTS_NOT_FOUND));
+        CourseTrackPointDto courseTrackPoint = CourseTrackPointDto.from(course.getId(), trackCoordinates);
 
         // 1. 장소 externalId 수집
-        Set<String> externalIds = fetchSpotsByLocationInParallel(startPoint, endPoint);
+        Set<String> externalIds = fetchSpotsByLocationInParallel(courseTrackPoint);
         log.info("[즐길거리 수정] 수집된 고유 externalId 개수: {}", externalIds.size());
 
         // 2. 수집된 externalId로 장소 정보 수집
@@ -245,7 +246,13 @@ public class SpotDataService {
         List<Spot> orphanedSpots = spotRepository.findSpotsWithoutCourses();
 
         if (!orphanedSpots.isEmpty()) {
+            List<ImageVariantsDto> images = orphanedSpots.stream()
+                    .map(Spot::getSpotImage)
+                    .filter(Objects::nonNull)
+                    .map(ImageVariantsDto::from)
+                    .toList();
             spotRepository.deleteAll(orphanedSpots);
+            images.forEach(spotImageIngestionService::releaseImage);
         }
 
         return orphanedSpots.size();
@@ -288,16 +295,15 @@ public class SpotDataService {
     /**
      * [국문 관광정보] 위치기반 관광정보 조회 API를 요청을 병렬로 요청해 4가지 조건(시작점, 도착점, 관광지, 음식점)에 해당하는 externalId를 수집합니다.
      *
-     * @param startPoint 시작점
-     * @param endPoint 도착점
+     * @param courseTrackPoint 코스의 시작점, 도착점
      * @return externalId Set
      */
-    private Set<String> fetchSpotsByLocationInParallel(TrackPoint startPoint, TrackPoint endPoint) {
+    private Set<String> fetchSpotsByLocationInParallel(CourseTrackPointDto courseTrackPoint) {
         List<Callable<Collection<String>>> tasks = List.of(
-                () -> fetchSpotsByLocation(startPoint.getLon(), startPoint.getLat(), TOURIST_SPOT_TYPE),
-                () -> fetchSpotsByLocation(endPoint.getLon(), endPoint.getLat(), TOURIST_SPOT_TYPE),
-                () -> fetchSpotsByLocation(startPoint.getLon(), startPoint.getLat(), RESTAURANT_TYPE),
-                () -> fetchSpotsByLocation(endPoint.getLon(), endPoint.getLat(), RESTAURANT_TYPE)
+                () -> fetchSpotsByLocation(courseTrackPoint.startPointLon(), courseTrackPoint.startPointLat(), TOURIST_SPOT_TYPE),
+                () -> fetchSpotsByLocation(courseTrackPoint.endPointLon(), courseTrackPoint.endPointLat(), TOURIST_SPOT_TYPE),
+                () -> fetchSpotsByLocation(courseTrackPoint.startPointLon(), courseTrackPoint.startPointLat(), RESTAURANT_TYPE),
+                () -> fetchSpotsByLocation(courseTrackPoint.endPointLon(), courseTrackPoint.endPointLat(), RESTAURANT_TYPE)
         );
 
         return tasks.parallelStream()
@@ -321,7 +327,7 @@ public class SpotDataService {
      * @return externalId Map
      */
     private Map<Long, Set<String>> fetchSpotsByLocationAllCourseInParallel() {
-        List<CourseTrackPointDto> courseTrackPoints = trackPointRepository.findAllCourseTrackPoint();
+        List<CourseTrackPointDto> courseTrackPoints = courseTrackRepository.findAllCourseTrackPoint();
         return courseTrackPoints.parallelStream()
                 .collect(Collectors.toConcurrentMap(
                         CourseTrackPointDto::courseId,
@@ -473,105 +479,137 @@ public class SpotDataService {
 
     /**
      * Spot 객체들을 생성합니다.
+     * 장소 이미지는 유효한 Spot의 이미지 URL을 모아 한 번에 S3 버킷에 저장합니다.
      *
      * @param items 공통정보 조회 API로부터 받은 응답
      * @return 새로 생성된 Spot List
      */
     private List<Spot> createSpots(List<SpotApiResponseDto.Item> items) {
-        List<Spot> newSpots = new ArrayList<>();
+        Map<Spot, String> spotImageOriginalUrls = new LinkedHashMap<>();
 
         for (SpotApiResponseDto.Item item : items) {
             Optional<Spot> spotOptional = createSpot(item);
-            spotOptional.ifPresent(spot -> {
-                SpotImage spotImage = createSpotImage(item);
-                if (spotImage != null) {
-                    spot.setSpotImage(spotImage);
-                }
-                newSpots.add(spot);
-            });
+            spotOptional.ifPresent(spot -> spotImageOriginalUrls.put(spot, selectSpotImageUrl(item)));
         }
 
-        return newSpots;
+        Map<String, ImageVariantsDto> images = ingestSpotImages(spotImageOriginalUrls.values());
+        spotImageOriginalUrls.forEach((spot, originalUrl) -> {
+            SpotImage spotImage = createSpotImage(originalUrl, images);
+            if (spotImage != null) {
+                spot.setSpotImage(spotImage);
+            }
+        });
+
+        return new ArrayList<>(spotImageOriginalUrls.keySet());
     }
 
     /**
-     * SpotImage 객체를 생성합니다.
-     * originalImage를 우선 저장하고, originalImage이 없는 경우 thumbnailImage를 저장합니다.
+     * SpotImage로 저장할 원본 이미지 URL을 선택합니다.
+     * originalImage를 우선 선택하고, originalImage이 없는 경우 thumbnailImage를 선택합니다.
      *
      * @param item 공통정보 조회 API로부터 받은 응답
-     * @return 새로 생성된 SpotImage 객체, 없으면 null
+     * @return 원본 이미지 URL, 없으면 null
      */
-    private SpotImage createSpotImage(SpotApiResponseDto.Item item) {
-        String originalImage = item.getSpotOriginalImage();
-        String thumbnailImage = item.getSpotThumbnailImage();
-
-        if (isFieldValid(originalImage, "spotOriginalImage", item.getSpotExternalId())) {
-            String s3FileUrl = fileService.uploadFileByUrl(originalImage, "spot");
-            return SpotImage.builder()
-                    .imgUrl(s3FileUrl)
-                    .originalUrl(originalImage)
-                    .build();
-        } else if (isFieldValid(thumbnailImage, "spotThumbnailImage", item.getSpotExternalId())) {
-            String s3FileUrl = fileService.uploadFileByUrl(thumbnailImage, "spot");
-            return SpotImage.builder()
-                    .imgUrl(s3FileUrl)
-                    .originalUrl(thumbnailImage)
-                    .build();
+    private String selectSpotImageUrl(SpotApiResponseDto.Item item) {
+        if (isFieldValid(item.getSpotOriginalImage(), "spotOriginalImage", item.getSpotExternalId())) {
+            return item.getSpotOriginalImage();
+        } else if (isFieldValid(item.getSpotThumbnailImage(), "spotThumbnailImage", item.getSpotExternalId())) {
+            return item.getSpotThumbnailImage();
         }
 
         return null;
     }
 
     /**
-     * API 데이터와 비교하여 Spot 엔티_티의 이미지를 업데이트합니다.
+     * 원본 이미지 URL들을 S3 버킷에 저장하고, 원본 URL별 S3 URL(크기별 이미지 포함)을 반환합니다.
+     *
+     * @param originalUrls 원본 이미지 URL (null 포함 가능)
+     * @return 원본 URL을 key로, S3에 저장된 이미지를 value로 하는 Map
+     */
+    private Map<String, ImageVariantsDto> ingestSpotImages(Collection<String> originalUrls) {
+        Set<String> urls = originalUrls.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (urls.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        return spotImageIngestionService.ingest(urls);
+    }
+
+    /**
+     * SpotImage 객체를 생성합니다.
+     *
+     * @param originalUrl 원본 이미지 URL
+     * @param images 원본 URL별 S3에 저장된 이미지
+     * @return 새로 생성된 SpotImage 객체, 원본 이미지가 없거나 저장에 실패했으면 null
+     */
+    private SpotImage createSpotImage(String originalUrl, Map<String, ImageVariantsDto> images) {
+        ImageVariantsDto image = (originalUrl != null) ? images.get(originalUrl) : null;
+
+        if (image == null) {
+            return null;
+        }
+
+        return SpotImage.from(image, originalUrl);
+    }
+
+    /**
+     * API 데이터의 이미지가 Spot에 저장된 이미지와 다른지 확인합니다.
      *
      * @param spot DB에서 조회한 기존 Spot 엔티티
      * @param item 공통정보 조회 API로부터 받은 응답
+     * @return 이미지 변경이 필요하면 true
      */
-    private void updateSpotImage(Spot spot, SpotApiResponseDto.Item item) {
+    private boolean isSpotImageChanged(Spot spot, SpotApiResponseDto.Item item) {
         SpotImage existingImage = spot.getSpotImage();
         String oldOriginalUrl = (existingImage != null) ? existingImage.getOriginalUrl() : null;
 
-        String newOriginalImage = item.getSpotOriginalImage();
-        String newThumbnailImage = item.getSpotThumbnailImage();
-
-        // 이미지 변경이 필요한지 확인
-        if (!Objects.equals(oldOriginalUrl, newOriginalImage) && !Objects.equals(oldOriginalUrl, newThumbnailImage)) {
-            String oldS3FileUrl = (existingImage != null) ? existingImage.getImgUrl() : null;
-            SpotImage newSpotImage = createSpotImage(item);
-
-            // 기존 이미지가 있는 경우
-            if (existingImage != null) {
-                if (newSpotImage != null) {
-                    existingImage.updateSpotImage(newSpotImage.getImgUrl(), newSpotImage.getOriginalUrl());
-                } else {
-                    // API 호출 시 새로운 이미지가 없으면 연관관계 삭제
-                    spot.setSpotImage(null);
-                }
+        return !Objects.equals(oldOriginalUrl, item.getSpotOriginalImage()) && !Objects.equals(oldOriginalUrl, item.getSpotThumbnailImage());
+    }
+
+    /**
+     * Spot 엔티티의 이미지를 새 이미지로 바꿉니다.
+     *
+     * @param spot DB에서 조회한 기존 Spot 엔티티
+     * @param newSpotImage 새 SpotImage 객체, 없으면 null
+     * @return 이전 이미지, 없으면 null
+     */
+    private ImageVariantsDto updateSpotImage(Spot spot, SpotImage newSpotImage) {
+        SpotImage existingImage = spot.getSpotImage();
+        ImageVariantsDto oldImage = (existingImage != null) ? ImageVariantsDto.from(existingImage) : null;
+
+        // 기존 이미지가 있는 경우
+        if (existingImage != null) {
+            if (newSpotImage != null) {
+                existingImage.updateSpotImage(ImageVariantsDto.from(newSpotImage), newSpotImage.getOriginalUrl());
             } else {
-                // 기존 이미지가 없는 경우
-                if (newSpotImage != null) {
-                    // 새 객체를 할당
-                    spot.setSpotImage(newSpotImage);
-                }
+                // API 호출 시 새로운 이미지가 없으면 연관관계 삭제
+                spot.setSpotImage(null);
             }
-
-            // 이전 S3 파일이 있었다면 삭제
-            if (oldS3FileUrl != null) {
-                fileService.deleteFile(oldS3FileUrl);
+        } else {
+            // 기존 이미지가 없는 경우
+            if (newSpotImage != null) {
+                // 새 객체를 할당
+                spot.setSpotImage(newSpotImage);
             }
         }
+
+        return oldImage;
     }
 
     /**
      * API 데이터와 비교하여 Spot을 업데이트합니다.
      * 기존 DB에 있는 Spot과 비교하여 변경 사항이 있을 경우 업데이트합니다.
+     * 이미지가 바뀐 Spot의 새 이미지는 한 번에 S3 버킷에 저장하고, 이전 이미지는 모든 변경을 반영한 뒤 다른 장소가 사용하지 않을 때만 삭제합니다.
      *
      * @param items 공통 관광정보 API에서 가져온 새로운 Spot 데이터
      * @return 업데이트된 Spot List
      */
     private List<Spot> updateSpots(List<SpotApiResponseDto.Item> items) {
         List<Spot> updatedSpots = new ArrayList<>();
+        Map<Spot, String> imageChangedSpots = new LinkedHashMap<>();
 
         for (SpotApiResponseDto.Item item : items) {
             Optional<Spot> newSpot = createSpot(item);
@@ -579,7 +617,9 @@ public class SpotDataService {
                 Spot spot = spotRepository.findByExternalId(item.getSpotExternalId());
                 if (spot != null) {
                     boolean isUpdated = spot.syncWith(newSpot.get());
-                    updateSpotImage(spot, item);
+                    if (isSpotImageChanged(spot, item)) {
+                        imageChangedSpots.put(spot, selectSpotImageUrl(item));
+                    }
                     if (isUpdated) {
                         updatedSpots.add(spot);
                     }
@@ -587,6 +627,22 @@ public class SpotDataService {
             }
         }
 
+        Map<String, ImageVariantsDto> images = ingestSpotImages(imageChangedSpots.values());
+        List<ImageVariantsDto> oldImages = new ArrayList<>();
+        imageChangedSpots.forEach((spot, originalUrl) -> {
+            // 새 이미지 저장에 실패한 경우 기존 이미지 유지
+            if (originalUrl != null && !images.containsKey(originalUrl)) {
+                return;
+            }
+            ImageVariantsDto oldImage = updateSpotImage(spot, createSpotImage(originalUrl, images));
+            if (oldImage != null) {
+                oldImages.add(oldImage);
+            }
+        });
+
+        // 이전 S3 파일이 있었다면 삭제
+        oldImages.forEach(spotImageIngestionService::releaseImage);
+
         return updatedSpots;
     }
 
@@ -602,8 +658,9 @@ public class SpotDataService {
         for (String externalId : toDelete) {
             Spot spot = spotRepository.findByExternalId(externalId);
             if (spot != null) {
+                ImageVariantsDto image = (spot.getSpotImage() != null) ? ImageVariantsDto.from(spot.getSpotImage()) : null;
                 spotRepository.delete(spot);
-                fileService.deleteFile(spot.getSpotImage().getImgUrl());
+                spotImageIngestionService.releaseImage(image);
                 deletedSpotCount++;
             }
         }
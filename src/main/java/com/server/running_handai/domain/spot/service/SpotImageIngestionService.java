@@ -0,0 +1,116 @@
+package com.server.running_handai.domain.spot.service;
+
+import com.server.running_handai.domain.course.dto.ImageVariantsDto;
+import com.server.running_handai.domain.course.service.FileService;
+import com.server.running_handai.domain.spot.dto.SpotImageUrlDto;
+import com.server.running_handai.domain.spot.repository.SpotImageRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * [국문 관광정보] 이미지 URL을 S3 버킷에 저장하는 즐길거리 이미지 수집 단계입니다.
+ * 같은 원본 URL은 한 번만 처리하고, 이미 저장된 원본 URL은 다운로드와 업로드 없이 기존 S3 URL을 재사용합니다.
+ * 새 이미지는 전용 스레드 풀에서 병렬로 내려받아 내용 해시를 파일 이름으로 저장하므로, 내용이 같은 이미지는 S3에 한 번만 저장됩니다.
+ * 저장할 때 목록 화면용 크기별 이미지와 블러 플레이스홀더도 함께 만듭니다.
+ */
+@Slf4j
+@Service
+public class SpotImageIngestionService {
+    private static final String SPOT_IMAGE_DIRECTORY = "spot";
+
+    private final FileService fileService;
+    private final SpotImageRepository spotImageRepository;
+    private final ThreadPoolTaskExecutor spotImageTaskExecutor;
+    private final Duration timeout;
+
+    public SpotImageIngestionService(
+            FileService fileService,
+            SpotImageRepository spotImageRepository,
+            @Qualifier("spotImageTaskExecutor") ThreadPoolTaskExecutor spotImageTaskExecutor,
+            @Value("${spot.image-ingestion.timeout:60s}") Duration timeout
+    ) {
+        this.fileService = fileService;
+        this.spotImageRepository = spotImageRepository;
+        this.spotImageTaskExecutor = spotImageTaskExecutor;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 원본 이미지 URL들을 S3 버킷에 저장하고, 원본 URL별 S3 URL(크기별 이미지 포함)을 반환합니다.
+     * 다운로드나 업로드에 실패했거나 제한 시간 안에 끝나지 않은 이미지는 결과에 포함하지 않습니다.
+     *
+     * @param originalUrls [국문 관광정보 API]에서 제공하는 이미지 URL
+     * @return 원본 URL을 key로, S3에 저장된 이미지를 value로 하는 Map
+     */
+    public Map<String, ImageVariantsDto> ingest(Collection<String> originalUrls) {
+        Set<String> distinctUrls = new LinkedHashSet<>(originalUrls);
+        Map<String, ImageVariantsDto> images = new HashMap<>();
+
+        // 1. 이미 저장된 원본 URL은 기존 S3 URL 재사용
+        for (SpotImageUrlDto spotImageUrl : spotImageRepository.findImageUrlsByOriginalUrlIn(distinctUrls)) {
+            images.putIfAbsent(spotImageUrl.originalUrl(), spotImageUrl.toImageVariants());
+        }
+
+        // 2. 새 원본 URL만 병렬로 다운로드 후 업로드
+        Map<String, CompletableFuture<ImageVariantsDto>> uploads = new LinkedHashMap<>();
+        for (String originalUrl : distinctUrls) {
+            if (!images.containsKey(originalUrl)) {
+                uploads.put(originalUrl, CompletableFuture.supplyAsync(
+                        () -> fileService.uploadImageByUrlDeduplicated(originalUrl, SPOT_IMAGE_DIRECTORY),
+                        spotImageTaskExecutor
+                ));
+            }
+        }
+
+        // 3. 전체 제한 시간 안에 끝난 업로드만 수집
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int failedCount = 0;
+        for (Map.Entry<String, CompletableFuture<ImageVariantsDto>> upload : uploads.entrySet()) {
+            try {
+                long remainingNanos = Math.max(0, deadline - System.nanoTime());
+                images.put(upload.getKey(), upload.getValue().get(remainingNanos, TimeUnit.NANOSECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("[즐길거리 이미지 수집] 대기 중 인터럽트 발생: originalUrl={}", upload.getKey());
+                failedCount++;
+            } catch (ExecutionException | TimeoutException e) {
+                log.warn("[즐길거리 이미지 수집] 이미지 저장 실패, 이미지 없이 진행: originalUrl={}, error={}", upload.getKey(), e.getMessage());
+                failedCount++;
+            }
+        }
+
+        log.info("[즐길거리 이미지 수집] 완료: 요청={}, 재사용={}, 새로 저장={}, 실패={}",
+                distinctUrls.size(), distinctUrls.size() - uploads.size(), uploads.size() - failedCount, failedCount);
+        return images;
+    }
+
+    /**
+     * 더 이상 사용하지 않는 즐길거리 이미지를 S3 버킷에서 삭제합니다. (크기별 이미지 포함)
+     * 내용이 같은 이미지는 여러 SpotImage가 같은 S3 파일을 공유하므로, 다른 SpotImage가 참조하고 있으면 삭제하지 않습니다.
+     * SpotImage 변경 사항이 반영된 뒤에 참조 여부를 확인해야 하므로, 연관관계를 정리한 다음 호출합니다.
+     *
+     * @param image 삭제할 이미지, null이면 아무것도 하지 않음
+     */
+    public void releaseImage(ImageVariantsDto image) {
+        if (image == null) {
+            return;
+        }
+
+        if (spotImageRepository.existsByImgUrl(image.imgUrl())) {
+            log.debug("[즐길거리 이미지 수집] 다른 장소가 사용 중인 이미지라 삭제하지 않음: imgUrl={}", image.imgUrl());
+            return;
+        }
+
+        image.fileUrls().forEach(fileService::deleteFile);
+    }
+}
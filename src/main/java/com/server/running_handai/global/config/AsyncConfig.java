@@ -1,6 +1,8 @@
 package com.server.running_handai.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -20,14 +22,40 @@ public class AsyncConfig {
         return executor;
     }
 
-    // GPX 파싱 전용 스레드 풀
+    // 두루누비 코스 동기화의 GPX 다운로드, 파싱 전용 스레드 풀 (대기 큐가 가득 차면 호출한 스레드에서 실행)
     @Bean(name = "gpxTaskExecutor")
-    public Executor gpxTaskExecutor() {
+    public ThreadPoolTaskExecutor gpxTaskExecutor(@Value("${course.durunubi-sync.gpx-concurrency:8}") int gpxConcurrency) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
+        executor.setCorePoolSize(gpxConcurrency); // 동시에 다운로드하는 GPX 파일 수
+        executor.setMaxPoolSize(gpxConcurrency);
         executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("SaveTrackPoints-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("DurunubiGpx-");
+        executor.initialize();
+        return executor;
+    }
+
+    // S3 비동기 업로드에서 업로드 스트림을 읽는 전용 스레드 풀
+    @Bean(name = "fileUploadTaskExecutor")
+    public ThreadPoolTaskExecutor fileUploadTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("FileUpload-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 즐길거리 이미지 다운로드, 업로드 전용 스레드 풀 (대기 큐가 가득 차면 호출한 스레드에서 실행)
+    @Bean(name = "spotImageTaskExecutor")
+    public ThreadPoolTaskExecutor spotImageTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("SpotImage-");
         executor.initialize();
         return executor;
     }
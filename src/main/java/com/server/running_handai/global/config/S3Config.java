@@ -0,0 +1,55 @@
+package com.server.running_handai.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+@Configuration
+public class S3Config {
+
+    /**
+     * Presigned URL 발급용 S3Presigner를 애플리케이션 전체에서 하나만 생성하여 재사용합니다.
+     * 요청마다 생성하면 자격 증명과 리전 확인, 내부 리소스 생성을 매번 반복하게 되므로, 종료 시에만 닫습니다.
+     */
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner(
+            @Value("${spring.cloud.aws.region.static}") String region,
+            @Value("${spring.cloud.aws.credentials.access-key}") String accessKey,
+            @Value("${spring.cloud.aws.credentials.secret-key}") String secretKey
+    ) {
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .build();
+    }
+
+    /**
+     * 코스 파일 비동기 업로드용 S3AsyncClient를 생성합니다.
+     * 임계값(multipart-threshold)보다 큰 파일은 part-size 단위로 나누어 병렬 멀티파트 업로드합니다.
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(
+            @Value("${spring.cloud.aws.region.static}") String region,
+            @Value("${spring.cloud.aws.credentials.access-key}") String accessKey,
+            @Value("${spring.cloud.aws.credentials.secret-key}") String secretKey,
+            @Value("${course.file-upload.multipart-threshold:8MB}") DataSize multipartThreshold,
+            @Value("${course.file-upload.part-size:8MB}") DataSize partSize
+    ) {
+        return S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThreshold.toBytes())
+                        .minimumPartSizeInBytes(partSize.toBytes())
+                        .build())
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.server.running_handai.global.response.ResponseCode;
 import com.server.running_handai.global.response.exception.BusinessException;
 import com.server.running_handai.domain.member.entity.Member;
 import com.server.running_handai.domain.member.repository.MemberRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,6 +27,7 @@ import java.util.Map;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, FilterChain filterChain)
@@ -38,14 +40,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // Access Token 검증 및 인증 처리
             if (token != null) {
-                if (!jwtProvider.isTokenValidate(token)) {
+                Claims claims = jwtProvider.verifyToken(token); // 서명, 만료 검증과 Claims 추출을 한 번에 수행
+                if (claims == null) {
                     log.warn("[JWT 인증] 유효하지 않은 토큰 - URI: {}", requestURI);
                     throw new BusinessException(ResponseCode.INVALID_ACCESS_TOKEN);
                 }
 
-                String id = jwtProvider.getId(token);
-                Long memberId = Long.parseLong(id);
-                Member member = memberRepository.findById(memberId).orElseThrow(() -> new BusinessException(ResponseCode.MEMBER_NOT_FOUND));
+                Long memberId = Long.parseLong(claims.getSubject());
+                Member member = memberPrincipalCache.getOrLoad(memberId, id ->
+                        memberRepository.findById(id).orElseThrow(() -> new BusinessException(ResponseCode.MEMBER_NOT_FOUND)));
 
                 // Access Token에서 가져온 사용자 정보로 Authentication 객체 만들어 Security Context에 저장
                 CustomOAuth2User CustomOAuth2User = new CustomOAuth2User(member, Map.of());
@@ -1,9 +1,12 @@
 package com.server.running_handai.global.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -11,7 +14,14 @@ import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
 public class JwtProvider {
@@ -25,17 +35,45 @@ public class JwtProvider {
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;
 
+    @Value("${jwt.verified-cache.max-entries:0}")
+    private int verifiedCacheMaxEntries; // 0이면 검증 결과 캐시를 사용하지 않음
+
+    @Value("${jwt.verified-cache.ttl:30s}")
+    private Duration verifiedCacheTtl;
+
     private static final long FORTY_DAYS_IN_MS = 1000L * 60 * 60 * 24 * 40;
 
+    private SecretKey signingKey; // 시작 시 한 번만 디코딩
+    private JwtParser jwtParser; // 불변 객체이므로 여러 스레드에서 공유
+    private Map<String, VerifiedToken> verifiedTokens; // 토큰 SHA-256 해시 -> 검증된 Claims, 접근 순서를 유지하는 LRU, 자신으로 동기화
+
+    private record VerifiedToken(Claims claims, long expiresAt) {
+    }
+
+    /**
+     * Base64로 인코딩된 Secret Key를 HMAC 서명용 Secret Key 객체로 한 번만 변환하고, 이 키로 검증하는 Parser를 미리 생성합니다.
+     */
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        if (verifiedCacheMaxEntries > 0) {
+            this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                    return size() > verifiedCacheMaxEntries;
+                }
+            };
+        }
+    }
+
     /**
-     * Secret Key 객체를 생성합니다.
-     * Base64로 인코딩된 Secret Key를 디코딩하여 HMAC 서명용 Secret Key 객체로 반환합니다.
+     * Jwt 서명에 사용할 Secret Key 객체를 반환합니다.
      *
      * @return Jwt 서명에 사용할 Secret Key 객체
      */
     private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     /**
@@ -77,18 +115,65 @@ public class JwtProvider {
      * @return 토큰이 유효하면 true, 아니면 false
      */
     public boolean isTokenValidate(String token) {
+        return verifyToken(token) != null;
+    }
+
+    /**
+     * Jwt Token의 유효성(서명, 만료 등)을 한 번만 검증하고, 검증된 Claims를 반환합니다.
+     * 검증 결과 캐시를 사용하면 최근 검증한 토큰은 토큰 해시로 찾아 서명 검증을 생략하며, 캐시 항목은 토큰 만료 시각을 넘겨 유지하지 않습니다.
+     *
+     * @param token 검증할 Jwt Token
+     * @return 검증된 Claims, 서명 오류나 형식 오류 등으로 유효하지 않으면 null
+     * @throws ExpiredJwtException 토큰이 만료된 경우
+     */
+    public Claims verifyToken(String token) {
+        if (verifiedTokens == null) {
+            return parseClaims(token);
+        }
+
+        String tokenHash = hash(token);
+        long now = System.currentTimeMillis();
+        synchronized (verifiedTokens) {
+            VerifiedToken verified = verifiedTokens.get(tokenHash);
+            if (verified != null && verified.expiresAt() > now) {
+                return verified.claims();
+            }
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims != null) {
+            long expiresAt = now + verifiedCacheTtl.toMillis();
+            if (claims.getExpiration() != null) {
+                expiresAt = Math.min(expiresAt, claims.getExpiration().getTime());
+            }
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(tokenHash, new VerifiedToken(claims, expiresAt));
+            }
+        }
+        return claims;
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             // 만료 예외
             throw e;
         } catch (JwtException e) {
             // 기타 JWT 관련 예외 (서명 오류, 형식 오류 등)
-            return false;
+            return null;
         } catch (Exception e) {
             // 예상치 못한 예외
-            return false;
+            return null;
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 지원하지 않는 환경입니다.", e);
         }
     }
 
@@ -99,12 +184,7 @@ public class JwtProvider {
      * @return Access Token에 담긴 사용자 id
      */
     public String getId(String accessToken) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(accessToken)
-                .getBody()
-                .getSubject();
+        return jwtParser.parseClaimsJws(accessToken).getBody().getSubject();
     }
 
     /**
@@ -0,0 +1,131 @@
+package com.server.running_handai.global.jwt;
+
+import com.server.running_handai.domain.member.entity.Member;
+import com.server.running_handai.domain.member.event.MemberChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * JWT 인증 시 Access Token의 회원 ID로 조회한 회원을 캐시합니다.
+ * 인증된 모든 요청마다 회원을 조회하지 않도록, 조회한 회원을 TTL 동안 재사용하며 최대 항목 수를 넘으면 가장 오래 사용하지 않은 회원부터 제거합니다.
+ * 캐시된 회원은 준영속 상태이므로 ID, 닉네임, 역할 등 컬럼 값만 사용해야 하며, 연관 컬렉션을 지연 로딩해서는 안 됩니다.
+ * 닉네임/역할이 수정되거나 회원이 삭제되면 MemberChangedEvent를 받아 즉시 제거합니다.
+ */
+@Slf4j
+@Component
+public class MemberPrincipalCache {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final Map<Long, CacheEntry> entries; // 접근 순서를 유지하는 LRU, this로 동기화
+    private final AtomicLong generation = new AtomicLong(); // 제거될 때마다 증가, 제거 이전에 시작된 조회 결과는 저장하지 않음
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+
+    public MemberPrincipalCache(
+            MeterRegistry meterRegistry,
+            @Value("${member.principal-cache.max-entries:10000}") int maxEntries,
+            @Value("${member.principal-cache.ttl:5m}") Duration ttl
+    ) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CacheEntry> eldest) {
+                return size() > MemberPrincipalCache.this.maxEntries;
+            }
+        };
+
+        this.hitCounter = Counter.builder("member.principal.cache.requests")
+                .description("인증 회원 캐시 요청 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("member.principal.cache.requests")
+                .description("인증 회원 캐시 요청 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictionCounter = Counter.builder("member.principal.cache.evictions")
+                .description("회원 정보 변경으로 제거된 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("member.principal.cache.size", this, MemberPrincipalCache::size)
+                .description("인증 회원 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    private record CacheEntry(Member member, long expiresAt) {
+    }
+
+    /**
+     * 캐시된 회원을 반환하고, 없으면 loader로 조회하여 저장합니다.
+     *
+     * @param memberId 회원 ID
+     * @param loader 캐시에 없을 때 회원을 조회하는 함수 (회원이 없으면 예외를 던져야 하며, 예외는 캐시하지 않음)
+     * @return 회원
+     */
+    public Member getOrLoad(Long memberId, Function<Long, Member> loader) {
+        long now = System.currentTimeMillis();
+
+        CacheEntry cached = get(memberId, now);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached.member();
+        }
+        missCounter.increment();
+
+        long loadGeneration = generation.get();
+        Member member = loader.apply(memberId);
+        put(memberId, new CacheEntry(member, now + ttlMillis), loadGeneration);
+        return member;
+    }
+
+    /**
+     * 회원 정보가 변경되거나 회원이 삭제되면 해당 회원을 캐시에서 제거합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMemberChangedEvent(MemberChangedEvent event) {
+        boolean evicted = evict(event.memberId());
+        log.debug("[인증 회원 캐시] 회원 변경으로 캐시 제거: memberId={}, 제거 여부={}", event.memberId(), evicted);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized CacheEntry get(Long memberId, long now) {
+        CacheEntry entry = entries.get(memberId);
+        if (entry != null && entry.expiresAt() <= now) {
+            entries.remove(memberId);
+            return null;
+        }
+        return entry;
+    }
+
+    private synchronized void put(Long memberId, CacheEntry entry, long loadGeneration) {
+        if (generation.get() != loadGeneration) {
+            return; // 조회 도중 회원 정보가 변경되었다면 이전 데이터일 수 있으므로 저장하지 않음
+        }
+        entries.put(memberId, entry);
+    }
+
+    private synchronized boolean evict(Long memberId) {
+        generation.incrementAndGet();
+        boolean evicted = entries.remove(memberId) != null;
+        if (evicted) {
+            evictionCounter.increment();
+        }
+        return evicted;
+    }
+}
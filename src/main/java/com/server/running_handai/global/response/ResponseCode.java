@@ -26,6 +26,14 @@ public enum ResponseCode {
     INVALID_AREA_PARAMETER(BAD_REQUEST, "지역 파라미터가 올바르지 않습니다."),
     INVALID_THEME_PARAMETER(BAD_REQUEST, "테마 파라미터가 올바르지 않습니다."),
     INVALID_COURSE_FILTER_TYPE(BAD_REQUEST, "코스 필터링 옵션이 올바르지 않습니다."),
+    INVALID_LIMIT_PARAMETER(BAD_REQUEST, "조회 개수는 1 이상이어야 합니다."),
+    INVALID_RADIUS_PARAMETER(BAD_REQUEST, "조회 반경은 1m 이상이어야 합니다."),
+    INVALID_PAGE_SIZE_PARAMETER(BAD_REQUEST, "페이지 크기는 1 이상이어야 합니다."),
+    INVALID_CURSOR_PARAMETER(BAD_REQUEST, "커서 값이 올바르지 않습니다."),
+    INVALID_TILE_COORDINATE(BAD_REQUEST, "타일 좌표가 올바르지 않습니다."),
+    INVALID_TRACK_DETAIL_PARAMETER(BAD_REQUEST, "경로 상세 수준 파라미터가 올바르지 않습니다."),
+    INVALID_TRACK_FORMAT_PARAMETER(BAD_REQUEST, "경로 응답 형식 파라미터가 올바르지 않습니다."),
+    INVALID_IMAGE_PROXY_URL(BAD_REQUEST, "프록시로 요청할 수 없는 이미지 URL입니다."),
     ALREADY_BOOKMARKED(BAD_REQUEST, "이미 북마크한 코스입니다."),
     INVALID_PROVIDER(BAD_REQUEST, "지원하지 않는 OAuth2 Provider입니다"),
     INVALID_REVIEW_STARS(BAD_REQUEST, "별점은 0.5점 단위여야합니다."),
@@ -0,0 +1,48 @@
+package com.server.running_handai.global.util;
+
+import org.locationtech.jts.geom.Envelope;
+
+public class GeoUtil {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    /**
+     * 두 좌표 간 거리를 하버사인 공식으로 계산합니다.
+     *
+     * @param lat1 첫 번째 위도
+     * @param lon1 첫 번째 경도
+     * @param lat2 두 번째 위도
+     * @param lon2 두 번째 경도
+     * @return 두 지점 간 거리 (m)
+     */
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    /**
+     * 중심 좌표에서 반경(m)만큼의 원을 포함하는 사각형 영역(MBR)을 만듭니다.
+     * 경도 1도의 거리는 위도에 따라 줄어들기 때문에 cos(위도)로 보정합니다.
+     *
+     * @param lat 중심 위도
+     * @param lon 중심 경도
+     * @param radiusMeters 반경 (m)
+     * @return 사각형 영역 (x: 경도, y: 위도)
+     */
+    public static Envelope createEnvelope(double lat, double lon, double radiusMeters) {
+        double latDelta = radiusMeters / METERS_PER_DEGREE;
+        double cosLat = Math.max(Math.cos(Math.toRadians(lat)), 0.01);
+        double lonDelta = radiusMeters / (METERS_PER_DEGREE * cosLat);
+
+        double minLat = Math.max(lat - latDelta, -90.0);
+        double maxLat = Math.min(lat + latDelta, 90.0);
+        double minLon = (lonDelta >= 180.0) ? -180.0 : Math.max(lon - lonDelta, -180.0);
+        double maxLon = (lonDelta >= 180.0) ? 180.0 : Math.min(lon + lonDelta, 180.0);
+        return new Envelope(minLon, maxLon, minLat, maxLat);
+    }
+}
@@ -0,0 +1,94 @@
+package com.server.running_handai.global.util;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+/**
+ * 이미지를 목록 화면용 작은 크기로 줄여 JPEG으로 인코딩합니다.
+ * 투명 영역은 흰색 배경으로 채우고, 비율은 유지한 채 너비 기준으로 줄입니다.
+ * 블러 플레이스홀더는 아주 작은 JPEG을 data URI로 만든 것으로, 클라이언트가 늘려서 흐리게 보여주는 용도입니다.
+ */
+public class ImageResizer {
+
+    public static final int PLACEHOLDER_WIDTH = 16;
+    private static final float VARIANT_QUALITY = 0.8f;
+    private static final float PLACEHOLDER_QUALITY = 0.5f;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 바이트 배열을 이미지로 읽습니다.
+     *
+     * @param content 이미지 파일 내용
+     * @return 읽은 이미지, ImageIO가 지원하지 않는 형식(WebP 등)이면 null
+     */
+    public static BufferedImage read(byte[] content) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * 이미지를 지정한 너비로 줄여 JPEG으로 인코딩합니다.
+     *
+     * @param image 원본 이미지
+     * @param width 줄일 너비 (px)
+     * @return JPEG 바이트 배열
+     */
+    public static byte[] resizeToJpeg(BufferedImage image, int width) throws IOException {
+        return writeJpeg(resize(image, width), VARIANT_QUALITY);
+    }
+
+    /**
+     * 이미지를 블러 플레이스홀더용 data URI로 만듭니다.
+     *
+     * @param image 원본 이미지
+     * @return "data:image/jpeg;base64,..." 형식의 문자열
+     */
+    public static String toPlaceholder(BufferedImage image) throws IOException {
+        byte[] jpeg = writeJpeg(resize(image, PLACEHOLDER_WIDTH), PLACEHOLDER_QUALITY);
+        return "data:image/jpeg;base64," + Base64.getEncoder().encodeToString(jpeg);
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width) {
+        int targetWidth = Math.min(width, image.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) image.getHeight() * targetWidth / image.getWidth()));
+
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.drawImage(image, 0, 0, targetWidth, targetHeight, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static byte[] writeJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(imageOut);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
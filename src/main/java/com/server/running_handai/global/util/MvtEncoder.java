@@ -0,0 +1,387 @@
+package com.server.running_handai.global.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.locationtech.jts.geom.Envelope;
+
+/**
+ * Mapbox Vector Tile(MVT, 버전 2) 형식으로 포인트와 라인 피처를 인코딩합니다.
+ * 좌표는 타일 내부 좌표(0 ~ extent)로 받으며, 라인은 버퍼를 포함한 타일 영역으로 잘라(clip) 저장합니다.
+ * 필요한 기능(포인트, 라인, 문자열/숫자 속성)만 구현하여 protobuf 라이브러리 없이 직접 인코딩합니다.
+ *
+ * @see <a href="https://github.com/mapbox/vector-tile-spec/tree/master/2.1">Vector Tile Specification 2.1</a>
+ */
+public class MvtEncoder {
+
+    public static final String MEDIA_TYPE = "application/vnd.mapbox-vector-tile";
+    public static final int DEFAULT_EXTENT = 4096;
+    public static final int DEFAULT_BUFFER = 64;
+
+    // protobuf wire type
+    private static final int WIRE_VARINT = 0;
+    private static final int WIRE_FIXED64 = 1;
+    private static final int WIRE_LENGTH_DELIMITED = 2;
+
+    // MVT geometry type, command
+    private static final int GEOM_TYPE_POINT = 1;
+    private static final int GEOM_TYPE_LINESTRING = 2;
+    private static final int COMMAND_MOVE_TO = 1;
+    private static final int COMMAND_LINE_TO = 2;
+
+    private final int extent;
+    private final int buffer;
+    private final Map<String, Layer> layers = new LinkedHashMap<>();
+
+    public MvtEncoder() {
+        this(DEFAULT_EXTENT, DEFAULT_BUFFER);
+    }
+
+    public MvtEncoder(int extent, int buffer) {
+        this.extent = extent;
+        this.buffer = buffer;
+    }
+
+    /**
+     * 웹 메르카토르 타일(z/x/y)이 덮는 영역을 경위도로 계산합니다.
+     *
+     * @return 타일 영역 (x: 경도, y: 위도)
+     */
+    public static Envelope tileEnvelope(int z, int x, int y) {
+        double n = 1 << z;
+        double minLon = x / n * 360.0 - 180.0;
+        double maxLon = (x + 1) / n * 360.0 - 180.0;
+        double maxLat = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y / n))));
+        double minLat = Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * (y + 1) / n))));
+        return new Envelope(minLon, maxLon, minLat, maxLat);
+    }
+
+    /**
+     * 경도를 타일 내부 x 좌표로 변환합니다.
+     */
+    public double toTileX(double lon, int z, int x) {
+        return ((lon + 180.0) / 360.0 * (1 << z) - x) * extent;
+    }
+
+    /**
+     * 위도를 타일 내부 y 좌표로 변환합니다. (타일 위쪽이 0)
+     */
+    public double toTileY(double lat, int z, int y) {
+        double latRad = Math.toRadians(lat);
+        double mercatorY = (1 - Math.log(Math.tan(latRad) + 1 / Math.cos(latRad)) / Math.PI) / 2;
+        return (mercatorY * (1 << z) - y) * extent;
+    }
+
+    /**
+     * 이름에 해당하는 레이어를 반환합니다. 없으면 새로 만듭니다.
+     */
+    public Layer layer(String name) {
+        return layers.computeIfAbsent(name, Layer::new);
+    }
+
+    /**
+     * 피처가 하나도 없는지 확인합니다.
+     */
+    public boolean isEmpty() {
+        return layers.values().stream().allMatch(layer -> layer.features.isEmpty());
+    }
+
+    /**
+     * 피처가 있는 레이어를 MVT 바이트 배열로 인코딩합니다.
+     */
+    public byte[] encode() {
+        ProtobufWriter tile = new ProtobufWriter();
+        for (Layer layer : layers.values()) {
+            if (!layer.features.isEmpty()) {
+                tile.writeBytes(3, layer.encode());
+            }
+        }
+        return tile.toByteArray();
+    }
+
+    public class Layer {
+        private final String name;
+        private final List<byte[]> features = new ArrayList<>();
+        private final Map<String, Integer> keys = new LinkedHashMap<>();
+        private final Map<Object, Integer> values = new LinkedHashMap<>();
+
+        private Layer(String name) {
+            this.name = name;
+        }
+
+        /**
+         * 포인트 피처를 추가합니다. 타일 영역(버퍼 포함) 밖의 포인트는 무시합니다.
+         *
+         * @return 피처가 추가되었는지 여부
+         */
+        public boolean addPoint(long id, Map<String, ?> attributes, double tileX, double tileY) {
+            int px = (int) Math.round(tileX);
+            int py = (int) Math.round(tileY);
+            if (!isInsideClipBox(px, py)) {
+                return false;
+            }
+            GeometryWriter geometry = new GeometryWriter();
+            geometry.command(COMMAND_MOVE_TO, 1);
+            geometry.moveCursor(px, py);
+            addFeature(id, attributes, GEOM_TYPE_POINT, geometry.toArray());
+            return true;
+        }
+
+        /**
+         * 라인 피처를 추가합니다. 타일 영역(버퍼 포함)으로 잘라낸 구간들을 하나의 피처(MultiLineString)로 저장합니다.
+         *
+         * @param tileXs 타일 내부 x 좌표 배열
+         * @param tileYs 타일 내부 y 좌표 배열
+         * @return 타일 영역에 걸치는 구간이 있어 피처가 추가되었는지 여부
+         */
+        public boolean addLineString(long id, Map<String, ?> attributes, double[] tileXs, double[] tileYs) {
+            List<List<int[]>> parts = clipLine(tileXs, tileYs);
+            if (parts.isEmpty()) {
+                return false;
+            }
+            GeometryWriter geometry = new GeometryWriter();
+            for (List<int[]> part : parts) {
+                geometry.command(COMMAND_MOVE_TO, 1);
+                geometry.moveCursor(part.getFirst()[0], part.getFirst()[1]);
+                geometry.command(COMMAND_LINE_TO, part.size() - 1);
+                for (int i = 1; i < part.size(); i++) {
+                    geometry.moveCursor(part.get(i)[0], part.get(i)[1]);
+                }
+            }
+            addFeature(id, attributes, GEOM_TYPE_LINESTRING, geometry.toArray());
+            return true;
+        }
+
+        private void addFeature(long id, Map<String, ?> attributes, int geometryType, int[] geometry) {
+            List<Integer> tags = new ArrayList<>();
+            for (Map.Entry<String, ?> attribute : attributes.entrySet()) {
+                if (attribute.getValue() == null) {
+                    continue;
+                }
+                tags.add(keys.computeIfAbsent(attribute.getKey(), key -> keys.size()));
+                tags.add(values.computeIfAbsent(attribute.getValue(), value -> values.size()));
+            }
+
+            ProtobufWriter feature = new ProtobufWriter();
+            feature.writeVarint(1, id);
+            feature.writePackedVarints(2, tags.stream().mapToInt(Integer::intValue).toArray());
+            feature.writeVarint(3, geometryType);
+            feature.writePackedVarints(4, geometry);
+            features.add(feature.toByteArray());
+        }
+
+        private byte[] encode() {
+            ProtobufWriter layer = new ProtobufWriter();
+            layer.writeVarint(15, 2); // version
+            layer.writeString(1, name);
+            features.forEach(feature -> layer.writeBytes(2, feature));
+            keys.keySet().forEach(key -> layer.writeString(3, key));
+            values.keySet().forEach(value -> layer.writeBytes(4, encodeValue(value)));
+            layer.writeVarint(5, extent);
+            return layer.toByteArray();
+        }
+
+        private byte[] encodeValue(Object value) {
+            ProtobufWriter writer = new ProtobufWriter();
+            switch (value) {
+                case String stringValue -> writer.writeString(1, stringValue);
+                case Double doubleValue -> writer.writeDouble(3, doubleValue);
+                case Float floatValue -> writer.writeDouble(3, floatValue);
+                case Boolean booleanValue -> writer.writeVarint(7, booleanValue ? 1 : 0);
+                case Number number when number.longValue() >= 0 -> writer.writeVarint(4, number.longValue());
+                case Number number -> writer.writeVarint(6, zigZag(number.longValue()));
+                default -> writer.writeString(1, value.toString());
+            }
+            return writer.toByteArray();
+        }
+    }
+
+    private boolean isInsideClipBox(int px, int py) {
+        return px >= -buffer && px <= extent + buffer && py >= -buffer && py <= extent + buffer;
+    }
+
+    /**
+     * 라인을 버퍼를 포함한 타일 영역으로 잘라 정수 좌표 구간 목록으로 만듭니다. (Cohen-Sutherland 방식)
+     * 정수로 반올림한 뒤 같은 좌표가 연속되면 하나로 합치며, 포인트가 2개 미만인 구간은 버립니다.
+     */
+    private List<List<int[]>> clipLine(double[] xs, double[] ys) {
+        double min = -buffer;
+        double max = extent + buffer;
+        List<List<int[]>> parts = new ArrayList<>();
+        List<int[]> current = new ArrayList<>();
+
+        for (int i = 0; i + 1 < xs.length; i++) {
+            double[] segment = clipSegment(xs[i], ys[i], xs[i + 1], ys[i + 1], min, max);
+            if (segment == null) {
+                closePart(parts, current);
+                current = new ArrayList<>();
+                continue;
+            }
+            appendPoint(current, segment[0], segment[1]);
+            appendPoint(current, segment[2], segment[3]);
+            // 다음 점이 잘려나갔다면 현재 구간을 마무리
+            if (segment[2] != xs[i + 1] || segment[3] != ys[i + 1]) {
+                closePart(parts, current);
+                current = new ArrayList<>();
+            }
+        }
+        closePart(parts, current);
+        return parts;
+    }
+
+    private void appendPoint(List<int[]> part, double x, double y) {
+        int px = (int) Math.round(x);
+        int py = (int) Math.round(y);
+        if (!part.isEmpty()) {
+            int[] last = part.getLast();
+            if (last[0] == px && last[1] == py) {
+                return;
+            }
+        }
+        part.add(new int[]{px, py});
+    }
+
+    private void closePart(List<List<int[]>> parts, List<int[]> part) {
+        if (part.size() >= 2) {
+            parts.add(part);
+        }
+    }
+
+    private static double[] clipSegment(double x0, double y0, double x1, double y1, double min, double max) {
+        int code0 = outCode(x0, y0, min, max);
+        int code1 = outCode(x1, y1, min, max);
+        while (true) {
+            if ((code0 | code1) == 0) {
+                return new double[]{x0, y0, x1, y1};
+            }
+            if ((code0 & code1) != 0) {
+                return null;
+            }
+            int code = (code0 != 0) ? code0 : code1;
+            double x;
+            double y;
+            if ((code & 8) != 0) { // 아래 (y > max)
+                x = x0 + (x1 - x0) * (max - y0) / (y1 - y0);
+                y = max;
+            } else if ((code & 4) != 0) { // 위 (y < min)
+                x = x0 + (x1 - x0) * (min - y0) / (y1 - y0);
+                y = min;
+            } else if ((code & 2) != 0) { // 오른쪽 (x > max)
+                y = y0 + (y1 - y0) * (max - x0) / (x1 - x0);
+                x = max;
+            } else { // 왼쪽 (x < min)
+                y = y0 + (y1 - y0) * (min - x0) / (x1 - x0);
+                x = min;
+            }
+            if (code == code0) {
+                x0 = x;
+                y0 = y;
+                code0 = outCode(x0, y0, min, max);
+            } else {
+                x1 = x;
+                y1 = y;
+                code1 = outCode(x1, y1, min, max);
+            }
+        }
+    }
+
+    private static int outCode(double x, double y, double min, double max) {
+        int code = 0;
+        if (x < min) {
+            code |= 1;
+        } else if (x > max) {
+            code |= 2;
+        }
+        if (y < min) {
+            code |= 4;
+        } else if (y > max) {
+            code |= 8;
+        }
+        return code;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * MVT geometry 명령어와 커서 기준 상대 좌표(ZigZag)를 기록합니다.
+     */
+    private static class GeometryWriter {
+        private final List<Integer> values = new ArrayList<>();
+        private int cursorX;
+        private int cursorY;
+
+        void command(int commandId, int count) {
+            values.add((commandId & 0x7) | (count << 3));
+        }
+
+        void moveCursor(int x, int y) {
+            values.add((int) zigZag(x - cursorX));
+            values.add((int) zigZag(y - cursorY));
+            cursorX = x;
+            cursorY = y;
+        }
+
+        int[] toArray() {
+            return values.stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    /**
+     * MVT 인코딩에 필요한 protobuf 필드만 기록합니다.
+     */
+    private static class ProtobufWriter {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        void writeVarint(int field, long value) {
+            writeTag(field, WIRE_VARINT);
+            writeRawVarint(value);
+        }
+
+        void writeDouble(int field, double value) {
+            writeTag(field, WIRE_FIXED64);
+            long bits = Double.doubleToLongBits(value);
+            for (int i = 0; i < 8; i++) {
+                out.write((int) (bits >>> (8 * i)) & 0xFF);
+            }
+        }
+
+        void writeString(int field, String value) {
+            writeBytes(field, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeBytes(int field, byte[] value) {
+            writeTag(field, WIRE_LENGTH_DELIMITED);
+            writeRawVarint(value.length);
+            out.writeBytes(value);
+        }
+
+        void writePackedVarints(int field, int[] values) {
+            ProtobufWriter packed = new ProtobufWriter();
+            for (int value : values) {
+                packed.writeRawVarint(Integer.toUnsignedLong(value));
+            }
+            writeBytes(field, packed.toByteArray());
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+
+        private void writeTag(int field, int wireType) {
+            writeRawVarint(((long) field << 3) | wireType);
+        }
+
+        private void writeRawVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.server.running_handai.global.util;
+
+import com.server.running_handai.domain.course.dto.TrackPointDto;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 트랙포인트를 Google Encoded Polyline 알고리즘으로 인코딩하고 디코딩합니다.
+ * 위도/경도는 표준 정밀도(소수점 5자리)로 한 문자열에, 고도는 소수점 1자리로 별도의 문자열에 같은 순서로 인코딩합니다.
+ *
+ * @see <a href="https://developers.google.com/maps/documentation/utilities/polylinealgorithm">Encoded Polyline Algorithm Format</a>
+ */
+public class PolylineEncoder {
+
+    public static final int COORDINATE_PRECISION = 5;
+    public static final int ELEVATION_PRECISION = 1;
+
+    private static final double COORDINATE_FACTOR = Math.pow(10, COORDINATE_PRECISION);
+    private static final double ELEVATION_FACTOR = Math.pow(10, ELEVATION_PRECISION);
+
+    private PolylineEncoder() {
+    }
+
+    /**
+     * 트랙포인트의 위도, 경도를 (위도, 경도) 순서로 인코딩합니다.
+     *
+     * @param trackPoints 인코딩할 트랙포인트 리스트
+     * @return 인코딩된 polyline 문자열
+     */
+    public static String encodeCoordinates(List<TrackPointDto> trackPoints) {
+        StringBuilder result = new StringBuilder(trackPoints.size() * 8);
+        long previousLat = 0;
+        long previousLon = 0;
+        for (TrackPointDto trackPoint : trackPoints) {
+            long lat = Math.round(trackPoint.lat() * COORDINATE_FACTOR);
+            long lon = Math.round(trackPoint.lon() * COORDINATE_FACTOR);
+            encodeValue(lat - previousLat, result);
+            encodeValue(lon - previousLon, result);
+            previousLat = lat;
+            previousLon = lon;
+        }
+        return result.toString();
+    }
+
+    /**
+     * 트랙포인트의 고도를 인코딩합니다.
+     *
+     * @param trackPoints 인코딩할 트랙포인트 리스트
+     * @return 인코딩된 고도 문자열
+     */
+    public static String encodeElevations(List<TrackPointDto> trackPoints) {
+        StringBuilder result = new StringBuilder(trackPoints.size() * 2);
+        long previousEle = 0;
+        for (TrackPointDto trackPoint : trackPoints) {
+            long ele = Math.round(trackPoint.ele() * ELEVATION_FACTOR);
+            encodeValue(ele - previousEle, result);
+            previousEle = ele;
+        }
+        return result.toString();
+    }
+
+    /**
+     * 인코딩된 위도, 경도와 고도 문자열을 트랙포인트 리스트로 디코딩합니다.
+     *
+     * @param polyline 인코딩된 polyline 문자열
+     * @param elevations 인코딩된 고도 문자열
+     * @return 디코딩된 트랙포인트 리스트
+     * @throws IllegalArgumentException 문자열 형식이 올바르지 않거나 좌표와 고도의 개수가 다른 경우
+     */
+    public static List<TrackPointDto> decode(String polyline, String elevations) {
+        List<TrackPointDto> trackPoints = new ArrayList<>();
+        int[] polylineIndex = {0};
+        int[] elevationIndex = {0};
+        long lat = 0;
+        long lon = 0;
+        long ele = 0;
+        while (polylineIndex[0] < polyline.length()) {
+            lat += decodeValue(polyline, polylineIndex);
+            lon += decodeValue(polyline, polylineIndex);
+            ele += decodeValue(elevations, elevationIndex);
+            trackPoints.add(new TrackPointDto(lat / COORDINATE_FACTOR, lon / COORDINATE_FACTOR, ele / ELEVATION_FACTOR));
+        }
+        if (elevationIndex[0] != elevations.length()) {
+            throw new IllegalArgumentException("좌표와 고도의 개수가 다릅니다.");
+        }
+        return trackPoints;
+    }
+
+    private static void encodeValue(long delta, StringBuilder result) {
+        long value = delta < 0 ? ~(delta << 1) : (delta << 1);
+        while (value >= 0x20) {
+            result.append((char) ((0x20 | (value & 0x1F)) + 63));
+            value >>= 5;
+        }
+        result.append((char) (value + 63));
+    }
+
+    private static long decodeValue(String encoded, int[] index) {
+        long result = 0;
+        int shift = 0;
+        int chunk;
+        do {
+            if (index[0] >= encoded.length()) {
+                throw new IllegalArgumentException("인코딩된 문자열이 잘려 있습니다.");
+            }
+            chunk = encoded.charAt(index[0]++) - 63;
+            if (chunk < 0 || chunk > 0x3F) {
+                throw new IllegalArgumentException("인코딩된 문자열에 허용되지 않는 문자가 있습니다.");
+            }
+            result |= (long) (chunk & 0x1F) << shift;
+            shift += 5;
+        } while (chunk >= 0x20);
+        return (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+    }
+}
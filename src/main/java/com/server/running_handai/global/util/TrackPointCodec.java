@@ -0,0 +1,137 @@
+package com.server.running_handai.global.util;
+
+import com.server.running_handai.domain.course.dto.TrackCoordinates;
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 코스 트랙포인트를 하나의 바이트 배열로 압축하고 복원합니다.
+ * 위도/경도는 1e-6도(약 0.1m), 고도는 0.1m 단위의 정수로 변환한 뒤, 직전 포인트와의 차이를 ZigZag varint로 기록합니다.
+ * 인접한 GPS 좌표의 차이는 작기 때문에 포인트 하나가 대부분 3~9바이트로 저장됩니다.
+ *
+ * <pre>
+ * [버전(1바이트)] [포인트 수(varint)] [위도 차이, 경도 차이, 고도 차이(ZigZag varint)] x 포인트 수
+ * </pre>
+ */
+public class TrackPointCodec {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final double COORDINATE_SCALE = 1_000_000.0; // 위도, 경도 소수점 6자리
+    private static final double ELEVATION_SCALE = 10.0; // 고도 소수점 1자리
+    private static final int MIN_BYTES_PER_POINT = 3; // 위도, 경도, 고도 차이가 각각 최소 1바이트
+
+    private TrackPointCodec() {
+    }
+
+    /**
+     * 트랙포인트 배열을 바이트 배열로 압축합니다.
+     *
+     * @param coordinates 압축할 트랙포인트 배열
+     * @return 압축된 바이트 배열
+     */
+    public static byte[] encode(TrackCoordinates coordinates) {
+        int size = coordinates.size();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size * 8 + 8);
+        out.write(FORMAT_VERSION);
+        writeVarint(out, size);
+
+        long previousLat = 0;
+        long previousLon = 0;
+        long previousEle = 0;
+        for (int i = 0; i < size; i++) {
+            long lat = Math.round(coordinates.lats()[i] * COORDINATE_SCALE);
+            long lon = Math.round(coordinates.lons()[i] * COORDINATE_SCALE);
+            long ele = Math.round(coordinates.eles()[i] * ELEVATION_SCALE);
+
+            writeVarint(out, zigZagEncode(lat - previousLat));
+            writeVarint(out, zigZagEncode(lon - previousLon));
+            writeVarint(out, zigZagEncode(ele - previousEle));
+
+            previousLat = lat;
+            previousLon = lon;
+            previousEle = ele;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 압축된 바이트 배열을 트랙포인트 배열로 복원합니다.
+     *
+     * @param bytes encode로 압축한 바이트 배열
+     * @return 복원된 트랙포인트 배열
+     * @throws IllegalArgumentException 지원하지 않는 버전이거나 데이터가 손상된 경우
+     */
+    public static TrackCoordinates decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            throw new IllegalArgumentException("압축된 트랙포인트 데이터가 비어있습니다.");
+        }
+        if (bytes[0] != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 트랙포인트 압축 버전입니다: " + bytes[0]);
+        }
+
+        Reader reader = new Reader(bytes, 1);
+        long size = reader.readVarint();
+        if (size < 0 || size * MIN_BYTES_PER_POINT > bytes.length) {
+            throw new IllegalArgumentException("트랙포인트 수가 올바르지 않습니다: " + size);
+        }
+
+        double[] lats = new double[(int) size];
+        double[] lons = new double[(int) size];
+        double[] eles = new double[(int) size];
+
+        long lat = 0;
+        long lon = 0;
+        long ele = 0;
+        for (int i = 0; i < size; i++) {
+            lat += zigZagDecode(reader.readVarint());
+            lon += zigZagDecode(reader.readVarint());
+            ele += zigZagDecode(reader.readVarint());
+
+            lats[i] = lat / COORDINATE_SCALE;
+            lons[i] = lon / COORDINATE_SCALE;
+            eles[i] = ele / ELEVATION_SCALE;
+        }
+        return new TrackCoordinates(lats, lons, eles);
+    }
+
+    private static long zigZagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long zigZagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        private Reader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        private long readVarint() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IllegalArgumentException("압축된 트랙포인트 데이터가 잘려 있습니다.");
+                }
+                byte b = bytes[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("압축된 트랙포인트 데이터의 varint 형식이 올바르지 않습니다.");
+        }
+    }
+}
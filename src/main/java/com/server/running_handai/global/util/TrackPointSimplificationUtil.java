@@ -1,37 +1,68 @@
 package com.server.running_handai.global.util;
 
+import com.server.running_handai.domain.course.dto.TrackCoordinates;
 import com.server.running_handai.domain.course.dto.TrackPointDto;
-import com.server.running_handai.domain.course.entity.TrackPoint;
+import com.server.running_handai.domain.course.entity.TrackDetail;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
 
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 public class TrackPointSimplificationUtil {
     /**
-     * RDP 알고리즘을 사용하여 트랙 포인트 리스트를 단순화합니다.
+     * RDP 알고리즘을 사용하여 트랙 포인트 배열을 단순화합니다.
      *
-     * @param trackPoints 단순화할 트랙 포인트 리스트
+     * @param trackCoordinates 단순화할 트랙 포인트 배열
      * @param tolerance RDP 알고리즘의 허용 오차값
      * @param geometryFactory 기하학 객체 팩토리
      * @return 단순화된 트랙 포인트 DTO 리스트
      */
-    public static List<TrackPointDto> simplifyTrackPoints(
-            List<TrackPoint> trackPoints,
+    public static List<TrackPointDto> simplifyTrackCoordinates(
+            TrackCoordinates trackCoordinates,
             double tolerance,
             GeometryFactory geometryFactory
     ) {
-        // TrackPoint를 Coordinate[]로 변환
-        Coordinate[] coordinates = trackPoints.stream()
-                .map(point -> new Coordinate(point.getLon(), point.getLat(), point.getEle()))
-                .toArray(Coordinate[]::new);
+        // 위도, 경도, 고도 배열을 Coordinate[]로 변환
+        Coordinate[] coordinates = new Coordinate[trackCoordinates.size()];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(
+                    trackCoordinates.lons()[i], trackCoordinates.lats()[i], trackCoordinates.eles()[i]);
+        }
 
         return applyRdpAlgorithm(coordinates, tolerance, geometryFactory);
     }
 
+    /**
+     * RDP 알고리즘을 사용하여 트랙 포인트 배열을 상세 수준(LOD)별로 단순화합니다.
+     * 상세한 수준부터 계산하고, 다음 수준은 직전 수준의 결과를 다시 단순화하여 원본 전체를 반복해서 처리하지 않습니다.
+     *
+     * @param trackCoordinates 단순화할 트랙 포인트 배열
+     * @param baseTolerance HIGH 수준의 RDP 허용 오차값 (다른 수준은 배수를 적용)
+     * @param geometryFactory 기하학 객체 팩토리
+     * @return 상세 수준별 단순화된 트랙 포인트 DTO 리스트
+     */
+    public static Map<TrackDetail, List<TrackPointDto>> simplifyTrackCoordinatesByDetail(
+            TrackCoordinates trackCoordinates,
+            double baseTolerance,
+            GeometryFactory geometryFactory
+    ) {
+        Map<TrackDetail, List<TrackPointDto>> simplifiedByDetail = new EnumMap<>(TrackDetail.class);
+        List<TrackPointDto> previous = simplifyTrackCoordinates(
+                trackCoordinates, TrackDetail.HIGH.tolerance(baseTolerance), geometryFactory);
+        simplifiedByDetail.put(TrackDetail.HIGH, previous);
+
+        for (TrackDetail detail : List.of(TrackDetail.MEDIUM, TrackDetail.LOW)) {
+            previous = simplifyTrackPointDtos(previous, detail.tolerance(baseTolerance), geometryFactory);
+            simplifiedByDetail.put(detail, previous);
+        }
+        return simplifiedByDetail;
+    }
+
     /**
      * RDP 알고리즘을 사용하여 트랙 포인트 DTO 리스트를 단순화합니다.
      *
@@ -66,6 +97,13 @@ public class TrackPointSimplificationUtil {
             double tolerance,
             GeometryFactory geometryFactory
     ) {
+        // LineString은 2개 이상의 좌표가 필요하므로, 그 미만이면 단순화 없이 반환
+        if (coordinates.length < 2) {
+            return Arrays.stream(coordinates)
+                    .map(TrackPointDto::from)
+                    .toList();
+        }
+
         // LineString 생성 및 RDP 알고리즘 적용
         LineString originalLine = geometryFactory.createLineString(coordinates);
         DouglasPeuckerSimplifier simplifier = new DouglasPeuckerSimplifier(originalLine);
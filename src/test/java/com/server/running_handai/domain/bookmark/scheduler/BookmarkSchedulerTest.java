@@ -0,0 +1,72 @@
+package com.server.running_handai.domain.bookmark.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.server.running_handai.domain.bookmark.service.BookmarkCountService;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class BookmarkSchedulerTest {
+
+    @InjectMocks
+    private BookmarkScheduler bookmarkScheduler;
+
+    @Mock
+    private BookmarkCountService bookmarkCountService;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    @Test
+    @DisplayName("북마크 수 보정 예약 성공 - 기다리지 않고 재확인 작업을 지연 예약")
+    void scheduleBookmarkCountReconciliation_success_confirmScheduled() {
+        // given
+        ReflectionTestUtils.setField(bookmarkScheduler, "reconcileConfirmDelayMs", 15_000L);
+        Map<Long, Long> drifts = Map.of(1L, 2L);
+        given(bookmarkCountService.findBookmarkCountDrifts()).willReturn(drifts);
+        Instant before = Instant.now();
+
+        // when
+        bookmarkScheduler.scheduleBookmarkCountReconciliation();
+
+        // then
+        ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        ArgumentCaptor<Instant> startTimeCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler).schedule(taskCaptor.capture(), startTimeCaptor.capture());
+        assertThat(startTimeCaptor.getValue()).isAfterOrEqualTo(before.plusMillis(15_000L));
+        verify(bookmarkCountService, never()).correctConfirmedDrifts(any());
+
+        taskCaptor.getValue().run();
+        verify(bookmarkCountService).correctConfirmedDrifts(drifts);
+    }
+
+    @Test
+    @DisplayName("북마크 수 보정 예약 성공 - 차이가 없으면 재확인 작업을 예약하지 않음")
+    void scheduleBookmarkCountReconciliation_success_noDrift() {
+        // given
+        given(bookmarkCountService.findBookmarkCountDrifts()).willReturn(Map.of());
+
+        // when
+        bookmarkScheduler.scheduleBookmarkCountReconciliation();
+
+        // then
+        verifyNoInteractions(taskScheduler);
+    }
+}
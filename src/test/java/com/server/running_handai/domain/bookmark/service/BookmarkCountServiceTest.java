@@ -0,0 +1,194 @@
+package com.server.running_handai.domain.bookmark.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.server.running_handai.domain.bookmark.dto.BookmarkCountDto;
+import com.server.running_handai.domain.bookmark.event.BookmarkChangedEvent;
+import com.server.running_handai.domain.course.repository.CourseRepository;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class BookmarkCountServiceTest {
+
+    @InjectMocks
+    private BookmarkCountService bookmarkCountService;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("북마크 수 조회 성공 - 저장된 북마크 수에 반영 대기 중인 증감분을 더함")
+    void getBookmarkCount_success_withPendingDelta() {
+        // given
+        bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.created(1L));
+        bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.created(1L));
+        bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.deleted(2L));
+
+        // when, then
+        assertThat(bookmarkCountService.getBookmarkCount(1L, 3)).isEqualTo(5);
+        assertThat(bookmarkCountService.getBookmarkCount(2L, 3)).isEqualTo(2);
+        assertThat(bookmarkCountService.getBookmarkCount(3L, 3)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("증감분 반영 성공 - 같은 증감분을 가진 코스끼리 묶어 반영")
+    void flushPendingDeltas_success_groupedByDelta() {
+        // given
+        bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.created(1L));
+        bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.created(2L));
+        bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.deleted(3L));
+        bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.created(4L));
+        bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.deleted(4L)); // 증감분 0
+
+        // when
+        int flushedCount = bookmarkCountService.flushPendingDeltas();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(courseRepository).addBookmarkCount(captor.capture(), eq(1L));
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        verify(courseRepository).addBookmarkCount(List.of(3L), -1L);
+        assertThat(flushedCount).isEqualTo(3);
+        assertThat(bookmarkCountService.getBookmarkCount(1L, 1)).isEqualTo(1); // 반영 후에는 저장된 값만 사용
+    }
+
+    @Test
+    @DisplayName("증감분 반영 성공 - 모아 둔 증감분이 없으면 DB를 갱신하지 않음")
+    void flushPendingDeltas_success_nothingPending() {
+        // when
+        int flushedCount = bookmarkCountService.flushPendingDeltas();
+
+        // then
+        assertThat(flushedCount).isZero();
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    @DisplayName("증감분 반영 실패 - 반영에 실패한 증감분은 다음 주기에 다시 반영")
+    void flushPendingDeltas_fail_retryNextTime() {
+        // given
+        bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.created(1L));
+        given(courseRepository.addBookmarkCount(List.of(1L), 1L)).willThrow(new RuntimeException("DB 오류"));
+
+        // when
+        int flushedCount = bookmarkCountService.flushPendingDeltas();
+
+        // then
+        assertThat(flushedCount).isZero();
+        assertThat(bookmarkCountService.getBookmarkCount(1L, 0)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("북마크 수 보정 성공 - 다시 확인해도 같은 차이가 남은 코스만 차이를 더하고 캐시 제거 이벤트 발행")
+    void correctConfirmedDrifts_success() {
+        // given
+        given(courseRepository.findBookmarkCountMismatches())
+                .willReturn(List.of(new BookmarkCountDto(1L, 5, 7L)))
+                .willReturn(List.of(new BookmarkCountDto(1L, 5, 7L)));
+
+        // when
+        int correctedCount = bookmarkCountService.correctConfirmedDrifts(bookmarkCountService.findBookmarkCountDrifts());
+
+        // then
+        assertThat(correctedCount).isEqualTo(1);
+        verify(courseRepository).addBookmarkCount(List.of(1L), 2L);
+        verify(eventPublisher).publishEvent(new BookmarkChangedEvent(1L, 0));
+    }
+
+    @Test
+    @DisplayName("북마크 수 보정 성공 - 반영 직후 커밋된 북마크의 증감분은 보정하지 않고 다음 반영 때 더함")
+    void correctConfirmedDrifts_success_eventBetweenFlushAndCompare() {
+        // given
+        given(courseRepository.findBookmarkCountMismatches())
+                .willAnswer(invocation -> {
+                    // 반영 이후, 비교 조회 전에 북마크가 커밋되어 실제 행 수(6)에만 포함된 상태
+                    bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.created(1L));
+                    return List.of(new BookmarkCountDto(1L, 5, 6L));
+                })
+                .willReturn(List.of());
+
+        // when
+        int correctedCount = bookmarkCountService.correctConfirmedDrifts(bookmarkCountService.findBookmarkCountDrifts());
+
+        // then
+        assertThat(correctedCount).isZero();
+        verify(courseRepository, times(1)).addBookmarkCount(List.of(1L), 1L); // 재확인 전 반영된 증감분만 더해짐
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("북마크 수 보정 성공 - 이 서버에 반영 대기 중인 증감분이 있는 코스는 보정하지 않음")
+    void correctConfirmedDrifts_success_skipLocalPendingDelta() {
+        // given
+        given(courseRepository.findBookmarkCountMismatches())
+                .willReturn(List.of(new BookmarkCountDto(1L, 5, 6L)))
+                .willAnswer(invocation -> {
+                    bookmarkCountService.handleBookmarkChangedEvent(BookmarkChangedEvent.created(1L));
+                    return List.of(new BookmarkCountDto(1L, 5, 6L));
+                });
+
+        // when
+        int correctedCount = bookmarkCountService.correctConfirmedDrifts(bookmarkCountService.findBookmarkCountDrifts());
+
+        // then
+        assertThat(correctedCount).isZero();
+        verify(courseRepository, never()).addBookmarkCount(anyCollection(), anyLong());
+        assertThat(bookmarkCountService.getBookmarkCount(1L, 5)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("북마크 수 보정 성공 - 다시 확인했을 때 차이가 달라진 코스는 보정하지 않음")
+    void correctConfirmedDrifts_success_skipChangedDrift() {
+        // given
+        given(courseRepository.findBookmarkCountMismatches())
+                .willReturn(List.of(new BookmarkCountDto(1L, 5, 7L), new BookmarkCountDto(2L, 3, 1L)))
+                .willReturn(List.of(new BookmarkCountDto(1L, 6, 7L), new BookmarkCountDto(2L, 3, 1L)));
+
+        // when
+        int correctedCount = bookmarkCountService.correctConfirmedDrifts(bookmarkCountService.findBookmarkCountDrifts());
+
+        // then
+        assertThat(correctedCount).isEqualTo(1);
+        verify(courseRepository).addBookmarkCount(List.of(2L), -2L);
+        verify(courseRepository, never()).addBookmarkCount(List.of(1L), 1L);
+        verify(eventPublisher).publishEvent(new BookmarkChangedEvent(2L, 0));
+    }
+
+    @Test
+    @DisplayName("북마크 수 보정 성공 - 차이가 없으면 다시 확인하지 않음")
+    void correctConfirmedDrifts_success_noMismatch() {
+        // given
+        given(courseRepository.findBookmarkCountMismatches()).willReturn(List.of());
+
+        // when
+        int correctedCount = bookmarkCountService.correctConfirmedDrifts(bookmarkCountService.findBookmarkCountDrifts());
+
+        // then
+        assertThat(correctedCount).isZero();
+        verify(courseRepository, times(1)).findBookmarkCountMismatches();
+        verifyNoInteractions(eventPublisher);
+    }
+}
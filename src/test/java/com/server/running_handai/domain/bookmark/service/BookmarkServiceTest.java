@@ -12,6 +12,7 @@ import static org.mockito.Mockito.verify;
 import com.server.running_handai.domain.bookmark.dto.BookmarkedCourseDetailDto;
 import com.server.running_handai.domain.bookmark.dto.BookmarkedCourseInfoDto;
 import com.server.running_handai.domain.bookmark.entity.Bookmark;
+import com.server.running_handai.domain.bookmark.event.BookmarkChangedEvent;
 import com.server.running_handai.domain.bookmark.repository.BookmarkRepository;
 import com.server.running_handai.domain.course.entity.Area;
 import com.server.running_handai.domain.course.entity.Course;
@@ -34,6 +35,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -56,6 +58,9 @@ class BookmarkServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Mock
     private Member member;
 
@@ -81,6 +86,7 @@ class BookmarkServiceTest {
 
         // then
         verify(bookmarkRepository, times(1)).save(any(Bookmark.class));
+        verify(eventPublisher).publishEvent(BookmarkChangedEvent.created(courseId));
     }
 
     @Test
@@ -153,6 +159,7 @@ class BookmarkServiceTest {
 
         // then
         verify(bookmarkRepository, times(1)).delete(bookmark);
+        verify(eventPublisher).publishEvent(BookmarkChangedEvent.deleted(courseId));
     }
 
     @Test
@@ -0,0 +1,31 @@
+package com.server.running_handai.domain.course.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.server.running_handai.global.response.ResponseCode;
+import com.server.running_handai.global.response.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrackFormatTest {
+
+    @Test
+    @DisplayName("응답 형식 결정 성공 - trackFormat 파라미터가 우선하고, 없으면 Accept 헤더로 결정")
+    void resolveTrackFormat_success() {
+        assertThat(TrackFormat.resolve("polyline", null)).isEqualTo(TrackFormat.POLYLINE);
+        assertThat(TrackFormat.resolve("POINTS", TrackFormat.POLYLINE_MEDIA_TYPE)).isEqualTo(TrackFormat.POINTS);
+        assertThat(TrackFormat.resolve(null, TrackFormat.POLYLINE_MEDIA_TYPE + ", application/json")).isEqualTo(TrackFormat.POLYLINE);
+        assertThat(TrackFormat.resolve(" ", "application/json")).isEqualTo(TrackFormat.POINTS);
+        assertThat(TrackFormat.resolve(null, null)).isEqualTo(TrackFormat.POINTS);
+    }
+
+    @Test
+    @DisplayName("응답 형식 결정 실패 - 알 수 없는 trackFormat 파라미터")
+    void resolveTrackFormat_fail_unknownFormat() {
+        // when, then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> TrackFormat.resolve("geojson", TrackFormat.POLYLINE_MEDIA_TYPE));
+        assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_TRACK_FORMAT_PARAMETER);
+    }
+}
@@ -0,0 +1,155 @@
+package com.server.running_handai.domain.course.repository;
+
+import static com.server.running_handai.domain.course.repository.CourseRepository.FIND_COURSES_BY_AREA_WITHIN_ENVELOPE_QUERY;
+import static com.server.running_handai.domain.course.repository.CourseRepository.FIND_COURSES_BY_THEME_WITHIN_ENVELOPE_QUERY;
+import static com.server.running_handai.domain.course.repository.CourseRepository.FIND_COURSES_NEARBY_USER_QUERY;
+import static com.server.running_handai.domain.course.service.CourseService.MYSQL_POINT_FORMAT;
+import static com.server.running_handai.domain.course.service.CourseService.MYSQL_POLYGON_FORMAT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.server.running_handai.global.util.GeoUtil;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * MBR 사전 필터를 적용한 네이티브 쿼리가 start_point의 공간 인덱스(idx_course_location)를 사용하는지 EXPLAIN으로 확인합니다.
+ * 운영 DB와 같은 MySQL 8 컨테이너가 필요하므로, Docker를 사용할 수 없는 환경에서는 실행되지 않습니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CourseRepositoryExplainTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static final int COURSE_COUNT = 2000;
+    private static final double USER_LAT = 35.1587;
+    private static final double USER_LON = 129.1604;
+    private static final double RADIUS_METERS = 5000;
+
+    @BeforeAll
+    static void setUp() throws SQLException {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            // 운영 스키마(V1)와 같이 SRID가 지정된 start_point에 공간 인덱스 생성
+            statement.execute("""
+                    CREATE TABLE course (
+                        course_id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        name        VARCHAR(255) NOT NULL,
+                        distance    DOUBLE NOT NULL,
+                        duration    INT NOT NULL,
+                        max_ele     DOUBLE NOT NULL,
+                        bookmark_count INT NOT NULL DEFAULT 0,
+                        area        VARCHAR(50) NOT NULL,
+                        start_point POINT NOT NULL SRID 4326,
+                        SPATIAL INDEX idx_course_location (start_point)
+                    )""");
+            statement.execute("""
+                    CREATE TABLE course_image (
+                        course_img_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        course_id     BIGINT NOT NULL UNIQUE,
+                        img_url       VARCHAR(255) NOT NULL
+                    )""");
+            statement.execute("""
+                    CREATE TABLE course_themes (
+                        course_course_id BIGINT NOT NULL,
+                        theme            VARCHAR(50) NOT NULL
+                    )""");
+
+            // 대한민국 전역에 코스 시작점을 흩뿌려 저장
+            String insertCourse = "INSERT INTO course (name, distance, duration, max_ele, area, start_point) " +
+                    "VALUES (?, 10, 60, 100, ?, ST_PointFromText(?, 4326))";
+            try (PreparedStatement preparedStatement = connection.prepareStatement(insertCourse)) {
+                Random random = new Random(42);
+                for (int i = 0; i < COURSE_COUNT; i++) {
+                    double lat = 33.5 + random.nextDouble() * 4.5;
+                    double lon = 126.0 + random.nextDouble() * 3.5;
+                    preparedStatement.setString(1, "course-" + i);
+                    preparedStatement.setString(2, (i % 2 == 0) ? "HAEUN_GWANGAN" : "WONDOSIM");
+                    preparedStatement.setString(3, String.format(MYSQL_POINT_FORMAT, lat, lon));
+                    preparedStatement.addBatch();
+                }
+                preparedStatement.executeBatch();
+            }
+            statement.execute("INSERT INTO course_themes (course_course_id, theme) SELECT course_id, 'SEA' FROM course");
+            statement.execute("ANALYZE TABLE course, course_image, course_themes");
+        }
+    }
+
+    private static Connection getConnection() throws SQLException {
+        return DriverManager.getConnection(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+    }
+
+    @Test
+    @DisplayName("주변 코스 조회 - MBR 조건으로 공간 인덱스 사용")
+    void findCoursesNearbyUser_usesSpatialIndex() throws SQLException {
+        Map<String, String> plan = explainCourseTable(FIND_COURSES_NEARBY_USER_QUERY);
+
+        assertThat(plan.get("key")).isEqualTo("idx_course_location");
+        assertThat(plan.get("type")).isEqualTo("range");
+    }
+
+    @Test
+    @DisplayName("지역 코스 조회(반경 지정) - MBR 조건으로 공간 인덱스 사용")
+    void findCoursesByAreaWithinEnvelope_usesSpatialIndex() throws SQLException {
+        Map<String, String> plan = explainCourseTable(FIND_COURSES_BY_AREA_WITHIN_ENVELOPE_QUERY);
+
+        assertThat(plan.get("key")).isEqualTo("idx_course_location");
+    }
+
+    @Test
+    @DisplayName("테마 코스 조회(반경 지정) - MBR 조건으로 공간 인덱스를 후보로 사용")
+    void findCoursesByThemeWithinEnvelope_canUseSpatialIndex() throws SQLException {
+        Map<String, String> plan = explainCourseTable(FIND_COURSES_BY_THEME_WITHIN_ENVELOPE_QUERY);
+
+        // 조인 순서는 옵티마이저가 결정하므로, course 테이블의 후보 인덱스에 포함되는지만 확인
+        assertThat(plan.get("possible_keys")).contains("idx_course_location");
+    }
+
+    /**
+     * 네이티브 쿼리의 파라미터를 리터럴로 바꿔 EXPLAIN을 실행하고, course(c) 테이블의 실행 계획을 반환합니다.
+     */
+    private Map<String, String> explainCourseTable(String query) throws SQLException {
+        Envelope envelope = GeoUtil.createEnvelope(USER_LAT, USER_LON, RADIUS_METERS);
+        String polygon = String.format(MYSQL_POLYGON_FORMAT,
+                envelope.getMinY(), envelope.getMinX(),
+                envelope.getMinY(), envelope.getMaxX(),
+                envelope.getMaxY(), envelope.getMaxX(),
+                envelope.getMaxY(), envelope.getMinX(),
+                envelope.getMinY(), envelope.getMinX());
+
+        String sql = query
+                .replace(":envelope", "'" + polygon + "'")
+                .replace(":userPoint", "'" + String.format(MYSQL_POINT_FORMAT, USER_LAT, USER_LON) + "'")
+                .replace(":radius", String.valueOf(RADIUS_METERS))
+                .replace(":area", "'HAEUN_GWANGAN'")
+                .replace(":theme", "'SEA'");
+
+        try (Connection connection = getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+            while (resultSet.next()) {
+                if ("c".equals(resultSet.getString("table"))) {
+                    Map<String, String> plan = new HashMap<>();
+                    plan.put("type", resultSet.getString("type"));
+                    plan.put("possible_keys", resultSet.getString("possible_keys"));
+                    plan.put("key", resultSet.getString("key"));
+                    return plan;
+                }
+            }
+        }
+        throw new IllegalStateException("course 테이블의 실행 계획을 찾을 수 없습니다.");
+    }
+}
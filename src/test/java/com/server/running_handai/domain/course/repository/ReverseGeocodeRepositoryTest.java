@@ -0,0 +1,90 @@
+package com.server.running_handai.domain.course.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.server.running_handai.domain.course.entity.GeocodeType;
+import com.server.running_handai.domain.course.entity.ReverseGeocode;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 읽기 전용 트랜잭션 안에서 좌표 변환 결과를 저장해도 호출 측 트랜잭션이 실패하지 않는지 확인합니다.
+ * MySQL은 읽기 전용 트랜잭션의 쓰기를 거부하므로 MySQL 8 컨테이너가 필요하며, Docker를 사용할 수 없는 환경에서는 실행되지 않습니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 서비스 트랜잭션이 직접 커밋되도록 테스트 트랜잭션 사용 안 함
+@Import(ReverseGeocodeRepositoryTest.ReadOnlyCaller.class)
+@ActiveProfiles("test")
+class ReverseGeocodeRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private ReadOnlyCaller readOnlyCaller;
+
+    @Autowired
+    private ReverseGeocodeRepository reverseGeocodeRepository;
+
+    /**
+     * CourseService.isInsideBusan 처럼 읽기 전용 트랜잭션에서 좌표 변환 캐시를 거쳐 저장하는 호출 측
+     */
+    static class ReadOnlyCaller {
+
+        @Autowired
+        private ReverseGeocodeRepository reverseGeocodeRepository;
+
+        @Transactional(readOnly = true)
+        public void upsertInReadOnlyTransaction(long latCell, long lonCell, String document) {
+            try {
+                reverseGeocodeRepository.upsert(GeocodeType.ADDRESS.name(), latCell, lonCell, document);
+            } catch (Exception e) {
+                // ReverseGeocodeCache와 같이 저장 실패는 무시
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("좌표 변환 결과 저장 - 읽기 전용 트랜잭션에서 호출해도 저장되고 호출 측 트랜잭션은 정상 커밋")
+    void upsert_inReadOnlyTransaction() {
+        // when
+        assertThatCode(() -> readOnlyCaller.upsertInReadOnlyTransaction(70317L, 258320L, "{\"address\":{}}"))
+                .doesNotThrowAnyException();
+
+        // then
+        Optional<ReverseGeocode> stored = reverseGeocodeRepository
+                .findByGeocodeTypeAndLatCellAndLonCell(GeocodeType.ADDRESS, 70317L, 258320L);
+        assertThat(stored).isPresent();
+        assertThat(stored.get().getDocument()).isEqualTo("{\"address\":{}}");
+    }
+
+    @Test
+    @DisplayName("좌표 변환 결과 저장 - 같은 격자를 다시 저장하면 한 행만 갱신")
+    void upsert_sameCell_updates() {
+        // when
+        readOnlyCaller.upsertInReadOnlyTransaction(70318L, 258321L, null);
+        readOnlyCaller.upsertInReadOnlyTransaction(70318L, 258321L, "{\"address\":{}}");
+
+        // then
+        Optional<ReverseGeocode> stored = reverseGeocodeRepository
+                .findByGeocodeTypeAndLatCellAndLonCell(GeocodeType.ADDRESS, 70318L, 258321L);
+        assertThat(stored).isPresent();
+        assertThat(stored.get().getDocument()).isEqualTo("{\"address\":{}}");
+    }
+}
@@ -0,0 +1,119 @@
+package com.server.running_handai.domain.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+
+class BusanDistrictIndexTest {
+
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+    private static BusanDistrictIndex busanDistrictIndex;
+
+    @BeforeAll
+    static void setUp() {
+        busanDistrictIndex = new BusanDistrictIndex(GEOMETRY_FACTORY, true, 0.02);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "김해공항, 35.170, 128.940, INSIDE",
+            "정관, 35.320, 129.180, INSIDE",
+            "명지, 35.090, 128.920, INSIDE",
+            "철마, 35.270, 129.150, INSIDE",
+            "양산시청, 35.335, 129.037, OUTSIDE",
+            "울산, 35.540, 129.310, OUTSIDE",
+            "창원 진해, 35.150, 128.700, OUTSIDE",
+            "서울시청, 37.570, 126.980, OUTSIDE"
+    })
+    @DisplayName("부산 판별 - 영역 안쪽, 영역 밖")
+    void locate(String name, double latitude, double longitude, BoundaryLocation expected) {
+        assertThat(busanDistrictIndex.locate(longitude, latitude)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "노포 북쪽 (금정구/양산시), 35.310, 129.105",
+            "대저 북쪽 (강서구/김해시), 35.235, 128.960",
+            "김해시청, 35.228, 128.889"
+    })
+    @DisplayName("부산 판별 - 부산 경계 근처는 판별하지 않음 (외부 API 확인 필요)")
+    void locate_nearBorder(String name, double latitude, double longitude) {
+        assertThat(busanDistrictIndex.locate(longitude, latitude)).isEqualTo(BoundaryLocation.NEAR_BORDER);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "김해공항, 35.170, 128.940, 강서구",
+            "녹산, 35.090, 128.850, 강서구",
+            "다대동, 35.059, 128.979, 사하구",
+            "주례, 35.150, 128.998, 사상구",
+            "화명, 35.235, 129.015, 북구",
+            "노포, 35.283, 129.092, 금정구",
+            "해운대 중동, 35.170, 129.157, 해운대구",
+            "정관, 35.320, 129.180, 기장군"
+    })
+    @DisplayName("구/군 판별 - 송정동 외의 동 이름은 null")
+    void findAddress_district(String name, double latitude, double longitude, String districtName) {
+        assertThat(busanDistrictIndex.findAddress(longitude, latitude))
+                .contains(new KakaoMapService.AddressInfo(districtName, null));
+    }
+
+    @Test
+    @DisplayName("구/군 판별 - 여백이 동 경계보다 작으면 해운대구 송정동까지 판별")
+    void findAddress_songjeong() {
+        BusanDistrictIndex narrowMarginIndex = new BusanDistrictIndex(GEOMETRY_FACTORY, true, 0.01);
+
+        assertThat(narrowMarginIndex.findAddress(129.200, 35.178))
+                .contains(new KakaoMapService.AddressInfo("해운대구", "송정동"));
+    }
+
+    @Test
+    @DisplayName("판별 꺼짐 - 경계 다각형 오차가 검증되지 않았으므로 기본값은 모든 좌표를 외부 API로 확인")
+    void disabled_defersToExternalApi() {
+        BusanDistrictIndex disabledIndex = new BusanDistrictIndex(GEOMETRY_FACTORY, false, 0.02);
+
+        assertThat(disabledIndex.locate(128.940, 35.170)).isEqualTo(BoundaryLocation.NEAR_BORDER); // 김해공항
+        assertThat(disabledIndex.locate(126.980, 37.570)).isEqualTo(BoundaryLocation.NEAR_BORDER); // 서울시청
+        assertThat(disabledIndex.findAddress(129.157, 35.170)).isEmpty(); // 해운대 중동
+        assertThat(disabledIndex.findAddress(129.037, 35.335)).isEmpty(); // 양산시청
+    }
+
+    @Test
+    @DisplayName("구/군 판별 - 부산 밖이면 구/군, 동 이름 모두 null")
+    void findAddress_outside() {
+        assertThat(busanDistrictIndex.findAddress(129.037, 35.335))
+                .contains(new KakaoMapService.AddressInfo(null, null));
+    }
+
+    // 실제 구/군 경계 근처의 좌표로, 단순화한 다각형의 오차 때문에 잘못된 구/군으로 판별되면 안 됨
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "부산역 (동구/중구), 35.1152, 129.0396",
+            "범일동 (동구/부산진구), 35.140, 129.060",
+            "보수동 (중구/서구), 35.100, 129.025",
+            "감천 (서구/사하구), 35.095, 129.010",
+            "신평 (사하구/사상구), 35.120, 128.975",
+            "낙동강 (강서구/사상구), 35.150, 128.975",
+            "구포 (북구/사상구), 35.190, 128.992",
+            "만덕 (북구/동래구), 35.205, 129.045",
+            "사직 (부산진구/동래구/연제구), 35.192, 129.062",
+            "온천장 북쪽 (동래구/금정구), 35.225, 129.085",
+            "연산 (연제구/수영구), 35.175, 129.105",
+            "광안 (남구/수영구), 35.145, 129.110",
+            "수영강 (수영구/해운대구), 35.170, 129.125",
+            "오시리아 (해운대구/기장군), 35.190, 129.210",
+            "송정역 (송정동 경계), 35.186, 129.193",
+            "송정 해수욕장 (송정동), 35.178, 129.200"
+    })
+    @DisplayName("구/군 판별 - 실제 구/군 경계 근처는 판별하지 않음 (외부 API 확인 필요)")
+    void findAddress_nearBorder(String name, double latitude, double longitude) {
+        assertThat(busanDistrictIndex.findAddress(longitude, latitude)).isEmpty();
+    }
+}
@@ -0,0 +1,325 @@
+package com.server.running_handai.domain.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.xml.XmlMapper;
+import com.server.running_handai.domain.course.client.DurunubiApiClient;
+import com.server.running_handai.domain.course.dto.DurunubiApiResponseDto;
+import com.server.running_handai.domain.course.entity.Course;
+import com.server.running_handai.domain.course.entity.CourseLevel;
+import com.server.running_handai.domain.course.entity.CourseTrack;
+import com.server.running_handai.domain.course.entity.SyncFingerprint;
+import com.server.running_handai.domain.course.repository.CourseRepository;
+import com.server.running_handai.domain.course.repository.CourseTrackRepository;
+import com.server.running_handai.domain.course.repository.RoadConditionRepository;
+import com.server.running_handai.domain.course.repository.SyncFingerprintRepository;
+import com.server.running_handai.domain.course.repository.TrackPointRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class CourseDataServiceTest {
+
+    private static final String GPX_CONTENT = """
+            <gpx>
+              <trk>
+                <trkseg>
+                  <trkpt lat="35.1532" lon="129.1186"><ele>3.0</ele></trkpt>
+                  <trkpt lat="35.1555" lon="129.1240"><ele>5.0</ele></trkpt>
+                  <trkpt lat="35.1587" lon="129.1300"><ele>8.0</ele></trkpt>
+                </trkseg>
+              </trk>
+            </gpx>
+            """;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private DurunubiApiClient durunubiApiClient;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CourseTrackRepository courseTrackRepository;
+
+    @Mock
+    private TrackPointRepository trackPointRepository;
+
+    @Mock
+    private RoadConditionRepository roadConditionRepository;
+
+    @Mock
+    private SyncFingerprintRepository syncFingerprintRepository;
+
+    @Mock
+    private KakaoMapService kakaoMapService;
+
+    @Mock
+    private BusanDistrictIndex busanDistrictIndex;
+
+    @Mock
+    private OpenAiService openAiService;
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ThreadPoolTaskExecutor gpxTaskExecutor;
+    private CourseDataService courseDataService;
+
+    @BeforeEach
+    void setUp() {
+        gpxTaskExecutor = new ThreadPoolTaskExecutor();
+        gpxTaskExecutor.setCorePoolSize(2);
+        gpxTaskExecutor.setMaxPoolSize(2);
+        gpxTaskExecutor.initialize();
+
+        courseDataService = new CourseDataService(geometryFactory, restTemplate, new XmlMapper(), objectMapper,
+                durunubiApiClient, courseRepository, courseTrackRepository, trackPointRepository,
+                roadConditionRepository, syncFingerprintRepository, kakaoMapService, busanDistrictIndex,
+                openAiService, fileService, eventPublisher, gpxTaskExecutor);
+        ReflectionTestUtils.setField(courseDataService, "distanceTolerance", 0.0001);
+        ReflectionTestUtils.setField(courseDataService, "fullSyncInterval", Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        gpxTaskExecutor.shutdown();
+    }
+
+    private Map<String, Object> createItem(String externalId) {
+        return Map.of(
+                "crsIdx", externalId,
+                "crsKorNm", "갈맷길 " + externalId,
+                "crsDstnc", "5.2",
+                "crsTotlRqrmHour", "60",
+                "crsLevel", "1",
+                "sigun", "부산 수영구",
+                "gpxpath", gpxPath(externalId)
+        );
+    }
+
+    private String gpxPath(String externalId) {
+        return "https://www.durunubi.kr/gpx/" + externalId + ".gpx";
+    }
+
+    @SafeVarargs
+    private void givenApiItems(Map<String, Object>... items) {
+        DurunubiApiResponseDto response = objectMapper.convertValue(Map.of(
+                "response", Map.of("body", Map.of(
+                        "totalCount", items.length,
+                        "items", Map.of("item", Arrays.asList(items))
+                ))
+        ), DurunubiApiResponseDto.class);
+        given(durunubiApiClient.fetchCourseData(1, 50)).willReturn(response);
+    }
+
+    private Course createDbCourse(Long courseId, String externalId) {
+        Course course = Course.builder()
+                .externalId(externalId)
+                .name("갈맷길 " + externalId)
+                .distance(5.2)
+                .duration(35)
+                .level(CourseLevel.EASY)
+                .gpxPath(gpxPath(externalId))
+                .startPoint(geometryFactory.createPoint(new Coordinate(129.1186, 35.1532)))
+                .minElevation(3.0)
+                .maxElevation(8.0)
+                .build();
+        ReflectionTestUtils.setField(course, "id", courseId);
+        return course;
+    }
+
+    @Test
+    @DisplayName("두루누비 코스 동기화 - GPX 다운로드에 실패한 기존 코스는 삭제하지 않고 나머지 코스만 반영")
+    void synchronizeCourseData_gpxDownloadFails_keepsExistingCourse() {
+        // given
+        Course failedCourse = createDbCourse(1L, "T_CRS_1");
+        Course updatedCourse = createDbCourse(2L, "T_CRS_2");
+        givenApiItems(createItem("T_CRS_1"), createItem("T_CRS_2"));
+        given(courseRepository.findByExternalIdIsNotNull()).willReturn(List.of(failedCourse, updatedCourse));
+        given(restTemplate.getForObject(gpxPath("T_CRS_1"), String.class))
+                .willThrow(new ResourceAccessException("Read timed out"));
+        given(restTemplate.getForObject(gpxPath("T_CRS_2"), String.class)).willReturn(GPX_CONTENT);
+        given(courseTrackRepository.findById(2L)).willReturn(Optional.empty());
+
+        // when
+        courseDataService.synchronizeCourseData();
+
+        // then
+        verify(courseRepository, never()).deleteAll(anyCollection());
+        verify(courseTrackRepository, never()).findById(1L);
+        verify(courseTrackRepository).save(any(CourseTrack.class));
+        assertThat(updatedCourse.getSourceHash()).isNotNull();
+        assertThat(failedCourse.getSourceHash()).isNull();
+    }
+
+    @Test
+    @DisplayName("두루누비 코스 동기화 - 두루누비에서 없어진 코스만 삭제")
+    void synchronizeCourseData_removedCourse_deleted() {
+        // given
+        Course keptCourse = createDbCourse(1L, "T_CRS_1");
+        Course removedCourse = createDbCourse(2L, "T_CRS_2");
+        givenApiItems(createItem("T_CRS_1"));
+        given(courseRepository.findByExternalIdIsNotNull()).willReturn(List.of(keptCourse, removedCourse));
+        given(restTemplate.getForObject(gpxPath("T_CRS_1"), String.class)).willReturn(GPX_CONTENT);
+        given(courseTrackRepository.findById(1L)).willReturn(Optional.empty());
+
+        // when
+        courseDataService.synchronizeCourseData();
+
+        // then
+        verify(courseRepository).deleteAll(eq(List.of(removedCourse)));
+    }
+
+    @Test
+    @DisplayName("두루누비 코스 동기화 - 코스 목록이 마지막 전체 동기화와 같고 주기 안이면 아무것도 하지 않음")
+    void synchronizeCourseData_unchangedListing_skipsSync() {
+        // given
+        Course course = createDbCourse(1L, "T_CRS_1");
+        givenApiItems(createItem("T_CRS_1"));
+        given(courseRepository.findByExternalIdIsNotNull()).willReturn(List.of(course));
+        given(restTemplate.getForObject(gpxPath("T_CRS_1"), String.class)).willReturn(GPX_CONTENT);
+        given(courseTrackRepository.findById(1L)).willReturn(Optional.empty());
+
+        courseDataService.synchronizeCourseData(); // 첫 전체 동기화에서 목록 지문 저장
+        ArgumentCaptor<SyncFingerprint> fingerprintCaptor = ArgumentCaptor.forClass(SyncFingerprint.class);
+        verify(syncFingerprintRepository).save(fingerprintCaptor.capture());
+        given(syncFingerprintRepository.findById(SyncFingerprint.DURUNUBI_COURSE))
+                .willReturn(Optional.of(fingerprintCaptor.getValue()));
+
+        // when
+        courseDataService.synchronizeCourseData();
+
+        // then
+        verify(courseRepository, times(1)).findByExternalIdIsNotNull();
+        verify(restTemplate, times(1)).getForObject(gpxPath("T_CRS_1"), String.class);
+    }
+
+    @Test
+    @DisplayName("두루누비 코스 동기화 - 코스 목록이 같아도 전체 동기화 주기가 지나면 다시 동기화")
+    void synchronizeCourseData_unchangedListingAfterInterval_syncs() {
+        // given
+        Course course = createDbCourse(1L, "T_CRS_1");
+        givenApiItems(createItem("T_CRS_1"));
+        given(courseRepository.findByExternalIdIsNotNull()).willReturn(List.of(course));
+        given(restTemplate.getForObject(gpxPath("T_CRS_1"), String.class)).willReturn(GPX_CONTENT);
+        given(courseTrackRepository.findById(1L)).willReturn(Optional.empty());
+
+        courseDataService.synchronizeCourseData();
+        ArgumentCaptor<SyncFingerprint> fingerprintCaptor = ArgumentCaptor.forClass(SyncFingerprint.class);
+        verify(syncFingerprintRepository).save(fingerprintCaptor.capture());
+        SyncFingerprint lastSync = fingerprintCaptor.getValue();
+        ReflectionTestUtils.setField(lastSync, "syncedAt", LocalDateTime.now().minusDays(8));
+        given(syncFingerprintRepository.findById(SyncFingerprint.DURUNUBI_COURSE)).willReturn(Optional.of(lastSync));
+
+        // when
+        courseDataService.synchronizeCourseData();
+
+        // then
+        verify(restTemplate, times(2)).getForObject(gpxPath("T_CRS_1"), String.class);
+        assertThat(lastSync.getSyncedAt()).isAfter(LocalDateTime.now().minusMinutes(1));
+    }
+
+    @Test
+    @DisplayName("두루누비 코스 동기화 - GPX 파일과 API 항목이 그대로인 기존 코스는 파싱과 트랙 저장을 건너뛰고 유지")
+    void synchronizeCourseData_unchangedSourceHash_skipsCourse() {
+        // given
+        Course course = createDbCourse(1L, "T_CRS_1");
+        givenApiItems(createItem("T_CRS_1"));
+        given(courseRepository.findByExternalIdIsNotNull()).willReturn(List.of(course));
+        given(restTemplate.getForObject(gpxPath("T_CRS_1"), String.class)).willReturn(GPX_CONTENT);
+        given(courseTrackRepository.findById(1L)).willReturn(Optional.empty());
+
+        courseDataService.synchronizeCourseData(); // 원본 해시 저장
+        String sourceHash = course.getSourceHash();
+
+        // when
+        courseDataService.synchronizeCourseData();
+
+        // then
+        assertThat(sourceHash).isNotNull();
+        assertThat(course.getSourceHash()).isEqualTo(sourceHash);
+        verify(restTemplate, times(2)).getForObject(gpxPath("T_CRS_1"), String.class);
+        verify(courseTrackRepository, times(1)).findById(1L); // 두 번째 동기화에서는 트랙을 다시 저장하지 않음
+        verify(courseRepository, never()).deleteAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("두루누비 코스 동기화 - GPX 파일이 바뀐 기존 코스는 다시 파싱하여 트랙 저장하고 기존 track_point 행 삭제")
+    void synchronizeCourseData_changedSourceHash_reparses() {
+        // given
+        Course course = createDbCourse(1L, "T_CRS_1");
+        givenApiItems(createItem("T_CRS_1"));
+        given(courseRepository.findByExternalIdIsNotNull()).willReturn(List.of(course));
+        given(restTemplate.getForObject(gpxPath("T_CRS_1"), String.class))
+                .willReturn(GPX_CONTENT, GPX_CONTENT.replace("<ele>8.0</ele>", "<ele>12.0</ele>"));
+        given(courseTrackRepository.findById(1L)).willReturn(Optional.empty());
+
+        courseDataService.synchronizeCourseData();
+        String sourceHash = course.getSourceHash();
+
+        // when
+        courseDataService.synchronizeCourseData();
+
+        // then
+        assertThat(course.getSourceHash()).isNotEqualTo(sourceHash);
+        assertThat(course.getMaxElevation()).isEqualTo(12.0);
+        verify(courseTrackRepository, times(2)).findById(1L);
+        verify(trackPointRepository, times(2)).deleteByCourseId(1L); // 트랙을 다시 저장할 때마다 기존 track_point 행 삭제
+    }
+
+    @Test
+    @DisplayName("두루누비 코스 동기화 - 건너뛴 코스가 있으면 코스 목록 지문을 저장하지 않음")
+    void synchronizeCourseData_failedCourse_doesNotSaveFingerprint() {
+        // given
+        Course course = createDbCourse(1L, "T_CRS_1");
+        givenApiItems(createItem("T_CRS_1"));
+        given(courseRepository.findByExternalIdIsNotNull()).willReturn(List.of(course));
+        given(restTemplate.getForObject(gpxPath("T_CRS_1"), String.class)).willReturn("");
+
+        // when
+        courseDataService.synchronizeCourseData();
+
+        // then
+        verify(syncFingerprintRepository, never()).save(any(SyncFingerprint.class));
+        verify(courseRepository, never()).deleteAll(anyCollection());
+    }
+}
@@ -0,0 +1,95 @@
+package com.server.running_handai.domain.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.server.running_handai.domain.bookmark.event.BookmarkChangedEvent;
+import com.server.running_handai.domain.course.dto.CourseFilterRequestDto;
+import com.server.running_handai.domain.course.dto.CourseInfoWithDetailsDto;
+import com.server.running_handai.domain.course.entity.CourseFilter;
+import com.server.running_handai.domain.course.event.CourseChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CourseListCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CourseListCache courseListCache;
+
+    private final List<CourseFilterRequestDto> loadedRequests = new ArrayList<>();
+    private final Function<CourseFilterRequestDto, List<CourseInfoWithDetailsDto>> loader = request -> {
+        loadedRequests.add(request);
+        return List.of(createCourse(1L), createCourse(2L));
+    };
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        courseListCache = new CourseListCache(meterRegistry, 100, Duration.ofHours(1), 0.001);
+    }
+
+    private CourseInfoWithDetailsDto createCourse(long courseId) {
+        return new CourseInfoWithDetailsDto(courseId, "course" + courseId, null, null, null, null, null, 10, 60, 100, 1.5, 3, false, List.of(), null);
+    }
+
+    private CourseFilterRequestDto createRequest(double lat, double lon) {
+        return new CourseFilterRequestDto(CourseFilter.NEARBY, lat, lon, null, null, null, null);
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("course.list.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("캐시 조회 성공 - 같은 격자의 요청은 격자 중심 좌표로 한 번만 조회")
+    void getOrLoad_success_sameCell() {
+        // when
+        courseListCache.getOrLoad(createRequest(35.15871, 129.16042), loader);
+        List<CourseInfoWithDetailsDto> result = courseListCache.getOrLoad(createRequest(35.15879, 129.16048), loader);
+
+        // then
+        assertThat(result).extracting(CourseInfoWithDetailsDto::courseId).containsExactly(1L, 2L);
+        assertThat(loadedRequests).hasSize(1);
+        assertThat(loadedRequests.get(0).lat()).isCloseTo(35.1585, Offset.offset(1e-9));
+        assertThat(loadedRequests.get(0).lon()).isCloseTo(129.1605, Offset.offset(1e-9));
+        assertThat(requestCount("miss")).isEqualTo(1);
+        assertThat(requestCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 제거 성공 - 북마크가 변경된 코스를 포함한 항목만 제거")
+    void handleBookmarkChangedEvent_success() {
+        // given
+        courseListCache.getOrLoad(createRequest(35.1587, 129.1604), loader);
+        courseListCache.getOrLoad(createRequest(35.0979, 129.0300), request -> List.of(createCourse(3L)));
+
+        // when
+        courseListCache.handleBookmarkChangedEvent(BookmarkChangedEvent.created(1L));
+
+        // then
+        assertThat(courseListCache.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("course.list.cache.evictions").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 제거 성공 - 코스가 변경되면 전체 항목 제거 후 다시 조회")
+    void handleCourseChangedEvent_success() {
+        // given
+        courseListCache.getOrLoad(createRequest(35.1587, 129.1604), loader);
+
+        // when
+        courseListCache.handleCourseChangedEvent(new CourseChangedEvent(Set.of(5L)));
+        courseListCache.getOrLoad(createRequest(35.1587, 129.1604), loader);
+
+        // then
+        assertThat(loadedRequests).hasSize(2);
+        assertThat(requestCount("miss")).isEqualTo(2);
+    }
+}
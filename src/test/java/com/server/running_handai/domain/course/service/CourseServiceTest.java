@@ -6,6 +6,8 @@ import static com.server.running_handai.domain.course.service.CourseService.MYSQ
 import static com.server.running_handai.global.response.ResponseCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -21,19 +23,20 @@ import static org.mockito.Mockito.lenient;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.server.running_handai.domain.bookmark.repository.BookmarkRepository;
-import com.server.running_handai.domain.bookmark.dto.BookmarkCountDto;
+import com.server.running_handai.domain.bookmark.service.BookmarkCountService;
 import com.server.running_handai.domain.course.dto.*;
 import com.server.running_handai.domain.course.entity.*;
 import com.server.running_handai.domain.course.event.CourseCreatedEvent;
 import com.server.running_handai.domain.course.repository.CourseRepository;
-import com.server.running_handai.domain.course.repository.TrackPointRepository;
+import com.server.running_handai.domain.course.repository.CourseTrackRepository;
 import com.server.running_handai.domain.member.entity.Member;
 import com.server.running_handai.domain.member.entity.Provider;
 import com.server.running_handai.domain.member.entity.Role;
 import com.server.running_handai.domain.member.repository.MemberRepository;
+import com.server.running_handai.domain.review.dto.ReviewFeedDto;
 import com.server.running_handai.domain.review.dto.ReviewInfoDto;
-import com.server.running_handai.domain.review.entity.Review;
-import com.server.running_handai.domain.review.repository.ReviewRepository;
+import com.server.running_handai.domain.review.dto.ReviewStatsDto;
+import com.server.running_handai.domain.review.dto.StarCountDto;
 import com.server.running_handai.domain.review.service.ReviewService;
 import com.server.running_handai.domain.spot.dto.SpotInfoDto;
 import com.server.running_handai.domain.spot.entity.Spot;
@@ -43,6 +46,8 @@ import com.server.running_handai.global.response.ResponseCode;
 import com.server.running_handai.global.response.exception.BusinessException;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.AssertionsForClassTypes;
@@ -55,9 +60,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
-import org.locationtech.jts.geom.Coordinate;
-import org.locationtech.jts.geom.GeometryFactory;
-import org.locationtech.jts.geom.LineString;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -82,13 +84,13 @@ class CourseServiceTest {
     private CourseRepository courseRepository;
 
     @Mock
-    private TrackPointRepository trackPointRepository;
+    private CourseTrackRepository courseTrackRepository;
 
     @Mock
     private BookmarkRepository bookmarkRepository;
 
     @Mock
-    private ReviewRepository reviewRepository;
+    private BookmarkCountService bookmarkCountService;
 
     @Mock
     private SpotRepository spotRepository;
@@ -96,9 +98,6 @@ class CourseServiceTest {
     @Mock
     private ReviewService reviewService;
 
-    @Mock
-    private GeometryFactory geometryFactory;
-
     @Mock
     private CourseDataService courseDataService;
 
@@ -108,6 +107,18 @@ class CourseServiceTest {
     @Mock
     private KakaoMapService kakaoMapService;
 
+    @Mock
+    private KoreaBoundary koreaBoundary;
+
+    @Mock
+    private BusanDistrictIndex busanDistrictIndex;
+
+    @Mock
+    private CourseSpatialIndex courseSpatialIndex;
+
+    @Mock
+    private CourseListCache courseListCache;
+
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
@@ -118,16 +129,24 @@ class CourseServiceTest {
     private static final Long MEMBER_ID = 1L;
     private static final Double USER_LAT = 37.5665;
     private static final Double USER_LON = -122.456;
+    private static final int PAGE_SIZE = 20;
 
     @BeforeEach
-    void setUp() {
-        ReflectionTestUtils.setField(courseService, "distanceTolerance", 0.0001);
+    void setUpCourseListCache() {
+        // 캐시에 없는 경우와 같이 항상 loader로 조회
+        lenient().when(courseListCache.getOrLoad(any(), any())).thenAnswer(invocation -> {
+            Function<CourseFilterRequestDto, List<CourseInfoWithDetailsDto>> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        });
+        // 반영 대기 중인 북마크 증감분이 없는 경우와 같이 저장된 북마크 수를 그대로 반환
+        lenient().when(bookmarkCountService.getBookmarkCount(anyLong(), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
     }
 
     private static Stream<Arguments> filterOptionsProvider() {
-        CourseFilterRequestDto nearbyFilter = new CourseFilterRequestDto(NEARBY, USER_LAT, USER_LON, null, null);
-        CourseFilterRequestDto areaFilter = new CourseFilterRequestDto(AREA, USER_LAT, USER_LON, Area.HAEUN_GWANGAN, null);
-        CourseFilterRequestDto themeFilter = new CourseFilterRequestDto(THEME, USER_LAT, USER_LON, null, Theme.MOUNTAIN);
+        CourseFilterRequestDto nearbyFilter = new CourseFilterRequestDto(NEARBY, USER_LAT, USER_LON, null, null, null, null);
+        CourseFilterRequestDto areaFilter = new CourseFilterRequestDto(AREA, USER_LAT, USER_LON, Area.HAEUN_GWANGAN, null, null, null);
+        CourseFilterRequestDto themeFilter = new CourseFilterRequestDto(THEME, USER_LAT, USER_LON, null, Theme.MOUNTAIN, null, null);
 
         return Stream.of(
                 Arguments.of(NEARBY, nearbyFilter),
@@ -149,27 +168,23 @@ class CourseServiceTest {
         // given
         Course course = createMockCourse(COURSE_ID);
         CourseInfoDto courseInfoDto = createCourseInfoDto(course);
-        List<TrackPoint> trackPoints = course.getTrackPoints();
-        BookmarkCountDto bookmarkCountDto = new BookmarkCountDto(COURSE_ID, 3L); // 북마크 3개로 가정
+        given(courseInfoDto.getBookmarkCount()).willReturn(2); // 저장된 북마크 2개로 가정
 
         switch (filterType) {
-            case NEARBY -> given(courseRepository.findCoursesNearbyUser(anyString())).willReturn(List.of(courseInfoDto));
+            case NEARBY -> given(courseRepository.findCoursesNearbyUser(anyString(), anyString(), anyDouble())).willReturn(List.of(courseInfoDto));
             case AREA -> given(courseRepository.findCoursesByArea(anyString(), eq(Area.HAEUN_GWANGAN.name()))).willReturn(List.of(courseInfoDto));
             case THEME -> given(courseRepository.findCoursesByTheme(anyString(), eq(Theme.MOUNTAIN.name()))).willReturn(List.of(courseInfoDto));
         }
 
-        Coordinate[] coordinates = course.getTrackPoints().stream()
-                .map(p -> new Coordinate(p.getLon(), p.getLat(), p.getEle()))
-                .toArray(Coordinate[]::new);
-        LineString realLineString = new GeometryFactory().createLineString(coordinates);
+        CourseSimplifiedTrackPointsDto simplifiedTrackPointsDto =
+                new CourseSimplifiedTrackPointsDto(COURSE_ID, course.getSimplifiedTrackPoints());
 
-        given(geometryFactory.createLineString(any(Coordinate[].class))).willReturn(realLineString);
-        given(trackPointRepository.findByCourseIdInOrderBySequenceAsc(List.of(COURSE_ID))).willReturn(trackPoints);
-        given(bookmarkRepository.countByCourseIdIn(List.of(COURSE_ID))).willReturn(List.of(bookmarkCountDto));
+        given(courseRepository.findSimplifiedTrackPointsByIdIn(List.of(COURSE_ID))).willReturn(List.of(simplifiedTrackPointsDto));
+        given(bookmarkCountService.getBookmarkCount(COURSE_ID, 2)).willReturn(3); // 반영 대기 중인 북마크 1개 포함
         given(bookmarkRepository.findBookmarkedCourseIdsByMember(List.of(COURSE_ID), MEMBER_ID)).willReturn(Set.of(COURSE_ID));
 
         // when
-        List<CourseInfoWithDetailsDto> result = courseService.findCourses(filterOption, MEMBER_ID);
+        List<CourseInfoWithDetailsDto> result = courseService.findCourses(filterOption, null, PAGE_SIZE, TrackDetail.HIGH, MEMBER_ID).courses();
 
         // then
         assertNotNull(result);
@@ -183,18 +198,18 @@ class CourseServiceTest {
         assertThat(details.maxElevation()).isEqualTo((int) Math.round(course.getMaxElevation()));
         assertThat(details.thumbnailUrl()).isEqualTo("thumbnailUrl");
         assertThat(details.distanceFromUser()).isEqualTo(1.5);
-        assertThat(details.trackPoints().size()).isLessThanOrEqualTo(trackPoints.size());
+        assertThat(details.trackPoints()).isEqualTo(course.getSimplifiedTrackPoints());
         assertThat(details.bookmarks()).isEqualTo(3);
         assertThat(details.isBookmarked()).isTrue();
 
         switch (filterType) {
-            case NEARBY -> verify(courseRepository).findCoursesNearbyUser(anyString());
+            case NEARBY -> verify(courseRepository).findCoursesNearbyUser(anyString(), anyString(), anyDouble());
             case AREA -> verify(courseRepository).findCoursesByArea(anyString(), eq(Area.HAEUN_GWANGAN.name()));
             case THEME -> verify(courseRepository).findCoursesByTheme(anyString(), eq(Theme.MOUNTAIN.name()));
         }
 
-        verify(trackPointRepository).findByCourseIdInOrderBySequenceAsc(anyList());
-        verify(bookmarkRepository).countByCourseIdIn(anyList());
+        verify(courseRepository).findSimplifiedTrackPointsByIdIn(anyList());
+        verify(bookmarkCountService).getBookmarkCount(COURSE_ID, 2);
         verify(bookmarkRepository).findBookmarkedCourseIdsByMember(anyList(), anyLong());
     }
 
@@ -205,26 +220,22 @@ class CourseServiceTest {
         // given
         Course course = createMockCourse(COURSE_ID);
         CourseInfoDto courseInfoDto = createCourseInfoDto(course);
-        List<TrackPoint> trackPoints = course.getTrackPoints();
-        BookmarkCountDto bookmarkCountDto = new BookmarkCountDto(COURSE_ID, 3L); // 북마크 3개로 가정
+        given(courseInfoDto.getBookmarkCount()).willReturn(2); // 저장된 북마크 2개로 가정
 
         switch (filterType) {
-            case NEARBY -> given(courseRepository.findCoursesNearbyUser(anyString())).willReturn(List.of(courseInfoDto));
+            case NEARBY -> given(courseRepository.findCoursesNearbyUser(anyString(), anyString(), anyDouble())).willReturn(List.of(courseInfoDto));
             case AREA -> given(courseRepository.findCoursesByArea(anyString(), eq(Area.HAEUN_GWANGAN.name()))).willReturn(List.of(courseInfoDto));
             case THEME -> given(courseRepository.findCoursesByTheme(anyString(), eq(Theme.MOUNTAIN.name()))).willReturn(List.of(courseInfoDto));
         }
 
-        Coordinate[] coordinates = course.getTrackPoints().stream()
-                .map(p -> new Coordinate(p.getLon(), p.getLat(), p.getEle()))
-                .toArray(Coordinate[]::new);
-        LineString realLineString = new GeometryFactory().createLineString(coordinates);
+        CourseSimplifiedTrackPointsDto simplifiedTrackPointsDto =
+                new CourseSimplifiedTrackPointsDto(COURSE_ID, course.getSimplifiedTrackPoints());
 
-        given(geometryFactory.createLineString(any(Coordinate[].class))).willReturn(realLineString);
-        given(trackPointRepository.findByCourseIdInOrderBySequenceAsc(List.of(COURSE_ID))).willReturn(trackPoints);
-        given(bookmarkRepository.countByCourseIdIn(List.of(COURSE_ID))).willReturn(List.of(bookmarkCountDto));
+        given(courseRepository.findSimplifiedTrackPointsByIdIn(List.of(COURSE_ID))).willReturn(List.of(simplifiedTrackPointsDto));
+        given(bookmarkCountService.getBookmarkCount(COURSE_ID, 2)).willReturn(3); // 반영 대기 중인 북마크 1개 포함
 
         // when
-        List<CourseInfoWithDetailsDto> result = courseService.findCourses(filterOption, null);
+        List<CourseInfoWithDetailsDto> result = courseService.findCourses(filterOption, null, PAGE_SIZE, TrackDetail.HIGH, null).courses();
 
         // then
         assertNotNull(result);
@@ -238,18 +249,18 @@ class CourseServiceTest {
         assertThat(details.maxElevation()).isEqualTo((int) Math.round(course.getMaxElevation()));
         assertThat(details.thumbnailUrl()).isEqualTo("thumbnailUrl");
         assertThat(details.distanceFromUser()).isEqualTo(1.5);
-        assertThat(details.trackPoints().size()).isLessThanOrEqualTo(trackPoints.size());
+        assertThat(details.trackPoints()).isEqualTo(course.getSimplifiedTrackPoints());
         assertThat(details.bookmarks()).isEqualTo(3);
         assertThat(details.isBookmarked()).isFalse();
 
         switch (filterType) {
-            case NEARBY -> verify(courseRepository).findCoursesNearbyUser(anyString());
+            case NEARBY -> verify(courseRepository).findCoursesNearbyUser(anyString(), anyString(), anyDouble());
             case AREA -> verify(courseRepository).findCoursesByArea(anyString(), eq(Area.HAEUN_GWANGAN.name()));
             case THEME -> verify(courseRepository).findCoursesByTheme(anyString(), eq(Theme.MOUNTAIN.name()));
         }
 
-        verify(trackPointRepository).findByCourseIdInOrderBySequenceAsc(anyList());
-        verify(bookmarkRepository).countByCourseIdIn(anyList());
+        verify(courseRepository).findSimplifiedTrackPointsByIdIn(anyList());
+        verify(bookmarkCountService).getBookmarkCount(COURSE_ID, 2);
         verify(bookmarkRepository, never()).findBookmarkedCourseIdsByMember(anyList(), anyLong());
     }
 
@@ -257,26 +268,205 @@ class CourseServiceTest {
     @DisplayName("코스 전체 조회 성공 - 조회된 코스가 없는 경우")
     void findCourses_success_emptyResult() {
         // given
-        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(NEARBY, USER_LAT, USER_LON, null, null);
-        given(courseRepository.findCoursesNearbyUser(String.format(MYSQL_POINT_FORMAT, filterOption.lat(), filterOption.lon()))).willReturn(List.of());
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(NEARBY, USER_LAT, USER_LON, null, null, null, null);
+        given(courseRepository.findCoursesNearbyUser(eq(String.format(MYSQL_POINT_FORMAT, filterOption.lat(), filterOption.lon())), anyString(), eq(5000.0))).willReturn(List.of());
 
         // when
-        List<CourseInfoWithDetailsDto> result = courseService.findCourses(filterOption, null);
+        List<CourseInfoWithDetailsDto> result = courseService.findCourses(filterOption, null, PAGE_SIZE, TrackDetail.HIGH, null).courses();
 
         // then
         assertThat(result).isEmpty();
-        verify(trackPointRepository, never()).findByCourseIdInOrderBySequenceAsc(anyList());
-        verify(bookmarkRepository, never()).countByCourseIdIn(anyList());
+        verify(courseRepository, never()).findSimplifiedTrackPointsByIdIn(anyList());
+        verify(bookmarkCountService, never()).getBookmarkCount(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("코스 전체 조회 성공 - 공간 인덱스로 주변 코스 조회")
+    void findCourses_success_nearbyWithSpatialIndex() {
+        // given
+        Course course = createMockCourse(COURSE_ID);
+        CourseInfoDto courseInfoDto = createCourseInfoDto(course);
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(NEARBY, USER_LAT, USER_LON, null, null, null, null);
+
+        given(courseSpatialIndex.isReady()).willReturn(true);
+        given(courseSpatialIndex.findWithinRadius(USER_LAT, USER_LON, 5000))
+                .willReturn(List.of(new CourseSpatialIndex.CourseDistance(COURSE_ID, 1500)));
+        given(courseRepository.findCoursesByIdIn(anyString(), eq(List.of(COURSE_ID)))).willReturn(List.of(courseInfoDto));
+        given(courseRepository.findSimplifiedTrackPointsByIdIn(List.of(COURSE_ID)))
+                .willReturn(List.of(new CourseSimplifiedTrackPointsDto(COURSE_ID, course.getSimplifiedTrackPoints())));
+
+        // when
+        List<CourseInfoWithDetailsDto> result = courseService.findCourses(filterOption, null, PAGE_SIZE, TrackDetail.HIGH, null).courses();
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().courseId()).isEqualTo(COURSE_ID);
+        verify(courseRepository, never()).findCoursesNearbyUser(anyString(), anyString(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("코스 전체 조회 성공 - 공간 인덱스가 준비되지 않으면 DB로 가까운 코스 조회")
+    void findCourses_success_nearestFallbackToDatabase() {
+        // given
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(NEAREST, USER_LAT, USER_LON, null, null, 100, null);
+        given(courseSpatialIndex.isReady()).willReturn(false);
+        given(courseRepository.findNearestCourses(anyString(), eq(50))).willReturn(List.of());
+
+        // when
+        List<CourseInfoWithDetailsDto> result = courseService.findCourses(filterOption, null, PAGE_SIZE, TrackDetail.HIGH, null).courses();
+
+        // then
+        assertThat(result).isEmpty();
+        verify(courseRepository).findNearestCourses(anyString(), eq(50)); // 최대 조회 개수로 제한
+        verify(courseSpatialIndex, never()).findNearest(anyDouble(), anyDouble(), anyInt());
+    }
+
+    @Test
+    @DisplayName("코스 전체 조회 성공 - 반경이 주어지면 MBR로 후보를 좁히는 지역 조회 사용")
+    void findCourses_success_areaWithinEnvelope() {
+        // given
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(AREA, USER_LAT, USER_LON, Area.HAEUN_GWANGAN, null, null, 10000);
+        given(courseRepository.findCoursesByAreaWithinEnvelope(anyString(), anyString(), eq(10000.0), eq(Area.HAEUN_GWANGAN.name())))
+                .willReturn(List.of());
+
+        // when
+        List<CourseInfoWithDetailsDto> result = courseService.findCourses(filterOption, null, PAGE_SIZE, TrackDetail.HIGH, null).courses();
+
+        // then
+        ArgumentCaptor<String> envelopeCaptor = ArgumentCaptor.forClass(String.class);
+        verify(courseRepository).findCoursesByAreaWithinEnvelope(anyString(), envelopeCaptor.capture(), eq(10000.0), eq(Area.HAEUN_GWANGAN.name()));
+        verify(courseRepository, never()).findCoursesByArea(anyString(), anyString());
+        assertThat(result).isEmpty();
+        assertThat(envelopeCaptor.getValue()).startsWith("POLYGON((");
+    }
+
+    @Test
+    @DisplayName("코스 전체 조회 성공 - 커서로 다음 페이지 조회, 경로는 페이지의 코스만 조회")
+    void findCourses_success_cursorPagination() {
+        // given
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(AREA, USER_LAT, USER_LON, Area.HAEUN_GWANGAN, null, null, null);
+        // 2번과 3번 코스는 거리가 같아 코스 ID 순서로 정렬
+        given(courseRepository.findCoursesByArea(anyString(), eq(Area.HAEUN_GWANGAN.name()))).willReturn(List.of(
+                createCourseInfoDto(3L, 200.0),
+                createCourseInfoDto(1L, 100.0),
+                createCourseInfoDto(4L, 300.0),
+                createCourseInfoDto(2L, 200.0)
+        ));
+        given(courseRepository.findSimplifiedTrackPointsByIdIn(anyList())).willReturn(List.of());
+
+        // when
+        CourseInfoPageDto firstPage = courseService.findCourses(filterOption, null, 2, TrackDetail.HIGH, null);
+        CourseInfoPageDto secondPage = courseService.findCourses(filterOption, firstPage.nextCursor(), 2, TrackDetail.HIGH, null);
+
+        // then
+        assertThat(firstPage.courses()).extracting(CourseInfoWithDetailsDto::courseId).containsExactly(1L, 2L);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.courses()).extracting(CourseInfoWithDetailsDto::courseId).containsExactly(3L, 4L);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(secondPage.nextCursor()).isNull();
+
+        verify(courseRepository).findSimplifiedTrackPointsByIdIn(List.of(1L, 2L));
+        verify(courseRepository).findSimplifiedTrackPointsByIdIn(List.of(3L, 4L));
+    }
+
+    @Test
+    @DisplayName("코스 전체 조회 성공 - 상세 수준 경로가 없는 코스는 HIGH 수준 경로로 응답")
+    void findCourses_success_lowDetailFallbackToHigh() {
+        // given
+        Course course = createMockCourse(COURSE_ID);
+        CourseInfoDto courseInfoDto = createCourseInfoDto(course);
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(AREA, USER_LAT, USER_LON, Area.HAEUN_GWANGAN, null, null, null);
+        given(courseRepository.findCoursesByArea(anyString(), eq(Area.HAEUN_GWANGAN.name()))).willReturn(List.of(courseInfoDto));
+        given(courseRepository.findLowDetailTrackPointsByIdIn(List.of(COURSE_ID)))
+                .willReturn(List.of(new CourseSimplifiedTrackPointsDto(COURSE_ID, null)));
+        given(courseRepository.findSimplifiedTrackPointsByIdIn(List.of(COURSE_ID)))
+                .willReturn(List.of(new CourseSimplifiedTrackPointsDto(COURSE_ID, course.getSimplifiedTrackPoints())));
+
+        // when
+        List<CourseInfoWithDetailsDto> result = courseService.findCourses(filterOption, null, PAGE_SIZE, TrackDetail.LOW, null).courses();
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.getFirst().trackPoints()).isEqualTo(course.getSimplifiedTrackPoints());
+        verify(courseRepository).findLowDetailTrackPointsByIdIn(List.of(COURSE_ID));
+    }
+
+    @Test
+    @DisplayName("코스 전체 조회 실패 - 커서 형식이 올바르지 않음")
+    void findCourses_fail_invalidCursor() {
+        // given
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(NEARBY, USER_LAT, USER_LON, null, null, null, null);
+
+        // when, then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> courseService.findCourses(filterOption, "invalid-cursor", PAGE_SIZE, TrackDetail.HIGH, null));
+        assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_CURSOR_PARAMETER);
+    }
+
+    @Test
+    @DisplayName("코스 전체 조회 성공 - 페이지 사이에 사용자가 이동해도 다음 페이지는 첫 페이지 위치 기준으로 조회")
+    void findCourses_success_cursorKeepsOrigin() {
+        // given
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(AREA, USER_LAT, USER_LON, Area.HAEUN_GWANGAN, null, null, null);
+        CourseFilterRequestDto movedFilterOption = new CourseFilterRequestDto(AREA, USER_LAT + 0.05, USER_LON + 0.05, Area.HAEUN_GWANGAN, null, null, null);
+        given(courseRepository.findCoursesByArea(anyString(), eq(Area.HAEUN_GWANGAN.name()))).willReturn(List.of(
+                createCourseInfoDto(1L, 100.0),
+                createCourseInfoDto(2L, 200.0),
+                createCourseInfoDto(3L, 300.0)
+        ));
+        given(courseRepository.findSimplifiedTrackPointsByIdIn(anyList())).willReturn(List.of());
+
+        // when
+        CourseInfoPageDto firstPage = courseService.findCourses(filterOption, null, 2, TrackDetail.HIGH, null);
+        CourseInfoPageDto secondPage = courseService.findCourses(movedFilterOption, firstPage.nextCursor(), 2, TrackDetail.HIGH, null);
+
+        // then
+        ArgumentCaptor<String> userPointCaptor = ArgumentCaptor.forClass(String.class);
+        verify(courseRepository, times(2)).findCoursesByArea(userPointCaptor.capture(), eq(Area.HAEUN_GWANGAN.name()));
+        assertThat(userPointCaptor.getAllValues().get(1)).isEqualTo(userPointCaptor.getAllValues().get(0));
+        assertThat(secondPage.courses()).extracting(CourseInfoWithDetailsDto::courseId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("코스 전체 조회 실패 - 커서를 만든 요청과 필터 조건이 다름")
+    void findCourses_fail_cursorFilterMismatch() {
+        // given
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(AREA, USER_LAT, USER_LON, Area.HAEUN_GWANGAN, null, null, null);
+        CourseFilterRequestDto otherFilterOption = new CourseFilterRequestDto(THEME, USER_LAT, USER_LON, null, Theme.MOUNTAIN, null, null);
+        given(courseRepository.findCoursesByArea(anyString(), eq(Area.HAEUN_GWANGAN.name()))).willReturn(List.of(
+                createCourseInfoDto(1L, 100.0),
+                createCourseInfoDto(2L, 200.0)
+        ));
+        given(courseRepository.findSimplifiedTrackPointsByIdIn(anyList())).willReturn(List.of());
+        String cursor = courseService.findCourses(filterOption, null, 1, TrackDetail.HIGH, null).nextCursor();
+
+        // when, then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> courseService.findCourses(otherFilterOption, cursor, 1, TrackDetail.HIGH, null));
+        assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_CURSOR_PARAMETER);
+        verify(courseRepository, never()).findCoursesByTheme(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("코스 전체 조회 실패 - 페이지 크기가 0 이하")
+    void findCourses_fail_invalidPageSize() {
+        // given
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(NEARBY, USER_LAT, USER_LON, null, null, null, null);
+
+        // when, then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> courseService.findCourses(filterOption, null, 0, TrackDetail.HIGH, null));
+        assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_PAGE_SIZE_PARAMETER);
     }
 
     @Test
     @DisplayName("코스 전체 조회 실패 - 지역 필터링인데 Area가 null")
     void findCourses_byArea_fail_withNullArea() {
         // given
-        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(AREA, USER_LAT, USER_LON, null, null);
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(AREA, USER_LAT, USER_LON, null, null, null, null);
 
         // when, then
-        BusinessException exception = assertThrows(BusinessException.class, () -> courseService.findCourses(filterOption, MEMBER_ID));
+        BusinessException exception = assertThrows(BusinessException.class, () -> courseService.findCourses(filterOption, null, PAGE_SIZE, TrackDetail.HIGH, MEMBER_ID));
         assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_AREA_PARAMETER);
     }
 
@@ -284,10 +474,10 @@ class CourseServiceTest {
     @DisplayName("코스 전체 조회 실패 - 테마 필터링인데 Theme이 null")
     void findCourses_byTheme_fail_withNullTheme() {
         // given
-        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(THEME, USER_LAT, USER_LON, null, null);
+        CourseFilterRequestDto filterOption = new CourseFilterRequestDto(THEME, USER_LAT, USER_LON, null, null, null, null);
 
         // when, then
-        BusinessException exception = assertThrows(BusinessException.class, () -> courseService.findCourses(filterOption, MEMBER_ID));
+        BusinessException exception = assertThrows(BusinessException.class, () -> courseService.findCourses(filterOption, null, PAGE_SIZE, TrackDetail.HIGH, MEMBER_ID));
         assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_THEME_PARAMETER);
     }
 
@@ -297,18 +487,13 @@ class CourseServiceTest {
         // given
         Course course = createMockCourse(COURSE_ID);
 
-        Coordinate[] coordinates = course.getTrackPoints().stream()
-                .map(p -> new Coordinate(p.getLon(), p.getLat(), p.getEle()))
-                .toArray(Coordinate[]::new);
-        LineString realLineString = new GeometryFactory().createLineString(coordinates);
-
-        given(geometryFactory.createLineString(any(Coordinate[].class))).willReturn(realLineString);
         given(courseRepository.findCourseWithDetailsById(COURSE_ID)).willReturn(Optional.of(course));
-        given(bookmarkRepository.countByCourseId(COURSE_ID)).willReturn(5); // 북마크 수 5개
+        ReflectionTestUtils.setField(course, "bookmarkCount", 4); // 저장된 북마크 수 4개
+        given(bookmarkCountService.getBookmarkCount(COURSE_ID, 4)).willReturn(5); // 반영 대기 중인 북마크 1개 포함
         given(bookmarkRepository.existsByCourseIdAndMemberId(COURSE_ID, MEMBER_ID)).willReturn(true); // 북마크 여부 true
 
         // when
-        CourseDetailDto result = courseService.findCourseDetails(COURSE_ID, MEMBER_ID);
+        CourseDetailDto result = courseService.findCourseDetails(COURSE_ID, TrackDetail.HIGH, MEMBER_ID);
 
         // then
         assertNotNull(result);
@@ -318,15 +503,13 @@ class CourseServiceTest {
         assertThat(result.duration()).isEqualTo(course.getDuration());
         assertThat(result.minElevation()).isEqualTo((int) Math.round(course.getMinElevation()));
         assertThat(result.maxElevation()).isEqualTo((int) Math.round(course.getMaxElevation()));
-        assertThat(result.trackPoints()).isNotEmpty();
-        assertThat(result.trackPoints().size()).isLessThanOrEqualTo(course.getTrackPoints().size());
+        assertThat(result.trackPoints()).isEqualTo(course.getSimplifiedTrackPoints());
         assertThat(result.bookmarks()).isEqualTo(5);
         assertThat(result.isBookmarked()).isTrue();
 
         verify(courseRepository).findCourseWithDetailsById(COURSE_ID);
-        verify(bookmarkRepository).countByCourseId(COURSE_ID);
+        verify(bookmarkCountService).getBookmarkCount(COURSE_ID, 4);
         verify(bookmarkRepository).existsByCourseIdAndMemberId(COURSE_ID, MEMBER_ID);
-        verify(geometryFactory).createLineString(any(Coordinate[].class));
     }
 
     @Test
@@ -335,17 +518,12 @@ class CourseServiceTest {
         // given
         Course course = createMockCourse(COURSE_ID);
 
-        Coordinate[] coordinates = course.getTrackPoints().stream()
-                .map(p -> new Coordinate(p.getLon(), p.getLat(), p.getEle()))
-                .toArray(Coordinate[]::new);
-        LineString realLineString = new GeometryFactory().createLineString(coordinates);
-
-        given(geometryFactory.createLineString(any(Coordinate[].class))).willReturn(realLineString);
         given(courseRepository.findCourseWithDetailsById(COURSE_ID)).willReturn(Optional.of(course));
-        given(bookmarkRepository.countByCourseId(COURSE_ID)).willReturn(5); // 북마크 수 5개
+        ReflectionTestUtils.setField(course, "bookmarkCount", 4); // 저장된 북마크 수 4개
+        given(bookmarkCountService.getBookmarkCount(COURSE_ID, 4)).willReturn(5); // 반영 대기 중인 북마크 1개 포함
 
         // when
-        CourseDetailDto result = courseService.findCourseDetails(COURSE_ID, null);
+        CourseDetailDto result = courseService.findCourseDetails(COURSE_ID, TrackDetail.HIGH, null);
 
         // then
         assertNotNull(result);
@@ -355,14 +533,12 @@ class CourseServiceTest {
         assertThat(result.duration()).isEqualTo(course.getDuration());
         assertThat(result.minElevation()).isEqualTo((int) Math.round(course.getMinElevation()));
         assertThat(result.maxElevation()).isEqualTo((int) Math.round(course.getMaxElevation()));
-        assertThat(result.trackPoints()).isNotEmpty();
-        assertThat(result.trackPoints().size()).isLessThanOrEqualTo(course.getTrackPoints().size());
+        assertThat(result.trackPoints()).isEqualTo(course.getSimplifiedTrackPoints());
         assertThat(result.bookmarks()).isEqualTo(5);
         assertThat(result.isBookmarked()).isFalse();
 
         verify(courseRepository).findCourseWithDetailsById(COURSE_ID);
-        verify(bookmarkRepository).countByCourseId(COURSE_ID);
-        verify(geometryFactory).createLineString(any(Coordinate[].class));
+        verify(bookmarkCountService).getBookmarkCount(COURSE_ID, 4);
     }
 
     @Test
@@ -374,7 +550,7 @@ class CourseServiceTest {
 
         // when, then
         BusinessException exception = assertThrows(BusinessException.class,
-                () -> courseService.findCourseDetails(nonExistentCourseId, null));
+                () -> courseService.findCourseDetails(nonExistentCourseId, TrackDetail.HIGH, null));
 
         assertThat(exception.getResponseCode()).isEqualTo(COURSE_NOT_FOUND);
     }
@@ -385,7 +561,7 @@ class CourseServiceTest {
      */
     private Course createMockCourse(Long courseId) {
         // Course 객체 생성 (빌더로 설정 가능한 필드 우선 설정)
-        CourseImage courseImage = new CourseImage("img/thumb.jpg");
+        CourseImage courseImage = CourseImage.builder().imgUrl("img/thumb.jpg").build();
         Course course = Course.builder()
                 .name("startPointName-endPointName")
                 .distance(15.3)
@@ -411,6 +587,12 @@ class CourseServiceTest {
                 ReflectionTestUtils.setField(trackPoint, "course", course)
         );
 
+        // 저장된 단순화 경로 설정 (시작점, 종료점)
+        course.updateSimplifiedTrackPoints(Map.of(TrackDetail.HIGH, List.of(
+                TrackPointDto.from(trackPoints.getFirst()),
+                TrackPointDto.from(trackPoints.getLast())
+        )));
+
         return course;
     }
 
@@ -439,6 +621,23 @@ class CourseServiceTest {
         );
     }
 
+    private CourseInfoDto createCourseInfoDto(long courseId, double distanceFromUser) {
+        return new CourseInfoDto() {
+            @Override public long getId() { return courseId; }
+            @Override public String getName() { return "course" + courseId; }
+            @Override public String getThumbnailUrl() { return "thumbnailUrl"; }
+            @Override public String getThumbnailOriginalUrl() { return "thumbnailUrl"; }
+            @Override public String getThumbnailSmallUrl() { return null; }
+            @Override public String getThumbnailMediumUrl() { return null; }
+            @Override public String getThumbnailPlaceholder() { return null; }
+            @Override public double getDistance() { return 10.0; }
+            @Override public int getDuration() { return 60; }
+            @Override public double getMaxElevation() { return 100.0; }
+            @Override public double getDistanceFromUser() { return distanceFromUser; }
+            @Override public int getBookmarkCount() { return 0; }
+        };
+    }
+
     private CourseInfoDto createCourseInfoDto(Course course) {
         CourseInfoDto courseInfoDto = Mockito.mock(CourseInfoDto.class);
         given(courseInfoDto.getId()).willReturn(course.getId());
@@ -455,25 +654,10 @@ class CourseServiceTest {
     @DisplayName("코스 요약 조회 테스트")
     class CourseSummaryTest {
 
-        private Member writer;
-
-        @BeforeEach
-        void setUp() {
-            writer = Member.builder()
-                    .nickname("nickname1")
-                    .providerId("providerId1")
-                    .provider(Provider.GOOGLE)
-                    .email("email1")
-                    .role(Role.USER)
-                    .build();
-        }
+        private static final Long WRITER_ID = 1L;
 
-        private Review createMockReview(Long reviewId, double stars, String contents) {
-            Review review = Review.builder().stars(stars).contents(contents).build();
-            ReflectionTestUtils.setField(review, "id", reviewId);
-            ReflectionTestUtils.setField(review, "createdAt", LocalDateTime.now());
-            review.setWriter(writer);
-            return review;
+        private ReviewFeedDto createMockReviewFeed(Long reviewId, double stars, String contents) {
+            return new ReviewFeedDto(reviewId, stars, contents, WRITER_ID, "nickname1", LocalDateTime.now());
         }
 
         private Spot createMockSpot(Long spotId) {
@@ -497,13 +681,12 @@ class CourseServiceTest {
             Long courseId = 1L;
             Course course = createMockCourse(courseId);
 
-            Review review1 = createMockReview(1L, 4.0, "review1");
-            Review review2 = createMockReview(2L, 5.0, "review2");
-            List<Review> reviews = List.of(review1, review2);
+            ReviewFeedDto review1 = createMockReviewFeed(1L, 4.0, "review1");
+            ReviewFeedDto review2 = createMockReviewFeed(2L, 5.0, "review2");
 
             List<ReviewInfoDto> reviewInfoDtos = List.of(
-                    ReviewInfoDto.from(review1, isMyReview),
-                    ReviewInfoDto.from(review2, isMyReview)
+                    ReviewInfoDto.from(review1, memberId),
+                    ReviewInfoDto.from(review2, memberId)
             );
 
             Spot spot1 = createMockSpot(101L);
@@ -511,16 +694,16 @@ class CourseServiceTest {
             Spot spot3 = createMockSpot(103L);
 
             List<SpotInfoDto> spotInfoDtos = List.of(
-                    new SpotInfoDto(101L, "Spot1", "Description1", "http://mock-image-url"),
-                    new SpotInfoDto(102L, "Spot2", "Description2", "http://mock-image-url"),
-                    new SpotInfoDto(103L, "Spot3", "Description3", "http://mock-image-url")
+                    new SpotInfoDto(101L, "Spot1", "Description1", "http://mock-image-url", "http://mock-image-url", null, null, null),
+                    new SpotInfoDto(102L, "Spot2", "Description2", "http://mock-image-url", "http://mock-image-url", null, null, null),
+                    new SpotInfoDto(103L, "Spot3", "Description3", "http://mock-image-url", "http://mock-image-url", null, null, null)
             );
 
+            ReviewStatsDto reviewStats = new ReviewStatsDto(3, 4.2, List.of(new StarCountDto(4.0, 2), new StarCountDto(4.5, 1)));
+
             given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-            given(reviewRepository.findRecent2ByCourseId(courseId)).willReturn(reviews);
-            given(reviewRepository.countByCourseId(courseId)).willReturn(3L);
-            given(reviewService.calculateAverageStars(courseId)).willReturn(4.2);
-            given(reviewService.convertToReviewInfoDtos(reviews, memberId)).willReturn(reviewInfoDtos);
+            given(reviewService.getReviewStats(courseId)).willReturn(reviewStats);
+            given(reviewService.findRecentReviews(courseId, 2, memberId)).willReturn(reviewInfoDtos);
             given(spotRepository.findRandom3ByCourseId(courseId)).willReturn(spotInfoDtos);
 
             // when
@@ -533,8 +716,10 @@ class CourseServiceTest {
             assertThat(result.maxElevation()).isEqualTo((int) Math.round(course.getMaxElevation()));
             assertThat(result.starAverage()).isEqualTo(4.2);
             assertThat(result.reviewCount()).isEqualTo(3L);
-            assertThat(result.reviews().getFirst().reviewId()).isEqualTo(review1.getId());
-            assertThat(result.reviews().getLast().reviewId()).isEqualTo(review2.getId());
+            assertThat(result.starHistogram()).isEqualTo(reviewStats.starHistogram());
+            assertThat(result.reviews().getFirst().reviewId()).isEqualTo(review1.reviewId());
+            assertThat(result.reviews().getLast().reviewId()).isEqualTo(review2.reviewId());
+            assertThat(result.reviews()).allMatch(review -> review.isMyReview() == isMyReview);
             assertThat(result.spotStatus()).isEqualTo("COMPLETED");
             assertThat(result.spots().size()).isEqualTo(3);
             assertThat(result.spots().get(0).spotId()).isEqualTo(spot1.getId());
@@ -542,10 +727,8 @@ class CourseServiceTest {
             assertThat(result.spots().get(2).spotId()).isEqualTo(spot3.getId());
 
             verify(courseRepository).findById(courseId);
-            verify(reviewRepository).findRecent2ByCourseId(courseId);
-            verify(reviewRepository).countByCourseId(courseId);
-            verify(reviewService).calculateAverageStars(courseId);
-            verify(reviewService).convertToReviewInfoDtos(reviews, memberId);
+            verify(reviewService).getReviewStats(courseId);
+            verify(reviewService).findRecentReviews(courseId, 2, memberId);
             verify(spotRepository).findRandom3ByCourseId(courseId);
         }
 
@@ -558,20 +741,19 @@ class CourseServiceTest {
             Course course = createMockCourse(courseId);
             course.updateSpotStatus(IN_PROGRESS);
 
-            Review review1 = createMockReview(1L, 4.0, "review1");
-            Review review2 = createMockReview(2L, 5.0, "review2");
-            List<Review> reviews = List.of(review1, review2);
+            ReviewFeedDto review1 = createMockReviewFeed(1L, 4.0, "review1");
+            ReviewFeedDto review2 = createMockReviewFeed(2L, 5.0, "review2");
 
             List<ReviewInfoDto> reviewInfoDtos = List.of(
-                    ReviewInfoDto.from(review1, isMyReview),
-                    ReviewInfoDto.from(review2, isMyReview)
+                    ReviewInfoDto.from(review1, memberId),
+                    ReviewInfoDto.from(review2, memberId)
             );
 
+            ReviewStatsDto reviewStats = new ReviewStatsDto(3, 4.2, List.of(new StarCountDto(4.0, 2), new StarCountDto(4.5, 1)));
+
             given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
-            given(reviewRepository.findRecent2ByCourseId(courseId)).willReturn(reviews);
-            given(reviewRepository.countByCourseId(courseId)).willReturn(3L);
-            given(reviewService.calculateAverageStars(courseId)).willReturn(4.2);
-            given(reviewService.convertToReviewInfoDtos(reviews, memberId)).willReturn(reviewInfoDtos);
+            given(reviewService.getReviewStats(courseId)).willReturn(reviewStats);
+            given(reviewService.findRecentReviews(courseId, 2, memberId)).willReturn(reviewInfoDtos);
 
             // when
             CourseSummaryDto result = courseService.getCourseSummary(courseId, memberId);
@@ -583,16 +765,16 @@ class CourseServiceTest {
             assertThat(result.maxElevation()).isEqualTo((int) Math.round(course.getMaxElevation()));
             assertThat(result.starAverage()).isEqualTo(4.2);
             assertThat(result.reviewCount()).isEqualTo(3L);
-            assertThat(result.reviews().getFirst().reviewId()).isEqualTo(review1.getId());
-            assertThat(result.reviews().getLast().reviewId()).isEqualTo(review2.getId());
+            assertThat(result.starHistogram()).isEqualTo(reviewStats.starHistogram());
+            assertThat(result.reviews().getFirst().reviewId()).isEqualTo(review1.reviewId());
+            assertThat(result.reviews().getLast().reviewId()).isEqualTo(review2.reviewId());
+            assertThat(result.reviews()).allMatch(review -> review.isMyReview() == isMyReview);
             assertThat(result.spots()).isEmpty(); // 빈 리스트인지 확인
             assertThat(result.spotStatus()).isEqualTo("IN_PROGRESS"); // 즐길거리 초기화 상태값 확인
 
             verify(courseRepository).findById(courseId);
-            verify(reviewRepository).findRecent2ByCourseId(courseId);
-            verify(reviewRepository).countByCourseId(courseId);
-            verify(reviewService).calculateAverageStars(courseId);
-            verify(reviewService).convertToReviewInfoDtos(reviews, memberId);
+            verify(reviewService).getReviewStats(courseId);
+            verify(reviewService).findRecentReviews(courseId, 2, memberId);
         }
 
         @Test
@@ -667,13 +849,48 @@ class CourseServiceTest {
         private final ObjectMapper objectMapper = new ObjectMapper();
 
         @Test
-        @DisplayName("부산 지역 판별 성공 - true 반환")
+        @DisplayName("부산 지역 판별 성공 - 부산 구/군 경계 안쪽이면 카카오 API 호출 없이 true 반환")
+        void isInsideBusan_whenCoordinateIsInsideBoundary_shouldReturnTrue() {
+            // given
+            double busanLon = 129.0592;
+            double busanLat = 35.1579;
+
+            when(busanDistrictIndex.locate(busanLon, busanLat)).thenReturn(BoundaryLocation.INSIDE);
+
+            // when
+            boolean result = courseService.isInsideBusan(busanLon, busanLat);
+
+            // then
+            assertThat(result).isTrue();
+            verify(kakaoMapService, never()).getAddressFromCoordinate(anyDouble(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("부산이 아닌 지역 판별 성공 - 부산 구/군 경계 밖이면 카카오 API 호출 없이 false 반환")
+        void isInsideBusan_whenCoordinateIsOutsideBoundary_shouldReturnFalse() {
+            // given
+            double seoulLon = 127.0276;
+            double seoulLat = 37.4979;
+
+            when(busanDistrictIndex.locate(seoulLon, seoulLat)).thenReturn(BoundaryLocation.OUTSIDE);
+
+            // when
+            boolean result = courseService.isInsideBusan(seoulLon, seoulLat);
+
+            // then
+            assertThat(result).isFalse();
+            verify(kakaoMapService, never()).getAddressFromCoordinate(anyDouble(), anyDouble());
+        }
+
+        @Test
+        @DisplayName("부산 지역 판별 성공 - 경계 근처는 카카오 API로 확인하여 true 반환")
         void isInsideBusan_whenCoordinateIsInBusan_shouldReturnTrue() throws Exception {
             // given
             double busanLon = 129.004480714;
             double busanLat = 35.08747067199999;
             JsonNode busanAddressNode = createMockAddressNode("부산광역시");
 
+            when(busanDistrictIndex.locate(busanLon, busanLat)).thenReturn(BoundaryLocation.NEAR_BORDER);
             when(kakaoMapService.getAddressFromCoordinate(busanLon, busanLat)).thenReturn(busanAddressNode);
 
             // when
@@ -684,13 +901,14 @@ class CourseServiceTest {
         }
 
         @Test
-        @DisplayName("부산이 아닌 지역 판별 성공 - false 반환")
+        @DisplayName("부산이 아닌 지역 판별 성공 - 경계 근처는 카카오 API로 확인하여 false 반환")
         void isInsideBusan_whenCoordinateIsNotInBusan_shouldReturnFalse() throws Exception {
             // given
             double seoulLon = 127.0276;
             double seoulLat = 37.4979;
             JsonNode seoulAddressNode = createMockAddressNode("서울특별시");
 
+            when(busanDistrictIndex.locate(seoulLon, seoulLat)).thenReturn(BoundaryLocation.NEAR_BORDER);
             when(kakaoMapService.getAddressFromCoordinate(seoulLon, seoulLat)).thenReturn(seoulAddressNode);
 
             // when
@@ -707,6 +925,7 @@ class CourseServiceTest {
             double someLon = 128.0;
             double someLat = 36.0;
 
+            when(busanDistrictIndex.locate(someLon, someLat)).thenReturn(BoundaryLocation.NEAR_BORDER);
             when(kakaoMapService.getAddressFromCoordinate(someLon, someLat)).thenReturn(null);
 
             // when
@@ -760,7 +979,12 @@ class CourseServiceTest {
             Long courseId = 100L;
             Course newCourse = createMockCourse(courseId);
 
+            ImageVariantsDto thumbnail = ImageVariantsDto.original("https://bucket.s3.ap-northeast-2.amazonaws.com/image/thumb.jpg");
+            CompletableFuture<ImageVariantsDto> thumbnailUpload = CompletableFuture.completedFuture(thumbnail);
+
             when(memberRepository.findById(memberId)).thenReturn(Optional.of(member));
+            when(fileService.uploadImageAsync(thumbnailImgFile, "image")).thenReturn(thumbnailUpload);
+            when(fileService.awaitUpload(thumbnailUpload)).thenReturn(thumbnail);
             when(courseDataService.createCourseToGpx(any(GpxCourseRequestDto.class), any(MultipartFile.class))).thenReturn(newCourse);
 
             // when
@@ -782,7 +1006,8 @@ class CourseServiceTest {
 
             verify(memberRepository).findById(memberId);
             verify(courseDataService).createCourseToGpx(any(GpxCourseRequestDto.class), eq(gpxFile));
-            verify(courseDataService).updateCourseImage(newCourse.getId(), thumbnailImgFile);
+            verify(fileService).deleteOnRollback(thumbnailUpload);
+            verify(courseDataService).updateCourseImage(newCourse.getId(), thumbnail);
         }
 
         @Test
@@ -797,8 +1022,9 @@ class CourseServiceTest {
                     () -> courseService.createMemberCourse(nonExistentMemberId, request));
             assertThat(exception.getResponseCode()).isEqualTo(MEMBER_NOT_FOUND);
 
+            verify(fileService, never()).uploadImageAsync(any(), any());
             verify(courseDataService, never()).createCourseToGpx(any(), any());
-            verify(courseDataService, never()).updateCourseImage(any(), any());
+            verify(courseDataService, never()).updateCourseImage(any(), any(ImageVariantsDto.class));
         }
     }
 
@@ -965,18 +1191,6 @@ class CourseServiceTest {
             return course;
         }
 
-        private TrackPoint createMockTrackPoint(Long trackPointId, Course course) {
-            TrackPoint trackPoint = TrackPoint.builder()
-                    .lat(23.4)
-                    .lon(25.6)
-                    .ele(130.2)
-                    .build();
-
-            ReflectionTestUtils.setField(trackPoint, "id", trackPointId);
-            ReflectionTestUtils.setField(trackPoint, "course", course);
-            return trackPoint;
-        }
-
         /**
          * [내 코스 상세 조회] 성공
          */
@@ -986,14 +1200,14 @@ class CourseServiceTest {
             // given
             Member member = createMockMember(MEMBER_ID);
             Course course = createMockCourse(COURSE_ID, member);
-            List<TrackPoint> trackPoints = List.of(
-                    createMockTrackPoint(1L, course),
-                    createMockTrackPoint(2L, course),
-                    createMockTrackPoint(3L, course)
+            TrackCoordinates trackCoordinates = new TrackCoordinates(
+                    new double[]{23.4, 23.5, 23.6},
+                    new double[]{25.6, 25.7, 25.8},
+                    new double[]{130.2, 130.3, 130.4}
             );
-            ReflectionTestUtils.setField(course, "trackPoints", trackPoints);
 
-            given(courseRepository.findByIdAndCreatorIdWithTrackPoints(COURSE_ID, MEMBER_ID)).willReturn(Optional.of(course));
+            given(courseRepository.findByIdAndCreatorId(COURSE_ID, MEMBER_ID)).willReturn(Optional.of(course));
+            given(courseTrackRepository.findCoordinatesByCourseId(COURSE_ID)).willReturn(Optional.of(trackCoordinates));
 
             // when
             MyCourseDetailDto result = courseService.getMyCourse(course.getId(), member.getId());
@@ -1002,7 +1216,8 @@ class CourseServiceTest {
             assertThat(result.courseId()).isEqualTo(course.getId());
             assertThat(result.trackPoints()).hasSize(3);
 
-            verify(courseRepository).findByIdAndCreatorIdWithTrackPoints(COURSE_ID, MEMBER_ID);
+            verify(courseRepository).findByIdAndCreatorId(COURSE_ID, MEMBER_ID);
+            verify(courseTrackRepository).findCoordinatesByCourseId(COURSE_ID);
         }
 
         /**
@@ -1013,7 +1228,7 @@ class CourseServiceTest {
         @DisplayName("내 코스 상세 조회 실패 - Course가 없음")
         void getMyCourse_fail_courseNotFound() {
             // given
-            given(courseRepository.findByIdAndCreatorIdWithTrackPoints(COURSE_ID, MEMBER_ID)).willReturn(Optional.empty());
+            given(courseRepository.findByIdAndCreatorId(COURSE_ID, MEMBER_ID)).willReturn(Optional.empty());
 
             // when, then
             BusinessException exception = assertThrows(BusinessException.class, () -> courseService.getMyCourse(COURSE_ID, MEMBER_ID));
@@ -1135,35 +1350,35 @@ class CourseServiceTest {
             return Stream.of(
                     Arguments.of(
                             "이름과 썸네일 모두 수정 (기존 이미지 있음)",
-                            new CourseImage(oldImageUrl),
+                            CourseImage.builder().imgUrl(oldImageUrl).build(),
                             new CourseUpdateRequestDto(newStartPoint, newEndPoint, newImageFile),
                             newCourseName,
                             times(1) // updateVerification
                     ),
                     Arguments.of(
                             "이름만 수정 (시작, 종료점 모두 변경)",
-                            new CourseImage(oldImageUrl),
+                            CourseImage.builder().imgUrl(oldImageUrl).build(),
                             new CourseUpdateRequestDto(newStartPoint, newEndPoint, null),
                             newCourseName,
                             never() // updateVerification
                     ),
                     Arguments.of(
                             "이름만 수정 (시작점만 변경)",
-                            new CourseImage(oldImageUrl),
+                            CourseImage.builder().imgUrl(oldImageUrl).build(),
                             new CourseUpdateRequestDto(newStartPoint, null, null),
                             newStartPoint + COURSE_NAME_DELIMITER + ORIGINAL_END_POINT,
                             never() // updateVerification
                     ),
                     Arguments.of(
                             "이름만 수정 (종료점만 변경)",
-                            new CourseImage(oldImageUrl),
+                            CourseImage.builder().imgUrl(oldImageUrl).build(),
                             new CourseUpdateRequestDto(null, newEndPoint, null),
                             ORIGINAL_START_POINT + COURSE_NAME_DELIMITER + newEndPoint,
                             never() // updateVerification
                     ),
                     Arguments.of(
                             "썸네일만 수정 (기존 이미지 있음)",
-                            new CourseImage(oldImageUrl),
+                            CourseImage.builder().imgUrl(oldImageUrl).build(),
                             new CourseUpdateRequestDto(null, "  ", newImageFile),
                             ORIGINAL_COURSE_NAME,
                             times(1) // updateVerification
@@ -1272,126 +1487,92 @@ class CourseServiceTest {
     class CheckKoreaTest {
         private final ObjectMapper objectMapper = new ObjectMapper();
 
+        private final CoordinateListDto.CoordinateDto seoulCityHall = new CoordinateListDto.CoordinateDto(37.566826, 126.9786567); // 서울시청
+        private final CoordinateListDto.CoordinateDto haeundae = new CoordinateListDto.CoordinateDto(35.158656, 129.160113); // 해운대 해수욕장
+        private final CoordinateListDto.CoordinateDto dokdo = new CoordinateListDto.CoordinateDto(37.24, 131.87); // 독도
+        private final CoordinateListDto.CoordinateDto tsushima = new CoordinateListDto.CoordinateDto(34.2565, 129.2891); // 일본 대마도
+
+        private void givenLocation(CoordinateListDto.CoordinateDto coordinateDto, BoundaryLocation location) {
+            given(koreaBoundary.locate(coordinateDto.longitude(), coordinateDto.latitude())).willReturn(location);
+        }
+
         /**
          * [대한민국 판별] 성공
-         * 1. 모든 좌표가 대한민국에 속하는 경우 (true 응답)
+         * 1. 모든 좌표가 대한민국 영역 안쪽인 경우 (카카오 지도 API 호출 없이 true 응답)
          */
         @Test
-        @DisplayName("대한민국 판별 성공 - true 반환")
-        void isKoreaCourse_success_inKorea() throws Exception {
+        @DisplayName("대한민국 판별 성공 - 영역 안쪽 좌표는 API 호출 없이 true 반환")
+        void isKoreaCourse_success_inKorea() {
             // given
-            List<CoordinateListDto.CoordinateDto> coordinateDtoList = List.of(
-                    new CoordinateListDto.CoordinateDto(37.566826, 126.9786567), // 서울시청
-                    new CoordinateListDto.CoordinateDto(35.158656, 129.160113) // 해운대 해수욕장
-            );
+            givenLocation(seoulCityHall, BoundaryLocation.INSIDE);
+            givenLocation(haeundae, BoundaryLocation.INSIDE);
 
-            CoordinateListDto coordinateListDto = new CoordinateListDto(coordinateDtoList);
+            // when
+            boolean result = courseService.isKoreaCourse(new CoordinateListDto(List.of(seoulCityHall, haeundae)));
 
-            JsonNode mockRegionCode1 = createMockRegionCodeNode("서울특별시");
-            JsonNode mockRegionCode2 = createMockRegionCodeNode("부산광역시");
+            // then
+            assertThat(result).isTrue();
+            verify(kakaoMapService, never()).getRegionCodeFromCoordinate(anyDouble(), anyDouble());
+        }
 
-            given(kakaoMapService.getRegionCodeFromCoordinate(coordinateDtoList.get(0).longitude(), coordinateDtoList.get(0).latitude())).willReturn(mockRegionCode1);
-            given(kakaoMapService.getRegionCodeFromCoordinate(coordinateDtoList.get(1).longitude(), coordinateDtoList.get(1).latitude())).willReturn(mockRegionCode2);
-            given(kakaoMapService.extractProvinceName(mockRegionCode1)).willReturn("서울특별시");
-            given(kakaoMapService.extractProvinceName(mockRegionCode2)).willReturn("부산광역시");
+        /**
+         * [대한민국 판별] 성공
+         * 2. 경계 근처 좌표는 카카오 지도 API로 확인 (true 응답)
+         */
+        @Test
+        @DisplayName("대한민국 판별 성공 - 경계 근처 좌표는 API로 확인 후 true 반환")
+        void isKoreaCourse_success_nearBorder() throws Exception {
+            // given
+            givenLocation(seoulCityHall, BoundaryLocation.INSIDE);
+            givenLocation(dokdo, BoundaryLocation.NEAR_BORDER);
+            JsonNode mockRegionCode = createMockRegionCodeNode("경상북도");
+            given(kakaoMapService.getRegionCodeFromCoordinate(dokdo.longitude(), dokdo.latitude())).willReturn(mockRegionCode);
+            given(kakaoMapService.extractProvinceName(mockRegionCode)).willReturn("경상북도");
 
             // when
-            boolean result = courseService.isKoreaCourse(coordinateListDto);
+            boolean result = courseService.isKoreaCourse(new CoordinateListDto(List.of(seoulCityHall, dokdo)));
 
             // then
             assertThat(result).isTrue();
+            verify(kakaoMapService, times(1)).getRegionCodeFromCoordinate(anyDouble(), anyDouble());
         }
 
         /**
          * [대한민국 판별] 성공
-         * 2. 모든 좌표가 대한민국에 속하는 경우 (false 응답)
+         * 3. 영역 밖 좌표가 있는 경우 (카카오 지도 API 호출 없이 false 응답, 이후 좌표는 판별하지 않음)
          */
-        @ParameterizedTest
-        @MethodSource("coordinateProvider")
-        @DisplayName("대한민국 판별 성공 - false 반환")
-        void isKoreaCourse_success_notInKorea(CoordinateListDto coordinateListDto,
-                                              boolean[] expectedBoundaryResults,
-                                              boolean expectedFinalResult,
-                                              String[] provinceNames
-        ) throws Exception {
+        @Test
+        @DisplayName("대한민국 판별 성공 - 영역 밖 좌표가 있으면 false 반환")
+        void isKoreaCourse_success_outsideKorea() {
             // given
-            for (int i = 0; i < coordinateListDto.coordinateDtoList().size(); i++) {
-                // 경계 좌표 검증
-                CoordinateListDto.CoordinateDto coordinateDto = coordinateListDto.coordinateDtoList().get(i);
-                double latitude = coordinateDto.latitude();
-                double longitude = coordinateDto.longitude();
-
-                boolean boundary = latitude >= 33.0 && latitude <= 38.9 && longitude >= 124.5 && longitude <= 132.0;
-
-                // then
-                assertThat(boundary).isEqualTo(expectedBoundaryResults[i]);
-
-                // 카카오 지도 검증
-                if (boundary) {
-                    JsonNode mockRegionCode = null;
-                    if (provinceNames[i] != null) {
-                        mockRegionCode = createMockRegionCodeNode(provinceNames[i]);
-
-                        // given
-                        given(kakaoMapService.getRegionCodeFromCoordinate(longitude, latitude)).willReturn(mockRegionCode);
-                        given(kakaoMapService.extractProvinceName(mockRegionCode)).willReturn(mockRegionCode.get("region_1depth_name").asText());
-                    } else {
-                        lenient().when(kakaoMapService.getRegionCodeFromCoordinate(longitude, latitude)).thenReturn(null);
-                    }
-                }
-            }
+            givenLocation(tsushima, BoundaryLocation.OUTSIDE);
 
             // when
-            boolean result = courseService.isKoreaCourse(coordinateListDto);
+            boolean result = courseService.isKoreaCourse(new CoordinateListDto(List.of(tsushima, seoulCityHall)));
 
             // then
             assertThat(result).isFalse();
-            assertThat(result).isEqualTo(expectedFinalResult);
+            verify(koreaBoundary, never()).locate(seoulCityHall.longitude(), seoulCityHall.latitude());
+            verify(kakaoMapService, never()).getRegionCodeFromCoordinate(anyDouble(), anyDouble());
         }
 
-        static Stream<Arguments> coordinateProvider() {
-            return Stream.of(
-                    Arguments.of(
-                            new CoordinateListDto(List.of(
-                                    // [CAES 1] 2개 중 1개만 해외 (경계 좌표에서 필터링)
-                                    new CoordinateListDto.CoordinateDto(33.499621, 126.531188), // 제주도
-                                    new CoordinateListDto.CoordinateDto(48.858370, 2.294481) // 프랑스 파리
-                            )),
-                            new boolean[]{true, false},
-                            false,
-                            new String[]{"제주특별자치도", null}
-                    ),
-                    Arguments.of(
-                            new CoordinateListDto(List.of(
-                                    // [CAES 2] 2개 1개만 해외 (경계 좌표 통과)
-                                    new CoordinateListDto.CoordinateDto(35.160032, 126.851338), // 광주
-                                    new CoordinateListDto.CoordinateDto(34.2565, 129.2891) // 일본 대마도
-                            )),
-                            new boolean[]{true, true},
-                            false,
-                            new String[]{"광주광역시", null}
-                    ),
-                    Arguments.of(
-                            new CoordinateListDto(List.of(
-                                    // [CAES 3] 2개 모두 해외 (경계 좌표에서 필터링)
-                                    new CoordinateListDto.CoordinateDto(40.689247, -74.044502), // 미국 뉴욕
-                                    new CoordinateListDto.CoordinateDto(35.658581, 139.745433) // 일본 도쿄
-                            )),
-                            new boolean[]{false, false},
-                            false,
-                            new String[]{null, null}
-                    ),
-                    Arguments.of(
-                            new CoordinateListDto(List.of(
-                                    // [CAES 4] 2개 모두 해외 (경계 좌표 통과)
-                                    new CoordinateListDto.CoordinateDto(34.2565, 129.2891), // 일본 대마도
-                                    new CoordinateListDto.CoordinateDto(34.694406, 129.441962) // 일본 대마도
-                            )),
-                            new boolean[]{true, true},
-                            false,
-                            new String[]{null, null}
-                    )
-            );
+        /**
+         * [대한민국 판별] 성공
+         * 4. 경계 근처 좌표의 행정구역 정보가 없는 경우 (false 응답)
+         */
+        @Test
+        @DisplayName("대한민국 판별 성공 - 경계 근처 좌표의 행정구역 정보가 없으면 false 반환")
+        void isKoreaCourse_success_nearBorderNoRegion() {
+            // given
+            givenLocation(haeundae, BoundaryLocation.INSIDE);
+            givenLocation(dokdo, BoundaryLocation.NEAR_BORDER);
+            given(kakaoMapService.getRegionCodeFromCoordinate(dokdo.longitude(), dokdo.latitude())).willReturn(null);
+
+            // when
+            boolean result = courseService.isKoreaCourse(new CoordinateListDto(List.of(haeundae, dokdo)));
+
+            // then
+            assertThat(result).isFalse();
         }
 
         private JsonNode createMockRegionCodeNode(String provinceName) throws Exception {
@@ -0,0 +1,100 @@
+package com.server.running_handai.domain.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.server.running_handai.domain.course.dto.CourseStartPointDto;
+import com.server.running_handai.domain.course.event.CourseChangedEvent;
+import com.server.running_handai.domain.course.repository.CourseRepository;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class CourseSpatialIndexTest {
+
+    @InjectMocks
+    private CourseSpatialIndex courseSpatialIndex;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    // 사용자 위치: 해운대 해수욕장
+    private static final double USER_LAT = 35.1587;
+    private static final double USER_LON = 129.1604;
+
+    @BeforeEach
+    void setUp() {
+        given(courseRepository.findAllStartPoints()).willReturn(List.of(
+                createStartPoint(1L, 35.1590, 129.1610), // 약 0.1km
+                createStartPoint(2L, 35.1530, 129.1187), // 약 3.8km (광안리)
+                createStartPoint(3L, 35.0979, 129.0300), // 약 13.6km (남포동)
+                createStartPoint(4L, 37.5665, 126.9780)  // 약 325km (서울)
+        ));
+        courseSpatialIndex.initialize();
+    }
+
+    private CourseStartPointDto createStartPoint(Long courseId, double lat, double lon) {
+        return new CourseStartPointDto(courseId, geometryFactory.createPoint(new Coordinate(lon, lat)));
+    }
+
+    @Test
+    @DisplayName("반경 조회 성공 - 반경 내 코스만 가까운 순서로 반환")
+    void findWithinRadius_success() {
+        // when
+        List<CourseSpatialIndex.CourseDistance> result = courseSpatialIndex.findWithinRadius(USER_LAT, USER_LON, 5000);
+
+        // then
+        assertThat(courseSpatialIndex.isReady()).isTrue();
+        assertThat(result).extracting(CourseSpatialIndex.CourseDistance::courseId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("가까운 코스 조회 성공 - 반경 밖이라도 가까운 순서로 limit개 반환")
+    void findNearest_success() {
+        // when
+        List<CourseSpatialIndex.CourseDistance> result = courseSpatialIndex.findNearest(USER_LAT, USER_LON, 3);
+
+        // then
+        assertThat(result).extracting(CourseSpatialIndex.CourseDistance::courseId).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("가까운 코스 조회 성공 - 전체 코스 수보다 limit이 크면 전체 반환")
+    void findNearest_success_limitExceedsSize() {
+        // when
+        List<CourseSpatialIndex.CourseDistance> result = courseSpatialIndex.findNearest(USER_LAT, USER_LON, 10);
+
+        // then
+        assertThat(result).extracting(CourseSpatialIndex.CourseDistance::courseId).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("코스 변경 반영 성공 - 삭제된 코스는 제거되고 이동한 코스는 새 위치로 반영")
+    void handleCourseChangedEvent_success() {
+        // given
+        // 1번 코스는 삭제되고, 3번 코스는 해운대 인근으로 이동
+        given(courseRepository.findStartPointsByIdIn(Set.of(1L, 3L)))
+                .willReturn(List.of(createStartPoint(3L, 35.1600, 129.1620)));
+
+        // when
+        courseSpatialIndex.handleCourseChangedEvent(new CourseChangedEvent(Set.of(1L, 3L)));
+        List<CourseSpatialIndex.CourseDistance> result = courseSpatialIndex.findWithinRadius(USER_LAT, USER_LON, 5000);
+
+        // then
+        assertThat(result).extracting(CourseSpatialIndex.CourseDistance::courseId).containsExactly(3L, 2L);
+    }
+}
@@ -0,0 +1,112 @@
+package com.server.running_handai.domain.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.server.running_handai.domain.course.dto.CourseTileGeometryDto;
+import com.server.running_handai.domain.course.dto.TrackPointDto;
+import com.server.running_handai.domain.course.event.CourseChangedEvent;
+import com.server.running_handai.domain.course.repository.CourseRepository;
+import com.server.running_handai.global.response.ResponseCode;
+import com.server.running_handai.global.response.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class CourseTileServiceTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseTileService courseTileService;
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    // 해운대 해수욕장이 포함된 줌 레벨 12 타일
+    private static final int Z = 12;
+    private static final int X = 3517;
+    private static final int Y = 1620;
+
+    @BeforeEach
+    void setUp() {
+        courseTileService = new CourseTileService(courseRepository, new SimpleMeterRegistry(), 100);
+    }
+
+    private CourseTileGeometryDto createCourse(Long courseId, double lat, double lon) {
+        List<TrackPointDto> trackPoints = List.of(
+                new TrackPointDto(lat, lon, 10.0),
+                new TrackPointDto(lat + 0.005, lon + 0.005, 20.0),
+                new TrackPointDto(lat + 0.01, lon, 30.0)
+        );
+        return new CourseTileGeometryDto(courseId, "course" + courseId, 5.2,
+                geometryFactory.createPoint(new Coordinate(lon, lat)), trackPoints, null, null);
+    }
+
+    @Test
+    @DisplayName("타일 조회 성공 - 타일 영역의 코스를 인코딩하고, 같은 타일은 캐시에서 반환")
+    void getTile_success_cached() {
+        // given
+        given(courseRepository.findAllTileGeometries()).willReturn(List.of(createCourse(1L, 35.1587, 129.1604)));
+
+        // when
+        byte[] first = courseTileService.getTile(Z, X, Y);
+        byte[] second = courseTileService.getTile(Z, X, Y);
+
+        // then
+        assertThat(first).isNotEmpty();
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first)).contains(CourseTileService.COURSE_LAYER, CourseTileService.START_POINT_LAYER, "course1");
+        verify(courseRepository, times(1)).findAllTileGeometries();
+    }
+
+    @Test
+    @DisplayName("타일 조회 성공 - 타일 영역에 코스가 없으면 빈 타일 반환")
+    void getTile_success_empty() {
+        // given
+        given(courseRepository.findAllTileGeometries()).willReturn(List.of(createCourse(1L, 37.5665, 126.9780)));
+
+        // when
+        byte[] tile = courseTileService.getTile(Z, X, Y);
+
+        // then
+        assertThat(tile).isEmpty();
+    }
+
+    @Test
+    @DisplayName("타일 캐시 제거 성공 - 코스가 변경되면 코스 경로를 다시 읽어 타일 생성")
+    void handleCourseChangedEvent_success() {
+        // given
+        given(courseRepository.findAllTileGeometries()).willReturn(List.of(createCourse(1L, 35.1587, 129.1604)));
+        courseTileService.getTile(Z, X, Y);
+
+        // when
+        courseTileService.handleCourseChangedEvent(new CourseChangedEvent(Set.of(1L)));
+        courseTileService.getTile(Z, X, Y);
+
+        // then
+        verify(courseRepository, times(2)).findAllTileGeometries();
+    }
+
+    @Test
+    @DisplayName("타일 조회 실패 - 줌 레벨에 맞지 않는 타일 좌표")
+    void getTile_fail_invalidCoordinate() {
+        // when, then
+        BusinessException exception = assertThrows(BusinessException.class, () -> courseTileService.getTile(2, 4, 0));
+        assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_TILE_COORDINATE);
+    }
+}
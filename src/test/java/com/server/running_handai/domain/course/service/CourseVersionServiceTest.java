@@ -0,0 +1,139 @@
+package com.server.running_handai.domain.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+
+import com.server.running_handai.domain.course.dto.CourseVersionDto;
+import com.server.running_handai.domain.course.entity.SpotStatus;
+import com.server.running_handai.domain.course.repository.CourseRepository;
+import com.server.running_handai.global.response.ResponseCode;
+import com.server.running_handai.global.response.exception.BusinessException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class CourseVersionServiceTest {
+
+    @InjectMocks
+    private CourseVersionService courseVersionService;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private static final Long COURSE_ID = 1L;
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+    private CourseVersionDto createVersion(long reviewCount, LocalDateTime lastReviewUpdatedAt) {
+        return createVersion(reviewCount, lastReviewUpdatedAt, UPDATED_AT);
+    }
+
+    private CourseVersionDto createVersion(long reviewCount, LocalDateTime lastReviewUpdatedAt,
+                                           LocalDateTime lastWriterUpdatedAt) {
+        return new CourseVersionDto(COURSE_ID, UPDATED_AT, SpotStatus.COMPLETED, 2L, 10L, 3L, 7L,
+                reviewCount, lastReviewUpdatedAt, lastWriterUpdatedAt, 5L, UPDATED_AT, 4L, UPDATED_AT);
+    }
+
+    private CourseVersionDto createSpotImageVersion(long spotImageCount, LocalDateTime lastSpotImageUpdatedAt) {
+        return new CourseVersionDto(COURSE_ID, UPDATED_AT, SpotStatus.COMPLETED, 2L, 10L, 3L, 7L,
+                4L, UPDATED_AT, UPDATED_AT, 5L, UPDATED_AT, spotImageCount, lastSpotImageUpdatedAt);
+    }
+
+    @Test
+    @DisplayName("요약 ETag 계산 성공 - 버전 정보가 같으면 같은 ETag, 리뷰가 수정되면 다른 ETag")
+    void getCourseSummaryETag_success() {
+        // given
+        given(courseRepository.findVersionById(COURSE_ID)).willReturn(
+                Optional.of(createVersion(4L, UPDATED_AT)),
+                Optional.of(createVersion(4L, UPDATED_AT)),
+                Optional.of(createVersion(4L, UPDATED_AT.plusMinutes(1)))
+        );
+
+        // when
+        String first = courseVersionService.getCourseSummaryETag(COURSE_ID, MEMBER_ID);
+        String second = courseVersionService.getCourseSummaryETag(COURSE_ID, MEMBER_ID);
+        String afterReviewUpdated = courseVersionService.getCourseSummaryETag(COURSE_ID, MEMBER_ID);
+
+        // then
+        assertThat(first).startsWith("\"").endsWith("\"").isEqualTo(second);
+        assertThat(afterReviewUpdated).isNotEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("요약 ETag 계산 성공 - 리뷰 작성자가 닉네임을 바꾸면 다른 ETag")
+    void getCourseSummaryETag_success_writerUpdated() {
+        // given
+        given(courseRepository.findVersionById(COURSE_ID)).willReturn(
+                Optional.of(createVersion(4L, UPDATED_AT, UPDATED_AT)),
+                Optional.of(createVersion(4L, UPDATED_AT, UPDATED_AT.plusMinutes(1)))
+        );
+
+        // when
+        String before = courseVersionService.getCourseSummaryETag(COURSE_ID, MEMBER_ID);
+        String afterWriterUpdated = courseVersionService.getCourseSummaryETag(COURSE_ID, MEMBER_ID);
+
+        // then
+        assertThat(afterWriterUpdated).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("요약, 즐길거리 ETag 계산 성공 - 즐길거리 이미지만 교체되거나 삭제되어도 다른 ETag")
+    void getSpotETags_success_spotImageChanged() {
+        // given
+        given(courseRepository.findVersionById(COURSE_ID)).willReturn(
+                Optional.of(createSpotImageVersion(4L, UPDATED_AT)),
+                Optional.of(createSpotImageVersion(4L, UPDATED_AT.plusMinutes(1))),
+                Optional.of(createSpotImageVersion(3L, UPDATED_AT)),
+                Optional.of(createSpotImageVersion(4L, UPDATED_AT)),
+                Optional.of(createSpotImageVersion(4L, UPDATED_AT.plusMinutes(1)))
+        );
+
+        // when
+        String spots = courseVersionService.getSpotDetailETag(COURSE_ID);
+        String spotsAfterImageReplaced = courseVersionService.getSpotDetailETag(COURSE_ID);
+        String spotsAfterImageRemoved = courseVersionService.getSpotDetailETag(COURSE_ID);
+        String summary = courseVersionService.getCourseSummaryETag(COURSE_ID, MEMBER_ID);
+        String summaryAfterImageReplaced = courseVersionService.getCourseSummaryETag(COURSE_ID, MEMBER_ID);
+
+        // then
+        assertThat(spotsAfterImageReplaced).isNotEqualTo(spots);
+        assertThat(spotsAfterImageRemoved).isNotEqualTo(spots).isNotEqualTo(spotsAfterImageReplaced);
+        assertThat(summaryAfterImageReplaced).isNotEqualTo(summary);
+    }
+
+    @Test
+    @DisplayName("상세 ETag 계산 성공 - 회원과 요청 옵션이 다르면 다른 ETag")
+    void getCourseDetailETag_success_perMemberAndVariant() {
+        // given
+        given(courseRepository.findVersionById(COURSE_ID)).willReturn(Optional.of(createVersion(4L, UPDATED_AT)));
+
+        // when
+        String forMember = courseVersionService.getCourseDetailETag(COURSE_ID, MEMBER_ID, "HIGH:POINTS");
+        String forGuest = courseVersionService.getCourseDetailETag(COURSE_ID, null, "HIGH:POINTS");
+        String forPolyline = courseVersionService.getCourseDetailETag(COURSE_ID, MEMBER_ID, "HIGH:POLYLINE");
+
+        // then
+        assertThat(forMember).isNotEqualTo(forGuest).isNotEqualTo(forPolyline);
+    }
+
+    @Test
+    @DisplayName("ETag 계산 실패 - 존재하지 않는 코스")
+    void getSpotDetailETag_fail_courseNotFound() {
+        // given
+        given(courseRepository.findVersionById(COURSE_ID)).willReturn(Optional.empty());
+
+        // when, then
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> courseVersionService.getSpotDetailETag(COURSE_ID));
+        assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.COURSE_NOT_FOUND);
+    }
+}
@@ -0,0 +1,166 @@
+package com.server.running_handai.domain.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.server.running_handai.global.response.ResponseCode;
+import com.server.running_handai.global.response.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class FileServiceTest {
+
+    private static final String GPX_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/gpx/course.gpx";
+    private static final String PRESIGNED_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/gpx/course.gpx?X-Amz-Signature=abc";
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    private ThreadPoolTaskExecutor uploadTaskExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private FileService fileService;
+
+    @BeforeEach
+    void setUp() {
+        uploadTaskExecutor = new ThreadPoolTaskExecutor();
+        uploadTaskExecutor.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+        fileService = new FileService(s3Client, s3AsyncClient, s3Presigner, uploadTaskExecutor, meterRegistry,
+                Duration.ofSeconds(5), 100, Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(fileService, "bucket", "bucket");
+        ReflectionTestUtils.setField(fileService, "region", "ap-northeast-2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadTaskExecutor.shutdown();
+    }
+
+    private PresignedGetObjectRequest createPresignedRequest(Instant expiration) throws MalformedURLException {
+        PresignedGetObjectRequest presignedRequest = mock(PresignedGetObjectRequest.class);
+        given(presignedRequest.url()).willReturn(new URL(PRESIGNED_URL));
+        given(presignedRequest.expiration()).willReturn(expiration);
+        return presignedRequest;
+    }
+
+    @Test
+    @DisplayName("Presigned URL 발급 성공 - 같은 파일은 만료 직전까지 발급한 URL 재사용")
+    void getPresignedGetUrl_success_cached() throws MalformedURLException {
+        // given
+        PresignedGetObjectRequest presignedRequest = createPresignedRequest(Instant.now().plus(Duration.ofMinutes(60)));
+        given(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).willReturn(presignedRequest);
+
+        // when
+        String first = fileService.getPresignedGetUrl(GPX_URL, 60);
+        String second = fileService.getPresignedGetUrl(GPX_URL, 60);
+
+        // then
+        assertThat(first).isEqualTo(PRESIGNED_URL);
+        assertThat(second).isEqualTo(PRESIGNED_URL);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("Presigned URL 발급 성공 - 만료까지 남은 시간이 짧으면 새로 발급")
+    void getPresignedGetUrl_success_refreshBeforeExpiration() throws MalformedURLException {
+        // given
+        PresignedGetObjectRequest presignedRequest = createPresignedRequest(Instant.now().plus(Duration.ofMinutes(3)));
+        given(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).willReturn(presignedRequest);
+
+        // when
+        fileService.getPresignedGetUrl(GPX_URL, 60);
+        fileService.getPresignedGetUrl(GPX_URL, 60);
+
+        // then
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("Presigned URL 발급 성공 - 파일을 삭제하면 캐시된 URL도 제거")
+    void getPresignedGetUrl_success_evictedOnDelete() throws MalformedURLException {
+        // given
+        PresignedGetObjectRequest presignedRequest = createPresignedRequest(Instant.now().plus(Duration.ofMinutes(60)));
+        given(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).willReturn(presignedRequest);
+
+        // when
+        fileService.getPresignedGetUrl(GPX_URL, 60);
+        fileService.deleteFile(GPX_URL);
+        fileService.getPresignedGetUrl(GPX_URL, 60);
+
+        // then
+        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("비동기 업로드 성공 - 업로드가 끝나면 S3 URL 반환 및 업로드 시간 기록")
+    void uploadFileAsync_success() {
+        // given
+        MockMultipartFile imageFile = new MockMultipartFile("thumbnail", "thumb.jpg", "image/jpeg", "image".getBytes());
+        given(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .willReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        // when
+        String fileUrl = fileService.awaitUpload(fileService.uploadFileAsync(imageFile, "image"));
+
+        // then
+        assertThat(fileUrl).startsWith("https://bucket.s3.ap-northeast-2.amazonaws.com/image/").endsWith("_thumb.jpg");
+        assertThat(meterRegistry.get("course.file.upload")
+                .tags("directory", "image", "mode", "async", "result", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비동기 업로드 실패 - S3 업로드에 실패하면 대기 시 예외 발생")
+    void uploadFileAsync_fail() {
+        // given
+        MockMultipartFile gpxFile = new MockMultipartFile("gpxFile", "course.gpx", "application/gpx+xml", "<gpx></gpx>".getBytes());
+        given(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("S3 error")));
+
+        // when
+        CompletableFuture<String> upload = fileService.uploadFileAsync(gpxFile, "gpx");
+
+        // then
+        BusinessException exception = assertThrows(BusinessException.class, () -> fileService.awaitUpload(upload));
+        assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.FILE_UPLOAD_FAILED);
+        assertThat(meterRegistry.get("course.file.upload")
+                .tags("directory", "gpx", "mode", "async", "result", "failure").timer().count()).isEqualTo(1);
+    }
+}
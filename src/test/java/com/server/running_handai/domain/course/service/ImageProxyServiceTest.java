@@ -0,0 +1,253 @@
+package com.server.running_handai.domain.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.server.running_handai.domain.course.service.ImageProxyService.ProxiedImage;
+import com.server.running_handai.global.response.ResponseCode;
+import com.server.running_handai.global.response.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class ImageProxyServiceTest {
+
+    private static final String IMAGE_URL = "https://map2.daumcdn.net/map_2d/2301/staticmap.png?center=1,1";
+    private static final byte[] IMAGE = "png-image-bytes".getBytes();
+
+    @TempDir
+    Path cacheDir;
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private ImageProxyService createService(long maxDiskBytes, long maxMemoryImageBytes, Duration revalidateAfter) {
+        return new ImageProxyService(restTemplate, meterRegistry, List.of("daumcdn.net"), cacheDir,
+                maxDiskBytes, 1024, maxMemoryImageBytes, 1024, revalidateAfter);
+    }
+
+    private byte[] readBody(ProxiedImage image) throws IOException {
+        try (InputStream body = image.openBody().getInputStream()) {
+            return body.readAllBytes();
+        }
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("course.image-proxy.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("이미지 프록시 성공 - 같은 URL은 원본 서버에 한 번만 요청")
+    void getImage_success_cached() throws IOException {
+        // given
+        ImageProxyService imageProxyService = createService(1024, 1024, Duration.ofDays(1));
+        server.expect(once(), requestTo(IMAGE_URL)).andRespond(withSuccess(IMAGE, MediaType.IMAGE_PNG));
+
+        // when
+        ProxiedImage first = imageProxyService.getImage(IMAGE_URL);
+        ProxiedImage second = imageProxyService.getImage(IMAGE_URL);
+
+        // then
+        server.verify();
+        assertThat(readBody(second)).isEqualTo(IMAGE);
+        assertThat(second.contentType()).isEqualTo(MediaType.IMAGE_PNG);
+        assertThat(second.contentLength()).isEqualTo(IMAGE.length);
+        assertThat(second.eTag()).isEqualTo(first.eTag());
+        assertThat(requestCount("miss")).isEqualTo(1.0);
+        assertThat(requestCount("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미지 프록시 성공 - 메모리 캐시 크기보다 큰 이미지는 디스크 파일로 반환")
+    void getImage_success_diskOnly() throws IOException {
+        // given
+        ImageProxyService imageProxyService = createService(1024, 4, Duration.ofDays(1));
+        server.expect(once(), requestTo(IMAGE_URL)).andRespond(withSuccess(IMAGE, MediaType.IMAGE_PNG));
+
+        // when
+        ProxiedImage image = imageProxyService.getImage(IMAGE_URL);
+
+        // then
+        assertThat(image.memoryBody()).isNull();
+        assertThat(readBody(image)).isEqualTo(IMAGE);
+        assertThat(imageProxyService.getMemoryBytes()).isZero();
+        assertThat(imageProxyService.getDiskBytes()).isEqualTo(IMAGE.length);
+    }
+
+    @Test
+    @DisplayName("이미지 프록시 성공 - 재검증 시각이 지나면 조건부 요청을 보내고 304면 캐시된 이미지 반환")
+    void getImage_success_revalidated() throws IOException {
+        // given
+        ImageProxyService imageProxyService = createService(1024, 1024, Duration.ZERO);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        server.expect(once(), requestTo(IMAGE_URL))
+                .andRespond(withSuccess(IMAGE, MediaType.IMAGE_PNG).headers(headers));
+        server.expect(once(), requestTo(IMAGE_URL))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        // when
+        imageProxyService.getImage(IMAGE_URL);
+        ProxiedImage revalidated = imageProxyService.getImage(IMAGE_URL);
+
+        // then
+        server.verify();
+        assertThat(readBody(revalidated)).isEqualTo(IMAGE);
+        assertThat(requestCount("revalidated")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미지 프록시 성공 - 재검증에 실패하면 캐시된 이미지 반환")
+    void getImage_success_staleOnError() throws IOException {
+        // given
+        ImageProxyService imageProxyService = createService(1024, 1024, Duration.ZERO);
+        server.expect(once(), requestTo(IMAGE_URL)).andRespond(withSuccess(IMAGE, MediaType.IMAGE_PNG));
+        server.expect(once(), requestTo(IMAGE_URL)).andRespond(withServerError());
+
+        // when
+        imageProxyService.getImage(IMAGE_URL);
+        ProxiedImage stale = imageProxyService.getImage(IMAGE_URL);
+
+        // then
+        assertThat(readBody(stale)).isEqualTo(IMAGE);
+        assertThat(requestCount("stale")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("이미지 프록시 성공 - 디스크 최대 용량을 넘으면 가장 오래 사용하지 않은 이미지 제거")
+    void getImage_success_lruEviction() {
+        // given
+        ImageProxyService imageProxyService = createService(IMAGE.length * 2L, 1024, Duration.ofDays(1));
+        String otherUrl = "https://map2.daumcdn.net/map_2d/2301/staticmap.png?center=2,2";
+        String anotherUrl = "https://map2.daumcdn.net/map_2d/2301/staticmap.png?center=3,3";
+        server.expect(once(), requestTo(IMAGE_URL)).andRespond(withSuccess(IMAGE, MediaType.IMAGE_PNG));
+        server.expect(once(), requestTo(otherUrl)).andRespond(withSuccess(IMAGE, MediaType.IMAGE_PNG));
+        server.expect(once(), requestTo(anotherUrl)).andRespond(withSuccess(IMAGE, MediaType.IMAGE_PNG));
+        server.expect(once(), requestTo(otherUrl)).andRespond(withSuccess(IMAGE, MediaType.IMAGE_PNG));
+
+        // when
+        imageProxyService.getImage(IMAGE_URL);
+        imageProxyService.getImage(otherUrl);
+        imageProxyService.getImage(IMAGE_URL); // 최근 사용으로 갱신
+        imageProxyService.getImage(anotherUrl); // otherUrl 제거
+        imageProxyService.getImage(otherUrl); // 다시 요청
+
+        // then
+        server.verify();
+        assertThat(imageProxyService.getDiskBytes()).isEqualTo(IMAGE.length * 2L);
+    }
+
+    @Test
+    @DisplayName("이미지 프록시 실패 - 허용되지 않은 호스트")
+    void getImage_fail_hostNotAllowed() {
+        // given
+        ImageProxyService imageProxyService = createService(1024, 1024, Duration.ofDays(1));
+
+        // when, then
+        for (String url : List.of("https://evil.com/image.png", "https://daumcdn.net.evil.com/image.png",
+                "file:///etc/passwd", "not a url")) {
+            BusinessException exception = assertThrows(BusinessException.class, () -> imageProxyService.getImage(url));
+            assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_IMAGE_PROXY_URL);
+        }
+        server.verify();
+    }
+
+    @Test
+    @DisplayName("이미지 프록시 실패 - 이미지가 아닌 응답이나 최대 크기를 넘는 이미지는 캐시하지 않음")
+    void getImage_fail_invalidResponse() {
+        // given
+        ImageProxyService imageProxyService = createService(4096, 1024, Duration.ofDays(1));
+        server.expect(once(), requestTo(IMAGE_URL)).andRespond(withSuccess("<html>", MediaType.TEXT_HTML));
+        server.expect(once(), requestTo(IMAGE_URL)).andRespond(withSuccess(new byte[2048], MediaType.IMAGE_PNG));
+
+        // when, then
+        BusinessException notImage = assertThrows(BusinessException.class, () -> imageProxyService.getImage(IMAGE_URL));
+        BusinessException tooLarge = assertThrows(BusinessException.class, () -> imageProxyService.getImage(IMAGE_URL));
+        assertThat(notImage.getResponseCode()).isEqualTo(ResponseCode.FAIL_TO_FETCH_IMAGE);
+        assertThat(tooLarge.getResponseCode()).isEqualTo(ResponseCode.FAIL_TO_FETCH_IMAGE);
+        assertThat(imageProxyService.getDiskBytes()).isZero();
+        assertThat(cacheDir.toFile().list()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이미지 프록시 성공 - 같은 URL을 동시에 요청하면 원본 서버에 한 번만 요청")
+    void getImage_success_concurrentSameUrl() throws Exception {
+        // given
+        ImageProxyService imageProxyService = createService(1024, 1024, Duration.ofDays(1));
+        CountDownLatch responseStarted = new CountDownLatch(1);
+        CountDownLatch releaseResponse = new CountDownLatch(1);
+        server.expect(once(), requestTo(IMAGE_URL)).andRespond(request -> {
+            responseStarted.countDown();
+            try {
+                releaseResponse.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return withSuccess(IMAGE, MediaType.IMAGE_PNG).createResponse(request);
+        });
+
+        // when
+        CompletableFuture<ProxiedImage> first = CompletableFuture.supplyAsync(() -> imageProxyService.getImage(IMAGE_URL));
+        assertThat(responseStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ProxiedImage> second = CompletableFuture.supplyAsync(() -> imageProxyService.getImage(IMAGE_URL));
+        Thread.sleep(100);
+        releaseResponse.countDown();
+
+        // then
+        assertThat(readBody(first.get(5, TimeUnit.SECONDS))).isEqualTo(IMAGE);
+        assertThat(readBody(second.get(5, TimeUnit.SECONDS))).isEqualTo(IMAGE);
+        server.verify();
+        assertThat(requestCount("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 디렉터리 정리 - 서버 시작 시 이 서비스가 만든 캐시 파일과 임시 파일만 삭제")
+    void clearCacheDir_deletesOnlyCacheFiles() throws IOException {
+        // given
+        String hash = "a".repeat(64);
+        Path cacheFile = Files.writeString(cacheDir.resolve(hash), "cached");
+        Path tempFile = Files.writeString(cacheDir.resolve(hash + "123456789.tmp"), "temp");
+        Path otherFile = Files.writeString(cacheDir.resolve("application.log"), "log");
+        Path otherDir = Files.createDirectory(cacheDir.resolve("b".repeat(64) + "-dir"));
+
+        // when
+        createService(1024, 1024, Duration.ofDays(1));
+
+        // then
+        assertThat(cacheFile).doesNotExist();
+        assertThat(tempFile).doesNotExist();
+        assertThat(otherFile).exists();
+        assertThat(otherDir).exists();
+    }
+}
@@ -0,0 +1,65 @@
+package com.server.running_handai.domain.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+
+class KoreaBoundaryTest {
+
+    private static KoreaBoundary koreaBoundary;
+
+    @BeforeAll
+    static void setUp() {
+        koreaBoundary = new KoreaBoundary(new GeometryFactory(new PrecisionModel(), 4326), 0.1);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "서울시청, 37.566826, 126.9786567",
+            "해운대 해수욕장, 35.158656, 129.160113",
+            "제주도, 33.499621, 126.531188",
+            "광주, 35.160032, 126.851338",
+            "서귀포, 33.25, 126.56",
+            "강릉, 37.75, 128.90",
+            "속초, 38.21, 128.59",
+            "목포, 34.81, 126.39"
+    })
+    @DisplayName("대한민국 판별 - 영역 안쪽")
+    void locate_inside(String name, double latitude, double longitude) {
+        assertThat(koreaBoundary.locate(longitude, latitude)).isEqualTo(BoundaryLocation.INSIDE);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "프랑스 파리, 48.858370, 2.294481",
+            "미국 뉴욕, 40.689247, -74.044502",
+            "일본 도쿄, 35.658581, 139.745433",
+            "일본 대마도 남부, 34.2565, 129.2891",
+            "일본 대마도 북부, 34.694406, 129.441962",
+            "북한 평양, 39.0392, 125.7625",
+            "북한 개성, 37.9706, 126.5544",
+            "북한 금강산, 38.67, 128.19",
+            "중국 상하이, 31.23, 121.47"
+    })
+    @DisplayName("대한민국 판별 - 영역 밖")
+    void locate_outside(String name, double latitude, double longitude) {
+        assertThat(koreaBoundary.locate(longitude, latitude)).isEqualTo(BoundaryLocation.OUTSIDE);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+            "독도, 37.24, 131.87",
+            "울릉도, 37.50, 130.87",
+            "백령도, 37.97, 124.71",
+            "고성 통일전망대, 38.58, 128.37"
+    })
+    @DisplayName("대한민국 판별 - 경계 근처 (외부 API 확인 필요)")
+    void locate_nearBorder(String name, double latitude, double longitude) {
+        assertThat(koreaBoundary.locate(longitude, latitude)).isEqualTo(BoundaryLocation.NEAR_BORDER);
+    }
+}
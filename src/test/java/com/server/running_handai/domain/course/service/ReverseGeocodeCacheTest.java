@@ -0,0 +1,186 @@
+package com.server.running_handai.domain.course.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.server.running_handai.domain.course.entity.GeocodeType;
+import com.server.running_handai.domain.course.entity.ReverseGeocode;
+import com.server.running_handai.domain.course.repository.ReverseGeocodeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ReverseGeocodeCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private ReverseGeocodeRepository reverseGeocodeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReverseGeocodeCache reverseGeocodeCache;
+
+    private final List<double[]> loadedCoordinates = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reverseGeocodeCache = new ReverseGeocodeCache(
+                reverseGeocodeRepository, objectMapper, meterRegistry, 100, Duration.ofDays(180), 0.0005);
+    }
+
+    private JsonNode createDocument(String districtName) {
+        return objectMapper.createObjectNode().set("address",
+                objectMapper.createObjectNode().put("region_2depth_name", districtName));
+    }
+
+    private ReverseGeocodeCache.Loader loaderReturning(JsonNode document) {
+        return (longitude, latitude) -> {
+            loadedCoordinates.add(new double[]{longitude, latitude});
+            return document;
+        };
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("course.reverse.geocode.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("좌표 변환 캐시 성공 - 같은 격자의 좌표는 격자 중심 좌표로 한 번만 조회")
+    void getOrLoad_success_sameCell() {
+        // given
+        JsonNode document = createDocument("해운대구");
+        given(reverseGeocodeRepository.findByGeocodeTypeAndLatCellAndLonCell(eq(GeocodeType.ADDRESS), anyLong(), anyLong()))
+                .willReturn(Optional.empty());
+
+        // when
+        reverseGeocodeCache.getOrLoad(GeocodeType.ADDRESS, 129.16042, 35.15871, loaderReturning(document));
+        JsonNode result = reverseGeocodeCache.getOrLoad(GeocodeType.ADDRESS, 129.16046, 35.15879, loaderReturning(document));
+
+        // then
+        assertThat(result).isEqualTo(document);
+        assertThat(loadedCoordinates).hasSize(1);
+        assertThat(loadedCoordinates.get(0)[0]).isCloseTo(129.16025, Offset.offset(1e-9));
+        assertThat(loadedCoordinates.get(0)[1]).isCloseTo(35.15875, Offset.offset(1e-9));
+        assertThat(requestCount("memory")).isEqualTo(1);
+        assertThat(requestCount("miss")).isEqualTo(1);
+        verify(reverseGeocodeRepository).upsert("ADDRESS", 70317L, 258320L, document.toString());
+    }
+
+    @Test
+    @DisplayName("좌표 변환 캐시 성공 - 테이블에 저장된 결과가 있으면 카카오 지도 API를 호출하지 않음")
+    void getOrLoad_success_database() {
+        // given
+        ReverseGeocode stored = mock(ReverseGeocode.class);
+        given(stored.getDocument()).willReturn("{\"region_1depth_name\":\"부산\"}");
+        given(stored.getUpdatedAt()).willReturn(LocalDateTime.now().minusDays(1));
+        given(reverseGeocodeRepository.findByGeocodeTypeAndLatCellAndLonCell(GeocodeType.REGION_CODE, 70317L, 258320L))
+                .willReturn(Optional.of(stored));
+
+        // when
+        JsonNode result = reverseGeocodeCache.getOrLoad(GeocodeType.REGION_CODE, 129.16042, 35.15871, loaderReturning(null));
+
+        // then
+        assertThat(result.path("region_1depth_name").asText()).isEqualTo("부산");
+        assertThat(loadedCoordinates).isEmpty();
+        assertThat(requestCount("database")).isEqualTo(1);
+        verify(reverseGeocodeRepository, never()).upsert(anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("좌표 변환 캐시 성공 - 결과가 없는 좌표도 캐시")
+    void getOrLoad_success_noResult() {
+        // given
+        given(reverseGeocodeRepository.findByGeocodeTypeAndLatCellAndLonCell(eq(GeocodeType.ADDRESS), anyLong(), anyLong()))
+                .willReturn(Optional.empty());
+
+        // when
+        reverseGeocodeCache.getOrLoad(GeocodeType.ADDRESS, 129.5, 35.0, loaderReturning(null));
+        JsonNode result = reverseGeocodeCache.getOrLoad(GeocodeType.ADDRESS, 129.5, 35.0, loaderReturning(null));
+
+        // then
+        assertThat(result).isNull();
+        assertThat(loadedCoordinates).hasSize(1);
+        verify(reverseGeocodeRepository).upsert(eq("ADDRESS"), anyLong(), anyLong(), isNull());
+    }
+
+    @Test
+    @DisplayName("좌표 변환 캐시 실패 - 카카오 지도 API 호출에 실패하면 캐시하지 않음")
+    void getOrLoad_fail_loaderException() {
+        // given
+        given(reverseGeocodeRepository.findByGeocodeTypeAndLatCellAndLonCell(eq(GeocodeType.ADDRESS), anyLong(), anyLong()))
+                .willReturn(Optional.empty());
+        JsonNode document = createDocument("수영구");
+
+        // when
+        JsonNode failed = reverseGeocodeCache.getOrLoad(GeocodeType.ADDRESS, 129.11, 35.15, (longitude, latitude) -> {
+            throw new IllegalStateException("timeout");
+        });
+        JsonNode result = reverseGeocodeCache.getOrLoad(GeocodeType.ADDRESS, 129.11, 35.15, loaderReturning(document));
+
+        // then
+        assertThat(failed).isNull();
+        assertThat(result).isEqualTo(document);
+        assertThat(loadedCoordinates).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("좌표 변환 캐시 성공 - 같은 격자를 동시에 조회하면 카카오 지도 API를 한 번만 호출")
+    void getOrLoad_success_concurrentSameCell() throws Exception {
+        // given
+        given(reverseGeocodeRepository.findByGeocodeTypeAndLatCellAndLonCell(eq(GeocodeType.ADDRESS), anyLong(), anyLong()))
+                .willReturn(Optional.empty());
+        JsonNode document = createDocument("해운대구");
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        AtomicInteger loadCount = new AtomicInteger();
+        ReverseGeocodeCache.Loader slowLoader = (longitude, latitude) -> {
+            loadCount.incrementAndGet();
+            loaderStarted.countDown();
+            releaseLoader.await(5, TimeUnit.SECONDS);
+            return document;
+        };
+
+        // when
+        CompletableFuture<JsonNode> first = CompletableFuture.supplyAsync(
+                () -> reverseGeocodeCache.getOrLoad(GeocodeType.ADDRESS, 129.16042, 35.15871, slowLoader));
+        assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<JsonNode> second = CompletableFuture.supplyAsync(
+                () -> reverseGeocodeCache.getOrLoad(GeocodeType.ADDRESS, 129.16046, 35.15879, slowLoader));
+        Thread.sleep(100);
+        releaseLoader.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(document);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(document);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+}
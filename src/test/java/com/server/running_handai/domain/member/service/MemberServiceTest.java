@@ -13,6 +13,7 @@ import com.server.running_handai.domain.member.dto.MemberInfoDto;
 import com.server.running_handai.domain.member.dto.MemberUpdateRequestDto;
 import com.server.running_handai.domain.member.dto.MemberUpdateResponseDto;
 import com.server.running_handai.domain.member.entity.Member;
+import com.server.running_handai.domain.member.event.MemberChangedEvent;
 import com.server.running_handai.domain.member.repository.MemberRepository;
 import com.server.running_handai.global.entity.SortBy;
 import com.server.running_handai.global.response.ResponseCode;
@@ -30,6 +31,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -70,6 +72,9 @@ class MemberServiceTest {
     @Mock
     private CourseService courseService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Member createMockMember(Long memberId) {
         Member member = Member.builder().nickname("current").email("email").build();
         ReflectionTestUtils.setField(member, "id", memberId);
@@ -214,6 +219,7 @@ class MemberServiceTest {
             assertThat(memberUpdateResponseDto.nickname()).isEqualTo("new");
             verify(memberRepository).findById(MEMBER_ID);
             verify(memberRepository).existsByNickname("new");
+            verify(eventPublisher).publishEvent(new MemberChangedEvent(MEMBER_ID));
         }
 
         /**
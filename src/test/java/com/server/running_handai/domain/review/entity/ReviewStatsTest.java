@@ -0,0 +1,51 @@
+package com.server.running_handai.domain.review.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.server.running_handai.domain.review.entity.converter.StarHistogramConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReviewStatsTest {
+
+    @Test
+    @DisplayName("리뷰 집계 - 별점 추가, 수정, 삭제 시 리뷰 수와 평균, 분포가 함께 바뀐다")
+    void addUpdateRemoveStars() {
+        // given
+        ReviewStats reviewStats = new ReviewStats(1L);
+
+        // when
+        reviewStats.addStars(4.5);
+        reviewStats.addStars(3.0);
+        reviewStats.addStars(5.0);
+        reviewStats.updateStars(3.0, 3.5);
+        reviewStats.removeStars(5.0);
+
+        // then
+        assertThat(reviewStats.getReviewCount()).isEqualTo(2);
+        assertThat(reviewStats.getHalfStarSum()).isEqualTo(16);
+        assertThat(reviewStats.getStarAverage()).isEqualTo(4.0);
+        assertThat(reviewStats.getStarHistogram()).containsExactly(0, 0, 0, 0, 0, 0, 1, 0, 1, 0);
+    }
+
+    @Test
+    @DisplayName("리뷰 집계 - 리뷰가 없으면 평균은 0.0")
+    void emptyStats() {
+        ReviewStats reviewStats = new ReviewStats(1L);
+
+        assertThat(reviewStats.getReviewCount()).isZero();
+        assertThat(reviewStats.getStarAverage()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("별점 분포 변환 - 쉼표로 구분한 문자열로 저장하고 다시 배열로 읽는다")
+    void starHistogramConverter() {
+        StarHistogramConverter converter = new StarHistogramConverter();
+        int[] histogram = {0, 0, 1, 0, 0, 0, 2, 0, 5, 3};
+
+        String column = converter.convertToDatabaseColumn(histogram);
+
+        assertThat(column).isEqualTo("0,0,1,0,0,0,2,0,5,3");
+        assertThat(converter.convertToEntityAttribute(column)).containsExactly(histogram);
+    }
+}
@@ -16,13 +16,20 @@ import com.server.running_handai.domain.member.entity.Provider;
 import com.server.running_handai.domain.member.entity.Role;
 import com.server.running_handai.domain.member.repository.MemberRepository;
 import com.server.running_handai.domain.review.dto.MyReviewInfoDto;
+import com.server.running_handai.domain.review.dto.MyReviewPageDto;
 import com.server.running_handai.domain.review.dto.ReviewCreateResponseDto;
+import com.server.running_handai.domain.review.dto.ReviewCursor;
+import com.server.running_handai.domain.review.dto.ReviewFeedDto;
+import com.server.running_handai.domain.review.dto.ReviewInfoDto;
 import com.server.running_handai.domain.review.dto.ReviewInfoListDto;
 import com.server.running_handai.domain.review.dto.ReviewCreateRequestDto;
 import com.server.running_handai.domain.review.dto.ReviewUpdateRequestDto;
 import com.server.running_handai.domain.review.dto.ReviewUpdateResponseDto;
+import com.server.running_handai.domain.review.dto.StarCountDto;
 import com.server.running_handai.domain.review.entity.Review;
+import com.server.running_handai.domain.review.entity.ReviewStats;
 import com.server.running_handai.domain.review.repository.ReviewRepository;
+import com.server.running_handai.domain.review.repository.ReviewStatsRepository;
 import com.server.running_handai.global.response.ResponseCode;
 import com.server.running_handai.global.response.exception.BusinessException;
 import jakarta.validation.ConstraintViolation;
@@ -48,6 +55,7 @@ import org.locationtech.jts.io.WKTReader;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -61,6 +69,9 @@ class ReviewServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ReviewStatsRepository reviewStatsRepository;
+
     @Mock
     private CourseRepository courseRepository;
 
@@ -138,6 +149,9 @@ class ReviewServiceTest {
             given(reviewRepository.save(any(Review.class))).willReturn(review);
             given(memberRepository.findById(member.getId())).willReturn(Optional.of(member));
 
+            ReviewStats reviewStats = new ReviewStats(courseId);
+            given(reviewStatsRepository.findByCourseIdForUpdate(courseId)).willReturn(Optional.of(reviewStats));
+
             // when
             ReviewCreateResponseDto result = reviewService.createReview(courseId, reviewRequest, member.getId());
 
@@ -150,6 +164,32 @@ class ReviewServiceTest {
 
             verify(courseRepository).findById(courseId);
             verify(reviewRepository).save(any(Review.class));
+
+            // 리뷰 집계 반영
+            assertThat(reviewStats.getReviewCount()).isEqualTo(1);
+            assertThat(reviewStats.getStarAverage()).isEqualTo(VALID_REVIEW_STARS);
+        }
+
+        @Test
+        @DisplayName("리뷰 등록 성공 - 코스의 첫 리뷰이면 빈 집계를 생성한 뒤 반영")
+        void createReview_success_firstReview() {
+            // given
+            ReviewCreateRequestDto reviewRequest = new ReviewCreateRequestDto(VALID_REVIEW_STARS, VALID_REVIEW_CONTENTS);
+            Long courseId = course.getId();
+            ReviewStats reviewStats = new ReviewStats(courseId);
+
+            given(courseRepository.findById(courseId)).willReturn(Optional.of(course));
+            given(reviewRepository.save(any(Review.class))).willReturn(review);
+            given(memberRepository.findById(member.getId())).willReturn(Optional.of(member));
+            given(reviewStatsRepository.findByCourseIdForUpdate(courseId))
+                    .willReturn(Optional.empty(), Optional.of(reviewStats));
+
+            // when
+            reviewService.createReview(courseId, reviewRequest, member.getId());
+
+            // then
+            verify(reviewStatsRepository).insertIfAbsent(courseId);
+            assertThat(reviewStats.getReviewCount()).isEqualTo(1);
         }
 
         @Test
@@ -273,48 +313,80 @@ class ReviewServiceTest {
     @DisplayName("리뷰 조회 테스트")
     class FindAllReviewsByCourseTest {
 
+        private static final int PAGE_SIZE = 2;
+
+        private ReviewFeedDto createReviewFeed(Long reviewId, double stars, Long writerId, LocalDateTime createdAt) {
+            return new ReviewFeedDto(reviewId, stars, VALID_REVIEW_CONTENTS, writerId, "nickname", createdAt);
+        }
+
         @Test
-        @DisplayName("리뷰 조회 성공")
+        @DisplayName("리뷰 조회 성공 - 작성자 ID로 내 리뷰 여부 판단")
         void findAllReviews_success_withReviews() {
             // given
             Long courseId = course.getId();
-            
-            Review review1 = Review.builder().stars(VALID_REVIEW_STARS).contents(VALID_REVIEW_CONTENTS).build();
-            ReflectionTestUtils.setField(review1, "id", 101L);
-            ReflectionTestUtils.setField(review1, "createdAt", LocalDateTime.now());
-            review1.setWriter(member);
-            review1.setCourse(course);
-
-            Review review2 = Review.builder().stars(VALID_REVIEW_STARS - 1).contents(VALID_REVIEW_CONTENTS).build();
-            ReflectionTestUtils.setField(review2, "id", 102L);
-            ReflectionTestUtils.setField(review2, "createdAt", LocalDateTime.now());
-            review2.setWriter(member);
-            review2.setCourse(course);
+            LocalDateTime now = LocalDateTime.now();
 
-            List<Review> reviews = List.of(review1, review2);
+            ReviewFeedDto review1 = createReviewFeed(102L, VALID_REVIEW_STARS, member.getId(), now);
+            ReviewFeedDto review2 = createReviewFeed(101L, VALID_REVIEW_STARS - 1, 30L, now.minusDays(1));
 
             given(courseRepository.existsById(courseId)).willReturn(true);
-            given(reviewRepository.findAllByCourseId(courseId)).willReturn(reviews);
-            given(reviewRepository.findAverageStarsByCourseId(courseId)).willReturn(4.0);
-            given(reviewRepository.existsByIdAndWriterId(review1.getId(), member.getId())).willReturn(true);
-            given(reviewRepository.existsByIdAndWriterId(review2.getId(), member.getId())).willReturn(true);
+            given(reviewRepository.findReviewFeedByCourseId(courseId, PageRequest.ofSize(PAGE_SIZE + 1)))
+                    .willReturn(List.of(review1, review2));
+            ReviewStats reviewStats = new ReviewStats(courseId);
+            reviewStats.addStars(review1.stars());
+            reviewStats.addStars(review2.stars());
+            given(reviewStatsRepository.findById(courseId)).willReturn(Optional.of(reviewStats));
 
             // when
-            ReviewInfoListDto result = reviewService.findAllReviewsByCourse(courseId, member.getId());
+            ReviewInfoListDto result = reviewService.findAllReviewsByCourse(courseId, null, PAGE_SIZE, member.getId());
 
             // then
             double expectedAverage = 4.0;
             assertThat(result).isNotNull();
             assertThat(result.starAverage()).isEqualTo(expectedAverage);
             assertThat(result.reviewCount()).isEqualTo(2);
-            assertThat(result.reviewInfoDtos().getFirst().reviewId()).isEqualTo(review1.getId());
-            assertThat(result.reviewInfoDtos().getFirst().isMyReview()).isEqualTo(true);
-            assertThat(result.reviewInfoDtos().getLast().reviewId()).isEqualTo(review2.getId());
-            assertThat(result.reviewInfoDtos().getFirst().isMyReview()).isEqualTo(true);
+            assertThat(result.starHistogram()).hasSize(ReviewStats.STAR_LEVELS);
+            assertThat(result.starHistogram().get(6)).isEqualTo(new StarCountDto(3.5, 1));
+            assertThat(result.starHistogram().get(8)).isEqualTo(new StarCountDto(4.5, 1));
+            assertThat(result.reviewInfoDtos().getFirst().reviewId()).isEqualTo(review1.reviewId());
+            assertThat(result.reviewInfoDtos().getFirst().isMyReview()).isTrue();
+            assertThat(result.reviewInfoDtos().getLast().reviewId()).isEqualTo(review2.reviewId());
+            assertThat(result.reviewInfoDtos().getLast().isMyReview()).isFalse();
+            assertThat(result.hasNext()).isFalse();
 
             verify(courseRepository).existsById(courseId);
-            verify(reviewRepository).findAllByCourseId(courseId);
-            verify(reviewRepository).findAverageStarsByCourseId(courseId);
+            verify(reviewStatsRepository).findById(courseId);
+        }
+
+        @Test
+        @DisplayName("리뷰 조회 성공 - 다음 페이지가 있으면 마지막 리뷰로 커서 생성 후 커서 이후부터 조회")
+        void findAllReviews_success_withCursor() {
+            // given
+            Long courseId = course.getId();
+            LocalDateTime now = LocalDateTime.now();
+
+            ReviewFeedDto review1 = createReviewFeed(103L, VALID_REVIEW_STARS, member.getId(), now);
+            ReviewFeedDto review2 = createReviewFeed(102L, VALID_REVIEW_STARS, member.getId(), now.minusDays(1));
+            ReviewFeedDto review3 = createReviewFeed(101L, VALID_REVIEW_STARS, member.getId(), now.minusDays(2));
+
+            given(courseRepository.existsById(courseId)).willReturn(true);
+            given(reviewRepository.findReviewFeedByCourseId(courseId, PageRequest.ofSize(PAGE_SIZE + 1)))
+                    .willReturn(List.of(review1, review2, review3));
+            given(reviewRepository.findReviewFeedByCourseIdAfter(
+                    courseId, review2.createdAt(), review2.reviewId(), PageRequest.ofSize(PAGE_SIZE + 1)))
+                    .willReturn(List.of(review3));
+
+            // when
+            ReviewInfoListDto firstPage = reviewService.findAllReviewsByCourse(courseId, null, PAGE_SIZE, member.getId());
+            ReviewInfoListDto secondPage = reviewService.findAllReviewsByCourse(
+                    courseId, firstPage.nextCursor(), PAGE_SIZE, member.getId());
+
+            // then
+            assertThat(firstPage.reviewInfoDtos()).extracting(ReviewInfoDto::reviewId).containsExactly(103L, 102L);
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(firstPage.nextCursor()).isEqualTo(review2.toCursor().encode());
+            assertThat(secondPage.reviewInfoDtos()).extracting(ReviewInfoDto::reviewId).containsExactly(101L);
+            assertThat(secondPage.hasNext()).isFalse();
         }
 
         @Test
@@ -325,19 +397,22 @@ class ReviewServiceTest {
 
             // Mock 객체 동작 정의
             given(courseRepository.existsById(courseId)).willReturn(true);
-            given(reviewRepository.findAllByCourseId(courseId)).willReturn(List.of());
+            given(reviewRepository.findReviewFeedByCourseId(courseId, PageRequest.ofSize(PAGE_SIZE + 1)))
+                    .willReturn(List.of());
 
             // when
-            ReviewInfoListDto result = reviewService.findAllReviewsByCourse(courseId, member.getId());
+            ReviewInfoListDto result = reviewService.findAllReviewsByCourse(courseId, null, PAGE_SIZE, member.getId());
 
             // then
             assertThat(result).isNotNull();
             assertThat(result.starAverage()).isEqualTo(0.0);
             assertThat(result.reviewCount()).isEqualTo(0);
+            assertThat(result.starHistogram()).extracting(StarCountDto::count).containsOnly(0);
             assertThat(result.reviewInfoDtos()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
 
             verify(courseRepository).existsById(courseId);
-            verify(reviewRepository).findAllByCourseId(courseId);
         }
 
         @Test
@@ -350,11 +425,31 @@ class ReviewServiceTest {
 
             // when, then
             BusinessException exception = assertThrows(BusinessException.class,
-                    () -> reviewService.findAllReviewsByCourse(nonExistentCourseId, member.getId()));
+                    () -> reviewService.findAllReviewsByCourse(nonExistentCourseId, null, PAGE_SIZE, member.getId()));
 
             assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.COURSE_NOT_FOUND);
             verify(courseRepository).existsById(nonExistentCourseId);
         }
+
+        @Test
+        @DisplayName("리뷰 조회 실패 - 올바르지 않은 페이지 크기")
+        void findAllReviews_fail_invalidPageSize() {
+            // when, then
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> reviewService.findAllReviewsByCourse(course.getId(), null, 0, member.getId()));
+
+            assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_PAGE_SIZE_PARAMETER);
+        }
+
+        @Test
+        @DisplayName("리뷰 조회 실패 - 올바르지 않은 커서")
+        void findAllReviews_fail_invalidCursor() {
+            // when, then
+            BusinessException exception = assertThrows(BusinessException.class,
+                    () -> reviewService.findAllReviewsByCourse(course.getId(), "invalid-cursor", PAGE_SIZE, member.getId()));
+
+            assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_CURSOR_PARAMETER);
+        }
     }
 
     @Nested
@@ -390,9 +485,12 @@ class ReviewServiceTest {
             // given
             Double newStars = 3.0;
             ReviewUpdateRequestDto requestDto = new ReviewUpdateRequestDto(newStars, null);
+            ReviewStats reviewStats = new ReviewStats(course.getId());
+            reviewStats.addStars(VALID_REVIEW_STARS);
 
             given(reviewRepository.findById(review.getId())).willReturn(Optional.of(review));
             given(reviewRepository.save(any(Review.class))).willReturn(review);
+            given(reviewStatsRepository.findByCourseIdForUpdate(course.getId())).willReturn(Optional.of(reviewStats));
 
             // when
             ReviewUpdateResponseDto result = reviewService.updateReview(review.getId(), requestDto, member);
@@ -401,6 +499,8 @@ class ReviewServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.stars()).isEqualTo(newStars); // 별점은 변경
             assertThat(result.contents()).isEqualTo(review.getContents()); // 기존 내용 유지
+            assertThat(reviewStats.getReviewCount()).isEqualTo(1); // 리뷰 수 유지
+            assertThat(reviewStats.getStarAverage()).isEqualTo(newStars); // 집계의 별점 교체
 
             verify(reviewRepository).findById(review.getId());
             verify(reviewRepository).save(review);
@@ -507,7 +607,11 @@ class ReviewServiceTest {
         @DisplayName("리뷰 삭제 성공")
         void deleteReview_success() {
             // given
+            ReviewStats reviewStats = new ReviewStats(course.getId());
+            reviewStats.addStars(VALID_REVIEW_STARS);
+
             given(reviewRepository.findById(review.getId())).willReturn(Optional.of(review));
+            given(reviewStatsRepository.findByCourseIdForUpdate(course.getId())).willReturn(Optional.of(reviewStats));
 
             // when
             reviewService.deleteReview(review.getId(), member.getId());
@@ -515,6 +619,8 @@ class ReviewServiceTest {
             // then
             verify(reviewRepository).findById(review.getId());
             verify(reviewRepository).delete(review);
+            assertThat(reviewStats.getReviewCount()).isZero();
+            assertThat(reviewStats.getStarAverage()).isEqualTo(0.0);
         }
 
         @Test
@@ -559,6 +665,8 @@ class ReviewServiceTest {
     @DisplayName("내 리뷰 조회 테스트")
     class GetMyReviewTest {
 
+        private static final int PAGE_SIZE = 20;
+
         @Test
         @DisplayName("내 리뷰 조회 성공 - 리뷰가 있을 때")
         void getMyReview_success_hasReview() {
@@ -566,12 +674,14 @@ class ReviewServiceTest {
             Long memberId = member.getId();
             List<Review> myReviews = List.of(review);
 
-            given(reviewRepository.findReviewsWithDetailsByMemberId(memberId)).willReturn(myReviews);
+            given(reviewRepository.findReviewsWithDetailsByMemberId(memberId, PageRequest.ofSize(PAGE_SIZE + 1)))
+                    .willReturn(myReviews);
 
             // when
-            List<MyReviewInfoDto> myReviewInfoDtos = reviewService.getMyReviews(memberId);
+            MyReviewPageDto result = reviewService.getMyReviews(memberId, null, PAGE_SIZE);
 
             // then
+            List<MyReviewInfoDto> myReviewInfoDtos = result.reviews();
             MyReviewInfoDto firstDto = myReviewInfoDtos.getFirst();
             assertThat(myReviewInfoDtos.size()).isEqualTo(1);
             assertThat(firstDto.reviewId()).isEqualTo(review.getId());
@@ -582,8 +692,29 @@ class ReviewServiceTest {
             assertThat(firstDto.distance()).isEqualTo((int) course.getDistance());
             assertThat(firstDto.duration()).isEqualTo(course.getDuration());
             assertThat(firstDto.maxElevation()).isEqualTo((int) course.getMaxElevation().doubleValue());
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
+
+            verify(reviewRepository).findReviewsWithDetailsByMemberId(memberId, PageRequest.ofSize(PAGE_SIZE + 1));
+        }
+
+        @Test
+        @DisplayName("내 리뷰 조회 성공 - 커서 이후의 리뷰 조회")
+        void getMyReview_success_withCursor() {
+            // given
+            Long memberId = member.getId();
+            ReviewCursor cursor = new ReviewCursor(LocalDateTime.now().plusDays(1), 999L);
+
+            given(reviewRepository.findReviewsWithDetailsByMemberIdAfter(
+                    memberId, cursor.createdAt(), cursor.reviewId(), PageRequest.ofSize(PAGE_SIZE + 1)))
+                    .willReturn(List.of(review));
 
-            verify(reviewRepository).findReviewsWithDetailsByMemberId(memberId);
+            // when
+            MyReviewPageDto result = reviewService.getMyReviews(memberId, cursor.encode(), PAGE_SIZE);
+
+            // then
+            assertThat(result.reviews()).extracting(MyReviewInfoDto::reviewId).containsExactly(review.getId());
+            assertThat(result.hasNext()).isFalse();
         }
 
         @Test
@@ -592,15 +723,18 @@ class ReviewServiceTest {
             // given
             Long memberId = member.getId();
 
-            given(reviewRepository.findReviewsWithDetailsByMemberId(memberId)).willReturn(Collections.emptyList());
+            given(reviewRepository.findReviewsWithDetailsByMemberId(memberId, PageRequest.ofSize(PAGE_SIZE + 1)))
+                    .willReturn(Collections.emptyList());
 
             // when
-            List<MyReviewInfoDto> myReviewInfoDtos = reviewService.getMyReviews(memberId);
+            MyReviewPageDto result = reviewService.getMyReviews(memberId, null, PAGE_SIZE);
 
             // then
-            assertThat(myReviewInfoDtos).isEmpty();
+            assertThat(result.reviews()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.nextCursor()).isNull();
 
-            verify(reviewRepository).findReviewsWithDetailsByMemberId(memberId);
+            verify(reviewRepository).findReviewsWithDetailsByMemberId(memberId, PageRequest.ofSize(PAGE_SIZE + 1));
         }
     }
-}
\ No newline at end of file
+}
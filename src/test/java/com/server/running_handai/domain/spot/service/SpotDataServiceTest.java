@@ -1,17 +1,17 @@
 package com.server.running_handai.domain.spot.service;
 
-import com.server.running_handai.domain.course.service.FileService;
 import com.server.running_handai.domain.spot.client.SpotApiClient;
 import com.server.running_handai.domain.spot.client.SpotLocationApiClient;
 import com.server.running_handai.domain.spot.dto.SpotApiResponseDto;
 import com.server.running_handai.domain.spot.dto.SpotLocationApiResponseDto;
+import com.server.running_handai.domain.course.dto.ImageVariantsDto;
+import com.server.running_handai.domain.course.dto.TrackCoordinates;
 import com.server.running_handai.domain.course.entity.Course;
 import com.server.running_handai.domain.spot.entity.Spot;
-import com.server.running_handai.domain.course.entity.TrackPoint;
 import com.server.running_handai.domain.course.repository.CourseRepository;
 import com.server.running_handai.domain.spot.repository.CourseSpotRepository;
 import com.server.running_handai.domain.spot.repository.SpotRepository;
-import com.server.running_handai.domain.course.repository.TrackPointRepository;
+import com.server.running_handai.domain.course.repository.CourseTrackRepository;
 import com.server.running_handai.global.response.ResponseCode;
 import com.server.running_handai.global.response.exception.BusinessException;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,7 +43,7 @@ class SpotDataServiceTest {
     private CourseRepository courseRepository;
 
     @Mock
-    private TrackPointRepository trackPointRepository;
+    private CourseTrackRepository courseTrackRepository;
 
     @Mock
     private SpotRepository spotRepository;
@@ -58,19 +58,22 @@ class SpotDataServiceTest {
     private SpotApiClient spotApiClient;
 
     @Mock
-    private FileService fileService;
+    private SpotImageIngestionService spotImageIngestionService;
 
     private static final Long COURSE_ID = 1L;
+    private static final String ORIGINAL_IMAGE_URL = "http://example.com/original.png";
     private Course course;
-    private TrackPoint startPoint;
-    private TrackPoint endPoint;
+    private TrackCoordinates trackCoordinates;
 
 
     @BeforeEach
     void setUp() {
         course = createMockCourse(COURSE_ID);
-        startPoint = TrackPoint.builder().lon(127.1).lat(37.1).build();
-        endPoint = TrackPoint.builder().lon(127.2).lat(37.2).build();
+        trackCoordinates = new TrackCoordinates(
+                new double[]{37.1, 37.2},
+                new double[]{127.1, 127.2},
+                new double[]{0.0, 0.0}
+        );
     }
 
     /**
@@ -84,7 +87,7 @@ class SpotDataServiceTest {
         Set<String> externalIds = Set.of("externalId1");
 
         given(courseRepository.findById(COURSE_ID)).willReturn(Optional.of(course));
-        given(trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId())).willReturn(List.of(startPoint, endPoint));
+        given(courseTrackRepository.findCoordinatesByCourseId(course.getId())).willReturn(Optional.of(trackCoordinates));
 
         SpotLocationApiResponseDto spotLocationApiResponseDto = createSpotLocationApiResponse(externalIds);
         given(spotLocationApiClient.fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt()))
@@ -93,18 +96,18 @@ class SpotDataServiceTest {
         given(spotRepository.findByExternalIdIn(anySet())).willReturn(Collections.emptyList());
         SpotApiResponseDto spotApiResponseDto = createSpotApiResponse("externalId1");
         given(spotApiClient.fetchSpotData(anyString())).willReturn(spotApiResponseDto);
-        given(fileService.uploadFileByUrl(anyString(), eq("spot"))).willReturn("https://mock-s3-url.com/externalId1.png");
+        given(spotImageIngestionService.ingest(anyCollection())).willReturn(Map.of(ORIGINAL_IMAGE_URL, ImageVariantsDto.original("https://mock-s3-url.com/externalId1.png")));
 
         // when
         spotDataService.updateSpots(COURSE_ID);
 
         // then
         verify(courseRepository).findById(COURSE_ID);
-        verify(trackPointRepository).findByCourseIdOrderBySequenceAsc(course.getId());
+        verify(courseTrackRepository).findCoordinatesByCourseId(course.getId());
         verify(spotLocationApiClient, times(4)).fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt());
         verify(spotRepository).findByExternalIdIn(anySet());
         verify(spotApiClient, times(externalIds.size())).fetchSpotData(anyString());
-        verify(fileService, times(externalIds.size())).uploadFileByUrl(anyString(), eq("spot"));
+        verify(spotImageIngestionService).ingest(argThat(urls -> urls.size() == externalIds.size()));
         verify(courseSpotRepository).deleteByCourseId(COURSE_ID);
         verify(spotRepository).saveAll(anyList());
         verify(courseSpotRepository).saveAll(anyList());
@@ -121,7 +124,7 @@ class SpotDataServiceTest {
         Set<String> externalIds = Set.of("externalId1");
 
         given(courseRepository.findById(COURSE_ID)).willReturn(Optional.of(course));
-        given(trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId())).willReturn(List.of(startPoint, endPoint));
+        given(courseTrackRepository.findCoordinatesByCourseId(course.getId())).willReturn(Optional.of(trackCoordinates));
 
         SpotLocationApiResponseDto spotLocationApiResponseDto = createSpotLocationApiResponse(externalIds);
         given(spotLocationApiClient.fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt()))
@@ -139,8 +142,8 @@ class SpotDataServiceTest {
         spotDataService.updateSpots(COURSE_ID);
 
         // then
-        // uploadFileByUrl이 아예 호출되지 않는지 확인
-        verify(fileService, never()).uploadFileByUrl(anyString(), eq("spot"));
+        // 이미지 저장이 아예 요청되지 않는지 확인
+        verify(spotImageIngestionService, never()).ingest(anyCollection());
         verify(courseSpotRepository).deleteByCourseId(COURSE_ID);
         verify(spotRepository).saveAll(anyList());
         verify(courseSpotRepository).saveAll(anyList());
@@ -158,7 +161,7 @@ class SpotDataServiceTest {
         Spot existingSpot1 = createMockSpot("externalId1");
 
         given(courseRepository.findById(COURSE_ID)).willReturn(Optional.of(course));
-        given(trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId())).willReturn(List.of(startPoint, endPoint));
+        given(courseTrackRepository.findCoordinatesByCourseId(course.getId())).willReturn(Optional.of(trackCoordinates));
 
         SpotLocationApiResponseDto spotLocationApiResponseDto = createSpotLocationApiResponse(externalIds);
         given(spotLocationApiClient.fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt()))
@@ -168,7 +171,7 @@ class SpotDataServiceTest {
         given(spotRepository.findByExternalIdIn(anySet())).willReturn(List.of(existingSpot1));
         SpotApiResponseDto spotApiResponseDto = createSpotApiResponse("externalId2");
         given(spotApiClient.fetchSpotData(anyString())).willReturn(spotApiResponseDto);
-        given(fileService.uploadFileByUrl(anyString(), eq("spot"))).willReturn("https://mock-s3-url.com/externalId2.png");
+        given(spotImageIngestionService.ingest(anyCollection())).willReturn(Map.of(ORIGINAL_IMAGE_URL, ImageVariantsDto.original("https://mock-s3-url.com/externalId2.png")));
 
         // when
         spotDataService.updateSpots(COURSE_ID);
@@ -177,7 +180,7 @@ class SpotDataServiceTest {
         // externalId2만 공통정보 조회 API 호출하고, externalId1은 호출하지 않는지 확인
         verify(spotApiClient, times(1)).fetchSpotData(eq("externalId2"));
         verify(spotApiClient, never()).fetchSpotData(eq("externalId1"));
-        verify(fileService).uploadFileByUrl(anyString(), eq("spot"));
+        verify(spotImageIngestionService).ingest(anyCollection());
         verify(courseSpotRepository).deleteByCourseId(COURSE_ID);
         verify(spotRepository).saveAll(anyList());
         verify(courseSpotRepository).saveAll(anyList());
@@ -194,7 +197,7 @@ class SpotDataServiceTest {
         Set<String> externalIds = Set.of("externalId1");
 
         given(courseRepository.findById(COURSE_ID)).willReturn(Optional.of(course));
-        given(trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId())).willReturn(List.of(startPoint, endPoint));
+        given(courseTrackRepository.findCoordinatesByCourseId(course.getId())).willReturn(Optional.of(trackCoordinates));
 
         SpotLocationApiResponseDto spotLocationApiResponseDto = createSpotLocationApiResponse(externalIds);
         given(spotLocationApiClient.fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt()))
@@ -210,7 +213,7 @@ class SpotDataServiceTest {
         // then
         // 공통정보 조회 API 호출은 되지만, 이미지 업로드는 실행되지 않고, 빈 리스트가 저장되는지 확인
         verify(spotApiClient).fetchSpotData(anyString());
-        verify(fileService, never()).uploadFileByUrl(anyString(), eq("spot"));
+        verify(spotImageIngestionService, never()).ingest(anyCollection());
         verify(courseSpotRepository).deleteByCourseId(COURSE_ID);
         verify(spotRepository).saveAll(argThat(list -> ((Collection<?>) list).isEmpty()));
         verify(courseSpotRepository).saveAll(argThat(list -> ((Collection<?>) list).isEmpty()));
@@ -225,7 +228,7 @@ class SpotDataServiceTest {
     void updateSpots_success_noSpotLocationApiResponseDto() {
         // given
         given(courseRepository.findById(COURSE_ID)).willReturn(Optional.of(course));
-        given(trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId())).willReturn(List.of(startPoint, endPoint));
+        given(courseTrackRepository.findCoordinatesByCourseId(course.getId())).willReturn(Optional.of(trackCoordinates));
 
         // 위치기반 정보조회 API 응답값이 Null이라고 설정
         given(spotLocationApiClient.fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt()))
@@ -240,7 +243,7 @@ class SpotDataServiceTest {
         // 위치기반 정보조회 API 호출은 되지만, 공통정보 조회 API와 이미지 업로드는 실행되지 않고, 빈 리스트가 저장되는지 확인
         verify(spotLocationApiClient, times(4)).fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt());
         verify(spotApiClient, never()).fetchSpotData(anyString());
-        verify(fileService, never()).uploadFileByUrl(anyString(), eq("spot"));
+        verify(spotImageIngestionService, never()).ingest(anyCollection());
         verify(courseSpotRepository).deleteByCourseId(COURSE_ID);
         verify(spotRepository).saveAll(argThat(list -> ((Collection<?>) list).isEmpty()));
         verify(courseSpotRepository).saveAll(argThat(list -> ((Collection<?>) list).isEmpty()));
@@ -257,7 +260,7 @@ class SpotDataServiceTest {
         Set<String> externalIds = Set.of("externalId1", "externalId2");
 
         given(courseRepository.findById(COURSE_ID)).willReturn(Optional.of(course));
-        given(trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId())).willReturn(List.of(startPoint, endPoint));
+        given(courseTrackRepository.findCoordinatesByCourseId(course.getId())).willReturn(Optional.of(trackCoordinates));
 
         SpotLocationApiResponseDto spotLocationApiResponseDto = createSpotLocationApiResponse(externalIds);
         given(spotLocationApiClient.fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt()))
@@ -278,7 +281,7 @@ class SpotDataServiceTest {
         // then
         // 공통정보 조회 API 호출은 각각 되지만, 이미지 업로드는 1번만 실행되고, 1개만 저장되는지 확인
         verify(spotApiClient, times(2)).fetchSpotData(anyString());
-        verify(fileService, times(1)).uploadFileByUrl(anyString(), eq("spot"));
+        verify(spotImageIngestionService, times(1)).ingest(anyCollection());
         verify(courseSpotRepository).deleteByCourseId(COURSE_ID);
         verify(spotRepository).saveAll(argThat(list -> ((Collection<?>) list).size() == 1));
         verify(courseSpotRepository).saveAll(argThat(list -> ((Collection<?>) list).size() == 1));
@@ -295,7 +298,7 @@ class SpotDataServiceTest {
         Set<String> externalIds = Set.of("externalId1"); // 성공해서 가져온 externalId가 1개라고 가정
 
         given(courseRepository.findById(COURSE_ID)).willReturn(Optional.of(course));
-        given(trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId())).willReturn(List.of(startPoint, endPoint));
+        given(courseTrackRepository.findCoordinatesByCourseId(course.getId())).willReturn(Optional.of(trackCoordinates));
 
         // 위치기반 정보조회 API 응답값이 하나는 있고, 하나는 Null이라 가정
         SpotLocationApiResponseDto spotLocationApiResponseDto = createSpotLocationApiResponse(externalIds);
@@ -319,7 +322,7 @@ class SpotDataServiceTest {
         // 위치기반 정보조회 API 호출은 되지만, 공통정보 조회 API와 이미지 업로드는 1번씩만 실행되고, 1개만 저장되는지 확인
         verify(spotLocationApiClient, times(4)).fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt());
         verify(spotApiClient, times(1)).fetchSpotData(anyString());
-        verify(fileService, times(1)).uploadFileByUrl(anyString(), eq("spot"));
+        verify(spotImageIngestionService, times(1)).ingest(anyCollection());
         verify(courseSpotRepository).deleteByCourseId(COURSE_ID);
         verify(spotRepository).saveAll(argThat(list -> ((Collection<?>) list).size() == 1));
         verify(courseSpotRepository).saveAll(argThat(list -> ((Collection<?>) list).size() == 1));
@@ -339,7 +342,7 @@ class SpotDataServiceTest {
         Set<String> externalIds = Set.of("externalId1", "externalId2", "externalId3", "externalId4");
 
         given(courseRepository.findById(COURSE_ID)).willReturn(Optional.of(course));
-        given(trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId())).willReturn(List.of(startPoint, endPoint));
+        given(courseTrackRepository.findCoordinatesByCourseId(course.getId())).willReturn(Optional.of(trackCoordinates));
 
         SpotLocationApiResponseDto spotLocationApiResponseDto = createSpotLocationApiResponse(externalIds);
         given(spotLocationApiClient.fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt()))
@@ -377,7 +380,7 @@ class SpotDataServiceTest {
         // then
         // 공통정보 조회 API 호출은 되지만, 이미지 업로드는 실행되지 않고, 빈 리스트가 저장되는지 확인
         verify(spotApiClient, times(4)).fetchSpotData(anyString());
-        verify(fileService, never()).uploadFileByUrl(anyString(), eq("spot"));
+        verify(spotImageIngestionService, never()).ingest(anyCollection());
         verify(courseSpotRepository).deleteByCourseId(COURSE_ID);
         verify(spotRepository).saveAll(argThat(list -> ((Collection<?>) list).isEmpty()));
         verify(courseSpotRepository).saveAll(argThat(list -> ((Collection<?>) list).isEmpty()));
@@ -394,7 +397,7 @@ class SpotDataServiceTest {
     void updateSpots_success_noSpotLocationApiResponseDtoField() {
         // given
         given(courseRepository.findById(COURSE_ID)).willReturn(Optional.of(course));
-        given(trackPointRepository.findByCourseIdOrderBySequenceAsc(course.getId())).willReturn(List.of(startPoint, endPoint));
+        given(courseTrackRepository.findCoordinatesByCourseId(course.getId())).willReturn(Optional.of(trackCoordinates));
         Set<String> externalIds1 = Set.of("externalId1");
         Set<String> externalIds2 = Set.of("externalId2");
 
@@ -420,12 +423,47 @@ class SpotDataServiceTest {
         // 위치기반 정보조회 API 호출은 되지만, 공통정보 조회 API와 이미지 업로드는 실행되지 않고, 빈 리스트가 저장되는지 확인
         verify(spotLocationApiClient, times(4)).fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt());
         verify(spotApiClient, never()).fetchSpotData(anyString());
-        verify(fileService, never()).uploadFileByUrl(anyString(), eq("spot"));
+        verify(spotImageIngestionService, never()).ingest(anyCollection());
         verify(courseSpotRepository).deleteByCourseId(COURSE_ID);
         verify(spotRepository).saveAll(argThat(list -> ((Collection<?>) list).isEmpty()));
         verify(courseSpotRepository).saveAll(argThat(list -> ((Collection<?>) list).isEmpty()));
     }
 
+    /**
+     * [즐길거리 수정] 성공
+     * 10. 여러 장소가 같은 이미지를 사용하는 경우
+     */
+    @Test
+    @DisplayName("즐길거리 수정 성공 - 같은 이미지 URL은 한 번만 저장 요청")
+    void updateSpots_success_sharedSpotImage() {
+        // given
+        Set<String> externalIds = Set.of("externalId1", "externalId2");
+        String s3FileUrl = "https://mock-s3-url.com/spot/hash.png";
+
+        given(courseRepository.findById(COURSE_ID)).willReturn(Optional.of(course));
+        given(courseTrackRepository.findCoordinatesByCourseId(course.getId())).willReturn(Optional.of(trackCoordinates));
+
+        SpotLocationApiResponseDto spotLocationApiResponseDto = createSpotLocationApiResponse(externalIds);
+        given(spotLocationApiClient.fetchSpotLocationData(anyInt(), anyInt(), anyString(), anyDouble(), anyDouble(), anyInt()))
+                .willReturn(spotLocationApiResponseDto);
+
+        given(spotRepository.findByExternalIdIn(anySet())).willReturn(Collections.emptyList());
+        // 두 장소의 원본 이미지 URL이 같다고 설정
+        given(spotApiClient.fetchSpotData(eq("externalId1"))).willReturn(createSpotApiResponse("externalId1"));
+        given(spotApiClient.fetchSpotData(eq("externalId2"))).willReturn(createSpotApiResponse("externalId2"));
+        given(spotImageIngestionService.ingest(anyCollection())).willReturn(Map.of(ORIGINAL_IMAGE_URL, ImageVariantsDto.original(s3FileUrl)));
+
+        // when
+        spotDataService.updateSpots(COURSE_ID);
+
+        // then
+        // 이미지 저장은 한 번만 요청하고, 두 장소 모두 같은 S3 URL을 사용하는지 확인
+        verify(spotImageIngestionService).ingest(argThat(urls -> urls.size() == 1 && urls.contains(ORIGINAL_IMAGE_URL)));
+        verify(spotRepository).saveAll(argThat(list -> ((Collection<?>) list).size() == 2 && ((Collection<?>) list).stream()
+                .map(Spot.class::cast)
+                .allMatch(spot -> spot.getSpotImage() != null && s3FileUrl.equals(spot.getSpotImage().getImgUrl()))));
+    }
+
     /**
      * [즐길거리 수정] 실패
      * 1. Course가 없는 경우
@@ -487,7 +525,7 @@ class SpotDataServiceTest {
         ReflectionTestUtils.setField(item, "spotCategoryNumber", "12");
         ReflectionTestUtils.setField(item, "spotLatitude", "37.123");
         ReflectionTestUtils.setField(item, "spotLongitude", "127.123");
-        ReflectionTestUtils.setField(item, "spotOriginalImage", "http://example.com/original.png");
+        ReflectionTestUtils.setField(item, "spotOriginalImage", ORIGINAL_IMAGE_URL);
         ReflectionTestUtils.setField(item, "spotThumbnailImage", "http://example.com/thumbnail.png");
 
         ReflectionTestUtils.setField(items, "itemList", List.of(item));
@@ -0,0 +1,127 @@
+package com.server.running_handai.domain.spot.service;
+
+import com.server.running_handai.domain.course.dto.ImageVariantsDto;
+import com.server.running_handai.domain.course.service.FileService;
+import com.server.running_handai.domain.spot.dto.SpotImageUrlDto;
+import com.server.running_handai.domain.spot.repository.SpotImageRepository;
+import com.server.running_handai.global.response.ResponseCode;
+import com.server.running_handai.global.response.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class SpotImageIngestionServiceTest {
+
+    private static final String STORED_ORIGINAL_URL = "http://example.com/stored.png";
+    private static final String NEW_ORIGINAL_URL = "http://example.com/new.png";
+    private static final String FAILED_ORIGINAL_URL = "http://example.com/failed.png";
+    private static final String STORED_S3_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/spot/stored.png";
+    private static final String STORED_SMALL_S3_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/spot/stored_w320.jpg";
+    private static final String NEW_S3_URL = "https://bucket.s3.ap-northeast-2.amazonaws.com/spot/new.png";
+
+    @Mock
+    private FileService fileService;
+
+    @Mock
+    private SpotImageRepository spotImageRepository;
+
+    private ThreadPoolTaskExecutor spotImageTaskExecutor;
+    private SpotImageIngestionService spotImageIngestionService;
+
+    @BeforeEach
+    void setUp() {
+        spotImageTaskExecutor = new ThreadPoolTaskExecutor();
+        spotImageTaskExecutor.setCorePoolSize(2);
+        spotImageTaskExecutor.initialize();
+        spotImageIngestionService = new SpotImageIngestionService(fileService, spotImageRepository, spotImageTaskExecutor, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        spotImageTaskExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("이미지 수집 성공 - 저장된 원본 URL은 재사용하고 새 원본 URL만 한 번씩 업로드")
+    void ingest_success() {
+        // given
+        given(spotImageRepository.findImageUrlsByOriginalUrlIn(anyCollection()))
+                .willReturn(List.of(new SpotImageUrlDto(STORED_ORIGINAL_URL, STORED_S3_URL, null, null, null)));
+        given(fileService.uploadImageByUrlDeduplicated(NEW_ORIGINAL_URL, "spot")).willReturn(ImageVariantsDto.original(NEW_S3_URL));
+
+        // when
+        Map<String, ImageVariantsDto> images = spotImageIngestionService.ingest(
+                List.of(STORED_ORIGINAL_URL, NEW_ORIGINAL_URL, NEW_ORIGINAL_URL));
+
+        // then
+        assertThat(images).containsExactlyInAnyOrderEntriesOf(Map.of(
+                STORED_ORIGINAL_URL, ImageVariantsDto.original(STORED_S3_URL),
+                NEW_ORIGINAL_URL, ImageVariantsDto.original(NEW_S3_URL)
+        ));
+        verify(fileService, never()).uploadImageByUrlDeduplicated(STORED_ORIGINAL_URL, "spot");
+        verify(fileService, times(1)).uploadImageByUrlDeduplicated(NEW_ORIGINAL_URL, "spot");
+    }
+
+    @Test
+    @DisplayName("이미지 수집 성공 - 저장에 실패한 이미지는 결과에서 제외")
+    void ingest_success_partialFailure() {
+        // given
+        given(spotImageRepository.findImageUrlsByOriginalUrlIn(anyCollection())).willReturn(List.of());
+        given(fileService.uploadImageByUrlDeduplicated(NEW_ORIGINAL_URL, "spot")).willReturn(ImageVariantsDto.original(NEW_S3_URL));
+        given(fileService.uploadImageByUrlDeduplicated(FAILED_ORIGINAL_URL, "spot"))
+                .willThrow(new BusinessException(ResponseCode.FILE_UPLOAD_FAILED));
+
+        // when
+        Map<String, ImageVariantsDto> images = spotImageIngestionService.ingest(List.of(NEW_ORIGINAL_URL, FAILED_ORIGINAL_URL));
+
+        // then
+        assertThat(images).containsExactlyEntriesOf(Map.of(NEW_ORIGINAL_URL, ImageVariantsDto.original(NEW_S3_URL)));
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 다른 장소가 사용 중인 이미지는 삭제하지 않음")
+    void releaseImage_shared() {
+        // given
+        given(spotImageRepository.existsByImgUrl(STORED_S3_URL)).willReturn(true);
+
+        // when
+        spotImageIngestionService.releaseImage(ImageVariantsDto.original(STORED_S3_URL));
+
+        // then
+        verify(fileService, never()).deleteFile(anyString());
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 사용하는 장소가 없으면 크기별 이미지까지 S3에서 삭제")
+    void releaseImage_unused() {
+        // given
+        given(spotImageRepository.existsByImgUrl(STORED_S3_URL)).willReturn(false);
+
+        // when
+        spotImageIngestionService.releaseImage(new ImageVariantsDto(STORED_S3_URL, STORED_SMALL_S3_URL, STORED_S3_URL, null));
+
+        // then
+        verify(fileService).deleteFile(STORED_S3_URL);
+        verify(fileService).deleteFile(STORED_SMALL_S3_URL);
+    }
+}
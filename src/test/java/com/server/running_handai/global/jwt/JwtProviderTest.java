@@ -0,0 +1,107 @@
+package com.server.running_handai.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtProviderTest {
+
+    private static final String SECRET_KEY = Base64.getEncoder().encodeToString(new byte[32]);
+    private static final String OTHER_SECRET_KEY = Base64.getEncoder().encodeToString("another-secret-key-for-signature".getBytes());
+
+    private JwtProvider createJwtProvider(String secretKey, long accessExpiration, int verifiedCacheMaxEntries) {
+        JwtProvider jwtProvider = new JwtProvider();
+        ReflectionTestUtils.setField(jwtProvider, "secretKey", secretKey);
+        ReflectionTestUtils.setField(jwtProvider, "accessExpiration", accessExpiration);
+        ReflectionTestUtils.setField(jwtProvider, "refreshExpiration", 60_000L);
+        ReflectionTestUtils.setField(jwtProvider, "verifiedCacheMaxEntries", verifiedCacheMaxEntries);
+        ReflectionTestUtils.setField(jwtProvider, "verifiedCacheTtl", Duration.ofSeconds(30));
+        jwtProvider.init();
+        return jwtProvider;
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 - 한 번의 검증으로 사용자 id가 담긴 Claims 반환")
+    void verifyToken_success() {
+        // given
+        JwtProvider jwtProvider = createJwtProvider(SECRET_KEY, 60_000L, 0);
+        String accessToken = jwtProvider.createAccessToken(1L);
+
+        // when
+        Claims claims = jwtProvider.verifyToken(accessToken);
+
+        // then
+        assertThat(claims.getSubject()).isEqualTo("1");
+        assertThat(jwtProvider.isTokenValidate(accessToken)).isTrue();
+        assertThat(jwtProvider.getId(accessToken)).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 다른 키로 서명된 토큰이나 형식이 잘못된 토큰은 null 반환")
+    void verifyToken_fail_invalidToken() {
+        // given
+        JwtProvider jwtProvider = createJwtProvider(SECRET_KEY, 60_000L, 100);
+        String otherToken = createJwtProvider(OTHER_SECRET_KEY, 60_000L, 0).createAccessToken(1L);
+
+        // when, then
+        assertThat(jwtProvider.verifyToken(otherToken)).isNull();
+        assertThat(jwtProvider.verifyToken("invalid.token.value")).isNull();
+        assertThat(jwtProvider.isTokenValidate(otherToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 만료된 토큰은 예외 발생")
+    void verifyToken_fail_expiredToken() {
+        // given
+        JwtProvider jwtProvider = createJwtProvider(SECRET_KEY, -1_000L, 100);
+        String expiredToken = jwtProvider.createAccessToken(1L);
+
+        // when, then
+        assertThrows(ExpiredJwtException.class, () -> jwtProvider.verifyToken(expiredToken));
+    }
+
+    @Test
+    @DisplayName("토큰 검증 성공 - 검증 결과 캐시를 사용하면 같은 토큰은 같은 Claims 재사용")
+    void verifyToken_success_cached() {
+        // given
+        JwtProvider jwtProvider = createJwtProvider(SECRET_KEY, 60_000L, 100);
+        String accessToken = jwtProvider.createAccessToken(1L);
+
+        // when
+        Claims first = jwtProvider.verifyToken(accessToken);
+        Claims second = jwtProvider.verifyToken(accessToken);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 실패 - 캐시된 토큰도 만료 시각이 지나면 다시 검증하여 예외 발생")
+    void verifyToken_fail_cachedTokenExpired() throws InterruptedException {
+        // given
+        JwtProvider jwtProvider = createJwtProvider(SECRET_KEY, 60_000L, 100);
+        String shortLivedToken = Jwts.builder()
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 1_000L))
+                .signWith(Keys.hmacShaKeyFor(new byte[32]), SignatureAlgorithm.HS256)
+                .compact();
+        assertThat(jwtProvider.verifyToken(shortLivedToken)).isNotNull();
+
+        // when
+        Thread.sleep(1_100L);
+
+        // then
+        assertThrows(ExpiredJwtException.class, () -> jwtProvider.verifyToken(shortLivedToken));
+    }
+}
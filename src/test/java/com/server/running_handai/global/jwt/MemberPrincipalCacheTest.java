@@ -0,0 +1,141 @@
+package com.server.running_handai.global.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.server.running_handai.domain.member.entity.Member;
+import com.server.running_handai.domain.member.entity.Role;
+import com.server.running_handai.domain.member.event.MemberChangedEvent;
+import com.server.running_handai.global.response.ResponseCode;
+import com.server.running_handai.global.response.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MemberPrincipalCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MemberPrincipalCache memberPrincipalCache;
+
+    private final List<Long> loadedMemberIds = new ArrayList<>();
+    private final Function<Long, Member> loader = memberId -> {
+        loadedMemberIds.add(memberId);
+        return createMember(memberId);
+    };
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        memberPrincipalCache = new MemberPrincipalCache(meterRegistry, 2, Duration.ofMinutes(5));
+    }
+
+    private Member createMember(Long memberId) {
+        Member member = Member.builder().nickname("nickname" + memberId).role(Role.USER).build();
+        ReflectionTestUtils.setField(member, "id", memberId);
+        return member;
+    }
+
+    private double requestCount(String result) {
+        return meterRegistry.get("member.principal.cache.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("캐시 조회 성공 - 같은 회원은 한 번만 조회")
+    void getOrLoad_success_cached() {
+        // when
+        memberPrincipalCache.getOrLoad(1L, loader);
+        Member result = memberPrincipalCache.getOrLoad(1L, loader);
+
+        // then
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(loadedMemberIds).containsExactly(1L);
+        assertThat(requestCount("hit")).isEqualTo(1.0);
+        assertThat(requestCount("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 조회 성공 - 최대 항목 수를 넘으면 가장 오래 사용하지 않은 회원부터 제거")
+    void getOrLoad_success_lruEviction() {
+        // when
+        memberPrincipalCache.getOrLoad(1L, loader);
+        memberPrincipalCache.getOrLoad(2L, loader);
+        memberPrincipalCache.getOrLoad(1L, loader); // 1번 회원을 최근 사용으로 갱신
+        memberPrincipalCache.getOrLoad(3L, loader); // 2번 회원 제거
+        memberPrincipalCache.getOrLoad(1L, loader);
+        memberPrincipalCache.getOrLoad(2L, loader);
+
+        // then
+        assertThat(memberPrincipalCache.size()).isEqualTo(2);
+        assertThat(loadedMemberIds).containsExactly(1L, 2L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("캐시 조회 성공 - TTL이 지난 회원은 다시 조회")
+    void getOrLoad_success_expired() {
+        // given
+        memberPrincipalCache = new MemberPrincipalCache(meterRegistry, 2, Duration.ZERO);
+
+        // when
+        memberPrincipalCache.getOrLoad(1L, loader);
+        memberPrincipalCache.getOrLoad(1L, loader);
+
+        // then
+        assertThat(loadedMemberIds).containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("캐시 조회 실패 - 회원이 없으면 예외를 캐시하지 않음")
+    void getOrLoad_fail_memberNotFound() {
+        // given
+        Function<Long, Member> failingLoader = memberId -> {
+            loadedMemberIds.add(memberId);
+            throw new BusinessException(ResponseCode.MEMBER_NOT_FOUND);
+        };
+
+        // when, then
+        assertThrows(BusinessException.class, () -> memberPrincipalCache.getOrLoad(1L, failingLoader));
+        assertThrows(BusinessException.class, () -> memberPrincipalCache.getOrLoad(1L, failingLoader));
+        assertThat(loadedMemberIds).containsExactly(1L, 1L);
+        assertThat(memberPrincipalCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시 제거 성공 - 회원 정보가 변경되면 해당 회원만 제거")
+    void handleMemberChangedEvent_success() {
+        // given
+        memberPrincipalCache.getOrLoad(1L, loader);
+        memberPrincipalCache.getOrLoad(2L, loader);
+
+        // when
+        memberPrincipalCache.handleMemberChangedEvent(new MemberChangedEvent(1L));
+        memberPrincipalCache.getOrLoad(1L, loader);
+        memberPrincipalCache.getOrLoad(2L, loader);
+
+        // then
+        assertThat(loadedMemberIds).containsExactly(1L, 2L, 1L);
+        assertThat(meterRegistry.get("member.principal.cache.evictions").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 저장 생략 - 조회 도중 회원 정보가 변경되면 이전 데이터를 저장하지 않음")
+    void getOrLoad_skipPut_whenChangedDuringLoad() {
+        // given
+        Function<Long, Member> racingLoader = memberId -> {
+            Member member = loader.apply(memberId);
+            memberPrincipalCache.handleMemberChangedEvent(new MemberChangedEvent(memberId)); // 조회 도중 닉네임 변경
+            return member;
+        };
+
+        // when
+        memberPrincipalCache.getOrLoad(1L, racingLoader);
+
+        // then
+        assertThat(memberPrincipalCache.size()).isZero();
+    }
+}
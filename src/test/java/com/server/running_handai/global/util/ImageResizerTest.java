@@ -0,0 +1,124 @@
+package com.server.running_handai.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ImageResizerTest {
+
+    private static final String PLACEHOLDER_PREFIX = "data:image/jpeg;base64,";
+
+    private BufferedImage createImage(int width, int height, int type, Color color) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, color.getRGB());
+            }
+        }
+        return image;
+    }
+
+    private byte[] toPng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private boolean isJpeg(byte[] content) {
+        return content.length > 2 && (content[0] & 0xFF) == 0xFF && (content[1] & 0xFF) == 0xD8; // SOI 마커
+    }
+
+    @ParameterizedTest(name = "{0}x{1} -> 너비 {2}")
+    @CsvSource({
+            "1600, 900, 320, 180",
+            "1600, 900, 720, 405",
+            "1000, 1500, 320, 480",
+            "333, 1000, 320, 961"
+    })
+    @DisplayName("크기 조정 성공 - 지정한 너비의 JPEG으로 줄이고 비율 유지")
+    void resizeToJpeg_success(int width, int height, int targetWidth, int expectedHeight) throws IOException {
+        // given
+        BufferedImage image = createImage(width, height, BufferedImage.TYPE_INT_RGB, Color.BLUE);
+
+        // when
+        byte[] resized = ImageResizer.resizeToJpeg(image, targetWidth);
+
+        // then
+        assertThat(isJpeg(resized)).isTrue();
+        BufferedImage result = ImageResizer.read(resized);
+        assertThat(result.getWidth()).isEqualTo(targetWidth);
+        assertThat(result.getHeight()).isEqualTo(expectedHeight);
+        assertThat((double) result.getWidth() / result.getHeight())
+                .isCloseTo((double) width / height, within(0.01));
+    }
+
+    @Test
+    @DisplayName("크기 조정 성공 - 원본이 목표 너비보다 좁으면 늘리지 않음")
+    void resizeToJpeg_success_notEnlarged() throws IOException {
+        // given
+        BufferedImage image = createImage(200, 100, BufferedImage.TYPE_INT_RGB, Color.BLUE);
+
+        // when
+        BufferedImage result = ImageResizer.read(ImageResizer.resizeToJpeg(image, 320));
+
+        // then
+        assertThat(result.getWidth()).isEqualTo(200);
+        assertThat(result.getHeight()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("크기 조정 성공 - 투명 영역은 흰색 배경으로 채움")
+    void resizeToJpeg_success_transparentToWhite() throws IOException {
+        // given
+        BufferedImage image = ImageResizer.read(toPng(
+                createImage(640, 480, BufferedImage.TYPE_INT_ARGB, new Color(0, 0, 0, 0))));
+
+        // when
+        BufferedImage result = ImageResizer.read(ImageResizer.resizeToJpeg(image, 320));
+
+        // then
+        Color center = new Color(result.getRGB(160, 120));
+        assertThat(center.getRed()).isGreaterThan(240);
+        assertThat(center.getGreen()).isGreaterThan(240);
+        assertThat(center.getBlue()).isGreaterThan(240);
+    }
+
+    @Test
+    @DisplayName("플레이스홀더 생성 성공 - 너비 16px JPEG data URI, 비율 유지")
+    void toPlaceholder_success() throws IOException {
+        // given
+        BufferedImage image = createImage(1600, 900, BufferedImage.TYPE_INT_RGB, Color.RED);
+
+        // when
+        String placeholder = ImageResizer.toPlaceholder(image);
+
+        // then
+        assertThat(placeholder).startsWith(PLACEHOLDER_PREFIX);
+        byte[] content = Base64.getDecoder().decode(placeholder.substring(PLACEHOLDER_PREFIX.length()));
+        assertThat(isJpeg(content)).isTrue();
+        BufferedImage result = ImageResizer.read(content);
+        assertThat(result.getWidth()).isEqualTo(ImageResizer.PLACEHOLDER_WIDTH);
+        assertThat(result.getHeight()).isEqualTo(9);
+        assertThat(placeholder.length()).isLessThan(1000); // 목록 응답에 그대로 포함되므로 작아야 함
+    }
+
+    @Test
+    @DisplayName("이미지 읽기 - ImageIO가 지원하지 않는 형식이면 null")
+    void read_unsupportedFormat() throws IOException {
+        // given
+        byte[] webpHeader = "RIFF\0\0\0\0WEBPVP8 ".getBytes();
+
+        // when, then
+        assertThat(ImageResizer.read(webpHeader)).isNull();
+    }
+}
@@ -0,0 +1,67 @@
+package com.server.running_handai.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MvtEncoderTest {
+
+    @Test
+    @DisplayName("포인트 인코딩 성공 - 명세 예시와 같은 geometry로 인코딩")
+    void addPoint_success() {
+        // given
+        MvtEncoder encoder = new MvtEncoder();
+
+        // when
+        encoder.layer("points").addPoint(1, Map.of("hello", "world"), 25, 17);
+        byte[] encoded = encoder.encode();
+
+        // then
+        // geometry: MoveTo(1) = 9, (25, 17) = ZigZag(50, 34)
+        assertThat(toHex(encoded)).contains("220309" + "32" + "22");
+        assertThat(toHex(encoded)).contains(toHex("points".getBytes())).contains(toHex("world".getBytes()));
+    }
+
+    @Test
+    @DisplayName("라인 인코딩 성공 - 버퍼를 포함한 타일 영역 밖의 구간은 잘라냄")
+    void addLineString_success_clipped() {
+        // given
+        MvtEncoder encoder = new MvtEncoder(4096, 64);
+
+        // when
+        boolean added = encoder.layer("lines").addLineString(2, Map.of(),
+                new double[]{-1000, 100, 200, 5000, 5000},
+                new double[]{100, 100, 200, 200, 300});
+        byte[] encoded = encoder.encode();
+
+        // then
+        // MoveTo(-64, 100), LineTo(3): (100, 100), (200, 200), (4160, 200)
+        assertThat(added).isTrue();
+        assertThat(toHex(encoded)).contains("09" + "7f" + "c801" + "1a" + "c802" + "00" + "c801" + "c801" + "f03d" + "00");
+    }
+
+    @Test
+    @DisplayName("라인 인코딩 성공 - 타일 영역과 겹치지 않으면 추가하지 않음")
+    void addLineString_success_outsideTile() {
+        // given
+        MvtEncoder encoder = new MvtEncoder();
+
+        // when
+        boolean added = encoder.layer("lines").addLineString(3, Map.of(),
+                new double[]{-5000, -4000}, new double[]{100, 200});
+
+        // then
+        assertThat(added).isFalse();
+        assertThat(encoder.isEmpty()).isTrue();
+    }
+
+    private String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder();
+        for (byte b : bytes) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+}
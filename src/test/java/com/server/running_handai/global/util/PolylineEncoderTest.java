@@ -0,0 +1,70 @@
+package com.server.running_handai.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.server.running_handai.domain.course.dto.TrackPointDto;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PolylineEncoderTest {
+
+    @Test
+    @DisplayName("위경도 인코딩 성공 - Google 문서의 예시와 같은 문자열 생성")
+    void encodeCoordinates_success() {
+        // given
+        List<TrackPointDto> trackPoints = List.of(
+                new TrackPointDto(38.5, -120.2, 0),
+                new TrackPointDto(40.7, -120.95, 0),
+                new TrackPointDto(43.252, -126.453, 0)
+        );
+
+        // when
+        String polyline = PolylineEncoder.encodeCoordinates(trackPoints);
+
+        // then
+        assertThat(polyline).isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+    }
+
+    @Test
+    @DisplayName("인코딩 후 디코딩 성공 - 위경도는 소수점 5자리, 고도는 소수점 1자리로 복원")
+    void encodeAndDecode_success() {
+        // given
+        List<TrackPointDto> trackPoints = List.of(
+                new TrackPointDto(35.15871, 129.16041, 16.77),
+                new TrackPointDto(35.15880, 129.16053, -2.4),
+                new TrackPointDto(35.15302, 129.11870, 130.25)
+        );
+
+        // when
+        List<TrackPointDto> decoded = PolylineEncoder.decode(
+                PolylineEncoder.encodeCoordinates(trackPoints),
+                PolylineEncoder.encodeElevations(trackPoints)
+        );
+
+        // then
+        assertThat(decoded).hasSize(trackPoints.size());
+        for (int i = 0; i < trackPoints.size(); i++) {
+            assertThat(decoded.get(i).lat()).isCloseTo(trackPoints.get(i).lat(), within(1e-5));
+            assertThat(decoded.get(i).lon()).isCloseTo(trackPoints.get(i).lon(), within(1e-5));
+            assertThat(decoded.get(i).ele()).isCloseTo(trackPoints.get(i).ele(), within(0.05));
+        }
+    }
+
+    @Test
+    @DisplayName("디코딩 실패 - 좌표와 고도의 개수가 다른 경우")
+    void decode_fail_elevationCountMismatch() {
+        // given
+        List<TrackPointDto> trackPoints = List.of(
+                new TrackPointDto(35.1587, 129.1604, 10.0),
+                new TrackPointDto(35.1588, 129.1605, 11.0)
+        );
+        String polyline = PolylineEncoder.encodeCoordinates(trackPoints);
+        String elevations = PolylineEncoder.encodeElevations(trackPoints.subList(0, 1));
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> PolylineEncoder.decode(polyline, elevations));
+    }
+}
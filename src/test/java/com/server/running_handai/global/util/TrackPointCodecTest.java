@@ -0,0 +1,87 @@
+package com.server.running_handai.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.server.running_handai.domain.course.dto.TrackCoordinates;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrackPointCodecTest {
+
+    @Test
+    @DisplayName("압축 후 복원 성공 - 위경도는 1e-6, 고도는 0.1 단위로 복원")
+    void encodeAndDecode_success() {
+        // given
+        TrackCoordinates original = new TrackCoordinates(
+                new double[]{35.158712, 35.158799, 35.159021, 35.153001},
+                new double[]{129.160412, 129.160533, 129.161001, 129.118702},
+                new double[]{16.77, 17.12, -2.4, 130.25}
+        );
+
+        // when
+        byte[] packed = TrackPointCodec.encode(original);
+        TrackCoordinates decoded = TrackPointCodec.decode(packed);
+
+        // then
+        assertThat(decoded.size()).isEqualTo(original.size());
+        for (int i = 0; i < original.size(); i++) {
+            assertThat(decoded.lats()[i]).isCloseTo(original.lats()[i], within(1e-6));
+            assertThat(decoded.lons()[i]).isCloseTo(original.lons()[i], within(1e-6));
+            assertThat(decoded.eles()[i]).isCloseTo(original.eles()[i], within(0.05));
+        }
+    }
+
+    @Test
+    @DisplayName("압축 성공 - 인접한 포인트는 포인트당 약 9바이트 이하로 저장")
+    void encode_success_compact() {
+        // given
+        int size = 1000;
+        double[] lats = new double[size];
+        double[] lons = new double[size];
+        double[] eles = new double[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = 35.1587 + i * 0.00005;
+            lons[i] = 129.1604 + i * 0.00007;
+            eles[i] = 10.0 + (i % 20) * 0.3;
+        }
+
+        // when
+        byte[] packed = TrackPointCodec.encode(new TrackCoordinates(lats, lons, eles));
+
+        // then
+        assertThat(packed.length).isLessThan(size * 9);
+        assertThat(TrackPointCodec.decode(packed).lats()[size - 1]).isCloseTo(lats[size - 1], within(1e-6));
+    }
+
+    @Test
+    @DisplayName("압축 후 복원 성공 - 트랙포인트가 없는 경우")
+    void encodeAndDecode_success_empty() {
+        // given
+        TrackCoordinates empty = new TrackCoordinates(new double[0], new double[0], new double[0]);
+
+        // when
+        TrackCoordinates decoded = TrackPointCodec.decode(TrackPointCodec.encode(empty));
+
+        // then
+        assertThat(decoded.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("복원 실패 - 데이터가 잘린 경우")
+    void decode_fail_truncated() {
+        // given
+        TrackCoordinates original = new TrackCoordinates(
+                new double[]{35.1587, 35.1588},
+                new double[]{129.1604, 129.1605},
+                new double[]{16.7, 16.8}
+        );
+        byte[] packed = TrackPointCodec.encode(original);
+        byte[] truncated = Arrays.copyOf(packed, packed.length - 2);
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> TrackPointCodec.decode(truncated));
+    }
+}
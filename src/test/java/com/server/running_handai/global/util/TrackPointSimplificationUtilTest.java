@@ -0,0 +1,74 @@
+package com.server.running_handai.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.server.running_handai.domain.course.dto.TrackCoordinates;
+import com.server.running_handai.domain.course.dto.TrackPointDto;
+import com.server.running_handai.domain.course.entity.TrackDetail;
+import com.server.running_handai.global.response.ResponseCode;
+import com.server.running_handai.global.response.exception.BusinessException;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+
+class TrackPointSimplificationUtilTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+
+    @Test
+    @DisplayName("상세 수준별 단순화 성공 - 수준이 낮을수록 포인트 수가 줄고 시작점과 종료점은 유지")
+    void simplifyTrackCoordinatesByDetail_success() {
+        // given
+        // 약 2km 구간을 1000개 포인트로 나누고, 진폭이 다른 흔들림을 섞은 경로
+        int size = 1000;
+        double[] lats = new double[size];
+        double[] lons = new double[size];
+        double[] eles = new double[size];
+        for (int i = 0; i < size; i++) {
+            lats[i] = 35.15 + i * 0.00002 + 0.0003 * Math.sin(i / 50.0) + 0.00005 * Math.sin(i / 3.0);
+            lons[i] = 129.16 + i * 0.00002;
+            eles[i] = 10 + i * 0.01;
+        }
+        TrackCoordinates trackCoordinates = new TrackCoordinates(lats, lons, eles);
+
+        // when
+        Map<TrackDetail, List<TrackPointDto>> result =
+                TrackPointSimplificationUtil.simplifyTrackCoordinatesByDetail(trackCoordinates, 0.0001, geometryFactory);
+
+        // then
+        List<TrackPointDto> high = result.get(TrackDetail.HIGH);
+        List<TrackPointDto> medium = result.get(TrackDetail.MEDIUM);
+        List<TrackPointDto> low = result.get(TrackDetail.LOW);
+
+        assertThat(high.size()).isLessThan(size);
+        assertThat(medium.size()).isLessThan(high.size());
+        assertThat(low.size()).isLessThanOrEqualTo(medium.size());
+        for (List<TrackPointDto> simplified : List.of(high, medium, low)) {
+            assertThat(simplified.getFirst().lat()).isEqualTo(lats[0]);
+            assertThat(simplified.getLast().lon()).isEqualTo(lons[size - 1]);
+        }
+    }
+
+    @Test
+    @DisplayName("상세 수준 결정 성공 - detail 파라미터가 우선하고, 없으면 줌 레벨로 결정")
+    void resolveTrackDetail_success() {
+        assertThat(TrackDetail.resolve("low", 18)).isEqualTo(TrackDetail.LOW);
+        assertThat(TrackDetail.resolve(null, 10)).isEqualTo(TrackDetail.LOW);
+        assertThat(TrackDetail.resolve(null, 13)).isEqualTo(TrackDetail.MEDIUM);
+        assertThat(TrackDetail.resolve(null, 16)).isEqualTo(TrackDetail.HIGH);
+        assertThat(TrackDetail.resolve(" ", 13)).isEqualTo(TrackDetail.MEDIUM);
+        assertThat(TrackDetail.resolve(null, null)).isEqualTo(TrackDetail.HIGH);
+    }
+
+    @Test
+    @DisplayName("상세 수준 결정 실패 - 알 수 없는 detail 파라미터")
+    void resolveTrackDetail_fail_unknownDetail() {
+        // when, then
+        BusinessException exception = assertThrows(BusinessException.class, () -> TrackDetail.resolve("unknown", 16));
+        assertThat(exception.getResponseCode()).isEqualTo(ResponseCode.INVALID_TRACK_DETAIL_PARAMETER);
+    }
+}